@@ -40,6 +40,7 @@ import org.isf.patient.model.Patient;
 import org.isf.priceslist.manager.PriceListManager;
 import org.isf.priceslist.model.PriceList;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.export.CsvHttpMessageConverter;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -226,14 +227,15 @@ public class BillController {
 	}
 
 	/**
-	 * Retrieves all the billPayments for a given parameters
+	 * Retrieves all the billPayments for a given parameters, also available as NDJSON ({@code Accept: application/x-ndjson}) or
+	 * CSV ({@code Accept: text/csv}), streamed row by row.
 	 * @param dateFrom Start date
 	 * @param dateTo End date
 	 * @param code the patient code, which can be set or not.
 	 * @return the list of payments
 	 * @throws OHServiceException When failed to get bill payments
 	 */
-	@GetMapping("/bills/payments")
+	@GetMapping(value = "/bills/payments", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<BillPaymentsDTO> searchBillsPayments(
 		@RequestParam(value = "datefrom") @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'") @Schema(implementation = String.class) LocalDateTime dateFrom,
 		@RequestParam(value = "dateto") @DateTimeFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'") @Schema(implementation = String.class) LocalDateTime dateTo,
@@ -250,7 +252,7 @@ public class BillController {
 			payments = billManager.getPayments(dateFrom, dateTo, pat);
 		}
 
-		return billPaymentsMapper.map2DTOList(payments);
+		return billPaymentsMapper.map2DTOView(payments);
 	}
 
 	/**
@@ -22,7 +22,6 @@
 package org.isf.admission.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.isf.admission.dto.AdmissionDTO;
 import org.isf.admission.model.Admission;
@@ -38,11 +37,11 @@ public class AdmissionMapper extends GenericMapper<Admission, AdmissionDTO> {
 
 	@Override
 	public List<AdmissionDTO> map2DTOList(List<Admission> list) {
-		return list.stream().map(it -> map2DTO(it)).collect(Collectors.toList());
+		return mapDTOList(list, it -> map2DTO(it));
 	}
 
 	@Override
 	public List<Admission> map2ModelList(List<AdmissionDTO> list) {
-		return list.stream().map(it -> map2Model(it)).collect(Collectors.toList());
+		return mapList(list, it -> map2Model(it));
 	}
 }
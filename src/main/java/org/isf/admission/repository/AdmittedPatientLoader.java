@@ -0,0 +1,73 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.admission.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.admission.model.Admission;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tells which of many patients are currently admitted, where {@code AdmissionBrowserManager.getCurrentAdmission(Patient)}
+ * costs one query per patient.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class AdmittedPatientLoader {
+
+	/**
+	 * Largest number of patient codes bound in a single {@code in} list.
+	 */
+	static final int MAX_CODES_PER_QUERY = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Finds the patients with a current {@link Admission}, with one query per {@value #MAX_CODES_PER_QUERY} codes: an
+	 * admission still open ({@code admitted = 1}, a discharge sets it to 0) and not deleted ({@code deleted = 'N'}), as
+	 * {@code AdmissionBrowserManager.getCurrentAdmission(Patient)} finds it.
+	 *
+	 * @param patientCodes the codes of the patients
+	 * @return the codes of the admitted ones
+	 */
+	public Set<Integer> findAdmitted(Collection<Integer> patientCodes) {
+		Set<Integer> admitted = new HashSet<>();
+		List<Integer> codes = new ArrayList<>(patientCodes);
+		for (int from = 0; from < codes.size(); from += MAX_CODES_PER_QUERY) {
+			admitted.addAll(entityManager
+				.createQuery("select distinct a.patient.code from Admission a where a.admitted = 1 and a.deleted = 'N'"
+								+ " and a.patient.code in :codes", Integer.class)
+				.setParameter("codes", codes.subList(from, Math.min(from + MAX_CODES_PER_QUERY, codes.size())))
+				.getResultList());
+		}
+		return admitted;
+	}
+}
@@ -35,18 +35,21 @@ import org.isf.admission.model.Admission;
 import org.isf.admtype.model.AdmissionType;
 import org.isf.disctype.manager.DischargeTypeBrowserManager;
 import org.isf.disctype.model.DischargeType;
-import org.isf.disease.manager.DiseaseBrowserManager;
 import org.isf.disease.model.Disease;
-import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
 import org.isf.dlvrrestype.model.DeliveryResultType;
-import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
 import org.isf.dlvrtype.model.DeliveryType;
+import org.isf.patient.dto.PatientSummaryDTO;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
-import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
+import org.isf.patient.repository.PatientSummaryRepository;
 import org.isf.pregtreattype.model.PregnantTreatmentType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.pagination.CursorPage;
+import org.isf.shared.pagination.KeysetRepository;
 import org.isf.shared.pagination.Page;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.shared.pagination.Projection;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.utils.pagination.PagedResponse;
@@ -72,7 +75,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -84,8 +89,7 @@ public class AdmissionController {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
 
-	// TODO: to centralize
-	protected static final String DEFAULT_PAGE_SIZE = "80";
+	private static final String RESOURCE = "admissions";
 
 	private final AdmissionBrowserManager admissionManager;
 
@@ -93,42 +97,42 @@ public class AdmissionController {
 
 	private final WardBrowserManager wardManager;
 
-	private final DiseaseBrowserManager diseaseManager;
+	private final AdmissionMapper admissionMapper;
 
-	private final PregnantTreatmentTypeBrowserManager pregnantTreatmentTypeBrowserManager;
+	private final AdmittedPatientMapper admittedMapper;
 
-	private final DeliveryTypeBrowserManager deliveryTypeBrowserManager;
+	private final DischargeTypeBrowserManager dischargeTypeManager;
 
-	private final DeliveryResultTypeBrowserManager deliveryResultTypeBrowserManager;
+	private final ReferenceDataRegistry referenceData;
 
-	private final AdmissionMapper admissionMapper;
+	private final KeysetRepository keysetRepository;
 
-	private final AdmittedPatientMapper admittedMapper;
+	private final PageSizePolicy pageSizePolicy;
 
-	private final DischargeTypeBrowserManager dischargeTypeManager;
+	private final PatientSummaryRepository patientSummaryRepository;
 
 	public AdmissionController(
 		AdmissionBrowserManager admissionManager,
 		PatientBrowserManager patientManager,
 		WardBrowserManager wardManager,
-		DiseaseBrowserManager diseaseManager,
-		PregnantTreatmentTypeBrowserManager pregnancyTraitTypeManager,
-		DeliveryTypeBrowserManager deliveryTypeBrowserManager,
-		DeliveryResultTypeBrowserManager deliveryResultTypeBrowserManager,
 		AdmissionMapper admissionMapper,
 		AdmittedPatientMapper admittedMapper,
-		DischargeTypeBrowserManager dischargeTypeManager
+		DischargeTypeBrowserManager dischargeTypeManager,
+		ReferenceDataRegistry referenceData,
+		KeysetRepository keysetRepository,
+		PageSizePolicy pageSizePolicy,
+		PatientSummaryRepository patientSummaryRepository
 	) {
 		this.admissionManager = admissionManager;
 		this.patientManager = patientManager;
 		this.wardManager = wardManager;
-		this.diseaseManager = diseaseManager;
-		this.pregnantTreatmentTypeBrowserManager = pregnancyTraitTypeManager;
-		this.deliveryTypeBrowserManager = deliveryTypeBrowserManager;
-		this.deliveryResultTypeBrowserManager = deliveryResultTypeBrowserManager;
 		this.admissionMapper = admissionMapper;
 		this.admittedMapper = admittedMapper;
 		this.dischargeTypeManager = dischargeTypeManager;
+		this.referenceData = referenceData;
+		this.keysetRepository = keysetRepository;
+		this.pageSizePolicy = pageSizePolicy;
+		this.patientSummaryRepository = patientSummaryRepository;
 	}
 
 	/**
@@ -170,21 +174,27 @@ public class AdmissionController {
 	}
 
 	/**
-	 * Get all admitted {@link Patient}s based on the applied filters.
+	 * Get all admitted {@link Patient}s based on the applied filters, as {@link PatientSummaryDTO}s with
+	 * {@code fields=summary}.
 	 *
 	 * @param searchTerms Search keywords
 	 * @param admissionRange Admission range
 	 * @param dischargeRange Discharge range
+	 * @param fields {@code summary} for the summary of the patients, empty for the full ones
 	 * @return the {@link List} of found {@link Patient} or NO_CONTENT otherwise.
 	 * @throws OHServiceException When failed to get admitted patient
 	 */
 	@GetMapping("/admissions/admittedPatients")
-	public List<AdmittedPatientDTO> getAdmittedPatients(
+	@ApiResponse(responseCode = "200", description = "OK",
+		content = @Content(array = @ArraySchema(schema = @Schema(oneOf = { AdmittedPatientDTO.class, PatientSummaryDTO.class }))))
+	public List<?> getAdmittedPatients(
 		@RequestParam(name = "searchterms", defaultValue = "", required = false) String searchTerms,
 		@RequestParam(name = "admissionrange", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @ArraySchema(schema = @Schema(implementation = String.class)) LocalDateTime[] admissionRange,
-		@RequestParam(name = "dischargerange", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @ArraySchema(schema = @Schema(implementation = String.class)) LocalDateTime[] dischargeRange
+		@RequestParam(name = "dischargerange", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @ArraySchema(schema = @Schema(implementation = String.class)) LocalDateTime[] dischargeRange,
+		@RequestParam(name = "fields", required = false) String fields
 	) throws OHServiceException {
 		LOGGER.info("Get admitted patients search terms: {}", searchTerms);
+		Projection projection = Projection.of(fields);
 
 		if (admissionRange != null && admissionRange.length == 2) {
 			LOGGER.debug("Get admissions started between {} and {}", admissionRange[0], admissionRange[1]);
@@ -194,6 +204,9 @@ public class AdmissionController {
 			LOGGER.debug("Get admissions that end between {} and {}", dischargeRange[0], dischargeRange[1]);
 		}
 
+		if (projection == Projection.SUMMARY) {
+			return patientSummaryRepository.findAdmittedPatients(searchTerms, admissionRange, dischargeRange);
+		}
 		return admittedMapper.map2DTOList(admissionManager.getAdmittedPatients(admissionRange, dischargeRange, searchTerms));
 	}
 
@@ -208,7 +221,7 @@ public class AdmissionController {
 	public Page<AdmissionDTO> getAdmissions(
 		@RequestParam(name = "admissionrange") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @ArraySchema(schema = @Schema(implementation = String.class)) LocalDateTime[] admissionRange,
 		@RequestParam(value = "page", required = false, defaultValue = "0") int page,
-		@RequestParam(value = "size", required = false, defaultValue = DEFAULT_PAGE_SIZE) int size,
+		@RequestParam(value = "size", required = false) Integer size,
 		@RequestParam(value = "paged", required = false, defaultValue = "false") boolean paged
 	) throws OHServiceException {
 		LOGGER.debug("Get admissions started between {} and {}", admissionRange[0], admissionRange[1]);
@@ -218,15 +231,16 @@ public class AdmissionController {
 
 		if (paged) {
 			PagedResponse<Admission> admissions = admissionManager.getAdmissionsPageable(
-				admissionRange[0], admissionRange[1], page, size
+				admissionRange[0], admissionRange[1], page, pageSizePolicy.resolve(RESOURCE, size)
 			);
-			admissionsDTO = admissionMapper.map2DTOList(admissions.getData());
+			admissionsDTO = pageSizePolicy.served(RESOURCE, admissionMapper.map2DTOList(admissions.getData()));
 			admissionsPageableDTO.setPageInfo(admissionMapper.setParameterPageInfo(admissions.getPageInfo()));
 		} else {
+			pageSizePolicy.checkUnpaged(RESOURCE, keysetRepository.countAdmissions(admissionRange[0], admissionRange[1]));
 			List<Admission> admissions = admissionManager.getAdmissionsByAdmissionDate(
 				admissionRange[0], admissionRange[1]
 			);
-			admissionsDTO = admissionMapper.map2DTOList(admissions);
+			admissionsDTO = pageSizePolicy.unpaged(RESOURCE, admissions, admissionMapper::map2DTOList, admissionMapper::map2DTO);
 		}
 
 		admissionsPageableDTO.setData(admissionsDTO);
@@ -234,6 +248,38 @@ public class AdmissionController {
 		return admissionsPageableDTO;
 	}
 
+	/**
+	 * Keyset paginated variant of {@link #getAdmissions(LocalDateTime[], int, Integer, boolean)}, ordered by admission date,
+	 * selected by the {@code cursor} parameter: send it empty for the first page, then the {@code next} cursor of the previous
+	 * page.
+	 *
+	 * @param admissionRange Admission range
+	 * @param cursor the cursor of the page, empty for the first one
+	 * @param size the page size
+	 * @param total whether to also count all the admissions in the range
+	 * @return the page of admissions
+	 * @throws OHServiceException When the cursor is invalid or failed to get admissions
+	 */
+	@GetMapping(value = "/admissions", params = "cursor")
+	public CursorPage<AdmissionDTO> getAdmissionsByCursor(
+		@RequestParam(name = "admissionrange") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @ArraySchema(schema = @Schema(implementation = String.class)) LocalDateTime[] admissionRange,
+		@RequestParam(value = "cursor") String cursor,
+		@RequestParam(value = "size", required = false) Integer size,
+		@RequestParam(value = "total", required = false, defaultValue = "false") boolean total
+	) throws OHServiceException {
+		if (admissionRange == null || admissionRange.length != 2) {
+			throw new OHAPIException(new OHExceptionMessage("Invalid admission range."));
+		}
+		int pageSize = pageSizePolicy.resolve(RESOURCE, size);
+		LOGGER.debug("Get admissions started between {} and {}, cursor: {}", admissionRange[0], admissionRange[1], cursor);
+		List<Admission> admissions = keysetRepository.findAdmissions(admissionRange[0], admissionRange[1], cursor, pageSize + 1);
+
+		CursorPage<AdmissionDTO> admissionsPage = CursorPage.of(admissions, pageSize, KeysetRepository::admissionCursor,
+						admissionMapper::map2DTOList, total ? keysetRepository.countAdmissions(admissionRange[0], admissionRange[1]) : null);
+		pageSizePolicy.served(RESOURCE, admissionsPage.getData());
+		return admissionsPage;
+	}
+
 	/**
 	 * Get all the {@link Admission}s that end in the specified range
 	 *
@@ -245,15 +291,16 @@ public class AdmissionController {
 	public Page<AdmissionDTO> getDischarges(
 		@RequestParam(name = "dischargerange") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @ArraySchema(schema = @Schema(implementation = String.class)) LocalDateTime[] dischargeRange,
 		@RequestParam(value = "page", required = false, defaultValue = "0") int page,
-		@RequestParam(value = "size", required = false, defaultValue = DEFAULT_PAGE_SIZE) int size
+		@RequestParam(value = "size", required = false) Integer size
 	) throws OHServiceException {
 		LOGGER.debug("Get admissions that end between {} and {}", dischargeRange[0], dischargeRange[1]);
 
-		PagedResponse<Admission> admissionsPageable = admissionManager.getDischargesPageable(dischargeRange[0], dischargeRange[1], page, size);
+		PagedResponse<Admission> admissionsPageable = admissionManager.getDischargesPageable(dischargeRange[0], dischargeRange[1], page,
+						pageSizePolicy.resolve(RESOURCE, size));
 
 		Page<AdmissionDTO> admissionsPageableDTO = new Page<>();
 		List<AdmissionDTO> admissionsDTO = admissionMapper.map2DTOList(admissionsPageable.getData());
-		admissionsPageableDTO.setData(admissionsDTO);
+		admissionsPageableDTO.setData(pageSizePolicy.served(RESOURCE, admissionsDTO));
 		admissionsPageableDTO.setPageInfo(admissionMapper.setParameterPageInfo(admissionsPageable.getPageInfo()));
 
 		return admissionsPageableDTO;
@@ -379,28 +426,14 @@ public class AdmissionController {
 
 		if (newAdmissionDTO.getWard() != null && newAdmissionDTO.getWard().getCode() != null
 			&& !newAdmissionDTO.getWard().getCode().trim().isEmpty()) {
-			List<Ward> wards = wardManager.getWards().stream()
-				.filter(w -> w.getCode().equals(newAdmissionDTO.getWard().getCode())).toList();
-			if (wards.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Ward not found."));
-			}
-			newAdmission.setWard(wards.get(0));
+			newAdmission.setWard(findByCode(Ward.class, newAdmissionDTO.getWard().getCode(), "Ward not found."));
 		} else {
 			throw new OHAPIException(new OHExceptionMessage("Ward field is required."));
 		}
 
 		if (newAdmissionDTO.getAdmType() != null && newAdmissionDTO.getAdmType().getCode() != null
 			&& !newAdmissionDTO.getAdmType().getCode().trim().isEmpty()) {
-			List<AdmissionType> types = admissionManager.getAdmissionType()
-				.stream()
-				.filter(admissionType -> admissionType.getCode().equals(newAdmissionDTO.getAdmType().getCode()))
-				.toList();
-
-			if (types.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Admission type not found."));
-			}
-
-			newAdmission.setAdmType(types.get(0));
+			newAdmission.setAdmType(findByCode(AdmissionType.class, newAdmissionDTO.getAdmType().getCode(), "Admission type not found."));
 		} else {
 			throw new OHAPIException(new OHExceptionMessage("Admission type field is required."));
 		}
@@ -415,98 +448,42 @@ public class AdmissionController {
 			throw new OHAPIException(new OHExceptionMessage("Patient field is required."));
 		}
 
-		List<Disease> diseases = diseaseManager.getDiseaseAll();
-
 		if (newAdmissionDTO.getDiseaseIn() != null && newAdmissionDTO.getDiseaseIn().getCode() != null) {
-			List<Disease> dIns = diseases.stream()
-				.filter(d -> d.getCode().equals(newAdmissionDTO.getDiseaseIn().getCode())).toList();
-			if (dIns.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease in not found."));
-			}
-			newAdmission.setDiseaseIn(dIns.get(0));
+			newAdmission.setDiseaseIn(findByCode(Disease.class, newAdmissionDTO.getDiseaseIn().getCode(), "Disease in not found."));
 		}
 
 		if (newAdmissionDTO.getDiseaseOut1() != null && newAdmissionDTO.getDiseaseOut1().getCode() != null) {
-			List<Disease> dOut1 = diseases.stream()
-				.filter(d -> d.getCode().equals(newAdmissionDTO.getDiseaseOut1().getCode())).toList();
-			if (dOut1.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease out 1 not found."));
-			}
-			newAdmission.setDiseaseOut1(dOut1.get(0));
+			newAdmission.setDiseaseOut1(findByCode(Disease.class, newAdmissionDTO.getDiseaseOut1().getCode(), "Disease out 1 not found."));
 		}
 
 		if (newAdmissionDTO.getDiseaseOut2() != null && newAdmissionDTO.getDiseaseOut2().getCode() != null) {
-			List<Disease> dOut2 = diseases.stream()
-				.filter(d -> d.getCode().equals(newAdmissionDTO.getDiseaseOut2().getCode())).toList();
-			if (dOut2.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease out 2 not found."));
-			}
-			newAdmission.setDiseaseOut2(dOut2.get(0));
+			newAdmission.setDiseaseOut2(findByCode(Disease.class, newAdmissionDTO.getDiseaseOut2().getCode(), "Disease out 2 not found."));
 		}
 
 		if (newAdmissionDTO.getDiseaseOut3() != null && newAdmissionDTO.getDiseaseOut3().getCode() != null) {
-			List<Disease> dOut3 = diseases.stream()
-				.filter(d -> d.getCode().equals(newAdmissionDTO.getDiseaseOut3().getCode())).toList();
-			if (dOut3.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease out 3 not found."));
-			}
-			newAdmission.setDiseaseOut3(dOut3.get(0));
+			newAdmission.setDiseaseOut3(findByCode(Disease.class, newAdmissionDTO.getDiseaseOut3().getCode(), "Disease out 3 not found."));
 		}
 
 		if (newAdmissionDTO.getDisType() != null && newAdmissionDTO.getDisType().getCode() != null
 			&& !newAdmissionDTO.getDisType().getCode().trim().isEmpty()) {
-			List<DischargeType> disTypes = admissionManager.getDischargeType();
-			List<DischargeType> disTypesF = disTypes.stream()
-				.filter(dtp -> dtp.getCode().equals(newAdmissionDTO.getDisType().getCode())).toList();
-			if (disTypesF.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Discharge type not found."));
-			}
-			newAdmission.setDisType(disTypesF.get(0));
+			newAdmission.setDisType(findByCode(DischargeType.class, newAdmissionDTO.getDisType().getCode(), "Discharge type not found."));
 		}
 
 		if (newAdmissionDTO.getPregTreatmentType() != null && newAdmissionDTO.getPregTreatmentType().getCode() != null
 			&& !newAdmissionDTO.getPregTreatmentType().getCode().trim().isEmpty()) {
-			List<PregnantTreatmentType> pregnantTreatmentTypes = pregnantTreatmentTypeBrowserManager.getPregnantTreatmentType();
-			List<PregnantTreatmentType> pregnantTreatmentTypesFound = pregnantTreatmentTypes
-				.stream()
-				.filter(pregnantTreatmentType -> pregnantTreatmentType.getCode().equals(newAdmissionDTO.getPregTreatmentType().getCode()))
-				.toList();
-
-			if (pregnantTreatmentTypesFound.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Pregnant treatment type not found."));
-			}
-
-			newAdmission.setPregTreatmentType(pregnantTreatmentTypesFound.get(0));
+			newAdmission.setPregTreatmentType(findByCode(PregnantTreatmentType.class, newAdmissionDTO.getPregTreatmentType().getCode(),
+					"Pregnant treatment type not found."));
 		}
 
 		if (newAdmissionDTO.getDeliveryType() != null && newAdmissionDTO.getDeliveryType().getCode() != null
 			&& !newAdmissionDTO.getDeliveryType().getCode().trim().isEmpty()) {
-			List<DeliveryType> deliveryTypes = deliveryTypeBrowserManager.getDeliveryType();
-			List<DeliveryType> deliveryTypesFound = deliveryTypes
-				.stream()
-				.filter(deliveryType -> deliveryType.getCode().equals(newAdmissionDTO.getDeliveryType().getCode()))
-				.toList();
-
-			if (deliveryTypesFound.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Delivery type not found."));
-			}
-
-			newAdmission.setDeliveryType(deliveryTypesFound.get(0));
+			newAdmission.setDeliveryType(findByCode(DeliveryType.class, newAdmissionDTO.getDeliveryType().getCode(), "Delivery type not found."));
 		}
 
 		if (newAdmissionDTO.getDeliveryResult() != null && newAdmissionDTO.getDeliveryResult().getCode() != null
 			&& !newAdmissionDTO.getDeliveryResult().getCode().trim().isEmpty()) {
-			List<DeliveryResultType> deliveryResultTypes = deliveryResultTypeBrowserManager.getDeliveryResultType();
-			List<DeliveryResultType> deliveryResultTypesFound = deliveryResultTypes
-				.stream()
-				.filter(deliveryResultType -> deliveryResultType.getCode().equals(newAdmissionDTO.getDeliveryResult().getCode()))
-				.toList();
-
-			if (deliveryResultTypesFound.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Delivery result type not found."));
-			}
-
-			newAdmission.setDeliveryResult(deliveryResultTypesFound.get(0));
+			newAdmission.setDeliveryResult(findByCode(DeliveryResultType.class, newAdmissionDTO.getDeliveryResult().getCode(),
+					"Delivery result type not found."));
 		}
 
 		String name = StringUtils.hasLength(newAdmission.getPatient().getName())
@@ -547,24 +524,14 @@ public class AdmissionController {
 
 		if (updateAdmissionDTO.getWard() != null && updateAdmissionDTO.getWard().getCode() != null
 			&& !updateAdmissionDTO.getWard().getCode().trim().isEmpty()) {
-			List<Ward> wards = wardManager.getWards().stream()
-				.filter(w -> w.getCode().equals(updateAdmissionDTO.getWard().getCode())).toList();
-			if (wards.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Ward not found."));
-			}
-			updateAdmission.setWard(wards.get(0));
+			updateAdmission.setWard(findByCode(Ward.class, updateAdmissionDTO.getWard().getCode(), "Ward not found."));
 		} else {
 			throw new OHAPIException(new OHExceptionMessage("Ward field is required."));
 		}
 
 		if (updateAdmissionDTO.getAdmType() != null && updateAdmissionDTO.getAdmType().getCode() != null
 			&& !updateAdmissionDTO.getAdmType().getCode().trim().isEmpty()) {
-			List<AdmissionType> types = admissionManager.getAdmissionType().stream()
-				.filter(admissionType -> admissionType.getCode().equals(updateAdmissionDTO.getAdmType().getCode())).toList();
-			if (types.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Admission type not found."));
-			}
-			updateAdmission.setAdmType(types.get(0));
+			updateAdmission.setAdmType(findByCode(AdmissionType.class, updateAdmissionDTO.getAdmType().getCode(), "Admission type not found."));
 		} else {
 			throw new OHAPIException(new OHExceptionMessage("Admission type field is required."));
 		}
@@ -578,97 +545,43 @@ public class AdmissionController {
 		} else {
 			throw new OHAPIException(new OHExceptionMessage("Patient field is required."));
 		}
-		List<Disease> diseases = diseaseManager.getDiseaseAll();
 		if (updateAdmissionDTO.getDiseaseIn() != null && updateAdmissionDTO.getDiseaseIn().getCode() != null) {
-			List<Disease> dIns = diseases.stream()
-				.filter(d -> d.getCode().equals(updateAdmissionDTO.getDiseaseIn().getCode())).toList();
-			if (dIns.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease in not found."));
-			}
-			updateAdmission.setDiseaseIn(dIns.get(0));
+			updateAdmission.setDiseaseIn(findByCode(Disease.class, updateAdmissionDTO.getDiseaseIn().getCode(), "Disease in not found."));
 		}
 
 		if (updateAdmissionDTO.getDiseaseOut1() != null && updateAdmissionDTO.getDiseaseOut1().getCode() != null) {
-			List<Disease> dOut1s = diseases.stream()
-				.filter(d -> d.getCode().equals(updateAdmissionDTO.getDiseaseOut1().getCode())).toList();
-			if (dOut1s.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease out 1 not found."));
-			}
-			updateAdmission.setDiseaseOut1(dOut1s.get(0));
+			updateAdmission.setDiseaseOut1(findByCode(Disease.class, updateAdmissionDTO.getDiseaseOut1().getCode(), "Disease out 1 not found."));
 		}
 
 		if (updateAdmissionDTO.getDiseaseOut2() != null && updateAdmissionDTO.getDiseaseOut2().getCode() != null) {
-			List<Disease> dOut2s = diseases.stream()
-				.filter(d -> d.getCode().equals(updateAdmissionDTO.getDiseaseOut2().getCode())).toList();
-			if (dOut2s.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease out 2 not found."));
-			}
-			updateAdmission.setDiseaseOut2(dOut2s.get(0));
+			updateAdmission.setDiseaseOut2(findByCode(Disease.class, updateAdmissionDTO.getDiseaseOut2().getCode(), "Disease out 2 not found."));
 		}
 
 		if (updateAdmissionDTO.getDiseaseOut3() != null && updateAdmissionDTO.getDiseaseOut3().getCode() != null) {
-			List<Disease> dOut3s = diseases.stream()
-				.filter(d -> d.getCode().equals(updateAdmissionDTO.getDiseaseOut3().getCode())).toList();
-			if (dOut3s.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Disease out 3 not found."));
-			}
-			updateAdmission.setDiseaseOut3(dOut3s.get(0));
+			updateAdmission.setDiseaseOut3(findByCode(Disease.class, updateAdmissionDTO.getDiseaseOut3().getCode(), "Disease out 3 not found."));
 		}
 
 		if (updateAdmissionDTO.getDisType() != null && updateAdmissionDTO.getDisType().getCode() != null
 			&& !updateAdmissionDTO.getDisType().getCode().trim().isEmpty()) {
-			List<DischargeType> disTypes = admissionManager.getDischargeType();
-			List<DischargeType> disTypesF = disTypes.stream()
-				.filter(dtp -> dtp.getCode().equals(updateAdmissionDTO.getDisType().getCode())).toList();
-			if (disTypesF.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Discharge type not found."));
-			}
-			updateAdmission.setDisType(disTypesF.get(0));
+			updateAdmission.setDisType(findByCode(DischargeType.class, updateAdmissionDTO.getDisType().getCode(), "Discharge type not found."));
 		}
 
 		if (updateAdmissionDTO.getPregTreatmentType() != null && updateAdmissionDTO.getPregTreatmentType().getCode() != null
 			&& !updateAdmissionDTO.getPregTreatmentType().getCode().trim().isEmpty()) {
-			List<PregnantTreatmentType> pregnancyTreatmentTypes = pregnantTreatmentTypeBrowserManager.getPregnantTreatmentType();
-			List<PregnantTreatmentType> pregnancyTreatmentTypesFound = pregnancyTreatmentTypes
-				.stream()
-				.filter(pregnantTreatmentType -> pregnantTreatmentType.getCode().equals(updateAdmissionDTO.getPregTreatmentType().getCode()))
-				.toList();
-
-			if (pregnancyTreatmentTypesFound.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Pregnant treatment type not found."));
-			}
-
-			updateAdmission.setPregTreatmentType(pregnancyTreatmentTypesFound.get(0));
+			updateAdmission.setPregTreatmentType(findByCode(PregnantTreatmentType.class, updateAdmissionDTO.getPregTreatmentType().getCode(),
+					"Pregnant treatment type not found."));
 		}
 
 		if (updateAdmissionDTO.getDeliveryType() != null && updateAdmissionDTO.getDeliveryType().getCode() != null
 			&& !updateAdmissionDTO.getDeliveryType().getCode().trim().isEmpty()) {
-			List<DeliveryType> deliveryTypes = deliveryTypeBrowserManager.getDeliveryType();
-			List<DeliveryType> deliveryTypesFound = deliveryTypes
-				.stream()
-				.filter(deliveryType -> deliveryType.getCode().equals(updateAdmissionDTO.getDeliveryType().getCode()))
-				.toList();
-
-			if (deliveryTypesFound.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Delivery type not found."));
-			}
-
-			updateAdmission.setDeliveryType(deliveryTypesFound.get(0));
+			updateAdmission.setDeliveryType(findByCode(DeliveryType.class, updateAdmissionDTO.getDeliveryType().getCode(),
+					"Delivery type not found."));
 		}
 
 		if (updateAdmissionDTO.getDeliveryResult() != null && updateAdmissionDTO.getDeliveryResult().getCode() != null
 			&& !updateAdmissionDTO.getDeliveryResult().getCode().trim().isEmpty()) {
-			List<DeliveryResultType> deliveryResultTypes = deliveryResultTypeBrowserManager.getDeliveryResultType();
-			List<DeliveryResultType> deliveryResultTypesFound = deliveryResultTypes
-				.stream()
-				.filter(deliveryResultType -> deliveryResultType.getCode().equals(updateAdmissionDTO.getDeliveryResult().getCode()))
-				.toList();
-
-			if (deliveryResultTypesFound.isEmpty()) {
-				throw new OHAPIException(new OHExceptionMessage("Delivery result type not found."));
-			}
-
-			updateAdmission.setDeliveryResult(deliveryResultTypesFound.get(0));
+			updateAdmission.setDeliveryResult(findByCode(DeliveryResultType.class, updateAdmissionDTO.getDeliveryResult().getCode(),
+					"Delivery result type not found."));
 		}
 
 		String name = StringUtils.hasLength(updateAdmission.getPatient().getName())
@@ -684,4 +597,12 @@ public class AdmissionController {
 
 		return admissionMapper.map2DTO(isUpdatedAdmission);
 	}
+
+	private <T> T findByCode(Class<T> type, String code, String notFoundMessage) throws OHServiceException {
+		T found = referenceData.findByCode(type, code);
+		if (found == null) {
+			throw new OHAPIException(new OHExceptionMessage(notFoundMessage));
+		}
+		return found;
+	}
 }
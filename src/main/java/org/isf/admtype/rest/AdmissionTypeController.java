@@ -28,6 +28,9 @@ import org.isf.admtype.manager.AdmissionTypeBrowserManager;
 import org.isf.admtype.mapper.AdmissionTypeMapper;
 import org.isf.admtype.model.AdmissionType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -43,6 +46,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -59,11 +63,18 @@ public class AdmissionTypeController {
 
 	private final AdmissionTypeMapper mapper;
 
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
 	public AdmissionTypeController(
-		AdmissionTypeBrowserManager admissionTypeBrowserManager, AdmissionTypeMapper admissionTypemapper
+		AdmissionTypeBrowserManager admissionTypeBrowserManager, AdmissionTypeMapper admissionTypemapper,
+		ReferenceDataRegistry referenceData, CatalogueVersions catalogues
 	) {
 		this.admissionTypeManager = admissionTypeBrowserManager;
 		this.mapper = admissionTypemapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -81,6 +92,8 @@ public class AdmissionTypeController {
 		LOGGER.info("Create Admission Type {}", code);
 
 		AdmissionType newAdmissionType = admissionTypeManager.newAdmissionType(mapper.map2Model(admissionTypeDTO));
+		referenceData.refresh(AdmissionType.class);
+		catalogues.bump(Catalogue.ADMISSION_TYPES);
 		if (!admissionTypeManager.isCodePresent(code)) {
 			throw new OHAPIException(new OHExceptionMessage("Admission Type is not created."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -106,18 +119,26 @@ public class AdmissionTypeController {
 			throw new OHAPIException(new OHExceptionMessage("Admission Type not found."));
 		}
 
-		return mapper.map2DTO(admissionTypeManager.updateAdmissionType(admissionType));
+		AdmissionType updatedAdmissionType = admissionTypeManager.updateAdmissionType(admissionType);
+		referenceData.refresh(AdmissionType.class);
+		catalogues.bump(Catalogue.ADMISSION_TYPES);
+
+		return mapper.map2DTO(updatedAdmissionType);
 	}
 
 	/**
 	 * Get all the available {@link AdmissionType}s.
 	 *
+	 * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
 	 * @return a {@link List} of {@link AdmissionType} or NO_CONTENT if there is no data found.
 	 * @throws OHServiceException When failed to get admission types
 	 */
 	@GetMapping(value = "/admissiontypes")
-	public List<AdmissionTypeDTO> getAdmissionTypes() throws OHServiceException {
+	public List<AdmissionTypeDTO> getAdmissionTypes(WebRequest request) throws OHServiceException {
 		LOGGER.info("Get all Admission Types ");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.ADMISSION_TYPES))) {
+			return null;
+		}
 
 		return mapper.map2DTOList(admissionTypeManager.getAdmissionType());
 	}
@@ -143,6 +164,8 @@ public class AdmissionTypeController {
 		if (!admissionTypesFound.isEmpty()) {
 			try {
 				admissionTypeManager.deleteAdmissionType(admissionTypesFound.get(0));
+				referenceData.refresh(AdmissionType.class);
+				catalogues.bump(Catalogue.ADMISSION_TYPES);
 			} catch (OHServiceException serviceException) {
 				LOGGER.error("Delete Admission: {} failed.", code);
 				throw new OHAPIException(new OHExceptionMessage("Admission not deleted."));
@@ -32,6 +32,8 @@ import org.isf.agetype.manager.AgeTypeBrowserManager;
 import org.isf.agetype.mapper.AgeTypeMapper;
 import org.isf.agetype.model.AgeType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -61,9 +63,12 @@ public class AgeTypeController {
 
 	private final AgeTypeMapper mapper;
 
-	public AgeTypeController(AgeTypeBrowserManager ageTypeManager, AgeTypeMapper ageTypeMapper) {
+	private final CatalogueVersions catalogues;
+
+	public AgeTypeController(AgeTypeBrowserManager ageTypeManager, AgeTypeMapper ageTypeMapper, CatalogueVersions catalogues) {
 		this.ageTypeManager = ageTypeManager;
 		this.mapper = ageTypeMapper;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -106,7 +111,9 @@ public class AgeTypeController {
 		List<AgeType> ageTypes = mapper.map2ModelList(ageTypeDTOs);
 
 		try {
-			return mapper.map2DTOList(ageTypeManager.updateAgeType(ageTypes));
+			List<AgeType> updatedAgeTypes = ageTypeManager.updateAgeType(ageTypes);
+			catalogues.bump(Catalogue.AGE_TYPES);
+			return mapper.map2DTOList(updatedAgeTypes);
 		} catch (OHServiceException ex) {
 			throw new OHAPIException(
 				new OHExceptionMessage("Unable to update age types. Please check that you've correctly set values"),
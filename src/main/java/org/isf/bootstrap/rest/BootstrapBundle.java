@@ -0,0 +1,203 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.bootstrap.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.isf.admtype.manager.AdmissionTypeBrowserManager;
+import org.isf.admtype.mapper.AdmissionTypeMapper;
+import org.isf.agetype.manager.AgeTypeBrowserManager;
+import org.isf.agetype.mapper.AgeTypeMapper;
+import org.isf.disctype.manager.DischargeTypeBrowserManager;
+import org.isf.disctype.mapper.DischargeTypeMapper;
+import org.isf.distype.manager.DiseaseTypeBrowserManager;
+import org.isf.distype.mapper.DiseaseTypeMapper;
+import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
+import org.isf.dlvrrestype.mapper.DeliveryResultTypeMapper;
+import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
+import org.isf.dlvrtype.mapper.DeliveryTypeMapper;
+import org.isf.exatype.manager.ExamTypeBrowserManager;
+import org.isf.exatype.mapper.ExamTypeMapper;
+import org.isf.medstockmovtype.manager.MedicalDsrStockMovementTypeBrowserManager;
+import org.isf.medstockmovtype.mapper.MovementTypeMapper;
+import org.isf.medtype.manager.MedicalTypeBrowserManager;
+import org.isf.medtype.mapper.MedicalTypeMapper;
+import org.isf.opetype.manager.OperationTypeBrowserManager;
+import org.isf.opetype.mapper.OperationTypeMapper;
+import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
+import org.isf.pregtreattype.mapper.PregnantTreatmentTypeMapper;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.vactype.manager.VaccineTypeBrowserManager;
+import org.isf.vactype.mapper.VaccineTypeMapper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.isf.ward.mapper.WardMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The lookup tables loaded by the clients on login, bundled in a single JSON object keyed by the path of the endpoint
+ * listing each of them (e.g. {@code agetypes}, {@code wards}).
+ * <p>
+ * The bundle is serialized and compressed once, then served as is until one of its catalogues is
+ * {@link CatalogueVersions#bump(Catalogue...) bumped}: the next request builds it again. Its ETag combines the versions
+ * of all its catalogues.
+ */
+@Component
+public class BootstrapBundle {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BootstrapBundle.class);
+
+	private final CatalogueVersions catalogues;
+
+	private final ObjectMapper objectMapper;
+
+	private final List<Section> sections = new ArrayList<>();
+
+	private final Catalogue[] sectionCatalogues;
+
+	private volatile Payload payload;
+
+	public BootstrapBundle(
+		CatalogueVersions catalogues,
+		ObjectMapper objectMapper,
+		AgeTypeBrowserManager ageTypeManager, AgeTypeMapper ageTypeMapper,
+		DeliveryTypeBrowserManager deliveryTypeManager, DeliveryTypeMapper deliveryTypeMapper,
+		DeliveryResultTypeBrowserManager deliveryResultTypeManager, DeliveryResultTypeMapper deliveryResultTypeMapper,
+		PregnantTreatmentTypeBrowserManager pregnantTreatmentTypeManager, PregnantTreatmentTypeMapper pregnantTreatmentTypeMapper,
+		DiseaseTypeBrowserManager diseaseTypeManager, DiseaseTypeMapper diseaseTypeMapper,
+		ExamTypeBrowserManager examTypeManager, ExamTypeMapper examTypeMapper,
+		MedicalTypeBrowserManager medicalTypeManager, MedicalTypeMapper medicalTypeMapper,
+		MedicalDsrStockMovementTypeBrowserManager movementTypeManager, MovementTypeMapper movementTypeMapper,
+		OperationTypeBrowserManager operationTypeManager, OperationTypeMapper operationTypeMapper,
+		VaccineTypeBrowserManager vaccineTypeManager, VaccineTypeMapper vaccineTypeMapper,
+		AdmissionTypeBrowserManager admissionTypeManager, AdmissionTypeMapper admissionTypeMapper,
+		DischargeTypeBrowserManager dischargeTypeManager, DischargeTypeMapper dischargeTypeMapper,
+		WardBrowserManager wardManager, WardMapper wardMapper
+	) {
+		this.catalogues = catalogues;
+		this.objectMapper = objectMapper;
+		section("agetypes", Catalogue.AGE_TYPES, () -> ageTypeMapper.map2DTOList(ageTypeManager.getAgeType()));
+		section("deliverytypes", Catalogue.DELIVERY_TYPES, () -> deliveryTypeMapper.map2DTOList(deliveryTypeManager.getDeliveryType()));
+		section("deliveryresulttypes", Catalogue.DELIVERY_RESULT_TYPES,
+			() -> deliveryResultTypeMapper.map2DTOList(deliveryResultTypeManager.getDeliveryResultType()));
+		section("pregnanttreatmenttypes", Catalogue.PREGNANT_TREATMENT_TYPES,
+			() -> pregnantTreatmentTypeMapper.map2DTOList(pregnantTreatmentTypeManager.getPregnantTreatmentType()));
+		section("diseasetypes", Catalogue.DISEASE_TYPES, () -> diseaseTypeMapper.map2DTOList(diseaseTypeManager.getDiseaseType()));
+		section("examtypes", Catalogue.EXAM_TYPES, () -> examTypeMapper.map2DTOList(examTypeManager.getExamType()));
+		section("medicaltypes", Catalogue.MEDICAL_TYPES, () -> medicalTypeMapper.map2DTOList(medicalTypeManager.getMedicalType()));
+		section("medstockmovementtypes", Catalogue.MEDICAL_STOCK_MOVEMENT_TYPES,
+			() -> movementTypeMapper.map2DTOList(movementTypeManager.getMedicalDsrStockMovementType()));
+		section("operationtypes", Catalogue.OPERATION_TYPES, () -> operationTypeMapper.map2DTOList(operationTypeManager.getOperationType()));
+		section("vaccinetypes", Catalogue.VACCINE_TYPES, () -> vaccineTypeMapper.map2DTOList(vaccineTypeManager.getVaccineType()));
+		section("admissiontypes", Catalogue.ADMISSION_TYPES, () -> admissionTypeMapper.map2DTOList(admissionTypeManager.getAdmissionType()));
+		section("dischargetypes", Catalogue.DISCHARGE_TYPES, () -> dischargeTypeMapper.map2DTOList(dischargeTypeManager.getDischargeType()));
+		section("wards", Catalogue.WARDS, () -> wardMapper.map2DTOList(wardManager.getWards()));
+		this.sectionCatalogues = sections.stream().map(Section::catalogue).toArray(Catalogue[]::new);
+	}
+
+	private void section(String name, Catalogue catalogue, Loader loader) {
+		sections.add(new Section(name, catalogue, loader));
+	}
+
+	/**
+	 * @return the bundle of the current versions of the catalogues, built again if one of them changed since the last call
+	 * @throws OHServiceException When failed to load a catalogue
+	 */
+	public Payload get() throws OHServiceException {
+		Payload current = payload;
+		if (current != null && current.version() == catalogues.combinedVersion(sectionCatalogues)) {
+			return current;
+		}
+		synchronized (this) {
+			current = payload;
+			long expectedVersion = catalogues.combinedVersion(sectionCatalogues);
+			if (current != null && current.version() == expectedVersion) {
+				return current;
+			}
+			// tagged with the version read before loading: a write during the load triggers another build
+			current = build(expectedVersion);
+			payload = current;
+			return current;
+		}
+	}
+
+	private Payload build(long version) throws OHServiceException {
+		long start = System.nanoTime();
+		Map<String, List< ? >> bundle = new LinkedHashMap<>();
+		for (Section section : sections) {
+			bundle.put(section.name(), section.loader().load());
+		}
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(bundle);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize the bootstrap bundle", e);
+		}
+		Payload built = new Payload(version, catalogues.eTag("bootstrap", version), json, gzip(json));
+		LOGGER.info("Bootstrap bundle built in {} ms, version: {}, bytes: {}, compressed: {}", (System.nanoTime() - start) / 1_000_000,
+			version, json.length, built.gzip().length);
+		return built;
+	}
+
+	private static byte[] gzip(byte[] content) {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 4);
+		try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			out.write(content);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return compressed.toByteArray();
+	}
+
+	/**
+	 * A built bundle.
+	 *
+	 * @param version the combined version of the catalogues of the bundle
+	 * @param eTag the weak ETag of the version
+	 * @param json the JSON content
+	 * @param gzip the JSON content compressed with gzip
+	 */
+	public record Payload(long version, String eTag, byte[] json, byte[] gzip) {
+	}
+
+	@FunctionalInterface
+	private interface Loader {
+
+		List< ? > load() throws OHServiceException;
+	}
+
+	private record Section(String name, Catalogue catalogue, Loader loader) {
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.bootstrap.rest;
+
+import org.isf.utils.exception.OHServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Tag(name = "Bootstrap")
+@SecurityRequirement(name = "bearerAuth")
+@RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+public class BootstrapController {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BootstrapController.class);
+
+	private static final String GZIP = "gzip";
+
+	private final BootstrapBundle bundle;
+
+	public BootstrapController(BootstrapBundle bundle) {
+		this.bundle = bundle;
+	}
+
+	/**
+	 * Get all the lookup tables needed by the clients on login in a single response, see {@link BootstrapBundle}.
+	 * <p>
+	 * The response is compressed with gzip when the client accepts it, and is NOT_MODIFIED when the
+	 * {@code If-None-Match} header holds the ETag of the current bundle.
+	 *
+	 * @param acceptEncoding the content codings accepted by the client
+	 * @return the lookup tables keyed by the path of the endpoint listing each of them
+	 * @throws OHServiceException When failed to load a lookup table
+	 */
+	@GetMapping(value = "/bootstrap")
+	public ResponseEntity<byte[]> getBootstrap(
+		@RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+	) throws OHServiceException {
+		LOGGER.info("Get bootstrap bundle");
+		BootstrapBundle.Payload payload = bundle.get();
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.eTag(payload.eTag())
+			.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (acceptsGzip(acceptEncoding)) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(payload.gzip());
+		}
+		return response.body(payload.json());
+	}
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parameters = coding.split(";");
+			if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+				return parameters.length == 1 || !parameters[1].trim().matches("q=0(\\.0{0,3})?");
+			}
+		}
+		return false;
+	}
+}
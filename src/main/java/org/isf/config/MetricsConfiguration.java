@@ -0,0 +1,100 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.config;
+
+import org.isf.shared.metrics.ManagerTimingPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+
+/**
+ * Metrics of the API, scraped by Prometheus at {@code /metrics/prometheus}:
+ * <ul>
+ * <li>{@code http.server.requests}: latency histogram of every endpoint, tagged with its URI pattern</li>
+ * <li>{@code oh.manager}: time spent in each OH-core manager method, see {@link ManagerTimingPostProcessor}</li>
+ * <li>{@code oh.mapper} and {@code oh.mapper.elements}: time spent mapping entities to DTOs and number of mapped elements,
+ * see {@link org.isf.shared.GenericMapper}</li>
+ * <li>{@code oh.jwt.validation}: time spent verifying bearer tokens, see {@link org.isf.security.jwt.TokenProvider}</li>
+ * </ul>
+ */
+@Configuration
+public class MetricsConfiguration {
+
+	private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+	@Bean
+	public PrometheusMeterRegistry prometheusMeterRegistry() {
+		PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+		registry.config().meterFilter(new MeterFilter() {
+
+			@Override
+			public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+				if (id.getName().equals(HTTP_SERVER_REQUESTS)) {
+					return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+				}
+				return config;
+			}
+		});
+		// the components created without a registry (tests, static helpers) record into the global one
+		Metrics.addRegistry(registry);
+		return registry;
+	}
+
+	/**
+	 * Binds the {@link MeterBinder} beans (caches, pools) once all the singletons are created.
+	 */
+	@Bean
+	public SmartInitializingSingleton meterBinders(MeterRegistry registry, ObjectProvider<MeterBinder> binders) {
+		return () -> binders.orderedStream().forEach(binder -> binder.bindTo(registry));
+	}
+
+	@Bean
+	public FilterRegistrationBean<ServerHttpObservationFilter> httpObservationFilter(MeterRegistry registry) {
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(registry));
+		FilterRegistrationBean<ServerHttpObservationFilter> filter = new FilterRegistrationBean<>(
+			new ServerHttpObservationFilter(observationRegistry));
+		// before the security filters, so that the time spent authenticating is part of the request latency
+		filter.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return filter;
+	}
+
+	@Bean
+	public static ManagerTimingPostProcessor managerTimingPostProcessor(ObjectProvider<MeterRegistry> registry) {
+		return new ManagerTimingPostProcessor(registry);
+	}
+}
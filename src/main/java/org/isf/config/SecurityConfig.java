@@ -27,6 +27,7 @@ import org.isf.permissions.manager.PermissionManager;
 import org.isf.security.ApiAuditorAwareImpl;
 import org.isf.security.CustomLogoutHandler;
 import org.isf.security.OHSimpleUrlAuthenticationSuccessHandler;
+import org.isf.security.PermissionRegistry;
 import org.isf.security.RestAuthenticationEntryPoint;
 import org.isf.security.jwt.JWTFilter;
 import org.isf.security.jwt.TokenProvider;
@@ -36,7 +37,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -70,6 +70,9 @@ public class SecurityConfig {
 	@Autowired
 	private CustomLogoutHandler customLogoutHandler;
 
+	@Autowired
+	private PermissionRegistry permissionRegistry;
+
 	@Bean
 	public PasswordEncoder encoder() {
 		return new BCryptPasswordEncoder();
@@ -97,6 +100,8 @@ public class SecurityConfig {
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+		// every rule is compiled once into a bitset lookup against the permissions carried by the authentication
+		PermissionRegistry permissions = this.permissionRegistry;
 		http
 			.cors(cors -> cors.configurationSource(corsConfigurationSource()))
 			.csrf(csrf -> csrf.disable()) // Disable CSRF protection
@@ -105,229 +110,222 @@ public class SecurityConfig {
 				.requestMatchers("/auth/login", "/auth/refresh-token").permitAll()
 				.requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/v3/api-docs.yaml").permitAll()
 				// admissions
-				.requestMatchers(HttpMethod.POST, "/admissions/**").hasAuthority("admissions.create")
-				.requestMatchers(HttpMethod.GET, "/admissions/**").hasAnyAuthority("admissions.read")
-				.requestMatchers(HttpMethod.PUT, "/admissions/**").hasAuthority("admissions.update")
-				.requestMatchers(HttpMethod.DELETE, "/admissions/**").hasAuthority("admissions.delete")
+				.requestMatchers(HttpMethod.POST, "/admissions/**").access(permissions.hasAuthority("admissions.create"))
+				.requestMatchers(HttpMethod.GET, "/admissions/**").access(permissions.hasAnyAuthority("admissions.read"))
+				.requestMatchers(HttpMethod.PUT, "/admissions/**").access(permissions.hasAuthority("admissions.update"))
+				.requestMatchers(HttpMethod.DELETE, "/admissions/**").access(permissions.hasAuthority("admissions.delete"))
 				// admissiontypes
-				.requestMatchers(HttpMethod.POST, "/admissiontypes/**").hasAuthority("admissiontypes.create")
-				.requestMatchers(HttpMethod.GET, "/admissiontypes/**").hasAnyAuthority("admissiontypes.read")
-				.requestMatchers(HttpMethod.PUT, "/admissiontypes/**").hasAuthority("admissiontypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/admissiontypes/**").hasAuthority("admissiontypes.delete")
+				.requestMatchers(HttpMethod.POST, "/admissiontypes/**").access(permissions.hasAuthority("admissiontypes.create"))
+				.requestMatchers(HttpMethod.GET, "/admissiontypes/**").access(permissions.hasAnyAuthority("admissiontypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/admissiontypes/**").access(permissions.hasAuthority("admissiontypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/admissiontypes/**").access(permissions.hasAuthority("admissiontypes.delete"))
 				// age types
-				.requestMatchers(HttpMethod.GET, "/agetypes/**").hasAnyAuthority("agetypes.read")
-				.requestMatchers(HttpMethod.PUT, "/agetypes/**").hasAuthority("agetypes.update")
+				.requestMatchers(HttpMethod.GET, "/agetypes/**").access(permissions.hasAnyAuthority("agetypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/agetypes/**").access(permissions.hasAuthority("agetypes.update"))
+				// bootstrap
+				.requestMatchers(HttpMethod.GET, "/bootstrap")
+				.access(permissions.hasAllAuthorities("agetypes.read", "deliverytypes.read", "deliveryresulttypes.read",
+					"pregnanttreatmenttypes.read", "diseasetypes.read", "examtypes.read", "medicaltypes.read", "medstockmovementtypes.read",
+					"operationtypes.read", "vaccinetypes.read", "admissiontypes.read", "dischargetypes.read", "wards.read"))
 				// dischargetypes
-				.requestMatchers(HttpMethod.POST, "/dischargetypes/**").hasAuthority("dischargetypes.create")
-				.requestMatchers(HttpMethod.GET, "/dischargetypes/**").hasAnyAuthority("dischargetypes.read")
-				.requestMatchers(HttpMethod.PUT, "/dischargetypes/**").hasAuthority("dischargetypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/dischargetypes/**").hasAuthority("dischargetypes.delete")
+				.requestMatchers(HttpMethod.POST, "/dischargetypes/**").access(permissions.hasAuthority("dischargetypes.create"))
+				.requestMatchers(HttpMethod.GET, "/dischargetypes/**").access(permissions.hasAnyAuthority("dischargetypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/dischargetypes/**").access(permissions.hasAuthority("dischargetypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/dischargetypes/**").access(permissions.hasAuthority("dischargetypes.delete"))
 				// diseases
-				.requestMatchers(HttpMethod.POST, "/diseases/**").hasAuthority("diseases.create")
-				.requestMatchers(HttpMethod.GET, "/diseases/**").hasAnyAuthority("diseases.read")
-				.requestMatchers(HttpMethod.PUT, "/diseases/**").hasAuthority("diseases.update")
-				.requestMatchers(HttpMethod.DELETE, "/diseases/**").hasAuthority("diseases.delete")
+				.requestMatchers(HttpMethod.POST, "/diseases/**").access(permissions.hasAuthority("diseases.create"))
+				.requestMatchers(HttpMethod.GET, "/diseases/**").access(permissions.hasAnyAuthority("diseases.read"))
+				.requestMatchers(HttpMethod.PUT, "/diseases/**").access(permissions.hasAuthority("diseases.update"))
+				.requestMatchers(HttpMethod.DELETE, "/diseases/**").access(permissions.hasAuthority("diseases.delete"))
 				// diseasetypes
-				.requestMatchers(HttpMethod.POST, "/diseasetypes/**").hasAuthority("diseasetypes.create")
-				.requestMatchers(HttpMethod.GET, "/diseasetypes/**").hasAnyAuthority("diseasetypes.read")
-				.requestMatchers(HttpMethod.PUT, "/diseasetypes/**").hasAuthority("diseasetypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/diseasetypes/**").hasAuthority("diseasetypes.delete")
+				.requestMatchers(HttpMethod.POST, "/diseasetypes/**").access(permissions.hasAuthority("diseasetypes.create"))
+				.requestMatchers(HttpMethod.GET, "/diseasetypes/**").access(permissions.hasAnyAuthority("diseasetypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/diseasetypes/**").access(permissions.hasAuthority("diseasetypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/diseasetypes/**").access(permissions.hasAuthority("diseasetypes.delete"))
 				// deliveryresulttype
-				.requestMatchers(HttpMethod.POST, "/deliveryresulttypes/**").hasAuthority("deliveryresulttypes.create")
-				.requestMatchers(HttpMethod.GET, "/deliveryresulttypes/**").hasAnyAuthority("deliveryresulttypes.read")
-				.requestMatchers(HttpMethod.PUT, "/deliveryresulttypes/**").hasAuthority("deliveryresulttypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/deliveryresulttypes/**").hasAuthority("deliveryresulttypes.delete")
+				.requestMatchers(HttpMethod.POST, "/deliveryresulttypes/**").access(permissions.hasAuthority("deliveryresulttypes.create"))
+				.requestMatchers(HttpMethod.GET, "/deliveryresulttypes/**").access(permissions.hasAnyAuthority("deliveryresulttypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/deliveryresulttypes/**").access(permissions.hasAuthority("deliveryresulttypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/deliveryresulttypes/**").access(permissions.hasAuthority("deliveryresulttypes.delete"))
 				// deliverytypes
-				.requestMatchers(HttpMethod.POST, "/deliverytypes/**").hasAuthority("deliverytypes.create")
-				.requestMatchers(HttpMethod.GET, "/deliverytypes/**").hasAnyAuthority("deliverytypes.read")
-				.requestMatchers(HttpMethod.PUT, "/deliverytypes/**").hasAuthority("deliverytypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/deliverytypes/**").hasAuthority("deliverytypes.delete")
+				.requestMatchers(HttpMethod.POST, "/deliverytypes/**").access(permissions.hasAuthority("deliverytypes.create"))
+				.requestMatchers(HttpMethod.GET, "/deliverytypes/**").access(permissions.hasAnyAuthority("deliverytypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/deliverytypes/**").access(permissions.hasAuthority("deliverytypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/deliverytypes/**").access(permissions.hasAuthority("deliverytypes.delete"))
 				// exams
-				.requestMatchers(HttpMethod.POST, "/exams/**").hasAuthority("exams.create")
-				.requestMatchers(HttpMethod.GET, "/exams/**").hasAnyAuthority("exams.read")
+				.requestMatchers(HttpMethod.POST, "/exams/**").access(permissions.hasAuthority("exams.create"))
+				.requestMatchers(HttpMethod.GET, "/exams/**").access(permissions.hasAnyAuthority("exams.read"))
 				.requestMatchers(HttpMethod.PUT, "/exams/**")
-				.access((authentication, context) -> {
-					boolean hasCreateAuthority = authentication.get().getAuthorities().stream()
-						.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("exams.create"));
-					boolean hasUpdateAuthority = authentication.get().getAuthorities().stream()
-						.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("exams.update"));
-					boolean hasDeleteAuthority = authentication.get().getAuthorities().stream()
-						.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("examrows.create"));
-					return new AuthorizationDecision(hasCreateAuthority && hasUpdateAuthority && hasDeleteAuthority);
-				})
-				.requestMatchers(HttpMethod.DELETE, "/exams/**").hasAuthority("exams.delete")
+				.access(permissions.hasAllAuthorities("exams.create", "exams.update", "examrows.create"))
+				.requestMatchers(HttpMethod.DELETE, "/exams/**").access(permissions.hasAuthority("exams.delete"))
 				// examrows
-				.requestMatchers(HttpMethod.POST, "/examrows/**").hasAuthority("examrows.create")
-				.requestMatchers(HttpMethod.GET, "/examrows/**").hasAnyAuthority("examrows.read")
-				.requestMatchers(HttpMethod.PUT, "/examrows/**").hasAuthority("examrows.update")
-				.requestMatchers(HttpMethod.DELETE, "/examrows/**").hasAuthority("examrows.delete")
+				.requestMatchers(HttpMethod.POST, "/examrows/**").access(permissions.hasAuthority("examrows.create"))
+				.requestMatchers(HttpMethod.GET, "/examrows/**").access(permissions.hasAnyAuthority("examrows.read"))
+				.requestMatchers(HttpMethod.PUT, "/examrows/**").access(permissions.hasAuthority("examrows.update"))
+				.requestMatchers(HttpMethod.DELETE, "/examrows/**").access(permissions.hasAuthority("examrows.delete"))
 				// examinations
-				.requestMatchers(HttpMethod.POST, "/examinations/**").hasAuthority("examinations.create")
-				.requestMatchers(HttpMethod.GET, "/examinations/**").hasAnyAuthority("examinations.read")
-				.requestMatchers(HttpMethod.PUT, "/examinations/**").hasAuthority("examinations.update")
-				.requestMatchers(HttpMethod.DELETE, "/examinations/**").hasAuthority("examinations.delete")
+				.requestMatchers(HttpMethod.POST, "/examinations/**").access(permissions.hasAuthority("examinations.create"))
+				.requestMatchers(HttpMethod.GET, "/examinations/**").access(permissions.hasAnyAuthority("examinations.read"))
+				.requestMatchers(HttpMethod.PUT, "/examinations/**").access(permissions.hasAuthority("examinations.update"))
+				.requestMatchers(HttpMethod.DELETE, "/examinations/**").access(permissions.hasAuthority("examinations.delete"))
 				// examtypes
-				.requestMatchers(HttpMethod.POST, "/examtypes/**").hasAuthority("examtypes.create")
-				.requestMatchers(HttpMethod.GET, "/examtypes/**").hasAnyAuthority("examtypes.read")
-				.requestMatchers(HttpMethod.PUT, "/examtypes/**").hasAuthority("examtypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/examtypes/**").hasAuthority("examtypes.delete")
+				.requestMatchers(HttpMethod.POST, "/examtypes/**").access(permissions.hasAuthority("examtypes.create"))
+				.requestMatchers(HttpMethod.GET, "/examtypes/**").access(permissions.hasAnyAuthority("examtypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/examtypes/**").access(permissions.hasAuthority("examtypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/examtypes/**").access(permissions.hasAuthority("examtypes.delete"))
 				// hospitals
-				.requestMatchers(HttpMethod.POST, "/hospitals/**").hasAuthority("hospitals.create")
+				.requestMatchers(HttpMethod.POST, "/hospitals/**").access(permissions.hasAuthority("hospitals.create"))
 				.requestMatchers(HttpMethod.GET, "/hospitals/**").permitAll()
-				.requestMatchers(HttpMethod.PUT, "/hospitals/**").hasAuthority("hospitals.update")
-				.requestMatchers(HttpMethod.DELETE, "/hospitals/**").hasAuthority("hospitals.delete")
+				.requestMatchers(HttpMethod.PUT, "/hospitals/**").access(permissions.hasAuthority("hospitals.update"))
+				.requestMatchers(HttpMethod.DELETE, "/hospitals/**").access(permissions.hasAuthority("hospitals.delete"))
 				// laboratories
-				.requestMatchers(HttpMethod.POST, "/laboratories/**").hasAuthority("laboratories.create")
-				.requestMatchers(HttpMethod.GET, "/laboratories/**").hasAnyAuthority("laboratories.read")
-				.requestMatchers(HttpMethod.PUT, "/laboratories/**").hasAuthority("laboratories.update")
-				.requestMatchers(HttpMethod.DELETE, "/laboratories/**").hasAuthority("laboratories.delete")
+				.requestMatchers(HttpMethod.POST, "/laboratories/**").access(permissions.hasAuthority("laboratories.create"))
+				.requestMatchers(HttpMethod.GET, "/laboratories/**").access(permissions.hasAnyAuthority("laboratories.read"))
+				.requestMatchers(HttpMethod.PUT, "/laboratories/**").access(permissions.hasAuthority("laboratories.update"))
+				.requestMatchers(HttpMethod.DELETE, "/laboratories/**").access(permissions.hasAuthority("laboratories.delete"))
 				// malnutrition
-				.requestMatchers(HttpMethod.POST, "/malnutritions/**").hasAuthority("malnutritions.create")
-				.requestMatchers(HttpMethod.GET, "/malnutritions/**").hasAuthority("malnutritions.read")
-				.requestMatchers(HttpMethod.PUT, "/malnutritions/**").hasAuthority("malnutritions.update")
-				.requestMatchers(HttpMethod.DELETE, "/malnutritions/**").hasAuthority("malnutritions.delete")
+				.requestMatchers(HttpMethod.POST, "/malnutritions/**").access(permissions.hasAuthority("malnutritions.create"))
+				.requestMatchers(HttpMethod.GET, "/malnutritions/**").access(permissions.hasAuthority("malnutritions.read"))
+				.requestMatchers(HttpMethod.PUT, "/malnutritions/**").access(permissions.hasAuthority("malnutritions.update"))
+				.requestMatchers(HttpMethod.DELETE, "/malnutritions/**").access(permissions.hasAuthority("malnutritions.delete"))
 				// medicals
-				.requestMatchers(HttpMethod.POST, "/medicals/**").hasAuthority("medicals.create")
-				.requestMatchers(HttpMethod.GET, "/medicals/**").hasAuthority("medicals.read")
-				.requestMatchers(HttpMethod.PUT, "/medicals/**").hasAuthority("medicals.update")
-				.requestMatchers(HttpMethod.DELETE, "/medicals/**").hasAuthority("medicals.delete")
+				.requestMatchers(HttpMethod.POST, "/medicals/**").access(permissions.hasAuthority("medicals.create"))
+				.requestMatchers(HttpMethod.GET, "/medicals/**").access(permissions.hasAuthority("medicals.read"))
+				.requestMatchers(HttpMethod.PUT, "/medicals/**").access(permissions.hasAuthority("medicals.update"))
+				.requestMatchers(HttpMethod.DELETE, "/medicals/**").access(permissions.hasAuthority("medicals.delete"))
 				// medicalstock
-				.requestMatchers(HttpMethod.POST, "/medicalstockmovements/**").hasAuthority("medicalstockmovements.create")
-				.requestMatchers(HttpMethod.GET, "/medicalstockmovements/**").hasAuthority("medicalstockmovements.read")
-				.requestMatchers(HttpMethod.PUT, "/medicalstockmovements/**").hasAuthority("medicalstockmovements.update")
-				.requestMatchers(HttpMethod.DELETE, "/medicalstockmovements/**").hasAuthority("medicalstockmovements.delete")
+				.requestMatchers(HttpMethod.POST, "/medicalstockmovements/**").access(permissions.hasAuthority("medicalstockmovements.create"))
+				.requestMatchers(HttpMethod.GET, "/medicalstockmovements/**").access(permissions.hasAuthority("medicalstockmovements.read"))
+				.requestMatchers(HttpMethod.PUT, "/medicalstockmovements/**").access(permissions.hasAuthority("medicalstockmovements.update"))
+				.requestMatchers(HttpMethod.DELETE, "/medicalstockmovements/**").access(permissions.hasAuthority("medicalstockmovements.delete"))
 				// medicalstockward
-				.requestMatchers(HttpMethod.POST, "/medicalstockward/**").hasAuthority("medicalstockward.create")
-				.requestMatchers(HttpMethod.GET, "/medicalstockward/**").hasAuthority("medicalstockward.read")
-				.requestMatchers(HttpMethod.PUT, "/medicalstockward/**").hasAuthority("medicalstockward.update")
-				.requestMatchers(HttpMethod.DELETE, "/medicalstockward/**").hasAuthority("medicalstockward.delete")
+				.requestMatchers(HttpMethod.POST, "/medicalstockward/**").access(permissions.hasAuthority("medicalstockward.create"))
+				.requestMatchers(HttpMethod.GET, "/medicalstockward/**").access(permissions.hasAuthority("medicalstockward.read"))
+				.requestMatchers(HttpMethod.PUT, "/medicalstockward/**").access(permissions.hasAuthority("medicalstockward.update"))
+				.requestMatchers(HttpMethod.DELETE, "/medicalstockward/**").access(permissions.hasAuthority("medicalstockward.delete"))
 				// medicalstockmovtype
-				.requestMatchers(HttpMethod.POST, "/medstockmovementtypes/**").hasAuthority("medstockmovementtypes.create")
-				.requestMatchers(HttpMethod.GET, "/medstockmovementtypes/**").hasAuthority("medstockmovementtypes.read")
-				.requestMatchers(HttpMethod.PUT, "/medstockmovementtypes/**").hasAuthority("medstockmovementtypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/medstockmovementtypes/**").hasAuthority("medstockmovementtypes.delete")
+				.requestMatchers(HttpMethod.POST, "/medstockmovementtypes/**").access(permissions.hasAuthority("medstockmovementtypes.create"))
+				.requestMatchers(HttpMethod.GET, "/medstockmovementtypes/**").access(permissions.hasAuthority("medstockmovementtypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/medstockmovementtypes/**").access(permissions.hasAuthority("medstockmovementtypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/medstockmovementtypes/**").access(permissions.hasAuthority("medstockmovementtypes.delete"))
 				// medicaltype
-				.requestMatchers(HttpMethod.POST, "/medicaltypes/**").hasAuthority("medicaltypes.create")
-				.requestMatchers(HttpMethod.GET, "/medicaltypes/**").hasAuthority("medicaltypes.read")
-				.requestMatchers(HttpMethod.PUT, "/medicaltypes/**").hasAuthority("medicaltypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/medicaltypes/**").hasAuthority("medicaltypes.delete")
+				.requestMatchers(HttpMethod.POST, "/medicaltypes/**").access(permissions.hasAuthority("medicaltypes.create"))
+				.requestMatchers(HttpMethod.GET, "/medicaltypes/**").access(permissions.hasAuthority("medicaltypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/medicaltypes/**").access(permissions.hasAuthority("medicaltypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/medicaltypes/**").access(permissions.hasAuthority("medicaltypes.delete"))
+				// metrics
+				.requestMatchers(HttpMethod.GET, "/metrics/**").access(permissions.hasAuthority("metrics.read"))
 				// opd
-				.requestMatchers(HttpMethod.POST, "/opds/**").hasAuthority("opds.create")
-				.requestMatchers(HttpMethod.GET, "/opds/**").hasAnyAuthority("opds.read")
-				.requestMatchers(HttpMethod.PUT, "/opds/**").hasAuthority("opds.update")
-				.requestMatchers(HttpMethod.DELETE, "/opds/**").hasAuthority("opds.delete")
+				.requestMatchers(HttpMethod.POST, "/opds/**").access(permissions.hasAuthority("opds.create"))
+				.requestMatchers(HttpMethod.GET, "/opds/**").access(permissions.hasAnyAuthority("opds.read"))
+				.requestMatchers(HttpMethod.PUT, "/opds/**").access(permissions.hasAuthority("opds.update"))
+				.requestMatchers(HttpMethod.DELETE, "/opds/**").access(permissions.hasAuthority("opds.delete"))
 				// operations
-				.requestMatchers(HttpMethod.POST, "/operations/**").hasAuthority("operations.create")
-				.requestMatchers(HttpMethod.GET, "/operations/**").hasAnyAuthority("operations.read")
-				.requestMatchers(HttpMethod.PUT, "/operations/**").hasAuthority("operations.update")
-				.requestMatchers(HttpMethod.DELETE, "/operations/**").hasAuthority("operations.delete")
+				.requestMatchers(HttpMethod.POST, "/operations/**").access(permissions.hasAuthority("operations.create"))
+				.requestMatchers(HttpMethod.GET, "/operations/**").access(permissions.hasAnyAuthority("operations.read"))
+				.requestMatchers(HttpMethod.PUT, "/operations/**").access(permissions.hasAuthority("operations.update"))
+				.requestMatchers(HttpMethod.DELETE, "/operations/**").access(permissions.hasAuthority("operations.delete"))
 				// operation types
-				.requestMatchers(HttpMethod.POST, "/operationtypes/**").hasAuthority("operationtypes.create")
-				.requestMatchers(HttpMethod.GET, "/operationtypes/**").hasAnyAuthority("operationtypes.read")
-				.requestMatchers(HttpMethod.PUT, "/operationtypes/**").hasAuthority("operationtypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/operationtypes/**").hasAuthority("operationtypes.delete")
+				.requestMatchers(HttpMethod.POST, "/operationtypes/**").access(permissions.hasAuthority("operationtypes.create"))
+				.requestMatchers(HttpMethod.GET, "/operationtypes/**").access(permissions.hasAnyAuthority("operationtypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/operationtypes/**").access(permissions.hasAuthority("operationtypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/operationtypes/**").access(permissions.hasAuthority("operationtypes.delete"))
 				// patientconsensus
-				.requestMatchers(HttpMethod.POST, "/patientconsensus/**").hasAuthority("patientconsensus.create")
-				.requestMatchers(HttpMethod.GET, "/patientconsensus/**").hasAuthority("patientconsensus.read")
-				.requestMatchers(HttpMethod.PUT, "/patientconsensus/**").hasAuthority("patientconsensus.update")
-				.requestMatchers(HttpMethod.DELETE, "/patientconsensus/**").hasAuthority("patientconsensus.delete")
+				.requestMatchers(HttpMethod.POST, "/patientconsensus/**").access(permissions.hasAuthority("patientconsensus.create"))
+				.requestMatchers(HttpMethod.GET, "/patientconsensus/**").access(permissions.hasAuthority("patientconsensus.read"))
+				.requestMatchers(HttpMethod.PUT, "/patientconsensus/**").access(permissions.hasAuthority("patientconsensus.update"))
+				.requestMatchers(HttpMethod.DELETE, "/patientconsensus/**").access(permissions.hasAuthority("patientconsensus.delete"))
 				// patients
-				.requestMatchers(HttpMethod.POST, "/patients/**").hasAuthority("patients.create")
-				.requestMatchers(HttpMethod.GET, "/patients/**").hasAuthority("patients.read")
-				.requestMatchers(HttpMethod.PUT, "/patients/**").hasAuthority("patients.update")
-				.requestMatchers(HttpMethod.DELETE, "/patients/**").hasAuthority("patients.delete")
+				.requestMatchers(HttpMethod.POST, "/patients/**").access(permissions.hasAuthority("patients.create"))
+				.requestMatchers(HttpMethod.GET, "/patients/**").access(permissions.hasAuthority("patients.read"))
+				.requestMatchers(HttpMethod.PUT, "/patients/**").access(permissions.hasAuthority("patients.update"))
+				.requestMatchers(HttpMethod.DELETE, "/patients/**").access(permissions.hasAuthority("patients.delete"))
 				// patientvaccines
-				.requestMatchers(HttpMethod.POST, "/patientvaccines/**").hasAuthority("patientvaccines.create")
-				.requestMatchers(HttpMethod.GET, "/patientvaccines/**").hasAnyAuthority("patientvaccines.read")
-				.requestMatchers(HttpMethod.PUT, "/patientvaccines/**").hasAuthority("patientvaccines.update")
-				.requestMatchers(HttpMethod.DELETE, "/patientvaccines/**").hasAuthority("patientvaccines.delete")
+				.requestMatchers(HttpMethod.POST, "/patientvaccines/**").access(permissions.hasAuthority("patientvaccines.create"))
+				.requestMatchers(HttpMethod.GET, "/patientvaccines/**").access(permissions.hasAnyAuthority("patientvaccines.read"))
+				.requestMatchers(HttpMethod.PUT, "/patientvaccines/**").access(permissions.hasAuthority("patientvaccines.update"))
+				.requestMatchers(HttpMethod.DELETE, "/patientvaccines/**").access(permissions.hasAuthority("patientvaccines.delete"))
 				// permission
-				.requestMatchers(HttpMethod.POST, "/permissions/**").hasAuthority("permissions.create")
-				.requestMatchers(HttpMethod.GET, "/permissions/**").hasAuthority("permissions.read")
-				.requestMatchers(HttpMethod.PUT, "/permissions/**").hasAuthority("permissions.update")
-				.requestMatchers(HttpMethod.DELETE, "/permissions/**").hasAuthority("permissions.delete")
+				.requestMatchers(HttpMethod.POST, "/permissions/**").access(permissions.hasAuthority("permissions.create"))
+				.requestMatchers(HttpMethod.GET, "/permissions/**").access(permissions.hasAuthority("permissions.read"))
+				.requestMatchers(HttpMethod.PUT, "/permissions/**").access(permissions.hasAuthority("permissions.update"))
+				.requestMatchers(HttpMethod.DELETE, "/permissions/**").access(permissions.hasAuthority("permissions.delete"))
 				// grouppermission
-				.requestMatchers(HttpMethod.POST, "/usergroups/{group_code}/permissions/**").hasAuthority("grouppermission.create")
-				.requestMatchers(HttpMethod.GET, "/usergroups/{group_code}/permissions/**").hasAuthority("grouppermission.read")
-				.requestMatchers(HttpMethod.PUT, "/usergroups/{group_code}/permissions/**").hasAuthority("grouppermission.create")
+				.requestMatchers(HttpMethod.POST, "/usergroups/{group_code}/permissions/**").access(permissions.hasAuthority("grouppermission.create"))
+				.requestMatchers(HttpMethod.GET, "/usergroups/{group_code}/permissions/**").access(permissions.hasAuthority("grouppermission.read"))
+				.requestMatchers(HttpMethod.PUT, "/usergroups/{group_code}/permissions/**").access(permissions.hasAuthority("grouppermission.create"))
 				.requestMatchers(HttpMethod.PATCH, "/usergroups/{group_code}/permissions/**")
-				.access((authentication, context) -> {
-					boolean hasCreateAuthority = authentication.get().getAuthorities().stream()
-						.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("grouppermission.create"));
-					boolean hasDeleteAuthority = authentication.get().getAuthorities().stream()
-						.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals("grouppermission.delete"));
-
-					return new AuthorizationDecision(hasCreateAuthority && hasDeleteAuthority);
-				})
-				.requestMatchers(HttpMethod.DELETE, "/usergroups/{group_code}/permissions/**").hasAuthority("grouppermission.delete")
+				.access(permissions.hasAllAuthorities("grouppermission.create", "grouppermission.delete"))
+				.requestMatchers(HttpMethod.DELETE, "/usergroups/{group_code}/permissions/**").access(permissions.hasAuthority("grouppermission.delete"))
 				// usergroups
-				.requestMatchers(HttpMethod.POST, "/usergroups/**").hasAuthority("usergroups.create")
-				.requestMatchers(HttpMethod.GET, "/usergroups/**").hasAuthority("usergroups.read")
-				.requestMatchers(HttpMethod.PUT, "/usergroups/**").hasAuthority("usergroups.update")
-				.requestMatchers(HttpMethod.DELETE, "/usergroups/**").hasAuthority("usergroups.delete")
+				.requestMatchers(HttpMethod.POST, "/usergroups/**").access(permissions.hasAuthority("usergroups.create"))
+				.requestMatchers(HttpMethod.GET, "/usergroups/**").access(permissions.hasAuthority("usergroups.read"))
+				.requestMatchers(HttpMethod.PUT, "/usergroups/**").access(permissions.hasAuthority("usergroups.update"))
+				.requestMatchers(HttpMethod.DELETE, "/usergroups/**").access(permissions.hasAuthority("usergroups.delete"))
 				// user
 				.requestMatchers("/users/me").authenticated()
-				.requestMatchers(HttpMethod.POST, "/users").hasAuthority("users.create")
-				.requestMatchers(HttpMethod.GET, "/users/**").hasAuthority("users.read")
-				.requestMatchers(HttpMethod.PUT, "/users/{username}").hasAuthority("users.update")
-				.requestMatchers(HttpMethod.DELETE, "/users/**").hasAuthority("users.delete")
+				.requestMatchers(HttpMethod.POST, "/users").access(permissions.hasAuthority("users.create"))
+				.requestMatchers(HttpMethod.GET, "/users/**").access(permissions.hasAuthority("users.read"))
+				.requestMatchers(HttpMethod.PUT, "/users/{username}").access(permissions.hasAuthority("users.update"))
+				.requestMatchers(HttpMethod.DELETE, "/users/**").access(permissions.hasAuthority("users.delete"))
 				// user setting
 				.requestMatchers("/usersettings/**").authenticated()
 				// pregnanttreatmenttypes
-				.requestMatchers(HttpMethod.POST, "/pregnanttreatmenttypes/**").hasAuthority("pregnanttreatmenttypes.create")
-				.requestMatchers(HttpMethod.GET, "/pregnanttreatmenttypes/**").hasAnyAuthority("pregnanttreatmenttypes.read")
-				.requestMatchers(HttpMethod.PUT, "/pregnanttreatmenttypes/**").hasAuthority("pregnanttreatmenttypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/pregnanttreatmenttypes/**").hasAuthority("pregnanttreatmenttypes.delete")
+				.requestMatchers(HttpMethod.POST, "/pregnanttreatmenttypes/**").access(permissions.hasAuthority("pregnanttreatmenttypes.create"))
+				.requestMatchers(HttpMethod.GET, "/pregnanttreatmenttypes/**").access(permissions.hasAnyAuthority("pregnanttreatmenttypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/pregnanttreatmenttypes/**").access(permissions.hasAuthority("pregnanttreatmenttypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/pregnanttreatmenttypes/**").access(permissions.hasAuthority("pregnanttreatmenttypes.delete"))
 				// pricelists
-				.requestMatchers(HttpMethod.POST, "/pricelists/**").hasAuthority("pricelists.create")
-				.requestMatchers(HttpMethod.GET, "/pricelists/**").hasAnyAuthority("pricelists.read")
-				.requestMatchers(HttpMethod.PUT, "/pricelists/**").hasAuthority("pricelists.update")
-				.requestMatchers(HttpMethod.DELETE, "/pricelists/**").hasAuthority("pricelists.delete")
+				.requestMatchers(HttpMethod.POST, "/pricelists/**").access(permissions.hasAuthority("pricelists.create"))
+				.requestMatchers(HttpMethod.GET, "/pricelists/**").access(permissions.hasAnyAuthority("pricelists.read"))
+				.requestMatchers(HttpMethod.PUT, "/pricelists/**").access(permissions.hasAuthority("pricelists.update"))
+				.requestMatchers(HttpMethod.DELETE, "/pricelists/**").access(permissions.hasAuthority("pricelists.delete"))
 				// pricesothers
-				.requestMatchers(HttpMethod.POST, "/pricesothers/**").hasAuthority("pricesothers.create")
-				.requestMatchers(HttpMethod.GET, "/pricesothers/**").hasAnyAuthority("pricesothers.read")
-				.requestMatchers(HttpMethod.PUT, "/pricesothers/**").hasAuthority("pricesothers.update")
-				.requestMatchers(HttpMethod.DELETE, "/pricesothers/**").hasAuthority("pricesothers.delete")
-				// reports
-				.requestMatchers(HttpMethod.POST, "/reports/**").hasAuthority("reports.create")
-				.requestMatchers(HttpMethod.GET, "/reports/**").hasAnyAuthority("reports.read")
-				.requestMatchers(HttpMethod.PUT, "/reports/**").hasAuthority("reports.update")
-				.requestMatchers(HttpMethod.DELETE, "/reports/**").hasAuthority("reports.delete")
+				.requestMatchers(HttpMethod.POST, "/pricesothers/**").access(permissions.hasAuthority("pricesothers.create"))
+				.requestMatchers(HttpMethod.GET, "/pricesothers/**").access(permissions.hasAnyAuthority("pricesothers.read"))
+				.requestMatchers(HttpMethod.PUT, "/pricesothers/**").access(permissions.hasAuthority("pricesothers.update"))
+				.requestMatchers(HttpMethod.DELETE, "/pricesothers/**").access(permissions.hasAuthority("pricesothers.delete"))
+				// reports, generated asynchronously with the same permission as synchronously
+				.requestMatchers(HttpMethod.POST, "/reports/jobs/**").access(permissions.hasAnyAuthority("reports.read"))
+				.requestMatchers(HttpMethod.POST, "/reports/**").access(permissions.hasAuthority("reports.create"))
+				.requestMatchers(HttpMethod.GET, "/reports/**").access(permissions.hasAnyAuthority("reports.read"))
+				.requestMatchers(HttpMethod.PUT, "/reports/**").access(permissions.hasAuthority("reports.update"))
+				.requestMatchers(HttpMethod.DELETE, "/reports/**").access(permissions.hasAuthority("reports.delete"))
 				// sms
-				.requestMatchers(HttpMethod.POST, "/sms/**").hasAuthority("sms.create")
-				.requestMatchers(HttpMethod.GET, "/sms/**").hasAnyAuthority("sms.read")
-				.requestMatchers(HttpMethod.PUT, "/sms/**").hasAuthority("sms.update")
-				.requestMatchers(HttpMethod.DELETE, "/sms/**").hasAuthority("sms.delete")
+				.requestMatchers(HttpMethod.POST, "/sms/**").access(permissions.hasAuthority("sms.create"))
+				.requestMatchers(HttpMethod.GET, "/sms/**").access(permissions.hasAnyAuthority("sms.read"))
+				.requestMatchers(HttpMethod.PUT, "/sms/**").access(permissions.hasAuthority("sms.update"))
+				.requestMatchers(HttpMethod.DELETE, "/sms/**").access(permissions.hasAuthority("sms.delete"))
 				// suppliers
-				.requestMatchers(HttpMethod.POST, "/suppliers/**").hasAuthority("suppliers.create")
-				.requestMatchers(HttpMethod.GET, "/suppliers/**").hasAnyAuthority("suppliers.read")
-				.requestMatchers(HttpMethod.PUT, "/suppliers/**").hasAuthority("suppliers.update")
-				.requestMatchers(HttpMethod.DELETE, "/suppliers/**").hasAuthority("suppliers.delete")
+				.requestMatchers(HttpMethod.POST, "/suppliers/**").access(permissions.hasAuthority("suppliers.create"))
+				.requestMatchers(HttpMethod.GET, "/suppliers/**").access(permissions.hasAnyAuthority("suppliers.read"))
+				.requestMatchers(HttpMethod.PUT, "/suppliers/**").access(permissions.hasAuthority("suppliers.update"))
+				.requestMatchers(HttpMethod.DELETE, "/suppliers/**").access(permissions.hasAuthority("suppliers.delete"))
 				// therapy
-				.requestMatchers(HttpMethod.POST, "/therapies/**").hasAuthority("therapies.create")
-				.requestMatchers(HttpMethod.GET, "/therapies/**").hasAnyAuthority("therapies.read")
-				.requestMatchers(HttpMethod.PUT, "/therapies/**").hasAuthority("therapies.update")
-				.requestMatchers(HttpMethod.DELETE, "/therapies/**").hasAuthority("therapies.delete")
+				.requestMatchers(HttpMethod.POST, "/therapies/**").access(permissions.hasAuthority("therapies.create"))
+				.requestMatchers(HttpMethod.GET, "/therapies/**").access(permissions.hasAnyAuthority("therapies.read"))
+				.requestMatchers(HttpMethod.PUT, "/therapies/**").access(permissions.hasAuthority("therapies.update"))
+				.requestMatchers(HttpMethod.DELETE, "/therapies/**").access(permissions.hasAuthority("therapies.delete"))
 				// vaccines
-				.requestMatchers(HttpMethod.POST, "/vaccines/**").hasAuthority("vaccines.create")
-				.requestMatchers(HttpMethod.GET, "/vaccines/**").hasAnyAuthority("vaccines.read")
-				.requestMatchers(HttpMethod.PUT, "/vaccines/**").hasAuthority("vaccines.update")
-				.requestMatchers(HttpMethod.DELETE, "/vaccines/**").hasAuthority("vaccines.delete")
+				.requestMatchers(HttpMethod.POST, "/vaccines/**").access(permissions.hasAuthority("vaccines.create"))
+				.requestMatchers(HttpMethod.GET, "/vaccines/**").access(permissions.hasAnyAuthority("vaccines.read"))
+				.requestMatchers(HttpMethod.PUT, "/vaccines/**").access(permissions.hasAuthority("vaccines.update"))
+				.requestMatchers(HttpMethod.DELETE, "/vaccines/**").access(permissions.hasAuthority("vaccines.delete"))
 				// vaccineType
-				.requestMatchers(HttpMethod.POST, "/vaccinetypes/**").hasAuthority("vaccinetypes.create")
-				.requestMatchers(HttpMethod.GET, "/vaccinetypes/**").hasAnyAuthority("vaccinetypes.read")
-				.requestMatchers(HttpMethod.PUT, "/vaccinetypes/**").hasAuthority("vaccinetypes.update")
-				.requestMatchers(HttpMethod.DELETE, "/vaccinetypes/**").hasAuthority("vaccinetypes.delete")
+				.requestMatchers(HttpMethod.POST, "/vaccinetypes/**").access(permissions.hasAuthority("vaccinetypes.create"))
+				.requestMatchers(HttpMethod.GET, "/vaccinetypes/**").access(permissions.hasAnyAuthority("vaccinetypes.read"))
+				.requestMatchers(HttpMethod.PUT, "/vaccinetypes/**").access(permissions.hasAuthority("vaccinetypes.update"))
+				.requestMatchers(HttpMethod.DELETE, "/vaccinetypes/**").access(permissions.hasAuthority("vaccinetypes.delete"))
 				// visit
-				.requestMatchers(HttpMethod.POST, "/visits/**").hasAuthority("visits.create")
-				.requestMatchers(HttpMethod.GET, "/visits/**").hasAnyAuthority("visits.read")
-				.requestMatchers(HttpMethod.PUT, "/visits/**").hasAuthority("visits.update")
-				.requestMatchers(HttpMethod.DELETE, "/visits/**").hasAuthority("visits.delete")
+				.requestMatchers(HttpMethod.POST, "/visits/**").access(permissions.hasAuthority("visits.create"))
+				.requestMatchers(HttpMethod.GET, "/visits/**").access(permissions.hasAnyAuthority("visits.read"))
+				.requestMatchers(HttpMethod.PUT, "/visits/**").access(permissions.hasAuthority("visits.update"))
+				.requestMatchers(HttpMethod.DELETE, "/visits/**").access(permissions.hasAuthority("visits.delete"))
 				// wards
-				.requestMatchers(HttpMethod.POST, "/wards/**").hasAuthority("wards.create")
-				.requestMatchers(HttpMethod.GET, "/wards/**").hasAnyAuthority("wards.read")
-				.requestMatchers(HttpMethod.PUT, "/wards/**").hasAuthority("wards.update")
-				.requestMatchers(HttpMethod.DELETE, "/wards/**").hasAuthority("wards.delete")
+				.requestMatchers(HttpMethod.POST, "/wards/**").access(permissions.hasAuthority("wards.create"))
+				.requestMatchers(HttpMethod.GET, "/wards/**").access(permissions.hasAnyAuthority("wards.read"))
+				.requestMatchers(HttpMethod.PUT, "/wards/**").access(permissions.hasAuthority("wards.update"))
+				.requestMatchers(HttpMethod.DELETE, "/wards/**").access(permissions.hasAuthority("wards.delete"))
 
 				.anyRequest().authenticated()
 
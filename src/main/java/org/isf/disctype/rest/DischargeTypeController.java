@@ -28,6 +28,9 @@ import org.isf.disctype.manager.DischargeTypeBrowserManager;
 import org.isf.disctype.mapper.DischargeTypeMapper;
 import org.isf.disctype.model.DischargeType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -43,6 +46,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -59,9 +63,16 @@ public class DischargeTypeController {
 
 	private final DischargeTypeMapper mapper;
 
-	public DischargeTypeController(DischargeTypeBrowserManager discTypeManager, DischargeTypeMapper dischargeTypemapper) {
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
+	public DischargeTypeController(DischargeTypeBrowserManager discTypeManager, DischargeTypeMapper dischargeTypemapper,
+		ReferenceDataRegistry referenceData, CatalogueVersions catalogues) {
 		this.discTypeManager = discTypeManager;
 		this.mapper = dischargeTypemapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -78,6 +89,8 @@ public class DischargeTypeController {
 		LOGGER.info("Create discharge type {}", code);
 
 		DischargeType newDischargeType = discTypeManager.newDischargeType(mapper.map2Model(dischargeTypeDTO));
+		referenceData.refresh(DischargeType.class);
+		catalogues.bump(Catalogue.DISCHARGE_TYPES);
 		if (!discTypeManager.isCodePresent(code)) {
 			throw new OHAPIException(new OHExceptionMessage("Discharge Type is not created."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -104,6 +117,8 @@ public class DischargeTypeController {
 		}
 
 		DischargeType updatedDischargeType = discTypeManager.updateDischargeType(dischargeType);
+		referenceData.refresh(DischargeType.class);
+		catalogues.bump(Catalogue.DISCHARGE_TYPES);
 		if (!discTypeManager.isCodePresent(updatedDischargeType.getCode())) {
 			throw new OHAPIException(new OHExceptionMessage("Discharge Type is not updated."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -114,12 +129,16 @@ public class DischargeTypeController {
 	/**
 	 * Get all the available {@link DischargeType}s
 	 *
+	 * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
 	 * @return a {@link List} of {@link DischargeType} or NO_CONTENT if there is no data found.
 	 * @throws OHServiceException When failed to get discharge types
 	 */
 	@GetMapping(value = "/dischargetypes")
-	public List<DischargeTypeDTO> getDischargeTypes() throws OHServiceException {
+	public List<DischargeTypeDTO> getDischargeTypes(WebRequest request) throws OHServiceException {
 		LOGGER.info("Get all discharge types ");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.DISCHARGE_TYPES))) {
+			return null;
+		}
 
 		return mapper.map2DTOList(discTypeManager.getDischargeType());
 	}
@@ -145,6 +164,8 @@ public class DischargeTypeController {
 		if (!dischargeTypeFounds.isEmpty()) {
 			try {
 				discTypeManager.deleteDischargeType(dischargeTypeFounds.get(0));
+				referenceData.refresh(DischargeType.class);
+				catalogues.bump(Catalogue.DISCHARGE_TYPES);
 			} catch (OHServiceException serviceException) {
 				LOGGER.error("Delete discharge type: {} failed.", code);
 				throw new OHAPIException(new OHExceptionMessage("Discharge type not deleted."));
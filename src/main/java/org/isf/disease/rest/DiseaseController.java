@@ -30,6 +30,9 @@ import org.isf.disease.manager.DiseaseBrowserManager;
 import org.isf.disease.mapper.DiseaseMapper;
 import org.isf.disease.model.Disease;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -45,6 +48,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -61,9 +65,16 @@ public class DiseaseController {
 
 	private final DiseaseMapper mapper;
 
-	public DiseaseController(DiseaseBrowserManager diseaseManager, DiseaseMapper diseaseMapper) {
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
+	public DiseaseController(DiseaseBrowserManager diseaseManager, DiseaseMapper diseaseMapper, ReferenceDataRegistry referenceData,
+		CatalogueVersions catalogues) {
 		this.diseaseManager = diseaseManager;
 		this.mapper = diseaseMapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -214,12 +225,16 @@ public class DiseaseController {
 
 	/**
 	 * Returns all diseases, deleted ones also
+	 * @param request - the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version.
 	 * @return the stored diseases.
 	 * @throws OHServiceException When failed to get diseases
 	 */
 	@GetMapping(value = "/diseases/all")
-	public List<DiseaseDTO> getAllDiseases() throws OHServiceException {
+	public List<DiseaseDTO> getAllDiseases(WebRequest request) throws OHServiceException {
 		LOGGER.info("Get all diseases, deleted ones too");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.DISEASES))) {
+			return null;
+		}
 
 		List<Disease> diseases = diseaseManager.getDiseaseAll();
 		if (diseases == null) {
@@ -271,7 +286,10 @@ public class DiseaseController {
 		}
 
 		try {
-			return mapper.map2DTO(diseaseManager.newDisease(disease));
+			Disease createdDisease = diseaseManager.newDisease(disease);
+			referenceData.refresh(Disease.class);
+			catalogues.bump(Catalogue.DISEASES);
+			return mapper.map2DTO(createdDisease);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Disease not created."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -292,7 +310,10 @@ public class DiseaseController {
 
 		disease.setLock(diseaseDTO.getLock());
 		try {
-			return mapper.map2DTO(diseaseManager.updateDisease(disease));
+			Disease updatedDisease = diseaseManager.updateDisease(disease);
+			referenceData.refresh(Disease.class);
+			catalogues.bump(Catalogue.DISEASES);
+			return mapper.map2DTO(updatedDisease);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Disease not updated."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -314,6 +335,8 @@ public class DiseaseController {
 
 		try {
 			diseaseManager.deleteDisease(disease);
+			referenceData.refresh(Disease.class);
+			catalogues.bump(Catalogue.DISEASES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			return false;
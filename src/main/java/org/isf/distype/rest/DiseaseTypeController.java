@@ -25,11 +25,15 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.isf.disease.model.Disease;
 import org.isf.distype.dto.DiseaseTypeDTO;
 import org.isf.distype.manager.DiseaseTypeBrowserManager;
 import org.isf.distype.mapper.DiseaseTypeMapper;
 import org.isf.distype.model.DiseaseType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.springframework.http.HttpStatus;
@@ -57,9 +61,16 @@ public class DiseaseTypeController {
 
 	private final DiseaseTypeMapper mapper;
 
-	public DiseaseTypeController(DiseaseTypeBrowserManager diseaseTypeManager, DiseaseTypeMapper diseaseTypeMapper) {
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
+	public DiseaseTypeController(DiseaseTypeBrowserManager diseaseTypeManager, DiseaseTypeMapper diseaseTypeMapper,
+		ReferenceDataRegistry referenceData, CatalogueVersions catalogues) {
 		this.diseaseTypeManager = diseaseTypeManager;
 		this.mapper = diseaseTypeMapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -89,7 +100,10 @@ public class DiseaseTypeController {
 		}
 
 		try {
-			return mapper.map2DTO(diseaseTypeManager.newDiseaseType(diseaseType));
+			DiseaseType createdDiseaseType = diseaseTypeManager.newDiseaseType(diseaseType);
+			referenceData.refresh(Disease.class);
+			catalogues.bump(Catalogue.DISEASE_TYPES);
+			return mapper.map2DTO(createdDiseaseType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Failed to create disease type."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -109,7 +123,11 @@ public class DiseaseTypeController {
 		}
 
 		try {
-			return mapper.map2DTO(diseaseTypeManager.updateDiseaseType(diseaseType));
+			DiseaseType updatedDiseaseType = diseaseTypeManager.updateDiseaseType(diseaseType);
+			// the diseases embed their type
+			referenceData.refresh(Disease.class);
+			catalogues.bump(Catalogue.DISEASE_TYPES, Catalogue.DISEASES);
+			return mapper.map2DTO(updatedDiseaseType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Disease Type not updated."), HttpStatus.INTERNAL_SERVER_ERROR);
 		}
@@ -130,6 +148,8 @@ public class DiseaseTypeController {
 
 		try {
 			diseaseTypeManager.deleteDiseaseType(diseaseType);
+			referenceData.refresh(Disease.class);
+			catalogues.bump(Catalogue.DISEASE_TYPES);
 			return true;
 		} catch (OHServiceException e) {
 			return false;
@@ -28,6 +28,9 @@ import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
 import org.isf.dlvrrestype.mapper.DeliveryResultTypeMapper;
 import org.isf.dlvrrestype.model.DeliveryResultType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -59,11 +62,18 @@ public class DeliveryResultTypeController {
 
 	private final DeliveryResultTypeMapper mapper;
 
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
 	public DeliveryResultTypeController(
-		DeliveryResultTypeBrowserManager deliveryResultTypeBrowserManager, DeliveryResultTypeMapper deliveryResultTypeMapper
+		DeliveryResultTypeBrowserManager deliveryResultTypeBrowserManager, DeliveryResultTypeMapper deliveryResultTypeMapper,
+		ReferenceDataRegistry referenceData, CatalogueVersions catalogues
 	) {
 		this.deliveryResultTypeManager = deliveryResultTypeBrowserManager;
 		this.mapper = deliveryResultTypeMapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -79,7 +89,11 @@ public class DeliveryResultTypeController {
 	) throws OHServiceException {
 		LOGGER.info("Create Delivery Result Type {}", deliveryResultTypeDTO.getCode());
 
-		return mapper.map2DTO(deliveryResultTypeManager.newDeliveryResultType(mapper.map2Model(deliveryResultTypeDTO)));
+		DeliveryResultType deliveryResultType = deliveryResultTypeManager.newDeliveryResultType(mapper.map2Model(deliveryResultTypeDTO));
+		referenceData.refresh(DeliveryResultType.class);
+		catalogues.bump(Catalogue.DELIVERY_RESULT_TYPES);
+
+		return mapper.map2DTO(deliveryResultType);
 	}
 
 	/**
@@ -99,7 +113,10 @@ public class DeliveryResultTypeController {
 
 		DeliveryResultType deliveryResultType = mapper.map2Model(deliveryResultTypeDTO);
 		try {
-			return mapper.map2DTO(deliveryResultTypeManager.updateDeliveryResultType(deliveryResultType));
+			DeliveryResultType updatedDeliveryResultType = deliveryResultTypeManager.updateDeliveryResultType(deliveryResultType);
+			referenceData.refresh(DeliveryResultType.class);
+			catalogues.bump(Catalogue.DELIVERY_RESULT_TYPES);
+			return mapper.map2DTO(updatedDeliveryResultType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(
 				new OHExceptionMessage("Delivery Result Type is not updated."), HttpStatus.INTERNAL_SERVER_ERROR
@@ -142,6 +159,8 @@ public class DeliveryResultTypeController {
 
 		try {
 			deliveryResultTypeManager.deleteDeliveryResultType(deliveryResultTypeFounds.get(0));
+			referenceData.refresh(DeliveryResultType.class);
+			catalogues.bump(Catalogue.DELIVERY_RESULT_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(
@@ -28,6 +28,9 @@ import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
 import org.isf.dlvrtype.mapper.DeliveryTypeMapper;
 import org.isf.dlvrtype.model.DeliveryType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -59,9 +62,16 @@ public class DeliveryTypeController {
 
 	private final DeliveryTypeMapper deliveryTypeMapper;
 
-	public DeliveryTypeController(DeliveryTypeBrowserManager deliveryTypeManager, DeliveryTypeMapper deliveryTypeMapper) {
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
+	public DeliveryTypeController(DeliveryTypeBrowserManager deliveryTypeManager, DeliveryTypeMapper deliveryTypeMapper,
+		ReferenceDataRegistry referenceData, CatalogueVersions catalogues) {
 		this.deliveryTypeManager = deliveryTypeManager;
 		this.deliveryTypeMapper = deliveryTypeMapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -77,6 +87,8 @@ public class DeliveryTypeController {
 		LOGGER.info("Create Delivery Type {}", deliveryTypeDTO.getCode());
 
 		DeliveryType deliveryType = deliveryTypeManager.newDeliveryType(deliveryTypeMapper.map2Model(deliveryTypeDTO));
+		referenceData.refresh(DeliveryType.class);
+		catalogues.bump(Catalogue.DELIVERY_TYPES);
 
 		if (deliveryType == null) {
 			throw new OHAPIException(new OHExceptionMessage("Failed to create delivery type"));
@@ -102,9 +114,10 @@ public class DeliveryTypeController {
 		}
 
 		try {
-			return deliveryTypeMapper.map2DTO(
-				deliveryTypeManager.updateDeliveryType(deliveryTypeMapper.map2Model(deliveryTypeDTO))
-			);
+			DeliveryType deliveryType = deliveryTypeManager.updateDeliveryType(deliveryTypeMapper.map2Model(deliveryTypeDTO));
+			referenceData.refresh(DeliveryType.class);
+			catalogues.bump(Catalogue.DELIVERY_TYPES);
+			return deliveryTypeMapper.map2DTO(deliveryType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Delivery Type is not updated."));
 		}
@@ -142,6 +155,8 @@ public class DeliveryTypeController {
 
 		try {
 			deliveryTypeManager.deleteDeliveryType(deliveryTypeFounds.get(0));
+			referenceData.refresh(DeliveryType.class);
+			catalogues.bump(Catalogue.DELIVERY_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			LOGGER.error("Delete Delivery Type: {} failed.", code);
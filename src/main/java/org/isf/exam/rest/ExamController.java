@@ -23,7 +23,6 @@ package org.isf.exam.rest;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import jakarta.validation.Valid;
 
@@ -35,6 +34,9 @@ import org.isf.exam.mapper.ExamMapper;
 import org.isf.exatype.manager.ExamTypeBrowserManager;
 import org.isf.exatype.model.ExamType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.springframework.http.HttpStatus;
@@ -48,6 +50,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -64,14 +67,22 @@ public class ExamController {
 
 	private final ExamMapper examMapper;
 
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
 	public ExamController(
 		ExamBrowsingManager examManager,
 		ExamTypeBrowserManager examTypeBrowserManager,
-		ExamMapper examMapper
+		ExamMapper examMapper,
+		ReferenceDataRegistry referenceData,
+		CatalogueVersions catalogues
 	) {
 		this.examManager = examManager;
 		this.examTypeBrowserManager = examTypeBrowserManager;
 		this.examMapper = examMapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	@PostMapping(value = "/exams")
@@ -97,6 +108,8 @@ public class ExamController {
 		exam.setExamtype(examType);
 		try {
 			exam = examManager.create(exam, examRows);
+			referenceData.refresh(Exam.class);
+			catalogues.bump(Catalogue.EXAMS, Catalogue.EXAM_ROWS);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not created."));
 		}
@@ -132,6 +145,8 @@ public class ExamController {
 		Exam exam = examMapper.map2Model(examDTO);
 		exam.setExamtype(examType);
 		Exam examUpdated = examManager.update(exam, examRows);
+		referenceData.refresh(Exam.class);
+		catalogues.bump(Catalogue.EXAMS, Catalogue.EXAM_ROWS);
 		if (examUpdated == null) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not updated."));
 		}
@@ -145,18 +160,23 @@ public class ExamController {
 	}
 
 	@GetMapping(value = "/exams")
-	public List<ExamDTO> getExams() throws OHServiceException {
+	public List<ExamDTO> getExams(WebRequest request) throws OHServiceException {
+		if (request.checkNotModified(catalogues.eTag(Catalogue.EXAMS))) {
+			return null;
+		}
 		return examMapper.map2DTOList(examManager.getExams());
 	}
 
 	@DeleteMapping(value = "/exams/{code:.+}")
 	public boolean deleteExam(@PathVariable String code) throws OHServiceException {
-		Optional<Exam> exam = examManager.getExams().stream().filter(e -> e.getCode().equals(code)).findFirst();
-		if (exam.isEmpty()) {
+		Exam exam = referenceData.findByCode(Exam.class, code);
+		if (exam == null) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not found."));
 		}
 		try {
-			examManager.deleteExam(exam.get());
+			examManager.deleteExam(exam);
+			referenceData.refresh(Exam.class);
+			catalogues.bump(Catalogue.EXAMS, Catalogue.EXAM_ROWS);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not deleted."));
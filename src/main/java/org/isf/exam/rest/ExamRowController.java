@@ -23,13 +23,15 @@ package org.isf.exam.rest;
 
 import java.util.List;
 
-import org.isf.exa.manager.ExamBrowsingManager;
 import org.isf.exa.manager.ExamRowBrowsingManager;
 import org.isf.exa.model.Exam;
 import org.isf.exa.model.ExamRow;
 import org.isf.exam.dto.ExamRowDTO;
 import org.isf.exam.mapper.ExamRowMapper;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.springframework.http.HttpStatus;
@@ -43,6 +45,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -53,29 +56,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
 public class ExamRowController {
 
-    private final ExamBrowsingManager examManager;
+    private final ReferenceDataRegistry referenceData;
 
     private final ExamRowBrowsingManager examRowBrowsingManager;
 
     private final ExamRowMapper examRowMapper;
 
+    private final CatalogueVersions catalogues;
+
     public ExamRowController(
-        ExamBrowsingManager examManager,
+        ReferenceDataRegistry referenceData,
         ExamRowBrowsingManager examRowBrowsingManager,
-        ExamRowMapper examRowMapper
+        ExamRowMapper examRowMapper,
+        CatalogueVersions catalogues
     ) {
-        this.examManager = examManager;
+        this.referenceData = referenceData;
         this.examRowBrowsingManager = examRowBrowsingManager;
         this.examRowMapper = examRowMapper;
+        this.catalogues = catalogues;
     }
 
     @PostMapping("/examrows")
     @ResponseStatus(HttpStatus.CREATED)
     public ExamRowDTO newExamRow(@RequestBody ExamRowDTO examRowDTO) throws OHServiceException {
-        Exam exam = examManager.getExams()
-            .stream()
-            .filter(e -> examRowDTO.getExam().getCode().equals(e.getCode()))
-            .findFirst().orElse(null);
+        Exam exam = referenceData.findByCode(Exam.class, examRowDTO.getExam().getCode());
 
         if (exam == null) {
             throw new OHAPIException(new OHExceptionMessage("Exam not found."), HttpStatus.NOT_FOUND);
@@ -85,6 +89,7 @@ public class ExamRowController {
         examRow.setExamCode(exam);
 
         ExamRow isCreatedExamRow = examRowBrowsingManager.newExamRow(examRow);
+        catalogues.bump(Catalogue.EXAM_ROWS);
         if (isCreatedExamRow == null) {
             throw new OHAPIException(new OHExceptionMessage("ExamRow not created."));
         }
@@ -93,7 +98,10 @@ public class ExamRowController {
     }
 
     @GetMapping("/examrows")
-    public List<ExamRowDTO> getExamRows() throws OHServiceException {
+    public List<ExamRowDTO> getExamRows(WebRequest request) throws OHServiceException {
+        if (request.checkNotModified(catalogues.eTag(Catalogue.EXAM_ROWS))) {
+            return null;
+        }
         return examRowMapper.map2DTOList(examRowBrowsingManager.getExamRow());
     }
 
@@ -122,6 +130,7 @@ public class ExamRowController {
 
         try {
             examRowBrowsingManager.deleteExamRow(examRows.get(0));
+            catalogues.bump(Catalogue.EXAM_ROWS);
             return true;
         } catch (OHServiceException serviceException) {
             throw new OHAPIException(new OHExceptionMessage("ExamRow not deleted."),HttpStatus.INTERNAL_SERVER_ERROR);
@@ -23,11 +23,15 @@ package org.isf.exatype.rest;
 
 import java.util.List;
 
+import org.isf.exa.model.Exam;
 import org.isf.exatype.dto.ExamTypeDTO;
 import org.isf.exatype.manager.ExamTypeBrowserManager;
 import org.isf.exatype.mapper.ExamTypeMapper;
 import org.isf.exatype.model.ExamType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -59,15 +63,25 @@ public class ExamTypeController {
 
 	private final ExamTypeMapper examTypeMapper;
 
-	public ExamTypeController(ExamTypeBrowserManager examTypeBrowserManager, ExamTypeMapper examTypeMapper) {
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
+	public ExamTypeController(ExamTypeBrowserManager examTypeBrowserManager, ExamTypeMapper examTypeMapper, ReferenceDataRegistry referenceData,
+		CatalogueVersions catalogues) {
 		this.examTypeBrowserManager = examTypeBrowserManager;
 		this.examTypeMapper = examTypeMapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	@PostMapping("/examtypes")
 	@ResponseStatus(HttpStatus.CREATED)
 	public ExamTypeDTO newExamType(@RequestBody ExamTypeDTO newExamType) throws OHServiceException {
-		return examTypeMapper.map2DTO(examTypeBrowserManager.newExamType(examTypeMapper.map2Model(newExamType)));
+		ExamType examType = examTypeBrowserManager.newExamType(examTypeMapper.map2Model(newExamType));
+		referenceData.refresh(Exam.class);
+		catalogues.bump(Catalogue.EXAM_TYPES);
+		return examTypeMapper.map2DTO(examType);
 	}
 
 	@PutMapping("/examtypes/{code:.+}")
@@ -81,7 +95,11 @@ public class ExamTypeController {
 			throw new OHAPIException(new OHExceptionMessage("Exam Type not found."), HttpStatus.NOT_FOUND);
 		}
 
-		return examTypeMapper.map2DTO(examTypeBrowserManager.updateExamType(examTypeMapper.map2Model(updateExamType)));
+		ExamType examType = examTypeBrowserManager.updateExamType(examTypeMapper.map2Model(updateExamType));
+		// the exams, and the exam rows through them, embed their type
+		referenceData.refresh(Exam.class);
+		catalogues.bump(Catalogue.EXAM_TYPES, Catalogue.EXAMS, Catalogue.EXAM_ROWS);
+		return examTypeMapper.map2DTO(examType);
 	}
 
 	@GetMapping("/examtypes")
@@ -101,6 +119,8 @@ public class ExamTypeController {
 
 		try {
 			examTypeBrowserManager.deleteExamType(examFounds.get(0));
+			referenceData.refresh(Exam.class);
+			catalogues.bump(Catalogue.EXAM_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			LOGGER.error("Delete Exam Type: {} failed.", code);
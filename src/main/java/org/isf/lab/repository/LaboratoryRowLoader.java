@@ -0,0 +1,74 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.lab.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.lab.model.LaboratoryRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the result rows ({@link LaboratoryRow}) of many laboratory exams at once, where
+ * {@code LabManager.getLaboratoryRowList(Integer)} costs one query per exam.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class LaboratoryRowLoader {
+
+	/**
+	 * Largest number of exam codes bound in a single {@code in} list.
+	 */
+	static final int MAX_CODES_PER_QUERY = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Loads the row descriptions of the given laboratory exams, with one query per {@value #MAX_CODES_PER_QUERY} codes.
+	 *
+	 * @param laboratoryCodes the codes of the exams
+	 * @return the descriptions of the rows of each exam, in row order; exams without rows are not in the map
+	 */
+	public Map<Integer, List<String>> findDescriptions(Collection<Integer> laboratoryCodes) {
+		Map<Integer, List<String>> descriptions = new HashMap<>();
+		List<Integer> codes = new ArrayList<>(laboratoryCodes);
+		for (int from = 0; from < codes.size(); from += MAX_CODES_PER_QUERY) {
+			List<Object[]> rows = entityManager
+				.createQuery("select r.laboratory.code, r.description from LaboratoryRow r where r.laboratory.code in :codes order by r.code",
+								Object[].class)
+				.setParameter("codes", codes.subList(from, Math.min(from + MAX_CODES_PER_QUERY, codes.size())))
+				.getResultList();
+			for (Object[] row : rows) {
+				descriptions.computeIfAbsent((Integer) row[0], code -> new ArrayList<>()).add((String) row[1]);
+			}
+		}
+		return descriptions;
+	}
+}
@@ -25,7 +25,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.isf.exa.manager.ExamBrowsingManager;
@@ -39,11 +41,18 @@ import org.isf.lab.mapper.LaboratoryRowMapper;
 import org.isf.lab.model.Laboratory;
 import org.isf.lab.model.LaboratoryRow;
 import org.isf.lab.model.LaboratoryStatus;
+import org.isf.lab.repository.LaboratoryRowLoader;
 import org.isf.patient.dto.PatientSTATUS;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.export.CsvHttpMessageConverter;
+import org.isf.shared.export.MappedListView;
+import org.isf.shared.pagination.CursorPage;
+import org.isf.shared.pagination.KeysetRepository;
 import org.isf.shared.pagination.Page;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.utils.pagination.PagedResponse;
@@ -73,8 +82,7 @@ public class LaboratoryController {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(LaboratoryController.class);
 
-	// TODO: to centralize
-	protected static final String DEFAULT_PAGE_SIZE = "80";
+	private static final String RESOURCE = "laboratories";
 
 	private static final String DRAFT = LaboratoryStatus.draft.toString();
 
@@ -96,18 +104,34 @@ public class LaboratoryController {
 
 	private final LaboratoryRowMapper laboratoryRowMapper;
 
+	private final LaboratoryRowLoader laboratoryRowLoader;
+
+	private final ReferenceDataRegistry referenceData;
+
+	private final KeysetRepository keysetRepository;
+
+	private final PageSizePolicy pageSizePolicy;
+
 	public LaboratoryController(
 		LabManager laboratoryManager,
 		PatientBrowserManager patientBrowserManager,
 		ExamBrowsingManager examManager,
 		LaboratoryMapper laboratoryMapper,
-		LaboratoryRowMapper laboratoryRowMapper
+		LaboratoryRowMapper laboratoryRowMapper,
+		LaboratoryRowLoader laboratoryRowLoader,
+		ReferenceDataRegistry referenceData,
+		KeysetRepository keysetRepository,
+		PageSizePolicy pageSizePolicy
 	) {
 		this.laboratoryManager = laboratoryManager;
 		this.patientBrowserManager = patientBrowserManager;
 		this.examManager = examManager;
 		this.laboratoryMapper = laboratoryMapper;
 		this.laboratoryRowMapper = laboratoryRowMapper;
+		this.laboratoryRowLoader = laboratoryRowLoader;
+		this.referenceData = referenceData;
+		this.keysetRepository = keysetRepository;
+		this.pageSizePolicy = pageSizePolicy;
 	}
 
 	/**
@@ -129,8 +153,7 @@ public class LaboratoryController {
 			throw new OHAPIException(new OHExceptionMessage("Patient not found."));
 		}
 
-		Exam exam = examManager.getExams().stream().filter(e -> e.getCode().equals(laboratoryDTO.getExam().getCode()))
-			.findFirst().orElse(null);
+		Exam exam = referenceData.findByCode(Exam.class, laboratoryDTO.getExam().getCode());
 		if (exam == null) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not found."));
 		}
@@ -171,8 +194,7 @@ public class LaboratoryController {
 			throw new OHAPIException(new OHExceptionMessage("Patient not found."));
 		}
 
-		Exam exam = examManager.getExams().stream().filter(e -> e.getCode().equals(laboratoryDTO.getExam().getCode()))
-			.findFirst().orElse(null);
+		Exam exam = referenceData.findByCode(Exam.class, laboratoryDTO.getExam().getCode());
 		if (exam == null) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not found."));
 		}
@@ -226,8 +248,7 @@ public class LaboratoryController {
 				throw new OHAPIException(new OHExceptionMessage("Patient not found."));
 			}
 
-			Exam exam = examManager.getExams().stream()
-				.filter(e -> e.getCode().equals(laboratoryDTO.getExam().getCode())).findFirst().orElse(null);
+			Exam exam = referenceData.findByCode(Exam.class, laboratoryDTO.getExam().getCode());
 			if (exam == null) {
 				throw new OHAPIException(new OHExceptionMessage("Exam not found."));
 			}
@@ -295,8 +316,7 @@ public class LaboratoryController {
 			throw new OHAPIException(new OHExceptionMessage("Patient not found."));
 		}
 
-		Exam exam = examManager.getExams().stream().filter(e -> e.getCode().equals(laboratoryDTO.getExam().getCode()))
-			.findFirst().orElse(null);
+		Exam exam = referenceData.findByCode(Exam.class, laboratoryDTO.getExam().getCode());
 		if (exam == null) {
 			throw new OHAPIException(new OHExceptionMessage("Exam not found."));
 		}
@@ -390,43 +410,72 @@ public class LaboratoryController {
 	 */
 	@GetMapping("/laboratories")
 	public Page<LabWithRowsDTO> getLaboratory(
-		@RequestParam boolean oneWeek, @RequestParam int page, @RequestParam int size
+		@RequestParam boolean oneWeek, @RequestParam int page, @RequestParam(required = false) Integer size
 	) throws OHServiceException {
 		LOGGER.info("Get all LabWithRows");
-		PagedResponse<Laboratory> labListPageable = laboratoryManager.getLaboratoryPageable(oneWeek, page, size);
+		PagedResponse<Laboratory> labListPageable = laboratoryManager.getLaboratoryPageable(oneWeek, page,
+						pageSizePolicy.resolve(RESOURCE, size));
+
+		List<LabWithRowsDTO> labWithRowsDto = toLabWithRowsDTOs(labListPageable.getData());
+
+		Page<LabWithRowsDTO> labWithRowsDtoPageable = new Page<>();
+		labWithRowsDtoPageable.setPageInfo(laboratoryMapper.setParameterPageInfo(labListPageable.getPageInfo()));
+		labWithRowsDtoPageable.setData(pageSizePolicy.served(RESOURCE, labWithRowsDto));
+
+		return labWithRowsDtoPageable;
+	}
+
+	/**
+	 * Keyset paginated variant of {@link #getLaboratory(boolean, int, Integer)}, most recent exams first, selected by the
+	 * {@code cursor} parameter: send it empty for the first page, then the {@code next} cursor of the previous page.
+	 *
+	 * @param oneWeek Get for the previous week?
+	 * @param cursor the cursor of the page, empty for the first one
+	 * @param size The page size
+	 * @param total whether to also count all the exams
+	 * @return the page of {@link LabWithRowsDTO}
+	 * @throws OHServiceException When the cursor is invalid or failed to get lab exams
+	 */
+	@GetMapping(value = "/laboratories", params = "cursor")
+	public CursorPage<LabWithRowsDTO> getLaboratoryByCursor(
+		@RequestParam boolean oneWeek,
+		@RequestParam String cursor,
+		@RequestParam(required = false) Integer size,
+		@RequestParam(required = false, defaultValue = "false") boolean total
+	) throws OHServiceException {
+		LOGGER.info("Get LabWithRows cursor: {}", cursor);
+		int pageSize = pageSizePolicy.resolve(RESOURCE, size);
+		LocalDateTime since = oneWeek ? LocalDateTime.now().minusWeeks(1) : null;
+		List<Laboratory> labs = keysetRepository.findLaboratories(since, cursor, pageSize + 1);
+
+		CursorPage<LabWithRowsDTO> labsPage = CursorPage.of(labs, pageSize, KeysetRepository::laboratoryCursor,
+						this::toLabWithRowsDTOs,
+						total ? keysetRepository.countLaboratories(since) : null);
+		pageSizePolicy.served(RESOURCE, labsPage.getData());
+		return labsPage;
+	}
+
+	private List<LabWithRowsDTO> toLabWithRowsDTOs(List<Laboratory> labs) {
+		return labs.stream().map(labWithRowsAssembler(labs)).collect(Collectors.toList());
+	}
 
-		List<LabWithRowsDTO> labWithRowsDto = labListPageable.getData().stream().map(lab -> {
+	/**
+	 * Returns the mapping of the given exams to {@link LabWithRowsDTO}s, with the rows of the exams with results by row
+	 * ({@code procedure == 2}) loaded beforehand in a single query.
+	 */
+	private Function<Laboratory, LabWithRowsDTO> labWithRowsAssembler(List<Laboratory> labs) {
+		List<Integer> labCodes = labs.stream().filter(lab -> lab.getExam().getProcedure() == 2).map(Laboratory::getCode).toList();
+		Map<Integer, List<String>> labRows = labCodes.isEmpty() ? Map.of() : laboratoryRowLoader.findDescriptions(labCodes);
+		return lab -> {
 			LabWithRowsDTO labDTO = new LabWithRowsDTO();
-			List<String> labDescription = new ArrayList<>();
 			LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
-			if (lab.getExam().getProcedure() == 2) {
-				List<LaboratoryRow> labDes = new ArrayList<>();
-				try {
-					labDes = laboratoryManager.getLaboratoryRowList(lab.getCode());
-				} catch (OHServiceException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
-				}
-				if (!labDes.isEmpty()) {
-					for (LaboratoryRow laboratoryRow : labDes) {
-						labDescription.add(laboratoryRow.getDescription());
-					}
-				}
-			}
-
 			laboratoryDTO.setRegistrationDate(lab.getCreatedDate());
 			laboratoryDTO.setInOutPatient(PatientSTATUS.valueOf(lab.getInOutPatient()));
 			laboratoryDTO.setStatus(LaboratoryStatus.valueOf(lab.getStatus()));
 			labDTO.setLaboratoryDTO(laboratoryDTO);
-			labDTO.setLaboratoryRowList(labDescription);
+			labDTO.setLaboratoryRowList(new ArrayList<>(labRows.getOrDefault(lab.getCode(), List.of())));
 			return labDTO;
-		}).collect(Collectors.toList());
-
-		Page<LabWithRowsDTO> labWithRowsDtoPageable = new Page<>();
-		labWithRowsDtoPageable.setPageInfo(laboratoryMapper.setParameterPageInfo(labListPageable.getPageInfo()));
-		labWithRowsDtoPageable.setData(labWithRowsDto);
-
-		return labWithRowsDtoPageable;
+		};
 	}
 
 	/**
@@ -448,43 +497,21 @@ public class LaboratoryController {
 		List<Laboratory> labList = laboratoryManager.getLaboratory(patient).stream()
 			.filter(e -> !e.getStatus().equalsIgnoreCase(DRAFT) && !e.getStatus().equalsIgnoreCase(OPEN)).toList();
 
-		return labList.stream().map(lab -> {
-			LabWithRowsDTO labDTO = new LabWithRowsDTO();
-			List<String> labDescription = new ArrayList<>();
-			LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
-			if (lab.getExam().getProcedure() == 2) {
-				List<LaboratoryRow> labDes = new ArrayList<>();
-				try {
-					labDes = laboratoryManager.getLaboratoryRowList(lab.getCode());
-				} catch (OHServiceException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
-				}
-				if (!labDes.isEmpty()) {
-					for (LaboratoryRow laboratoryRow : labDes) {
-						labDescription.add(laboratoryRow.getDescription());
-					}
-				}
-
-			}
-			laboratoryDTO.setRegistrationDate(lab.getCreatedDate());
-			laboratoryDTO.setInOutPatient(PatientSTATUS.valueOf(lab.getInOutPatient()));
-			laboratoryDTO.setStatus(LaboratoryStatus.valueOf(lab.getStatus()));
-			labDTO.setLaboratoryDTO(laboratoryDTO);
-			labDTO.setLaboratoryRowList(labDescription);
-			return labDTO;
-		}).collect(Collectors.toList());
+		return toLabWithRowsDTOs(labList);
 	}
 
 	/**
 	 * Get all {@link LaboratoryDTO}s for the specified id.
+	 * <p>
+	 * Like {@link #getLaboratoryExamRequest()}, also available as NDJSON ({@code Accept: application/x-ndjson}) or CSV
+	 * ({@code Accept: text/csv}), streamed row by row.
 	 *
 	 * @param patId Patient ID
 	 * @return the {@link List} of found {@link LaboratoryDTO} or NO_CONTENT otherwise.
 	 * @throws OHServiceException When failed to get patient exam request
 	 * @author Arnaud
 	 */
-	@GetMapping("/laboratories/examRequest/patient/{patId}")
+	@GetMapping(value = "/laboratories/examRequest/patient/{patId}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<LaboratoryDTO> getLaboratoryExamRequest(
 		@PathVariable Integer patId
 	) throws OHServiceException {
@@ -498,13 +525,7 @@ public class LaboratoryController {
 		List<Laboratory> labList = laboratoryManager.getLaboratory(patient).stream()
 			.filter(e -> e.getStatus().equalsIgnoreCase(DRAFT) || e.getStatus().equalsIgnoreCase(OPEN)).toList();
 
-		return labList.stream().map(lab -> {
-			LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
-			laboratoryDTO.setRegistrationDate(lab.getCreatedDate());
-			laboratoryDTO.setInOutPatient(PatientSTATUS.valueOf(lab.getInOutPatient()));
-			laboratoryDTO.setStatus(LaboratoryStatus.valueOf(lab.getStatus()));
-			return laboratoryDTO;
-		}).collect(Collectors.toList());
+		return new MappedListView<>(labList, lab -> toExamRequestDTO(lab));
 	}
 
 	/**
@@ -514,19 +535,21 @@ public class LaboratoryController {
 	 * @throws OHServiceException When failed to get exam requests
 	 * @author Arnaud
 	 */
-	@GetMapping("/laboratories/examRequest")
+	@GetMapping(value = "/laboratories/examRequest", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<LaboratoryDTO> getLaboratoryExamRequest() throws OHServiceException {
 		LOGGER.info("Get all Exam Requested");
 		List<Laboratory> labList = laboratoryManager.getLaboratory().stream()
 			.filter(e -> e.getStatus().equalsIgnoreCase(DRAFT) || e.getStatus().equalsIgnoreCase(OPEN)).toList();
 
-		return labList.stream().map(lab -> {
-			LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
-			laboratoryDTO.setRegistrationDate(lab.getCreatedDate());
-			laboratoryDTO.setInOutPatient(PatientSTATUS.valueOf(lab.getInOutPatient()));
-			laboratoryDTO.setStatus(LaboratoryStatus.valueOf(lab.getStatus()));
-			return laboratoryDTO;
-		}).collect(Collectors.toList());
+		return new MappedListView<>(labList, lab -> toExamRequestDTO(lab));
+	}
+
+	private LaboratoryDTO toExamRequestDTO(Laboratory lab) {
+		LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
+		laboratoryDTO.setRegistrationDate(lab.getCreatedDate());
+		laboratoryDTO.setInOutPatient(PatientSTATUS.valueOf(lab.getInOutPatient()));
+		laboratoryDTO.setStatus(LaboratoryStatus.valueOf(lab.getStatus()));
+		return laboratoryDTO;
 	}
 
 	/**
@@ -557,7 +580,7 @@ public class LaboratoryController {
 		@RequestParam(value = "patientCode", required = false, defaultValue = "0") int patientCode,
 		@RequestParam(value = "status", required = false, defaultValue = "") String status,
 		@RequestParam(value = "page", required = false, defaultValue = "0") int page,
-		@RequestParam(value = "size", required = false, defaultValue = DEFAULT_PAGE_SIZE) int size,
+		@RequestParam(value = "size", required = false) Integer size,
 		@RequestParam(value = "paged", required = false, defaultValue = "false") boolean paged
 	) throws OHServiceException {
 		LOGGER.info("Get labWithRow within specified date");
@@ -585,21 +608,22 @@ public class LaboratoryController {
 		PagedResponse<Laboratory> laboratoryPageable;
 		List<Laboratory> labList;
 		if (paged) {
+			int pageSize = pageSizePolicy.resolve(RESOURCE, size);
 			if (!status.isEmpty()) {
 				if (!examName.isEmpty()) {
 					Exam exam = examManager.getExams(examName).get(0);
-					laboratoryPageable = laboratoryManager.getLaboratoryPageable(exam.getDescription(), dateF, dateT, patient, page, size);
+					laboratoryPageable = laboratoryManager.getLaboratoryPageable(exam.getDescription(), dateF, dateT, patient, page, pageSize);
 				} else {
-					laboratoryPageable = laboratoryManager.getLaboratoryPageable(null, dateF, dateT, patient, page, size);
+					laboratoryPageable = laboratoryManager.getLaboratoryPageable(null, dateF, dateT, patient, page, pageSize);
 				}
 				labList = laboratoryPageable.getData()
 					.stream().filter(lab -> lab.getStatus().equalsIgnoreCase(status)).collect(Collectors.toList());
 			} else {
 				if (!examName.isEmpty()) {
 					Exam exam = examManager.getExams(examName).get(0);
-					laboratoryPageable = laboratoryManager.getLaboratoryPageable(exam.getDescription(), dateF, dateT, patient, page, size);
+					laboratoryPageable = laboratoryManager.getLaboratoryPageable(exam.getDescription(), dateF, dateT, patient, page, pageSize);
 				} else {
-					laboratoryPageable = laboratoryManager.getLaboratoryPageable(null, dateF, dateT, patient, page, size);
+					laboratoryPageable = laboratoryManager.getLaboratoryPageable(null, dateF, dateT, patient, page, pageSize);
 				}
 				labList = laboratoryPageable.getData();
 			}
@@ -616,32 +640,12 @@ public class LaboratoryController {
 			}
 		}
 
-		List<LabWithRowsDTO> labWithRowList = labList.stream().map(lab -> {
-			LabWithRowsDTO labDTO = new LabWithRowsDTO();
-			List<String> labDescription = new ArrayList<>();
-			LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
-			if (lab.getExam().getProcedure() == 2) {
-				List<LaboratoryRow> labDes = new ArrayList<>();
-				try {
-					labDes = laboratoryManager.getLaboratoryRowList(lab.getCode());
-				} catch (OHServiceException e) {
-					// TODO Auto-generated catch block
-					e.printStackTrace();
-				}
-				if (!labDes.isEmpty()) {
-					for (LaboratoryRow laboratoryRow : labDes) {
-						labDescription.add(laboratoryRow.getDescription());
-					}
-				}
-			}
-			laboratoryDTO.setRegistrationDate(lab.getCreatedDate());
-			laboratoryDTO.setInOutPatient(PatientSTATUS.valueOf(lab.getInOutPatient()));
-			laboratoryDTO.setStatus(LaboratoryStatus.valueOf(lab.getStatus()));
-			labDTO.setLaboratoryDTO(laboratoryDTO);
-			labDTO.setLaboratoryRowList(labDescription);
-			return labDTO;
-		}).collect(Collectors.toList());
-		result.setData(labWithRowList);
+		if (paged) {
+			result.setData(pageSizePolicy.served(RESOURCE, toLabWithRowsDTOs(labList)));
+		} else {
+			// the rows are loaded for each chunk, once the number of exams is accepted
+			result.setData(pageSizePolicy.unpagedInChunks(RESOURCE, labList, this::toLabWithRowsDTOs));
+		}
 
 		return result;
 	}
@@ -21,8 +21,6 @@
  */
 package org.isf.login.rest;
 
-import java.time.LocalDateTime;
-
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 
@@ -32,12 +30,14 @@ import org.isf.login.dto.TokenRefreshRequest;
 import org.isf.menu.manager.UserBrowsingManager;
 import org.isf.menu.model.User;
 import org.isf.security.CustomAuthenticationManager;
+import org.isf.security.LoginThrottledException;
+import org.isf.security.SessionAuditHandle;
+import org.isf.security.SessionAuditWriter;
 import org.isf.security.jwt.TokenProvider;
 import org.isf.security.jwt.TokenValidationResult;
-import org.isf.sessionaudit.manager.SessionAuditManager;
-import org.isf.sessionaudit.model.SessionAudit;
 import org.isf.sessionaudit.model.UserSession;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.exceptions.OHAPIRetryLaterException;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -63,7 +63,7 @@ public class LoginController {
 
 	private final HttpSession httpSession;
 
-	private final SessionAuditManager sessionAuditManager;
+	private final SessionAuditWriter sessionAuditWriter;
 
 	private final TokenProvider tokenProvider;
 
@@ -75,13 +75,13 @@ public class LoginController {
 
 	public LoginController(
 		HttpSession httpSession,
-		SessionAuditManager sessionAuditManager,
+		SessionAuditWriter sessionAuditWriter,
 		TokenProvider tokenProvider,
 		CustomAuthenticationManager authenticationManager,
 		UserBrowsingManager userManager
 	) {
 		this.httpSession = httpSession;
-		this.sessionAuditManager = sessionAuditManager;
+		this.sessionAuditWriter = sessionAuditWriter;
 		this.tokenProvider = tokenProvider;
 		this.authenticationManager = authenticationManager;
 		this.userManager = userManager;
@@ -90,9 +90,15 @@ public class LoginController {
 	@PostMapping(value = "/auth/login")
 	public LoginResponse authenticateUser(
 		@Valid @RequestBody LoginRequest loginRequest
-	) {
-		Authentication authentication = authenticationManager.authenticate(
-			new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+	) throws OHAPIException {
+		Authentication authentication;
+		try {
+			authentication = authenticationManager.authenticate(
+				new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+		} catch (LoginThrottledException e) {
+			LOGGER.warn("Login of {} refused: {}", loginRequest.getUsername(), e.getMessage());
+			throw new OHAPIRetryLaterException(new OHExceptionMessage(e.getMessage()), e.getRetryAfterSeconds());
+		}
 		SecurityContextHolder.getContext().setAuthentication(authentication);
 		String jwt = tokenProvider.generateJwtToken(authentication, false); // use the shorter validity
 		String refreshToken = tokenProvider.generateRefreshToken(authentication);
@@ -106,12 +112,7 @@ public class LoginController {
 			e.printStackTrace();
 		}
 
-		try {
-			this.httpSession.setAttribute("sessionAuditId",
-				sessionAuditManager.newSessionAudit(new SessionAudit(userDetails, LocalDateTime.now(), null)));
-		} catch (OHServiceException e1) {
-			LOGGER.error("Unable to log user login in the session_audit table");
-		}
+		this.httpSession.setAttribute(SessionAuditHandle.SESSION_ATTRIBUTE, sessionAuditWriter.recordLogin(userDetails));
 
 		return new LoginResponse(jwt, refreshToken, userDetails);
 	}
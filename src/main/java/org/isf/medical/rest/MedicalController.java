@@ -31,6 +31,8 @@ import org.isf.medical.mapper.MedicalMapper;
 import org.isf.medicals.manager.MedicalBrowsingManager;
 import org.isf.medicals.model.Medical;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -47,6 +49,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -63,9 +66,12 @@ public class MedicalController {
 
 	private final MedicalMapper mapper;
 
-	public MedicalController(MedicalBrowsingManager medicalManager, MedicalMapper mapper) {
+	private final CatalogueVersions catalogues;
+
+	public MedicalController(MedicalBrowsingManager medicalManager, MedicalMapper mapper, CatalogueVersions catalogues) {
 		this.medicalManager = medicalManager;
 		this.mapper = mapper;
+		this.catalogues = catalogues;
 	}
 	/**
 	 * Returns the requested medical.
@@ -90,14 +96,19 @@ public class MedicalController {
 	/**
 	 * Returns all the medicals.
 	 * @param sortBy - specifies by which property the medicals should be sorted
+	 * @param request - the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
 	 * @return all the medicals.
 	 * @throws OHServiceException When failed to get medicals
 	 */
 	@GetMapping(value = "/medicals")
 	public List<MedicalDTO> getMedicals(
-		@RequestParam(name="sort_by", required=false) MedicalSortBy sortBy
+		@RequestParam(name="sort_by", required=false) MedicalSortBy sortBy,
+		WebRequest request
 	) throws OHServiceException {
 		LOGGER.info("Retrieving all the medicals...");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.MEDICALS))) {
+			return null;
+		}
 
 		List<Medical> medicals;
 		if (sortBy == null || sortBy == MedicalSortBy.NONE) {
@@ -168,7 +179,9 @@ public class MedicalController {
 		LOGGER.info("Creating a new medical ...");
 		try {
 			LOGGER.info("Medical successfully created.");
-			return mapper.map2DTO(medicalManager.newMedical(mapper.map2Model(medicalDTO), ignoreSimilar));
+			Medical medical = medicalManager.newMedical(mapper.map2Model(medicalDTO), ignoreSimilar);
+			catalogues.bump(Catalogue.MEDICALS);
+			return mapper.map2DTO(medical);
 		} catch (OHServiceException serviceException) {
 			LOGGER.info("Medical is not created.");
 			throw new OHAPIException(new OHExceptionMessage("Medical not created."));
@@ -190,7 +203,9 @@ public class MedicalController {
 		LOGGER.info("Updating a medical ...");
 		try {
 			LOGGER.info("Medical successfully updated.");
-			return mapper.map2DTO(medicalManager.updateMedical(mapper.map2Model(medicalDTO), ignoreSimilar));
+			Medical medical = medicalManager.updateMedical(mapper.map2Model(medicalDTO), ignoreSimilar);
+			catalogues.bump(Catalogue.MEDICALS);
+			return mapper.map2DTO(medical);
 		} catch (OHServiceException serviceException) {
 			LOGGER.info("Medical is not updated.");
 			throw new OHAPIException(new OHExceptionMessage("Medical not updated."));
@@ -211,6 +226,7 @@ public class MedicalController {
 		}
 		try {
 			medicalManager.deleteMedical(medical);
+			catalogues.bump(Catalogue.MEDICALS);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Medical not deleted"));
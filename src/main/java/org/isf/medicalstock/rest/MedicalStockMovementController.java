@@ -36,6 +36,9 @@ import org.isf.medicalstock.mapper.MovementMapper;
 import org.isf.medicalstock.model.Lot;
 import org.isf.medicalstock.model.Movement;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.export.CsvHttpMessageConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.ward.model.Ward;
@@ -69,18 +72,22 @@ public class MedicalStockMovementController {
 
 	private final MedicalBrowsingManager medicalManager;
 
+	private final CatalogueVersions catalogues;
+
 	public MedicalStockMovementController(
 		MovementMapper movMapper,
 		LotMapper lotMapper,
 		MovBrowserManager movManager,
 		MovStockInsertingManager movInsertingManager,
-		MedicalBrowsingManager medicalManager
+		MedicalBrowsingManager medicalManager,
+		CatalogueVersions catalogues
 	) {
 		this.movMapper = movMapper;
 		this.lotMapper = lotMapper;
 		this.movManager = movManager;
 		this.movInsertingManager = movInsertingManager;
 		this.medicalManager = medicalManager;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -101,6 +108,8 @@ public class MedicalStockMovementController {
 	) throws OHServiceException {
 		List<Movement> movements = new ArrayList<>(movMapper.map2ModelList(movementDTOs));
 		movInsertingManager.newMultipleChargingMovements(movements, referenceNumber);
+		// the medicals hold their stock quantities
+		catalogues.bump(Catalogue.MEDICALS);
 		return true;
 	}
 
@@ -122,18 +131,23 @@ public class MedicalStockMovementController {
 	) throws OHServiceException {
 		List<Movement> movements = new ArrayList<>(movMapper.map2ModelList(movementDTOs));
 		movInsertingManager.newMultipleDischargingMovements(movements, referenceNumber);
+		// the medicals hold their stock quantities
+		catalogues.bump(Catalogue.MEDICALS);
 
 		return true;
 	}
 
 	/**
 	 * Retrieves all the {@link Movement}s.
+	 * <p>
+	 * Like the other movement searches, also available as NDJSON ({@code Accept: application/x-ndjson}) or CSV
+	 * ({@code Accept: text/csv}), streamed row by row.
 	 * @return the retrieved movements.
 	 * @throws OHServiceException When failed to get movements
 	 */
-	@GetMapping("/medicalstockmovements")
+	@GetMapping(value = "/medicalstockmovements", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<MovementDTO> getMovements() throws OHServiceException {
-		return movMapper.map2DTOList(movManager.getMovements());
+		return movMapper.map2DTOView(movManager.getMovements());
 	}
 
 	/**
@@ -145,13 +159,13 @@ public class MedicalStockMovementController {
 	 * @return the retrieved movements.
 	 * @throws OHServiceException When failed to get ward movements
 	 */
-	@GetMapping("/medicalstockmovements/filter/v1")
+	@GetMapping(value = "/medicalstockmovements/filter/v1", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<MovementDTO> getMovements(
 		@RequestParam("ward_id") String wardId,
 		@RequestParam("from") LocalDateTime dateFrom,
 		@RequestParam("to") LocalDateTime dateTo
 	) throws OHServiceException {
-		return movMapper.map2DTOList(movManager.getMovements(wardId, dateFrom, dateTo));
+		return movMapper.map2DTOView(movManager.getMovements(wardId, dateFrom, dateTo));
 	}
 
 	/**
@@ -160,9 +174,9 @@ public class MedicalStockMovementController {
 	 * @return the retrieved movements
 	 * @throws OHServiceException When failed to get movements
 	 */
-	@GetMapping("/medicalstockmovements/{ref}")
+	@GetMapping(value = "/medicalstockmovements/{ref}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<MovementDTO> getMovements(@PathVariable("ref") String refNo) throws OHServiceException {
-		return movMapper.map2DTOList(movManager.getMovementsByReference(refNo));
+		return movMapper.map2DTOView(movManager.getMovementsByReference(refNo));
 	}
 
 	/**
@@ -180,7 +194,7 @@ public class MedicalStockMovementController {
 	 * @return the retrieved movements.
 	 * @throws OHServiceException When failed to get movements
 	 */
-	@GetMapping("/medicalstockmovements/filter/v2")
+	@GetMapping(value = "/medicalstockmovements/filter/v2", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, CsvHttpMessageConverter.TEXT_CSV_VALUE })
 	public List<MovementDTO> getMovements(
 		@RequestParam(name = "med_code", required = false) Integer medicalCode,
 		@RequestParam(name = "med_type", required = false) String medicalType,
@@ -193,7 +207,7 @@ public class MedicalStockMovementController {
 		@RequestParam(name = "lot_due_from", required = false) LocalDateTime lotDueFrom,
 		@RequestParam(name = "lot_due_to", required = false) LocalDateTime lotDueTo
 	) throws OHServiceException {
-		return movMapper.map2DTOList(
+		return movMapper.map2DTOView(
 			movManager.getMovements(
 				medicalCode, medicalType, wardId, movType, movFrom, movTo, lotPrepFrom, lotPrepTo, lotDueFrom, lotDueTo
 			)
@@ -30,6 +30,8 @@ import org.isf.medstockmovtype.manager.MedicalDsrStockMovementTypeBrowserManager
 import org.isf.medstockmovtype.mapper.MovementTypeMapper;
 import org.isf.medstockmovtype.model.MovementType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -61,9 +63,13 @@ public class MedStockMovementTypeController {
 
 	private final MedicalDsrStockMovementTypeBrowserManager manager;
 
-	public MedStockMovementTypeController(MovementTypeMapper mapper, MedicalDsrStockMovementTypeBrowserManager manager) {
+	private final CatalogueVersions catalogues;
+
+	public MedStockMovementTypeController(MovementTypeMapper mapper, MedicalDsrStockMovementTypeBrowserManager manager,
+		CatalogueVersions catalogues) {
 		this.mapper = mapper;
 		this.manager = manager;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -107,6 +113,7 @@ public class MedStockMovementTypeController {
 	) throws OHServiceException {
 		try {
 			MovementType isCreatedMovementType = manager.newMedicalDsrStockMovementType(mapper.map2Model(medicalDsrStockMovementType));
+			catalogues.bump(Catalogue.MEDICAL_STOCK_MOVEMENT_TYPES);
 			return mapper.map2DTO(isCreatedMovementType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Movement type not created."));
@@ -130,7 +137,9 @@ public class MedStockMovementTypeController {
 		}
 
 		try {
-			return mapper.map2DTO(manager.updateMedicalDsrStockMovementType(medicalDsrStockMovementType));
+			MovementType updatedMovementType = manager.updateMedicalDsrStockMovementType(medicalDsrStockMovementType);
+			catalogues.bump(Catalogue.MEDICAL_STOCK_MOVEMENT_TYPES);
+			return mapper.map2DTO(updatedMovementType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Movement type not updated."));
 		}
@@ -167,6 +176,7 @@ public class MedStockMovementTypeController {
 		}
 		try {
 			manager.deleteMedicalDsrStockMovementType(matchedMovementTypes.get(0));
+			catalogues.bump(Catalogue.MEDICAL_STOCK_MOVEMENT_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Movement type not deleted."));
@@ -30,6 +30,8 @@ import org.isf.medtype.manager.MedicalTypeBrowserManager;
 import org.isf.medtype.mapper.MedicalTypeMapper;
 import org.isf.medtype.model.MedicalType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -61,11 +63,14 @@ public class MedicalTypeController {
 
 	private final MedicalTypeMapper medicalTypeMapper;
 
+	private final CatalogueVersions catalogues;
+
 	public MedicalTypeController(
-		MedicalTypeBrowserManager medicalTypeBrowserManager, MedicalTypeMapper medicalTypeMapper
+		MedicalTypeBrowserManager medicalTypeBrowserManager, MedicalTypeMapper medicalTypeMapper, CatalogueVersions catalogues
 	) {
 		this.medicalTypeBrowserManager = medicalTypeBrowserManager;
 		this.medicalTypeMapper = medicalTypeMapper;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -92,6 +97,7 @@ public class MedicalTypeController {
 			medicalTypeMapper.map2Model(medicalTypeDTO)
 		);
 
+		catalogues.bump(Catalogue.MEDICAL_TYPES);
 		if (isCreatedMedicalType == null) {
 			throw new OHAPIException(new OHExceptionMessage("Medical type not created."));
 		}
@@ -113,6 +119,8 @@ public class MedicalTypeController {
 		}
 
 		MedicalType isUpdatedMedicalType = medicalTypeBrowserManager.updateMedicalType(medicalType);
+		// the medicals embed their type
+		catalogues.bump(Catalogue.MEDICAL_TYPES, Catalogue.MEDICALS);
 
 		if (isUpdatedMedicalType == null) {
 			throw new OHAPIException(new OHExceptionMessage("Medical type not updated."));
@@ -150,6 +158,7 @@ public class MedicalTypeController {
 
 		try {
 			medicalTypeBrowserManager.deleteMedicalType(matchedMedicalTypes.get(0));
+			catalogues.bump(Catalogue.MEDICAL_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Medical type not deleted."));
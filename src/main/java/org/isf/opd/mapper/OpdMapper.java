@@ -22,7 +22,6 @@
 package org.isf.opd.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.isf.opd.dto.OpdDTO;
 import org.isf.opd.model.Opd;
@@ -67,11 +66,11 @@ public class OpdMapper extends GenericMapper<Opd, OpdDTO> {
 	
 	@Override
 	public List<OpdDTO> map2DTOList(List<Opd> list) {
-		return list.stream().map(it -> map2DTO(it)).collect(Collectors.toList());
+		return mapDTOList(list, it -> map2DTO(it));
 	}
 
 	@Override
 	public List<Opd> map2ModelList(List<OpdDTO> list) {
-		return list.stream().map(it -> map2Model(it)).collect(Collectors.toList());
+		return mapList(list, it -> map2Model(it));
 	}
 }
\ No newline at end of file
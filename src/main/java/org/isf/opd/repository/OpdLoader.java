@@ -0,0 +1,59 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.opd.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.opd.model.Opd;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the recent OPD visits of a patient, where {@code OpdBrowserManager.getOpdList(int)} reads all of them.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class OpdLoader {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Loads the visits of a patient since a date, in the order of {@code OpdBrowserManager.getOpdList(int)}: by decreasing
+	 * progressive number of the year.
+	 *
+	 * @param patientCode the code of the patient
+	 * @param since the date of the first visit to return
+	 * @return the visits on or after {@code since}
+	 */
+	public List<Opd> findByPatientSince(int patientCode, LocalDateTime since) {
+		return entityManager
+			.createQuery("select o from Opd o where o.patient.code = :code and o.date >= :since order by o.prog_year desc", Opd.class)
+			.setParameter("code", patientCode)
+			.setParameter("since", since)
+			.getResultList();
+	}
+}
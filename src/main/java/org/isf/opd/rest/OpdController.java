@@ -22,8 +22,10 @@
 package org.isf.opd.rest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.isf.generaldata.MessageBundle;
@@ -32,14 +34,16 @@ import org.isf.opd.dto.OpdWithOperationRowDTO;
 import org.isf.opd.manager.OpdBrowserManager;
 import org.isf.opd.mapper.OpdMapper;
 import org.isf.opd.model.Opd;
-import org.isf.operation.dto.OperationRowDTO;
-import org.isf.operation.manager.OperationRowBrowserManager;
+import org.isf.opd.repository.OpdLoader;
 import org.isf.operation.mapper.OperationRowMapper;
 import org.isf.operation.model.OperationRow;
+import org.isf.operation.repository.OperationRowLoader;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.idempotency.IdempotencyCache;
 import org.isf.shared.pagination.Page;
+import org.isf.shared.pagination.PageSizePolicy;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.utils.pagination.PagedResponse;
@@ -56,6 +60,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -73,8 +78,7 @@ public class OpdController {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(OpdController.class);
 
-	// TODO: to centralize
-	protected static final String DEFAULT_PAGE_SIZE = "80";
+	private static final String RESOURCE = "opds";
 
 	private final OpdBrowserManager opdManager;
 
@@ -82,27 +86,42 @@ public class OpdController {
 
 	private final PatientBrowserManager patientManager;
 
-	private final OperationRowBrowserManager operationRowManager;
-
 	private final OperationRowMapper opRowMapper;
 
+	private final OperationRowLoader operationRowLoader;
+
+	private final OpdWithOperationRowWriter opdWithOperationRowWriter;
+
+	private final IdempotencyCache idempotencyCache;
+
 	private final WardBrowserManager wardManager;
 
+	private final PageSizePolicy pageSizePolicy;
+
+	private final OpdLoader opdLoader;
+
 	public OpdController(
 		OpdBrowserManager opdManager,
 		OpdMapper opdmapper,
 		PatientBrowserManager patientManager,
-		OperationRowBrowserManager
-			operationRowManager,
 		OperationRowMapper opRowMapper,
-		WardBrowserManager wardManager
+		OperationRowLoader operationRowLoader,
+		OpdWithOperationRowWriter opdWithOperationRowWriter,
+		IdempotencyCache idempotencyCache,
+		WardBrowserManager wardManager,
+		PageSizePolicy pageSizePolicy,
+		OpdLoader opdLoader
 	) {
 		this.opdManager = opdManager;
 		this.mapper = opdmapper;
 		this.patientManager = patientManager;
-		this.operationRowManager = operationRowManager;
 		this.opRowMapper = opRowMapper;
+		this.operationRowLoader = operationRowLoader;
+		this.opdWithOperationRowWriter = opdWithOperationRowWriter;
+		this.idempotencyCache = idempotencyCache;
 		this.wardManager = wardManager;
+		this.pageSizePolicy = pageSizePolicy;
+		this.opdLoader = opdLoader;
 	}
 
 	/**
@@ -137,19 +156,20 @@ public class OpdController {
 	}
 
 	/**
-	 * Create a new {@link OpdWithOperationRowDTO}.
+	 * Create a new {@link OpdWithOperationRowDTO}, the OPD and its operation rows in a single transaction.
 	 * @param opdWithOperationRowDTO OPD with Operation row payload
+	 * @param idempotencyKey optional key making the request safe to retry: a repeat gets the response of the first request
 	 * @return the OpdWithOperationRowDTO stored
 	 * @throws OHServiceException When failed to create OPD
 	 */
 	@PostMapping("/opds/rows")
 	@ResponseStatus(HttpStatus.CREATED)
 	public OpdWithOperationRowDTO newOpdWithOperationRow(
-		@RequestBody OpdWithOperationRowDTO opdWithOperationRowDTO
+		@RequestBody OpdWithOperationRowDTO opdWithOperationRowDTO,
+		@RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey
 	) throws OHServiceException {
 		int code = opdWithOperationRowDTO.getOpdDTO().getCode();
 		LOGGER.info("store Out patient {}", code);
-		OpdWithOperationRowDTO opdWithOperationRow = new OpdWithOperationRowDTO();
 
 		Patient patient = patientManager.getPatientById(opdWithOperationRowDTO.getOpdDTO().getPatientCode());
 		if (patient == null) {
@@ -160,25 +180,11 @@ public class OpdController {
 			throw new OHAPIException(new OHExceptionMessage("Note field mandatory."));
 		}
 
-		Opd opdToInsert = mapper.map2Model(opdWithOperationRowDTO.getOpdDTO());
-		opdToInsert.setPatient(patient);
-		Opd isCreatedOpd = opdManager.newOpd(opdToInsert);
-		if (isCreatedOpd == null) {
-			throw new OHAPIException(new OHExceptionMessage("Opd not created."));
-		}
-		OpdDTO opdDTO = mapper.map2DTO(isCreatedOpd);
-		opdWithOperationRow.setOpdDTO(opdDTO);
-		List<OperationRowDTO> listOp = new ArrayList<>();
-		if (!opdWithOperationRowDTO.getOperationRows().isEmpty()) {
-			for (OperationRowDTO operationRow : opdWithOperationRowDTO.getOperationRows()) {
-				operationRow.setOpd(opdDTO);
-				OperationRow createOpeRow = operationRowManager.newOperationRow(opRowMapper.map2Model(operationRow));
-				listOp.add(opRowMapper.map2DTO(createOpeRow));
-			}
-		}
-		opdWithOperationRow.setOperationRows(listOp);
-
-		return opdWithOperationRow;
+		return idempotencyCache.execute("POST /opds/rows", idempotencyKey, opdWithOperationRowDTO, () -> {
+			Opd opdToInsert = mapper.map2Model(opdWithOperationRowDTO.getOpdDTO());
+			opdToInsert.setPatient(patient);
+			return opdWithOperationRowWriter.create(opdToInsert, opdWithOperationRowDTO.getOperationRows());
+		});
 	}
 
 	/**
@@ -214,18 +220,19 @@ public class OpdController {
 	}
 
 	/**
-	 * Updates the specified {@link OpdWithOperationRowDTO}.
+	 * Updates the specified {@link OpdWithOperationRowDTO}, the OPD and its operation rows in a single transaction.
 	 * @param code OPD code
 	 * @param opdWithOperationRowDTO OPD with Operation row payload
+	 * @param idempotencyKey optional key making the request safe to retry: a repeat gets the response of the first request
 	 * @return the OpdWithOperationRowDTO updated
 	 * @throws OHServiceException When failed to update OPD
 	 */
 	@PutMapping("/opds/rows/{code}")
 	public OpdWithOperationRowDTO updateOpdWithOperationRow(
-		@PathVariable("code") int code, @RequestBody OpdWithOperationRowDTO opdWithOperationRowDTO
+		@PathVariable("code") int code, @RequestBody OpdWithOperationRowDTO opdWithOperationRowDTO,
+		@RequestHeader(value = IdempotencyCache.HEADER, required = false) String idempotencyKey
 	) throws OHServiceException {
 		LOGGER.info("Update opds code: {}", code);
-		OpdWithOperationRowDTO opdWithOperatioRow = new OpdWithOperationRowDTO();
 		if (opdManager.getOpdById(code).isEmpty()) {
 			throw new OHAPIException(new OHExceptionMessage("Opd not found."), HttpStatus.NOT_FOUND);
 		}
@@ -239,31 +246,11 @@ public class OpdController {
 			throw new OHAPIException(new OHExceptionMessage("Patient not found."), HttpStatus.NOT_FOUND);
 		}
 
-		Opd opdToUpdate = mapper.map2Model(opdWithOperationRowDTO.getOpdDTO());
-		opdToUpdate.setLock(opdWithOperationRowDTO.getOpdDTO().getLock());
-		Opd updatedOpd = opdManager.updateOpd(opdToUpdate);
-		if (updatedOpd == null) {
-			throw new OHAPIException(new OHExceptionMessage("Opd not updated."));
-		}
-		OpdDTO opdDTO = mapper.map2DTO(updatedOpd);
-		opdWithOperatioRow.setOpdDTO(opdDTO);
-		List<OperationRowDTO> listOpeRow = new ArrayList<>();
-		if (!opdWithOperationRowDTO.getOperationRows().isEmpty()) {
-			for (OperationRowDTO operationRow : opdWithOperationRowDTO.getOperationRows()) {
-				operationRow.setOpd(opdDTO);
-				OperationRow updateOpeRow;
-				if (operationRow.getId() == 0) {
-					updateOpeRow = operationRowManager.newOperationRow(opRowMapper.map2Model(operationRow));
-				} else {
-					updateOpeRow = operationRowManager.updateOperationRow(opRowMapper.map2Model(operationRow));
-				}
-
-				listOpeRow.add(opRowMapper.map2DTO(updateOpeRow));
-			}
-		}
-		opdWithOperatioRow.setOperationRows(listOpeRow);
-
-		return opdWithOperatioRow;
+		return idempotencyCache.execute("PUT /opds/rows/" + code, idempotencyKey, opdWithOperationRowDTO, () -> {
+			Opd opdToUpdate = mapper.map2Model(opdWithOperationRowDTO.getOpdDTO());
+			opdToUpdate.setLock(opdWithOperationRowDTO.getOpdDTO().getLock());
+			return opdWithOperationRowWriter.update(opdToUpdate, opdWithOperationRowDTO.getOperationRows());
+		});
 	}
 
 	/**
@@ -300,7 +287,7 @@ public class OpdController {
 		@RequestParam(value = "newPatient", required = false, defaultValue = "A") char newPatient,
 		@RequestParam(value = "patientCode", required = false, defaultValue = "0") Integer patientCode,
 		@RequestParam(value = "page", required = false, defaultValue = "0") int page,
-		@RequestParam(value = "size", required = false, defaultValue = DEFAULT_PAGE_SIZE) int size,
+		@RequestParam(value = "size", required = false) Integer size,
 		@RequestParam(value = "paged", required = false, defaultValue = "false") boolean paged,
 		@RequestParam(value = "wardCode", required = false) String wardCode
 	) throws OHServiceException {
@@ -328,8 +315,9 @@ public class OpdController {
 		}
 
 		if (paged) {
-			PagedResponse<Opd> opdsPaged = opdManager.getOpdPageable(ward, diseaseTypeCode, MessageBundle.getMessage(diseaseTypeCode), dateFrom, dateTo, ageFrom, ageTo, sex, newPatient, page,size);
-			opdDTOs = opdsPaged.getData().stream().map(mapper::map2DTO).collect(Collectors.toList());
+			PagedResponse<Opd> opdsPaged = opdManager.getOpdPageable(ward, diseaseTypeCode, MessageBundle.getMessage(diseaseTypeCode), dateFrom, dateTo, ageFrom, ageTo, sex, newPatient, page,
+							pageSizePolicy.resolve(RESOURCE, size));
+			opdDTOs = pageSizePolicy.served(RESOURCE, opdsPaged.getData().stream().map(mapper::map2DTO).collect(Collectors.toList()));
 			opdPageable.setPageInfo(mapper.setParameterPageInfo(opdsPaged.getPageInfo()));
 		} else {
 			if (patientCode != 0) {
@@ -337,7 +325,8 @@ public class OpdController {
 			} else {
 				opds = opdManager.getOpd(ward, diseaseTypeCode, diseaseCode, dateFrom, dateTo, ageFrom, ageTo, sex, newPatient, null);
 			}
-			opdDTOs = opds.stream().map(mapper::map2DTO).collect(Collectors.toList());
+			opdDTOs = pageSizePolicy.unpaged(RESOURCE, opds, list -> list.stream().map(mapper::map2DTO).collect(Collectors.toList()),
+							mapper::map2DTO);
 		}
 
 		opdPageable.setData(opdDTOs);
@@ -346,38 +335,35 @@ public class OpdController {
 	}
 
 	/**
-	 * Get all {@link OpdWithOperationRowDTO}s associated to specified patient CODE.
+	 * Get all {@link OpdWithOperationRowDTO}s associated to specified patient CODE, optionally only the visits since a date,
+	 * selected by the query. The operation rows of all the visits are read at once.
+	 * @param pcode the patient code
+	 * @param since the date of the first visit to return, all the visits if omitted
 	 * @return a {@link List} of {@link OpdWithOperationRowDTO} or NO_CONTENT if there is no data found.
 	 * @throws OHServiceException When failed to get OPDs
 	 */
 	@GetMapping("/opds/patient/{pcode}")
-	public List<OpdWithOperationRowDTO> getOpdByPatient(@PathVariable("pcode") int pcode) throws OHServiceException {
+	public List<OpdWithOperationRowDTO> getOpdByPatient(
+		@PathVariable("pcode") int pcode,
+		@RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @Schema(implementation = String.class)
+		LocalDateTime since
+	) throws OHServiceException {
 		LOGGER.info("Get opd associated to specified patient CODE: {}", pcode);
+		LOGGER.debug("since: {}", since);
 
-		List<Opd> opds = opdManager.getOpdList(pcode);
-		List<OpdWithOperationRowDTO> opdWithOperations = new ArrayList<>();
-		if (!opds.isEmpty()) {
-			opdWithOperations = opds.stream().map(opd -> {
-				OpdWithOperationRowDTO opRows = new OpdWithOperationRowDTO();
-				opRows.setOpdDTO(mapper.map2DTO(opd));
-				List<OperationRow> listOp = new ArrayList<>();
-				try {
-					listOp = operationRowManager.getOperationRowByOpd(opd);
-				} catch (OHServiceException e) {
-					// TODO Auto-generated catch block
-					LOGGER.error("Unable to get the List of operation associate to this Opd");
-				}
-				if (!listOp.isEmpty()) {
-					opRows.setOperationRows(opRowMapper.map2DTOList(listOp));
-				} else {
-					opRows.setOperationRows(new ArrayList<>());
-				}
-
-				return opRows;
-			}).collect(Collectors.toList());
-
+		List<Opd> opds = since == null ? opdManager.getOpdList(pcode) : opdLoader.findByPatientSince(pcode, since);
+		if (opds.isEmpty()) {
+			return new ArrayList<>();
 		}
-		return opdWithOperations;
+
+		Map<Integer, List<OperationRow>> operationRows = operationRowLoader.findByOpdCodes(opds.stream().map(Opd::getCode).toList());
+		return opds.stream().map(opd -> {
+			OpdWithOperationRowDTO opRows = new OpdWithOperationRowDTO();
+			opRows.setOpdDTO(mapper.map2DTO(opd));
+			List<OperationRow> listOp = operationRows.get(opd.getCode());
+			opRows.setOperationRows(listOp == null ? new ArrayList<>() : opRowMapper.map2DTOList(listOp));
+			return opRows;
+		}).collect(Collectors.toList());
 	}
 
 	/**
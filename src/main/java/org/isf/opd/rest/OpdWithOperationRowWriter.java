@@ -0,0 +1,117 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.opd.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.isf.opd.dto.OpdDTO;
+import org.isf.opd.dto.OpdWithOperationRowDTO;
+import org.isf.opd.manager.OpdBrowserManager;
+import org.isf.opd.mapper.OpdMapper;
+import org.isf.opd.model.Opd;
+import org.isf.operation.dto.OperationRowDTO;
+import org.isf.operation.manager.OperationRowBrowserManager;
+import org.isf.operation.mapper.OperationRowMapper;
+import org.isf.operation.model.OperationRow;
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes an {@link Opd} and its {@link OperationRow}s in a single transaction, so that a failing row leaves nothing
+ * behind and the rows are flushed together (in JDBC batches, see {@code spring.jpa.properties.hibernate.jdbc.batch_size}).
+ * <p>
+ * The operation rows of the response are mapped from the rows returned by the manager, so they carry what was
+ * actually persisted.
+ */
+@Component
+public class OpdWithOperationRowWriter {
+
+	private final OpdBrowserManager opdManager;
+
+	private final OpdMapper mapper;
+
+	private final OperationRowBrowserManager operationRowManager;
+
+	private final OperationRowMapper opRowMapper;
+
+	public OpdWithOperationRowWriter(
+		OpdBrowserManager opdManager,
+		OpdMapper mapper,
+		OperationRowBrowserManager operationRowManager,
+		OperationRowMapper opRowMapper
+	) {
+		this.opdManager = opdManager;
+		this.mapper = mapper;
+		this.operationRowManager = operationRowManager;
+		this.opRowMapper = opRowMapper;
+	}
+
+	/**
+	 * Inserts the OPD and all its operation rows.
+	 */
+	@Transactional(rollbackFor = OHServiceException.class)
+	public OpdWithOperationRowDTO create(Opd opd, List<OperationRowDTO> operationRows) throws OHServiceException {
+		Opd createdOpd = opdManager.newOpd(opd);
+		if (createdOpd == null) {
+			throw new OHAPIException(new OHExceptionMessage("Opd not created."));
+		}
+		return writeOperationRows(createdOpd, operationRows, false);
+	}
+
+	/**
+	 * Updates the OPD, inserts its new operation rows ({@code id == 0}) and updates the others.
+	 */
+	@Transactional(rollbackFor = OHServiceException.class)
+	public OpdWithOperationRowDTO update(Opd opd, List<OperationRowDTO> operationRows) throws OHServiceException {
+		Opd updatedOpd = opdManager.updateOpd(opd);
+		if (updatedOpd == null) {
+			throw new OHAPIException(new OHExceptionMessage("Opd not updated."));
+		}
+		return writeOperationRows(updatedOpd, operationRows, true);
+	}
+
+	private OpdWithOperationRowDTO writeOperationRows(Opd opd, List<OperationRowDTO> operationRows, boolean updateExisting)
+					throws OHServiceException {
+		OpdDTO opdDTO = mapper.map2DTO(opd);
+		List<OperationRow> writtenOperationRows = new ArrayList<>(operationRows.size());
+		for (OperationRowDTO operationRow : operationRows) {
+			operationRow.setOpd(opdDTO);
+			OperationRow operationRowToWrite = opRowMapper.map2Model(operationRow);
+			OperationRow writtenOperationRow;
+			if (updateExisting && operationRow.getId() != 0) {
+				writtenOperationRow = operationRowManager.updateOperationRow(operationRowToWrite);
+			} else {
+				writtenOperationRow = operationRowManager.newOperationRow(operationRowToWrite);
+			}
+			writtenOperationRows.add(writtenOperationRow);
+		}
+
+		OpdWithOperationRowDTO opdWithOperationRow = new OpdWithOperationRowDTO();
+		opdWithOperationRow.setOpdDTO(opdDTO);
+		opdWithOperationRow.setOperationRows(opRowMapper.map2DTOList(writtenOperationRows));
+		return opdWithOperationRow;
+	}
+}
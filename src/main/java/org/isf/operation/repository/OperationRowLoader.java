@@ -0,0 +1,75 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.operation.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.operation.model.OperationRow;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads the {@link OperationRow}s of many OPD visits at once, where
+ * {@code OperationRowBrowserManager.getOperationRowByOpd(Opd)} costs one query per visit.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class OperationRowLoader {
+
+	/**
+	 * Largest number of OPD codes bound in a single {@code in} list.
+	 */
+	static final int MAX_CODES_PER_QUERY = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Loads the operation rows of the given OPD visits, with their OPD, operation and admission, with one query per
+	 * {@value #MAX_CODES_PER_QUERY} codes.
+	 *
+	 * @param opdCodes the codes of the visits
+	 * @return the operation rows of each visit; visits without operations are not in the map
+	 */
+	public Map<Integer, List<OperationRow>> findByOpdCodes(Collection<Integer> opdCodes) {
+		Map<Integer, List<OperationRow>> operationRows = new HashMap<>();
+		List<Integer> codes = new ArrayList<>(opdCodes);
+		for (int from = 0; from < codes.size(); from += MAX_CODES_PER_QUERY) {
+			List<OperationRow> rows = entityManager
+				.createQuery("select r from OperationRow r join fetch r.opd left join fetch r.operation left join fetch r.admission"
+								+ " where r.opd.code in :codes order by r.id", OperationRow.class)
+				.setParameter("codes", codes.subList(from, Math.min(from + MAX_CODES_PER_QUERY, codes.size())))
+				.getResultList();
+			for (OperationRow row : rows) {
+				operationRows.computeIfAbsent(row.getOpd().getCode(), code -> new ArrayList<>()).add(row);
+			}
+		}
+		return operationRows;
+	}
+}
@@ -39,6 +39,8 @@ import org.isf.opetype.model.OperationType;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -55,6 +57,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -81,13 +84,16 @@ public class OperationController {
 
 	private final OperationRowMapper opRowMapper;
 
+	private final CatalogueVersions catalogues;
+
 	public OperationController(
 		OperationBrowserManager operationManager,
 		AdmissionBrowserManager admissionManager,
 		OperationRowBrowserManager operationRowManager,
 		PatientBrowserManager patientBrowserManager,
 		OperationMapper mapper, OpdMapper opdMapper,
-		OperationRowMapper opRowMapper
+		OperationRowMapper opRowMapper,
+		CatalogueVersions catalogues
 	) {
 		this.operationManager = operationManager;
 		this.admissionManager = admissionManager;
@@ -96,6 +102,7 @@ public class OperationController {
 		this.mapper = mapper;
 		this.opdMapper = opdMapper;
 		this.opRowMapper = opRowMapper;
+		this.catalogues = catalogues;
 	}
 	/**
 	 * Create a new {@link Operation}.
@@ -116,6 +123,7 @@ public class OperationController {
 		}
 
 		Operation isCreatedOperation = operationManager.newOperation(mapper.map2Model(operationDTO));
+		catalogues.bump(Catalogue.OPERATIONS);
 		if (isCreatedOperation == null) {
 			throw new OHAPIException(new OHExceptionMessage("Operation not created."));
 		}
@@ -141,6 +149,7 @@ public class OperationController {
 		}
 		operation.setLock(operationDTO.getLock());
 		Operation isUpdatedOperation = operationManager.updateOperation(operation);
+		catalogues.bump(Catalogue.OPERATIONS);
 		if (isUpdatedOperation == null) {
 			throw new OHAPIException(new OHExceptionMessage("Operation not updated."));
 		}
@@ -151,12 +160,16 @@ public class OperationController {
 	/**
 	 * Get all the available {@link Operation}s.
 	 *
+	 * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
 	 * @return a {@link List} of {@link Operation} or NO_CONTENT if there is no data found.
 	 * @throws OHServiceException When failed to get operations
 	 */
 	@GetMapping("/operations")
-	public List<OperationDTO> getOperations() throws OHServiceException {
+	public List<OperationDTO> getOperations(WebRequest request) throws OHServiceException {
 		LOGGER.info("Get all operations.");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.OPERATIONS))) {
+			return null;
+		}
 
 		return mapper.map2DTOList(operationManager.getOperation());
 	}
@@ -212,6 +225,7 @@ public class OperationController {
 
 		try {
 			operationManager.deleteOperation(operation);
+			catalogues.bump(Catalogue.OPERATIONS);
 			return true;
 		} catch (OHServiceException serviceException) {
 			LOGGER.error("Delete Operation: {} failed.", code);
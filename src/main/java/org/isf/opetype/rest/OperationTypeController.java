@@ -28,6 +28,8 @@ import org.isf.opetype.manager.OperationTypeBrowserManager;
 import org.isf.opetype.mapper.OperationTypeMapper;
 import org.isf.opetype.model.OperationType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -59,9 +61,13 @@ public class OperationTypeController {
 
 	private final OperationTypeMapper mapper;
 
-	public OperationTypeController(OperationTypeBrowserManager opeTypeManager, OperationTypeMapper operationTypemapper) {
+	private final CatalogueVersions catalogues;
+
+	public OperationTypeController(OperationTypeBrowserManager opeTypeManager, OperationTypeMapper operationTypemapper,
+		CatalogueVersions catalogues) {
 		this.opeTypeManager = opeTypeManager;
 		this.mapper = operationTypemapper;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -78,7 +84,9 @@ public class OperationTypeController {
 		LOGGER.info("Create Operation Type {}", code);
 
 		try {
-			return mapper.map2DTO(opeTypeManager.newOperationType(mapper.map2Model(operationTypeDTO)));
+			OperationType createdOpeType = opeTypeManager.newOperationType(mapper.map2Model(operationTypeDTO));
+			catalogues.bump(Catalogue.OPERATION_TYPES);
+			return mapper.map2DTO(createdOpeType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Operation Type not created."));
 		}
@@ -103,7 +111,10 @@ public class OperationTypeController {
 		}
 
 		try {
-			return mapper.map2DTO(opeTypeManager.updateOperationType(opeType));
+			OperationType updatedOpeType = opeTypeManager.updateOperationType(opeType);
+			// the operations embed their type
+			catalogues.bump(Catalogue.OPERATION_TYPES, Catalogue.OPERATIONS);
+			return mapper.map2DTO(updatedOpeType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Operation Type not updated."));
 		}
@@ -140,6 +151,7 @@ public class OperationTypeController {
 
 		try {
 			opeTypeManager.deleteOperationType(opeTypeFounds.get(0));
+			catalogues.bump(Catalogue.OPERATION_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			LOGGER.error("Delete Operation Type code: {} failed.", code);
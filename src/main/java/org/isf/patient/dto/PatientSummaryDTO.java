@@ -0,0 +1,150 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.patient.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The columns of a {@link PatientDTO} shown in patient lists, read with a projection that leaves out the photo and the
+ * long texts (note, anamnesis, allergies).
+ */
+@Schema(description = "Summary of a patient, as listed with fields=summary")
+public class PatientSummaryDTO {
+
+	@Schema(description = "Code of the Patient", example = "1")
+	private Integer code;
+
+	@Schema(description = "First name of the patient", example = "Mario")
+	private String firstName;
+
+	@Schema(description = "Last name of the patient", example = "Rossi")
+	private String secondName;
+
+	@Schema(description = "Full name of the patient", example = "Mario Rossi")
+	private String name;
+
+	@Schema(description = "Age", example = "40")
+	private int age;
+
+	@Schema(description = "Sex", allowableValues = { "M", "F" }, example = "M")
+	private char sex;
+
+	@Schema(description = "Code of the ward of the current admission, null when not admitted", example = "M")
+	private String wardCode;
+
+	@Schema(description = "Description of the ward of the current admission, null when not admitted", example = "MEDICINE")
+	private String wardDescription;
+
+	@Schema(description = "Admission status", example = "O")
+	private PatientSTATUS status;
+
+	public PatientSummaryDTO() {
+	}
+
+	/**
+	 * The constructor of the JPQL projection: the status follows from the ward of the current admission.
+	 */
+	public PatientSummaryDTO(Integer code, String firstName, String secondName, String name, Integer age, Character sex, String wardCode,
+					String wardDescription) {
+		this.code = code;
+		this.firstName = firstName;
+		this.secondName = secondName;
+		this.name = name;
+		this.age = age == null ? 0 : age;
+		this.sex = sex == null ? ' ' : sex;
+		this.wardCode = wardCode;
+		this.wardDescription = wardDescription;
+		this.status = wardCode == null ? PatientSTATUS.O : PatientSTATUS.I;
+	}
+
+	public Integer getCode() {
+		return code;
+	}
+
+	public void setCode(Integer code) {
+		this.code = code;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getSecondName() {
+		return secondName;
+	}
+
+	public void setSecondName(String secondName) {
+		this.secondName = secondName;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public char getSex() {
+		return sex;
+	}
+
+	public void setSex(char sex) {
+		this.sex = sex;
+	}
+
+	public String getWardCode() {
+		return wardCode;
+	}
+
+	public void setWardCode(String wardCode) {
+		this.wardCode = wardCode;
+	}
+
+	public String getWardDescription() {
+		return wardDescription;
+	}
+
+	public void setWardDescription(String wardDescription) {
+		this.wardDescription = wardDescription;
+	}
+
+	public PatientSTATUS getStatus() {
+		return status;
+	}
+
+	public void setStatus(PatientSTATUS status) {
+		this.status = status;
+	}
+}
@@ -22,7 +22,6 @@
 package org.isf.patient.mapper;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 
@@ -45,11 +44,11 @@ public class PatientMapper extends GenericMapper<Patient, PatientDTO> {
 
 	@Override
 	public List<PatientDTO> map2DTOList(List<Patient> list) {
-		return list.stream().map(it -> map2DTO(it)).collect(Collectors.toList());
+		return mapDTOList(list, it -> map2DTO(it));
 	}
 
 	@Override
 	public List<Patient> map2ModelList(List<PatientDTO> list) {
-		return list.stream().map(it -> map2Model(it)).collect(Collectors.toList());
+		return mapList(list, it -> map2Model(it));
 	}
 }
\ No newline at end of file
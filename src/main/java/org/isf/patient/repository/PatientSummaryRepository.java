@@ -0,0 +1,141 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.patient.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import org.isf.patient.dto.PatientSummaryDTO;
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.pagination.Cursor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Patient lists read as {@link PatientSummaryDTO}s: a single query selects the summary columns and the ward of the current
+ * admission, without loading the {@code Patient} entities, their photo and their long texts.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class PatientSummaryRepository {
+
+	private static final String SELECT = "select new org.isf.patient.dto.PatientSummaryDTO(p.code, p.firstName, p.secondName, p.name, p.age,"
+					+ " p.sex, w.code, w.description) from Patient p"
+					+ " left join Admission a on a.patient = p and a.admitted = 1 and a.deleted = 'N'"
+					+ " left join a.ward w where (p.deleted is null or p.deleted <> 'Y')";
+
+	private static final String ORDER = " order by p.code desc";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Patients not deleted, newest (highest code) first, by page.
+	 */
+	public List<PatientSummaryDTO> findPatients(int page, int size) {
+		return entityManager.createQuery(SELECT + ORDER, PatientSummaryDTO.class)
+			.setFirstResult(page * size)
+			.setMaxResults(size)
+			.getResultList();
+	}
+
+	/**
+	 * Patients not deleted, newest (highest code) first, after the {@link #patientCursor(PatientSummaryDTO) cursor}.
+	 */
+	public List<PatientSummaryDTO> findPatients(String cursor, int limit) throws OHAPIException {
+		List<String> after = Cursor.decode(cursor, 1);
+		if (after == null) {
+			return entityManager.createQuery(SELECT + ORDER, PatientSummaryDTO.class).setMaxResults(limit).getResultList();
+		}
+		int code;
+		try {
+			code = Integer.parseInt(after.get(0));
+		} catch (NumberFormatException e) {
+			throw Cursor.invalid();
+		}
+		return entityManager.createQuery(SELECT + " and p.code < :code" + ORDER, PatientSummaryDTO.class)
+			.setParameter("code", code)
+			.setMaxResults(limit)
+			.getResultList();
+	}
+
+	public static String patientCursor(PatientSummaryDTO patient) {
+		return Cursor.encode(patient.getCode());
+	}
+
+	/**
+	 * Patients not deleted with the ward of their current admission, as listed by
+	 * {@code AdmissionBrowserManager.getAdmittedPatients(...)}: every search term must match the code, a name or the tax
+	 * code of the patient, and the ranges, when given, select the current admissions started or ended in them.
+	 *
+	 * @param searchTerms the search terms, separated by spaces
+	 * @param admissionRange the range of the admission date, or {@code null}
+	 * @param dischargeRange the range of the discharge date, or {@code null}
+	 * @return the patients, newest (highest code) first
+	 */
+	public List<PatientSummaryDTO> findAdmittedPatients(String searchTerms, LocalDateTime[] admissionRange, LocalDateTime[] dischargeRange) {
+		StringBuilder jpql = new StringBuilder(SELECT);
+		List<String> terms = new ArrayList<>();
+		if (searchTerms != null) {
+			for (String term : searchTerms.trim().toLowerCase(Locale.ROOT).split("\\s+")) {
+				if (!term.isEmpty()) {
+					int i = terms.size();
+					jpql.append(" and (cast(p.code as String) = :term").append(i)
+						.append(" or lower(p.firstName) like :like").append(i)
+						.append(" or lower(p.secondName) like :like").append(i)
+						.append(" or lower(p.taxCode) like :like").append(i).append(')');
+					terms.add(term);
+				}
+			}
+		}
+		boolean admission = isRange(admissionRange);
+		if (admission) {
+			jpql.append(" and a.admDate >= :admissionFrom and a.admDate <= :admissionTo");
+		}
+		boolean discharge = isRange(dischargeRange);
+		if (discharge) {
+			jpql.append(" and a.disDate >= :dischargeFrom and a.disDate <= :dischargeTo");
+		}
+		TypedQuery<PatientSummaryDTO> query = entityManager.createQuery(jpql.append(ORDER).toString(), PatientSummaryDTO.class);
+		for (int i = 0; i < terms.size(); i++) {
+			query.setParameter("term" + i, terms.get(i));
+			query.setParameter("like" + i, '%' + terms.get(i) + '%');
+		}
+		if (admission) {
+			query.setParameter("admissionFrom", admissionRange[0]).setParameter("admissionTo", admissionRange[1]);
+		}
+		if (discharge) {
+			query.setParameter("dischargeFrom", dischargeRange[0]).setParameter("dischargeTo", dischargeRange[1]);
+		}
+		return query.getResultList();
+	}
+
+	private static boolean isRange(LocalDateTime[] range) {
+		return range != null && range.length == 2 && range[0] != null && range[1] != null;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.patient.rest;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.isf.admission.repository.AdmittedPatientLoader;
+import org.isf.patient.model.Patient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Whether patients are currently admitted, loaded in bulk with {@link AdmittedPatientLoader} and kept for the rest of
+ * the request.
+ */
+@Component
+@RequestScope
+public class AdmissionStatusCache {
+
+	private final AdmittedPatientLoader admittedPatientLoader;
+
+	private final Map<Integer, Boolean> admitted = new HashMap<>();
+
+	public AdmissionStatusCache(AdmittedPatientLoader admittedPatientLoader) {
+		this.admittedPatientLoader = admittedPatientLoader;
+	}
+
+	/**
+	 * Loads the status of the patients not looked up yet in this request, with a single query.
+	 *
+	 * @param patients the patients
+	 * @return the codes of the admitted ones
+	 */
+	public Set<Integer> admitted(Collection<Patient> patients) {
+		Set<Integer> missing = patients.stream().map(Patient::getCode).filter(code -> !admitted.containsKey(code)).collect(Collectors.toSet());
+		if (!missing.isEmpty()) {
+			Set<Integer> found = admittedPatientLoader.findAdmitted(missing);
+			missing.forEach(code -> admitted.put(code, found.contains(code)));
+		}
+		return patients.stream().map(Patient::getCode).filter(admitted::get).collect(Collectors.toSet());
+	}
+
+	public boolean isAdmitted(Patient patient) {
+		return !admitted(List.of(patient)).isEmpty();
+	}
+}
@@ -27,17 +27,23 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
-import org.isf.admission.manager.AdmissionBrowserManager;
-import org.isf.admission.model.Admission;
 import org.isf.patconsensus.manager.PatientConsensusBrowserManager;
 import org.isf.patconsensus.model.PatientConsensus;
 import org.isf.patient.dto.PatientDTO;
+import org.isf.patient.dto.PatientSummaryDTO;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.mapper.PatientMapper;
 import org.isf.patient.model.Patient;
+import org.isf.patient.repository.PatientSummaryRepository;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.pagination.CursorPage;
+import org.isf.shared.pagination.KeysetRepository;
 import org.isf.shared.pagination.Page;
+import org.isf.shared.pagination.PageInfoDTO;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.shared.pagination.Projection;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.utils.pagination.PagedResponse;
@@ -57,6 +63,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -68,27 +77,38 @@ public class PatientController {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(PatientController.class);
 
-	// TODO: to centralize
-	protected static final String DEFAULT_PAGE_SIZE = "80";
+	private static final String RESOURCE = "patients";
 
 	private final PatientBrowserManager patientManager;
 
-	private final AdmissionBrowserManager admissionManager;
-
 	private final PatientConsensusBrowserManager patientConsensusManager;
 
 	private final PatientMapper patientMapper;
 
+	private final AdmissionStatusCache admissionStatus;
+
+	private final KeysetRepository keysetRepository;
+
+	private final PageSizePolicy pageSizePolicy;
+
+	private final PatientSummaryRepository patientSummaryRepository;
+
 	public PatientController(
 		PatientBrowserManager patientManager,
-		AdmissionBrowserManager admissionManager,
 		PatientMapper patientMapper,
-		PatientConsensusBrowserManager patientConsensusManager
+		PatientConsensusBrowserManager patientConsensusManager,
+		AdmissionStatusCache admissionStatus,
+		KeysetRepository keysetRepository,
+		PageSizePolicy pageSizePolicy,
+		PatientSummaryRepository patientSummaryRepository
 	) {
 		this.patientManager = patientManager;
-		this.admissionManager = admissionManager;
 		this.patientMapper = patientMapper;
 		this.patientConsensusManager = patientConsensusManager;
+		this.admissionStatus = admissionStatus;
+		this.keysetRepository = keysetRepository;
+		this.pageSizePolicy = pageSizePolicy;
+		this.patientSummaryRepository = patientSummaryRepository;
 	}
 
 	/**
@@ -149,22 +169,95 @@ public class PatientController {
 		return patientMapper.map2DTO(patient);
 	}
 
+	/**
+	 * Get a page of patients, as {@link PatientSummaryDTO}s with {@code fields=summary}.
+	 *
+	 * @param page the page number
+	 * @param size the page size
+	 * @param fields {@code summary} for the summary of the patients, empty for the full ones
+	 * @return the page of patients
+	 * @throws OHServiceException When failed to get patients
+	 */
 	@GetMapping(value = "/patients")
-	public Page<PatientDTO> getPatients(
+	@ApiResponse(responseCode = "200", description = "OK",
+		content = @Content(schema = @Schema(oneOf = { PatientPage.class, PatientSummaryPage.class })))
+	public Page<?> getPatients(
 		@RequestParam(value = "page", required = false, defaultValue = "0") int page,
-		@RequestParam(value = "size", required = false, defaultValue = DEFAULT_PAGE_SIZE) int size
+		@RequestParam(value = "size", required = false) Integer size,
+		@RequestParam(value = "fields", required = false) String fields
 	) throws OHServiceException {
-		LOGGER.info("Get patients page: {}  size: {}.", page, size);
-		PagedResponse<Patient> patients = patientManager.getPatientsPageable(page, size);
+		int pageSize = pageSizePolicy.resolve(RESOURCE, size);
+		LOGGER.info("Get patients page: {}  size: {}.", page, pageSize);
+		if (Projection.of(fields) == Projection.SUMMARY) {
+			return getPatientSummaries(page, pageSize);
+		}
+		PagedResponse<Patient> patients = patientManager.getPatientsPageable(page, pageSize);
 
 		Page<PatientDTO> patientPageableDTO = new Page<>();
 		List<PatientDTO> patientsDTO = patientMapper.map2DTOList(patients.getData());
-		patientPageableDTO.setData(patientsDTO);
+		patientPageableDTO.setData(pageSizePolicy.served(RESOURCE, patientsDTO));
 		patientPageableDTO.setPageInfo(patientMapper.setParameterPageInfo(patients.getPageInfo()));
 
 		return patientPageableDTO;
 	}
 
+	private Page<PatientSummaryDTO> getPatientSummaries(int page, int pageSize) {
+		List<PatientSummaryDTO> patients = patientSummaryRepository.findPatients(page, pageSize);
+		long totalNbOfElements = keysetRepository.countPatients();
+		long totalPages = (totalNbOfElements + pageSize - 1) / pageSize;
+
+		PageInfoDTO pageInfoDTO = new PageInfoDTO();
+		pageInfoDTO.setPage(page);
+		pageInfoDTO.setSize(pageSize);
+		pageInfoDTO.setNbOfElements(patients.size());
+		pageInfoDTO.setTotalNbOfElements(totalNbOfElements);
+		pageInfoDTO.setTotalPages(totalPages);
+		pageInfoDTO.setHasPreviousPage(page > 0);
+		pageInfoDTO.setHasNextPage(page + 1 < totalPages);
+
+		Page<PatientSummaryDTO> patientPageableDTO = new Page<>();
+		patientPageableDTO.setData(pageSizePolicy.served(RESOURCE, patients));
+		patientPageableDTO.setPageInfo(pageInfoDTO);
+		return patientPageableDTO;
+	}
+
+	/**
+	 * Keyset paginated variant of {@link #getPatients(int, Integer, String)}, newest patients first, selected by the
+	 * {@code cursor} parameter: send it empty for the first page, then the {@code next} cursor of the previous page.
+	 *
+	 * @param cursor the cursor of the page, empty for the first one
+	 * @param size the page size
+	 * @param total whether to also count all the patients
+	 * @param fields {@code summary} for the summary of the patients, empty for the full ones
+	 * @return the page of patients
+	 * @throws OHServiceException When the cursor is invalid or failed to get patients
+	 */
+	@GetMapping(value = "/patients", params = "cursor")
+	@ApiResponse(responseCode = "200", description = "OK",
+		content = @Content(schema = @Schema(oneOf = { PatientCursorPage.class, PatientSummaryCursorPage.class })))
+	public CursorPage<?> getPatientsByCursor(
+		@RequestParam(value = "cursor") String cursor,
+		@RequestParam(value = "size", required = false) Integer size,
+		@RequestParam(value = "total", required = false, defaultValue = "false") boolean total,
+		@RequestParam(value = "fields", required = false) String fields
+	) throws OHServiceException {
+		int pageSize = pageSizePolicy.resolve(RESOURCE, size);
+		LOGGER.info("Get patients cursor: {}  size: {}.", cursor, pageSize);
+		if (Projection.of(fields) == Projection.SUMMARY) {
+			List<PatientSummaryDTO> patients = patientSummaryRepository.findPatients(cursor, pageSize + 1);
+			CursorPage<PatientSummaryDTO> page = CursorPage.of(patients, pageSize, PatientSummaryRepository::patientCursor, rows -> rows,
+							total ? keysetRepository.countPatients() : null);
+			pageSizePolicy.served(RESOURCE, page.getData());
+			return page;
+		}
+		List<Patient> patients = keysetRepository.findPatients(cursor, pageSize + 1);
+
+		CursorPage<PatientDTO> page = CursorPage.of(patients, pageSize, KeysetRepository::patientCursor, patientMapper::map2DTOList,
+						total ? keysetRepository.countPatients() : null);
+		pageSizePolicy.served(RESOURCE, page.getData());
+		return page;
+	}
+
 	@GetMapping(value = "/patients/{code}")
 	public PatientDTO getPatient(@PathVariable("code") int code) throws OHServiceException {
 		LOGGER.info("Get patient code: '{}'.", code);
@@ -174,10 +267,8 @@ public class PatientController {
 			throw new OHAPIException(new OHExceptionMessage("Patient not found."), HttpStatus.NOT_FOUND);
 		}
 
-		LOGGER.debug("AdmissionBrowserManager injected: {}.", admissionManager);
-		Admission admission = admissionManager.getCurrentAdmission(patient);
-		LOGGER.debug("Admission retrieved: {}.", admission);
-		Boolean status = admission != null;
+		boolean status = admissionStatus.isAdmitted(patient);
+		LOGGER.debug("Patient admitted: {}.", status);
 
 		return patientMapper.map2DTOWS(patient, status);
 	}
@@ -212,11 +303,8 @@ public class PatientController {
 			patientList = patientManager.getPatients(params);
 		}
 
-		return patientList.stream().map(patient -> {
-			Admission admission = admissionManager.getCurrentAdmission(patient);
-			Boolean status = admission != null;
-			return patientMapper.map2DTOWS(patient, status);
-		}).toList();
+		Set<Integer> admitted = admissionStatus.admitted(patientList);
+		return patientList.stream().map(patient -> patientMapper.map2DTOWS(patient, admitted.contains(patient.getCode()))).toList();
 	}
 
 	@GetMapping(value = "/patients/all")
@@ -276,4 +364,24 @@ public class PatientController {
 
 		return patientManager.getCities();
 	}
+
+	/*
+	 * The two shapes of the patient pages, full or summary, named for the OpenAPI documentation only.
+	 */
+
+	@Schema(name = "PagePatientDTO")
+	static class PatientPage extends Page<PatientDTO> {
+	}
+
+	@Schema(name = "PagePatientSummaryDTO")
+	static class PatientSummaryPage extends Page<PatientSummaryDTO> {
+	}
+
+	@Schema(name = "CursorPagePatientDTO")
+	static class PatientCursorPage extends CursorPage<PatientDTO> {
+	}
+
+	@Schema(name = "CursorPagePatientSummaryDTO")
+	static class PatientSummaryCursorPage extends CursorPage<PatientSummaryDTO> {
+	}
 }
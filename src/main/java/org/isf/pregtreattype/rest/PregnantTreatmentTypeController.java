@@ -28,6 +28,9 @@ import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
 import org.isf.pregtreattype.mapper.PregnantTreatmentTypeMapper;
 import org.isf.pregtreattype.model.PregnantTreatmentType;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -59,12 +62,20 @@ public class PregnantTreatmentTypeController {
 
 	private final PregnantTreatmentTypeMapper mapper;
 
+	private final ReferenceDataRegistry referenceData;
+
+	private final CatalogueVersions catalogues;
+
 	public PregnantTreatmentTypeController(
 		PregnantTreatmentTypeBrowserManager pregnantTreatmentTypeManager,
-		PregnantTreatmentTypeMapper pregnantTreatmentTypemapper
+		PregnantTreatmentTypeMapper pregnantTreatmentTypemapper,
+		ReferenceDataRegistry referenceData,
+		CatalogueVersions catalogues
 	) {
 		this.pregnantTreatmentTypeManager = pregnantTreatmentTypeManager;
 		this.mapper = pregnantTreatmentTypemapper;
+		this.referenceData = referenceData;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -84,6 +95,8 @@ public class PregnantTreatmentTypeController {
 		PregnantTreatmentType isCreatedPregnantTreatmentType = pregnantTreatmentTypeManager.newPregnantTreatmentType(
 			mapper.map2Model(pregnantTreatmentTypeDTO)
 		);
+		referenceData.refresh(PregnantTreatmentType.class);
+		catalogues.bump(Catalogue.PREGNANT_TREATMENT_TYPES);
 
 		if (isCreatedPregnantTreatmentType == null) {
 			throw new OHAPIException(new OHExceptionMessage("Pregnant Treatment Type not created."));
@@ -110,6 +123,8 @@ public class PregnantTreatmentTypeController {
 			throw new OHAPIException(new OHExceptionMessage("Pregnant Treatment Type not found."), HttpStatus.NOT_FOUND);
 		}
 		PregnantTreatmentType isUpdatedPregnantTreatmentType = pregnantTreatmentTypeManager.updatePregnantTreatmentType(pregTreatType);
+		referenceData.refresh(PregnantTreatmentType.class);
+		catalogues.bump(Catalogue.PREGNANT_TREATMENT_TYPES);
 		if (isUpdatedPregnantTreatmentType == null) {
 			throw new OHAPIException(new OHExceptionMessage("Pregnant Treatment Type not updated."));
 		}
@@ -154,6 +169,8 @@ public class PregnantTreatmentTypeController {
 
 		try {
 			pregnantTreatmentTypeManager.deletePregnantTreatmentType(pregTreatTypeFounds.get(0));
+			referenceData.refresh(PregnantTreatmentType.class);
+			catalogues.bump(Catalogue.PREGNANT_TREATMENT_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			LOGGER.error("Delete PregnantTreatment Type: {} failed.", code);
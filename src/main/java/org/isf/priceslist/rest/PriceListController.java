@@ -31,6 +31,8 @@ import org.isf.priceslist.mapper.PriceMapper;
 import org.isf.priceslist.model.Price;
 import org.isf.priceslist.model.PriceList;
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.slf4j.Logger;
@@ -47,6 +49,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -65,10 +68,14 @@ public class PriceListController {
 
 	private final PriceMapper priceMapper;
 
-	public PriceListController(PriceListManager priceListManager, PriceListMapper priceListmapper, PriceMapper priceMapper) {
+	private final CatalogueVersions catalogues;
+
+	public PriceListController(PriceListManager priceListManager, PriceListMapper priceListmapper, PriceMapper priceMapper,
+		CatalogueVersions catalogues) {
 		this.priceListManager = priceListManager;
 		this.mapper = priceListmapper;
 		this.priceMapper = priceMapper;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -82,7 +89,9 @@ public class PriceListController {
 	public PriceListDTO newPriceList(@RequestBody PriceListDTO priceListDTO) throws OHServiceException {
 		LOGGER.info("Create price list {}.", priceListDTO.getCode());
 		try {
-			return mapper.map2DTO(priceListManager.newList(mapper.map2Model(priceListDTO)));
+			PriceList priceList = priceListManager.newList(mapper.map2Model(priceListDTO));
+			catalogues.bump(Catalogue.PRICE_LISTS);
+			return mapper.map2DTO(priceList);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Price list not created."));
 		}
@@ -101,7 +110,9 @@ public class PriceListController {
 		LOGGER.info("Update price list code: {}.", priceListDTO.getCode());
 		PriceList priceList = mapper.map2Model(priceListDTO);
 		try {
-			return mapper.map2DTO(priceListManager.updateList(priceList));
+			PriceList updatedPriceList = priceListManager.updateList(priceList);
+			catalogues.bump(Catalogue.PRICE_LISTS);
+			return mapper.map2DTO(updatedPriceList);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Price list not updated."));
 		}
@@ -109,12 +120,16 @@ public class PriceListController {
 
 	/**
 	 * Get all the available {@link PriceList}s.
+	 * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
 	 * @return a {@link List} of {@link PriceList} or NO_CONTENT if there is no data found.
 	 * @throws OHServiceException WHen failed to price lists
 	 */
 	@GetMapping("/pricelists")
-	public List<PriceListDTO> getPriceLists() throws OHServiceException {
+	public List<PriceListDTO> getPriceLists(WebRequest request) throws OHServiceException {
 		LOGGER.info("Get all price lists.");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.PRICE_LISTS))) {
+			return null;
+		}
 
 		return mapper.map2DTOList(priceListManager.getLists());
 	}
@@ -147,6 +162,7 @@ public class PriceListController {
 		}
 		try {
 			priceListManager.deleteList(priceListFounds.get(0));
+			catalogues.bump(Catalogue.PRICE_LISTS);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Price list not deleted."));
@@ -169,6 +185,7 @@ public class PriceListController {
 
 		try {
 			priceListManager.copyList(priceListFounds.get(0));
+			catalogues.bump(Catalogue.PRICE_LISTS);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Price list not duplicated."));
@@ -193,6 +210,7 @@ public class PriceListController {
 
 		try {
 			priceListManager.copyList(priceListFounds.get(0), factor, step);
+			catalogues.bump(Catalogue.PRICE_LISTS);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Price list not duplicated."));
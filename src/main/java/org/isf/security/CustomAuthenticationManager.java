@@ -40,10 +40,13 @@ public class CustomAuthenticationManager implements AuthenticationManager {
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 
+	@Autowired
+	private PasswordHashingExecutor passwordHashingExecutor;
+
 	@Override
 	public Authentication authenticate(Authentication authentication) throws AuthenticationException {
 		final UserDetails userDetail = customUserDetailsService.loadUserByUsername(authentication.getName());
-		if (!passwordEncoder.matches(authentication.getCredentials().toString(), userDetail.getPassword())) {
+		if (!passwordHashingExecutor.matches(passwordEncoder, authentication.getCredentials().toString(), userDetail.getPassword())) {
 			throw new BadCredentialsException("Wrong password");
 		}
 		return new UsernamePasswordAuthenticationToken(userDetail.getUsername(), userDetail.getPassword(), userDetail.getAuthorities());
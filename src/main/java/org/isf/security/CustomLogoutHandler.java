@@ -21,16 +21,10 @@
  */
 package org.isf.security;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 
-import org.isf.sessionaudit.manager.SessionAuditManager;
-import org.isf.sessionaudit.model.SessionAudit;
-import org.isf.utils.exception.OHServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,27 +41,17 @@ public class CustomLogoutHandler implements LogoutHandler {
 	private HttpSession httpSession;
 
 	@Autowired
-	private SessionAuditManager sessionAuditManager;
+	private SessionAuditWriter sessionAuditWriter;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(CustomLogoutHandler.class);
 
 	@Override
 	public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
-		try {
-			Optional<Object> sessionAuditIdOpt = Optional.ofNullable(httpSession.getAttribute("sessionAuditId"));
-			if (sessionAuditIdOpt.isPresent()) {
-				int sessionAuditId = (int) sessionAuditIdOpt.get();
-				Optional<SessionAudit> sa = sessionAuditManager.getSessionAudit(sessionAuditId);
-				if (sa.isPresent()) {
-					SessionAudit sessionAudit = sa.get();
-					sessionAudit.setLogoutDate(LocalDateTime.now());
-					sessionAuditManager.updateSessionAudit(sessionAudit);
-				}
-			} else {
-				LOGGER.error("Unable to find the session. Are you sure that you are logged in?");
-			}
-		} catch (OHServiceException e) {
-			LOGGER.error("Unable to log user login timestamp in the session_audit table");
+		Object sessionAudit = httpSession.getAttribute(SessionAuditHandle.SESSION_ATTRIBUTE);
+		if (sessionAudit instanceof SessionAuditHandle sessionAuditHandle) {
+			sessionAuditWriter.recordLogout(sessionAuditHandle);
+		} else {
+			LOGGER.error("Unable to find the session. Are you sure that you are logged in?");
 		}
 
 		HttpSession session = request.getSession(false);
@@ -0,0 +1,112 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the (deliberately slow) password hash comparisons of the logins on a dedicated, size limited pool.
+ * <p>
+ * At most {@code threads} hashes are computed at the same time and at most {@code queueCapacity} logins wait for a thread:
+ * when the queue is full the login is refused right away with a {@link LoginThrottledException}, instead of letting
+ * servlet threads pile up behind the CPU.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+
+	private final int retryAfterSeconds;
+
+	public PasswordHashingExecutor(
+		@Value("${security.login.hashing.threads:0}") int threads,
+		@Value("${security.login.hashing.queueCapacity:100}") int queueCapacity,
+		@Value("${security.login.hashing.retryAfterInSeconds:5}") int retryAfterSeconds
+	) {
+		// 0 means one thread per available processor
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	/**
+	 * Verifies the raw password against the encoded one on the hashing pool.
+	 *
+	 * @throws LoginThrottledException if the pool is saturated
+	 */
+	public boolean matches(PasswordEncoder passwordEncoder, CharSequence rawPassword, String encodedPassword) {
+		Future<Boolean> result;
+		try {
+			result = executor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+		} catch (RejectedExecutionException e) {
+			throw new LoginThrottledException("Too many login attempts in progress, retry later.", retryAfterSeconds);
+		}
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.cancel(true);
+			throw new AuthenticationServiceException("Password verification interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new AuthenticationServiceException("Password verification failed.", e.getCause());
+		}
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private static final class HashingThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "oh-password-hashing-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.util.Collection;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Authenticated token that also carries the precomputed {@link PermissionSet} of the principal.
+ */
+public class PermissionAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+	private static final long serialVersionUID = 1L;
+
+	private final PermissionSet permissions;
+
+	public PermissionAuthenticationToken(Object principal, Object credentials, Collection< ? extends GrantedAuthority> authorities,
+					PermissionSet permissions) {
+		super(principal, credentials, authorities);
+		this.permissions = permissions;
+	}
+
+	public PermissionSet getPermissions() {
+		return permissions;
+	}
+}
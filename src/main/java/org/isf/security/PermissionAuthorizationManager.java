@@ -0,0 +1,63 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ * Access rule compiled against the {@link PermissionRegistry}: the required permissions are resolved to ids once, when the
+ * security filter chain is built.
+ */
+public class PermissionAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+	private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+
+	private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+	private final PermissionRegistry registry;
+
+	private final int[] requiredPermissionIds;
+
+	private final boolean requireAll;
+
+	PermissionAuthorizationManager(PermissionRegistry registry, int[] requiredPermissionIds, boolean requireAll) {
+		this.registry = registry;
+		this.requiredPermissionIds = requiredPermissionIds;
+		this.requireAll = requireAll;
+	}
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+		Authentication currentAuthentication = authentication.get();
+		if (currentAuthentication == null) {
+			return DENIED;
+		}
+		PermissionSet permissions = registry.permissionsOf(currentAuthentication);
+		boolean granted = requireAll ? permissions.containsAll(requiredPermissionIds) : permissions.containsAny(requiredPermissionIds);
+		return granted ? GRANTED : DENIED;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Interns permission names into small integer ids so that the permissions of a user can be kept in a {@link PermissionSet}
+ * and every access rule becomes a bit lookup instead of a scan over the granted authorities.
+ * <p>
+ * Ids are assigned to the permissions required by the access rules when they are compiled at startup: authorities that are
+ * not required by any rule are ignored when building a {@link PermissionSet}.
+ */
+@Component
+public class PermissionRegistry {
+
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+	private final AtomicInteger nextId = new AtomicInteger();
+
+	public int register(String permission) {
+		return ids.computeIfAbsent(permission, p -> nextId.getAndIncrement());
+	}
+
+	public int[] register(String... permissions) {
+		int[] permissionIds = new int[permissions.length];
+		for (int i = 0; i < permissions.length; i++) {
+			permissionIds[i] = register(permissions[i]);
+		}
+		return permissionIds;
+	}
+
+	public PermissionSet toPermissionSet(Collection< ? extends GrantedAuthority> authorities) {
+		BitSet bits = new BitSet(ids.size());
+		for (GrantedAuthority authority : authorities) {
+			Integer permissionId = ids.get(authority.getAuthority());
+			if (permissionId != null) {
+				bits.set(permissionId);
+			}
+		}
+		return new PermissionSet(bits);
+	}
+
+	public PermissionSet permissionsOf(Authentication authentication) {
+		if (authentication instanceof PermissionAuthenticationToken permissionAuthentication) {
+			return permissionAuthentication.getPermissions();
+		}
+		return toPermissionSet(authentication.getAuthorities());
+	}
+
+	public AuthorizationManager<RequestAuthorizationContext> hasAuthority(String permission) {
+		return new PermissionAuthorizationManager(this, register(permission), true);
+	}
+
+	public AuthorizationManager<RequestAuthorizationContext> hasAnyAuthority(String... permissions) {
+		return new PermissionAuthorizationManager(this, register(permissions), false);
+	}
+
+	public AuthorizationManager<RequestAuthorizationContext> hasAllAuthorities(String... permissions) {
+		return new PermissionAuthorizationManager(this, register(permissions), true);
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Reference, kept in the HTTP session, to a session audit row written asynchronously by the {@link SessionAuditWriter}.
+ * The id is known only once the row has been inserted.
+ */
+public class SessionAuditHandle implements Serializable {
+
+	public static final String SESSION_ATTRIBUTE = "sessionAudit";
+
+	private static final long serialVersionUID = 1L;
+
+	private final String userName;
+
+	private final LocalDateTime loginDate;
+
+	private volatile Integer sessionAuditId;
+
+	SessionAuditHandle(String userName, LocalDateTime loginDate) {
+		this.userName = userName;
+		this.loginDate = loginDate;
+	}
+
+	public String getUserName() {
+		return userName;
+	}
+
+	public LocalDateTime getLoginDate() {
+		return loginDate;
+	}
+
+	public Integer getSessionAuditId() {
+		return sessionAuditId;
+	}
+
+	void setSessionAuditId(Integer sessionAuditId) {
+		this.sessionAuditId = sessionAuditId;
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.isf.sessionaudit.manager.SessionAuditManager;
+import org.isf.sessionaudit.model.SessionAudit;
+import org.isf.utils.exception.OHServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes the session audit rows (login and logout timestamps) off the request thread.
+ * <p>
+ * Logins and logouts are queued and written in order by a single background thread, in groups of at most {@code batchSize}
+ * records sharing one transaction. Because the queue is FIFO, the logout of a session is always written after its login.
+ * When the transaction of a group fails, its records are written again one at a time, each in its own transaction, so a
+ * failing record does not lose the others. When the queue is full the record is written synchronously by the caller, so
+ * no audit record is dropped.
+ */
+@Component
+public class SessionAuditWriter implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SessionAuditWriter.class);
+
+	private final SessionAuditManager sessionAuditManager;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final BlockingQueue<AuditRecord> queue;
+
+	private final int batchSize;
+
+	private final long flushIntervalInMillis;
+
+	private final Thread worker;
+
+	private volatile boolean running = true;
+
+	public SessionAuditWriter(
+		SessionAuditManager sessionAuditManager,
+		ObjectProvider<PlatformTransactionManager> transactionManager,
+		@Value("${security.sessionaudit.batchSize:50}") int batchSize,
+		@Value("${security.sessionaudit.flushIntervalInMillis:500}") long flushIntervalInMillis,
+		@Value("${security.sessionaudit.queueCapacity:10000}") int queueCapacity
+	) {
+		this.sessionAuditManager = sessionAuditManager;
+		PlatformTransactionManager platformTransactionManager = transactionManager.getIfUnique();
+		this.transactionTemplate = platformTransactionManager != null ? new TransactionTemplate(platformTransactionManager) : null;
+		this.batchSize = Math.max(1, batchSize);
+		this.flushIntervalInMillis = flushIntervalInMillis;
+		this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+		this.worker = new Thread(this::run, "oh-session-audit-writer");
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	/**
+	 * Queues the audit of a login.
+	 *
+	 * @param userName the user logging in
+	 * @return the handle to keep in the HTTP session, used to record the logout
+	 */
+	public SessionAuditHandle recordLogin(String userName) {
+		SessionAuditHandle handle = new SessionAuditHandle(userName, LocalDateTime.now());
+		enqueue(new AuditRecord(handle, false));
+		return handle;
+	}
+
+	/**
+	 * Queues the audit of a logout, written after the login of the same session.
+	 *
+	 * @param handle the handle returned by {@link #recordLogin(String)}
+	 */
+	public void recordLogout(SessionAuditHandle handle) {
+		enqueue(new AuditRecord(handle, true));
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Writes synchronously every queued record.
+	 */
+	public void flush() {
+		List<AuditRecord> batch = new ArrayList<>();
+		while (queue.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		running = false;
+		worker.interrupt();
+		worker.join(TimeUnit.SECONDS.toMillis(5));
+		flush();
+	}
+
+	private void enqueue(AuditRecord auditRecord) {
+		if (!running || !queue.offer(auditRecord)) {
+			LOGGER.warn("Session audit queue is full, writing the record on the request thread.");
+			// keep the order with the records already queued
+			flush();
+			write(List.of(auditRecord));
+		}
+	}
+
+	private void run() {
+		List<AuditRecord> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				AuditRecord first = queue.poll(flushIntervalInMillis, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				write(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (RuntimeException e) {
+				LOGGER.error("Unable to write the session audit records.", e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private synchronized void write(List<AuditRecord> batch) {
+		if (transactionTemplate == null) {
+			batch.forEach(auditRecord -> write(auditRecord, new ArrayList<>()));
+			return;
+		}
+		List<SessionAuditHandle> logins = new ArrayList<>();
+		try {
+			transactionTemplate.executeWithoutResult(status -> batch.forEach(auditRecord -> write(auditRecord, logins)));
+		} catch (RuntimeException e) {
+			LOGGER.warn("Unable to write {} session audit records in one transaction, writing them one at a time.", batch.size(), e);
+			// the ids inserted by the rolled back transaction do not exist
+			logins.forEach(handle -> handle.setSessionAuditId(null));
+			batch.forEach(this::writeAlone);
+		}
+	}
+
+	private void writeAlone(AuditRecord auditRecord) {
+		List<SessionAuditHandle> logins = new ArrayList<>();
+		try {
+			transactionTemplate.executeWithoutResult(status -> write(auditRecord, logins));
+		} catch (RuntimeException e) {
+			logins.forEach(handle -> handle.setSessionAuditId(null));
+			LOGGER.error("Unable to log user {} in the session_audit table", auditRecord.logout ? "logout" : "login", e);
+		}
+	}
+
+	/**
+	 * @param logins collects the handles whose id is set by this call, to reset them if the transaction rolls back
+	 */
+	private void write(AuditRecord auditRecord, List<SessionAuditHandle> logins) {
+		SessionAuditHandle handle = auditRecord.handle;
+		try {
+			if (!auditRecord.logout) {
+				handle.setSessionAuditId(sessionAuditManager.newSessionAudit(new SessionAudit(handle.getUserName(), handle.getLoginDate(), null)));
+				logins.add(handle);
+				return;
+			}
+			if (handle.getSessionAuditId() == null) {
+				LOGGER.error("Unable to log user logout, the login of {} has not been recorded in the session_audit table.", handle.getUserName());
+				return;
+			}
+			Optional<SessionAudit> sessionAudit = sessionAuditManager.getSessionAudit(handle.getSessionAuditId());
+			if (sessionAudit.isPresent()) {
+				sessionAudit.get().setLogoutDate(auditRecord.date);
+				sessionAuditManager.updateSessionAudit(sessionAudit.get());
+			}
+		} catch (OHServiceException e) {
+			LOGGER.error("Unable to log user {} in the session_audit table", auditRecord.logout ? "logout" : "login");
+		}
+	}
+
+	private static final class AuditRecord {
+
+		private final SessionAuditHandle handle;
+
+		private final boolean logout;
+
+		private final LocalDateTime date = LocalDateTime.now();
+
+		private AuditRecord(SessionAuditHandle handle, boolean logout) {
+			this.handle = handle;
+			this.logout = logout;
+		}
+	}
+}
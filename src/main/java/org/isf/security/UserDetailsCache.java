@@ -0,0 +1,235 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded, time limited cache of the users loaded by {@link UserDetailsServiceImpl}, so that logins, token refreshes and
+ * {@code TokenProvider.getAuthenticationByUsername} do not hit the database every time.
+ * <p>
+ * Entries are evicted by the controllers changing users, user groups or group permissions, so that changes take effect
+ * immediately. Each eviction starts a new {@link #generation() generation}: a user loaded before an eviction is not cached,
+ * as it may have been read before the change. Hits, misses, evictions and size are published as {@code cache.*} meters with tag {@code cache=userDetails}.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+	private static final String CACHE_NAME = "userDetails";
+
+	private final int maxSize;
+
+	private final long ttlInMilliseconds;
+
+	private final Map<String, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	// guarded by entries
+	private long generation;
+
+	public UserDetailsCache(
+		@Value("${security.userdetails.cache.maxSize:1000}") int maxSize,
+		@Value("${security.userdetails.cache.ttlInSeconds:300}") long ttlInSeconds
+	) {
+		this.maxSize = maxSize;
+		this.ttlInMilliseconds = ttlInSeconds * 1000;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				if (size() > UserDetailsCache.this.maxSize) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0 && ttlInMilliseconds > 0;
+	}
+
+	/**
+	 * @param username the username
+	 * @return a new {@link UserDetails} built from the cached entry, or {@code null} if the user is not cached or the entry is stale
+	 */
+	public UserDetails get(String username) {
+		if (!isEnabled()) {
+			return null;
+		}
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(username);
+			if (entry != null && entry.isStale(ttlInMilliseconds)) {
+				entries.remove(username);
+				evictions.incrementAndGet();
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+		hits.incrementAndGet();
+		// a new instance each time: callers may erase the credentials of the returned object
+		return new User(entry.username, entry.password, true, true, true, true, entry.authorities);
+	}
+
+	/**
+	 * @return the current generation, to read before loading a user and to pass to {@link #put}
+	 */
+	public long generation() {
+		synchronized (entries) {
+			return generation;
+		}
+	}
+
+	/**
+	 * Caches a loaded user, unless an eviction happened since {@code loadedGeneration}.
+	 *
+	 * @param loadedGeneration the {@link #generation()} read before loading the user
+	 */
+	public void put(String username, String password, List< ? extends GrantedAuthority> authorities, String userGroupCode,
+					long loadedGeneration) {
+		if (!isEnabled()) {
+			return;
+		}
+		Entry entry = new Entry(username, password, List.copyOf(authorities), userGroupCode, System.currentTimeMillis());
+		synchronized (entries) {
+			if (generation == loadedGeneration) {
+				entries.put(username, entry);
+			}
+		}
+	}
+
+	public void evictUser(String username) {
+		synchronized (entries) {
+			generation++;
+			if (entries.remove(username) != null) {
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	public void evictUserGroup(String userGroupCode) {
+		synchronized (entries) {
+			generation++;
+			Iterator<Entry> iterator = entries.values().iterator();
+			while (iterator.hasNext()) {
+				// entries without a known group may belong to any group
+				String entryGroupCode = iterator.next().userGroupCode;
+				if (entryGroupCode == null || entryGroupCode.equals(userGroupCode)) {
+					iterator.remove();
+					evictions.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	public void evictAll() {
+		synchronized (entries) {
+			generation++;
+			evictions.addAndGet(entries.size());
+			entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("cache.gets", hits, AtomicLong::get)
+			.tags("cache", CACHE_NAME, "result", "hit")
+			.description("The number of times cache lookup methods have returned a cached value.")
+			.register(registry);
+		FunctionCounter.builder("cache.gets", misses, AtomicLong::get)
+			.tags("cache", CACHE_NAME, "result", "miss")
+			.description("The number of times cache lookup methods have not returned a value.")
+			.register(registry);
+		FunctionCounter.builder("cache.evictions", evictions, AtomicLong::get)
+			.tags("cache", CACHE_NAME)
+			.description("The number of entries evicted from the cache.")
+			.register(registry);
+		Gauge.builder("cache.size", this, UserDetailsCache::size)
+			.tags("cache", CACHE_NAME)
+			.description("The number of entries in the cache.")
+			.register(registry);
+	}
+
+	private static final class Entry {
+
+		private final String username;
+
+		private final String password;
+
+		private final List<GrantedAuthority> authorities;
+
+		private final String userGroupCode;
+
+		private final long loadedAt;
+
+		private Entry(String username, String password, List<GrantedAuthority> authorities, String userGroupCode, long loadedAt) {
+			this.username = username;
+			this.password = password;
+			this.authorities = authorities;
+			this.userGroupCode = userGroupCode;
+			this.loadedAt = loadedAt;
+		}
+
+		private boolean isStale(long ttlInMilliseconds) {
+			return System.currentTimeMillis() - loadedAt >= ttlInMilliseconds;
+		}
+	}
+}
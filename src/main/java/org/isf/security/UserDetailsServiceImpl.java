@@ -49,8 +49,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	@Autowired
 	protected PermissionManager permissionManager;
 
+	@Autowired
+	protected UserDetailsCache userDetailsCache;
+
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+		UserDetails cachedUserDetails = userDetailsCache.get(username);
+		if (cachedUserDetails != null) {
+			return cachedUserDetails;
+		}
+		long cacheGeneration = userDetailsCache.generation();
+
 		User user;
 		try {
 			user = manager.getUserByName(username);
@@ -81,6 +90,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 						 * boolean enabled, boolean accountNonExpired, boolean credentialsNonExpired, boolean accountNonLocked
 						 */
 						user.getUserName(), user.getPasswd(), true, true, true, true, authorities);
+
+		String userGroupCode = user.getUserGroupName() != null ? user.getUserGroupName().getCode() : null;
+		userDetailsCache.put(username, user.getPasswd(), authorities, userGroupCode, cacheGeneration);
 		return userDetails;
 	}
 
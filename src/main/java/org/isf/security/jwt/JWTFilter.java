@@ -58,7 +58,9 @@ public class JWTFilter extends GenericFilterBean {
 		String jwt = resolveToken(httpServletRequest);
 
 		if (StringUtils.hasText(jwt)) {
-			TokenValidationResult validationResult = this.tokenProvider.validateToken(jwt);
+			// parse and verify the token only once, the result feeds the expiration check and the authentication
+			VerifiedToken verifiedToken = this.tokenProvider.verifyToken(jwt);
+			TokenValidationResult validationResult = verifiedToken != null ? verifiedToken.getResult() : null;
 
 			if (validationResult == null) {
 				sendErrorResponse(httpServletResponse, HttpServletResponse.SC_BAD_REQUEST, "Unknown token validation result.");
@@ -67,8 +69,8 @@ public class JWTFilter extends GenericFilterBean {
 
 			switch (validationResult) {
 			case VALID:
-				if (!this.tokenProvider.isTokenExpired(jwt)) {
-					Authentication authentication = this.tokenProvider.getAuthentication(jwt);
+				if (!verifiedToken.isExpired()) {
+					Authentication authentication = this.tokenProvider.getAuthentication(verifiedToken, jwt);
 					SecurityContextHolder.getContext().setAuthentication(authentication);
 				} else {
 					sendErrorResponse(httpServletResponse, HttpServletResponse.SC_UNAUTHORIZED, "JWT token is expired.");
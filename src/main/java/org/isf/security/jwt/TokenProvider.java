@@ -24,23 +24,26 @@ package org.isf.security.jwt;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 
+import org.isf.security.PermissionAuthenticationToken;
+import org.isf.security.PermissionRegistry;
+import org.isf.security.PermissionSet;
 import org.isf.security.UserDetailsServiceImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -54,6 +57,9 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 
 @Component
 public class TokenProvider implements Serializable {
@@ -73,9 +79,21 @@ public class TokenProvider implements Serializable {
 
 	private JwtParser jwtParser;
 
+	private VerifiedTokenCache verifiedTokenCache;
+
 	@Autowired
 	private UserDetailsServiceImpl userDetailsService;
 
+	@Autowired
+	private PermissionRegistry permissionRegistry;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private Timer cachedValidationTimer;
+
+	private Timer parsedValidationTimer;
+
 	@PostConstruct
 	public void init() {
 		String secret = env.getProperty("jwt.token.secret");
@@ -94,6 +112,16 @@ public class TokenProvider implements Serializable {
 		LOGGER.debug("Setting token validity - tokenValidityInMilliseconds: {}, tokenValidityInMillisecondsForRememberMe: {}", this.tokenValidityInMilliseconds, this.tokenValidityInMillisecondsForRememberMe);
 
 		this.jwtParser = Jwts.parserBuilder().setSigningKey(this.key).build();
+
+		// 0 disables the cache and every request goes through the signature check
+		int verifiedTokenCacheSize = env.getProperty("jwt.token.cache.maxSize", Integer.class, 10000);
+		this.verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheSize);
+
+		MeterRegistry registry = meterRegistry != null
+			? meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+			: Metrics.globalRegistry;
+		this.cachedValidationTimer = Timer.builder("oh.jwt.validation").tag("cache", "hit").register(registry);
+		this.parsedValidationTimer = Timer.builder("oh.jwt.validation").tag("cache", "miss").register(registry);
 	}
 
 	public long getTokenValidityInMillisecondsForRememberMe() {
@@ -102,6 +130,10 @@ public class TokenProvider implements Serializable {
 
 	public void setJwtParser(JwtParser jwtParser) {
 		this.jwtParser = jwtParser;
+		if (this.verifiedTokenCache != null) {
+			// tokens verified by the previous parser must be checked again
+			this.verifiedTokenCache.clear();
+		}
 	}
 
 	public String getUsernameFromToken(String token) {
@@ -166,23 +198,25 @@ public class TokenProvider implements Serializable {
 
 	public Authentication getAuthentication(String token) {
 		final Claims claims = getAllClaimsFromToken(token);
+		return getAuthentication(VerifiedToken.fromClaims(claims, AUTHORITIES_KEY, permissionRegistry), token);
+	}
 
+	public Authentication getAuthentication(VerifiedToken verifiedToken, String token) {
 		/*
 		 * claims.get(AUTHORITIES_KEY) cannot be null, at least an empty string Left for security but not testable
 		 */
-		String authoritiesClaim = claims.get(AUTHORITIES_KEY) != null ? claims.get(AUTHORITIES_KEY).toString() : "";
-		if (authoritiesClaim.isEmpty()) {
+		if (verifiedToken.getAuthorities().isEmpty()) {
 			LOGGER.error("JWT token does not contain any authorities");
 			throw new IllegalArgumentException("JWT token does not contain authorities.");
 		}
 
-		final Collection< ? extends GrantedAuthority> authorities = Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-			.map(SimpleGrantedAuthority::new)
-			.collect(Collectors.toList());
+		final Collection< ? extends GrantedAuthority> authorities = verifiedToken.getAuthorities();
 
-		User principal = new User(claims.getSubject(), "", authorities);
+		User principal = new User(verifiedToken.getSubject(), "", authorities);
 
-		return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+		PermissionSet permissions = verifiedToken.getPermissions() != null ? verifiedToken.getPermissions()
+						: permissionRegistry.toPermissionSet(authorities);
+		return new PermissionAuthenticationToken(principal, token, authorities, permissions);
 	}
 
 	public Authentication getAuthenticationByUsername(String username) {
@@ -191,33 +225,57 @@ public class TokenProvider implements Serializable {
 	}
 
 	public TokenValidationResult validateToken(String token) {
+		return verifyToken(token).getResult();
+	}
+
+	/**
+	 * Parses and verifies the token once. Valid tokens are kept in a bounded cache until their expiration, so repeated
+	 * requests carrying the same bearer token skip the signature check.
+	 *
+	 * @param token the JWT token
+	 * @return the {@link VerifiedToken}, never {@code null}
+	 */
+	public VerifiedToken verifyToken(String token) {
+		long start = System.nanoTime();
+		VerifiedToken cached = verifiedTokenCache.get(token);
+		if (cached != null) {
+			cachedValidationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return cached;
+		}
+		VerifiedToken verifiedToken = parseToken(token);
+		verifiedTokenCache.put(token, verifiedToken);
+		parsedValidationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return verifiedToken;
+	}
+
+	private VerifiedToken parseToken(String token) {
 		try {
-			Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+			Claims claims = this.jwtParser.parseClaimsJws(token).getBody();
 			/*
 			 * If claims.getSubject() not null for sure is not empy. Left here for security but not testable
 			 */
 			if (claims.getSubject() == null || claims.getSubject().isEmpty()) {
 				throw new IllegalArgumentException("JWT claims string is empty.");
 			}
-			return TokenValidationResult.VALID;
+			return VerifiedToken.fromClaims(claims, AUTHORITIES_KEY, permissionRegistry);
 		} catch (MalformedJwtException e) {
 			LOGGER.error("Invalid JWT token: {}", e.getMessage());
-			return TokenValidationResult.MALFORMED;
+			return VerifiedToken.rejected(TokenValidationResult.MALFORMED);
 		} catch (ExpiredJwtException e) {
 			LOGGER.error("JWT token is expired: {}", e.getMessage());
-			return TokenValidationResult.EXPIRED;
+			return VerifiedToken.rejected(TokenValidationResult.EXPIRED);
 		} catch (UnsupportedJwtException e) {
 			LOGGER.error("JWT token is unsupported: {}", e.getMessage());
-			return TokenValidationResult.UNSUPPORTED;
+			return VerifiedToken.rejected(TokenValidationResult.UNSUPPORTED);
 		} catch (IllegalArgumentException e) {
 			LOGGER.error("JWT claims string is empty: {}", e.getMessage());
-			return TokenValidationResult.EMPTY_CLAIMS;
+			return VerifiedToken.rejected(TokenValidationResult.EMPTY_CLAIMS);
 		} catch (SignatureException e) {
 			LOGGER.error("JWT signature does not match locally computed signature: {}", e.getMessage());
-			return TokenValidationResult.INVALID_SIGNATURE;
+			return VerifiedToken.rejected(TokenValidationResult.INVALID_SIGNATURE);
 		} catch (Exception e) {
 			LOGGER.error("An unexpected error occurred while validating JWT token: {}", e.getMessage());
-			return TokenValidationResult.UNKNOWN;
+			return VerifiedToken.rejected(TokenValidationResult.UNKNOWN);
 		}
 	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security.jwt;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.isf.security.PermissionRegistry;
+import org.isf.security.PermissionSet;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Immutable outcome of a single JWT parse: the validation result and, for valid tokens, the claims needed downstream
+ * (subject, authorities, compiled permissions and expiration), so that the token signature is verified only once per request.
+ */
+public final class VerifiedToken {
+
+	private final TokenValidationResult result;
+
+	private final String subject;
+
+	private final List<GrantedAuthority> authorities;
+
+	private final PermissionSet permissions;
+
+	private final long expirationMillis;
+
+	public VerifiedToken(String subject, List< ? extends GrantedAuthority> authorities, Date expiration) {
+		this(TokenValidationResult.VALID, subject, authorities, null, expiration);
+	}
+
+	public VerifiedToken(String subject, List< ? extends GrantedAuthority> authorities, PermissionSet permissions, Date expiration) {
+		this(TokenValidationResult.VALID, subject, authorities, permissions, expiration);
+	}
+
+	private VerifiedToken(TokenValidationResult result, String subject, List< ? extends GrantedAuthority> authorities, PermissionSet permissions,
+					Date expiration) {
+		this.result = result;
+		this.subject = subject;
+		this.authorities = Collections.unmodifiableList(authorities);
+		this.permissions = permissions;
+		// a token without "exp" claim never expires (same behaviour as TokenProvider.isTokenExpired)
+		this.expirationMillis = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+	}
+
+	public static VerifiedToken rejected(TokenValidationResult result) {
+		return new VerifiedToken(result, null, List.of(), null, null);
+	}
+
+	static VerifiedToken fromClaims(Claims claims, String authoritiesKey, PermissionRegistry permissionRegistry) {
+		Object authoritiesClaim = claims.get(authoritiesKey);
+		List<GrantedAuthority> authorities = List.of();
+		if (authoritiesClaim != null && !authoritiesClaim.toString().isEmpty()) {
+			authorities = Arrays.stream(authoritiesClaim.toString().split(","))
+				.map(SimpleGrantedAuthority::new)
+				.collect(Collectors.toList());
+		}
+		return new VerifiedToken(claims.getSubject(), authorities, permissionRegistry.toPermissionSet(authorities), claims.getExpiration());
+	}
+
+	public TokenValidationResult getResult() {
+		return result;
+	}
+
+	public boolean isValid() {
+		return result == TokenValidationResult.VALID;
+	}
+
+	public String getSubject() {
+		return subject;
+	}
+
+	public List<GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	/**
+	 * @return the authorities as a {@link PermissionSet}, or {@code null} if they have not been compiled
+	 */
+	public PermissionSet getPermissions() {
+		return permissions;
+	}
+
+	public long getExpirationMillis() {
+		return expirationMillis;
+	}
+
+	public boolean isExpired() {
+		return expirationMillis < System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of successfully verified tokens, keyed by the SHA-256 hash of the token (the raw bearer token is never
+ * stored). An entry is served only until the token {@code exp} claim passes, after that it is dropped and the token goes
+ * through the full signature check again (which will report it as expired).
+ */
+public class VerifiedTokenCache {
+
+	private final int maxSize;
+
+	private final Map<String, VerifiedToken> entries;
+
+	public VerifiedTokenCache(int maxSize) {
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+				return size() > VerifiedTokenCache.this.maxSize;
+			}
+		};
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0;
+	}
+
+	public VerifiedToken get(String token) {
+		if (!isEnabled()) {
+			return null;
+		}
+		String key = hash(token);
+		synchronized (entries) {
+			VerifiedToken verifiedToken = entries.get(key);
+			if (verifiedToken != null && verifiedToken.isExpired()) {
+				entries.remove(key);
+				return null;
+			}
+			return verifiedToken;
+		}
+	}
+
+	public void put(String token, VerifiedToken verifiedToken) {
+		if (!isEnabled() || !verifiedToken.isValid() || verifiedToken.isExpired()) {
+			return;
+		}
+		String key = hash(token);
+		synchronized (entries) {
+			entries.put(key, verifiedToken);
+		}
+	}
+
+	public void clear() {
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private static String hash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is mandatory on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+}
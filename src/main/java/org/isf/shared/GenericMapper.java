@@ -23,15 +23,25 @@ package org.isf.shared;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.isf.patient.dto.PatientDTO;
 import org.isf.patient.dto.PatientSTATUS;
 import org.isf.patient.model.Patient;
+import org.isf.shared.export.MappedListView;
+import org.isf.shared.mapper.MappingBackend;
+import org.isf.shared.mapper.ParallelMapping;
 import org.isf.shared.pagination.PageInfoDTO;
 import org.isf.utils.pagination.PageInfo;
 import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 public class GenericMapper<SourceType, DestType> implements Mapper<SourceType, DestType> {
 
@@ -39,30 +49,151 @@ public class GenericMapper<SourceType, DestType> implements Mapper<SourceType, D
 	protected ModelMapper modelMapper;
 	private Type sourceClass;
 	private Type destClass;
+	private TypeMap<SourceType, DestType> dtoTypeMap;
+	private TypeMap<DestType, SourceType> modelTypeMap;
+	private MappingBackend<SourceType, DestType> backend;
+	private int parallelThreshold = Integer.MAX_VALUE;
+	private int parallelChunkSize = 500;
+	private Timer dtoTimer;
+	private Timer dtoListTimer;
+	private DistributionSummary dtoListSizes;
 
 	public GenericMapper(Class<SourceType> sourceClass, Class<DestType> destClass) {
 		this.sourceClass = sourceClass;
 		this.destClass = destClass;
 	}
 
+	/**
+	 * Records the entity to DTO mappings into the {@code oh.mapper} timer and the size of the mapped lists into the
+	 * {@code oh.mapper.elements} summary, both tagged with the mapper. Without a registry (mappers created outside of
+	 * Spring) nothing is recorded.
+	 */
+	@Autowired(required = false)
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		String mapper = getClass().getSimpleName();
+		this.dtoTimer = Timer.builder("oh.mapper").tag("mapper", mapper).tag("method", "map2DTO").register(meterRegistry);
+		this.dtoListTimer = Timer.builder("oh.mapper").tag("mapper", mapper).tag("method", "map2DTOList").register(meterRegistry);
+		this.dtoListSizes = DistributionSummary.builder("oh.mapper.elements").tag("mapper", mapper).baseUnit("elements")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Opts this mapper into a compile-time generated {@link MappingBackend}, used instead of the {@link ModelMapper} for
+	 * all the conversions (except {@link #map2DTOWS(Patient, Boolean)}). The backend must produce the same DTOs as the
+	 * {@link ModelMapper}, see {@code GeneratedMapperParityTest}.
+	 *
+	 * @param backend the generated mapper, usually obtained with {@code org.mapstruct.factory.Mappers.getMapper(...)}
+	 */
+	protected void useBackend(MappingBackend<SourceType, DestType> backend) {
+		this.backend = backend;
+	}
+
+	/**
+	 * Builds (or retrieves) the {@link TypeMap}s for both mapping directions, so that implicit property matching and its
+	 * configuration errors happen once instead of on the first request. Called at startup by
+	 * {@link org.isf.shared.mapper.TypeMapInitializer}; until then the mapper resolves the type maps through the
+	 * {@link ModelMapper} on every call.
+	 *
+	 * @return the type maps, entity to DTO first
+	 */
+	@SuppressWarnings("unchecked")
+	public List<TypeMap<?, ?>> compileTypeMaps() {
+		if (backend != null) {
+			return List.of();
+		}
+		dtoTypeMap = modelMapper.typeMap((Class<SourceType>) sourceClass, (Class<DestType>) destClass);
+		modelTypeMap = modelMapper.typeMap((Class<DestType>) destClass, (Class<SourceType>) sourceClass);
+		return List.of(dtoTypeMap, modelTypeMap);
+	}
+
 	@Override
 	public DestType map2DTO(SourceType fromObj) {
-		return modelMapper.map(fromObj, destClass);
+		if (dtoTimer == null) {
+			return toDTO(fromObj);
+		}
+		return dtoTimer.record(() -> toDTO(fromObj));
 	}
 
 	@Override
 	public SourceType map2Model(DestType toObj) {
-		return modelMapper.map(toObj, sourceClass);
+		return toModel(toObj);
+	}
+
+	/**
+	 * Lists with at least {@code threshold} elements are mapped in chunks of {@code mapper.parallel.chunkSize} elements on the
+	 * common fork-join pool (see {@link ParallelMapping}); smaller ones are mapped sequentially.
+	 *
+	 * @param threshold the minimum size of a list mapped in parallel, {@code 0} or less to always map sequentially
+	 */
+	@Value("${mapper.parallel.threshold:2000}")
+	public void setParallelThreshold(int threshold) {
+		this.parallelThreshold = threshold > 0 ? threshold : Integer.MAX_VALUE;
+	}
+
+	@Value("${mapper.parallel.chunkSize:500}")
+	public void setParallelChunkSize(int chunkSize) {
+		this.parallelChunkSize = chunkSize;
 	}
 
 	@Override
 	public List<DestType> map2DTOList(List<SourceType> list) {
-		return (List<DestType>) list.stream().map(it -> modelMapper.map(it, destClass)).collect(Collectors.toList());
+		return mapDTOList(list, it -> toDTO(it));
 	}
 
 	@Override
 	public List<SourceType> map2ModelList(List<DestType> list) {
-		return (List<SourceType>) list.stream().map(it -> modelMapper.map(it, sourceClass)).collect(Collectors.toList());
+		return mapList(list, it -> toModel(it));
+	}
+
+	/**
+	 * Returns a view of {@code list} mapping each element with {@link #map2DTO(Object)} when it is read, for the endpoints
+	 * streaming large results (see {@link MappedListView}).
+	 */
+	public List<DestType> map2DTOView(List<SourceType> list) {
+		return new MappedListView<>(list, it -> map2DTO(it));
+	}
+
+	/**
+	 * Maps every element of {@code list} to its DTO with {@link #mapList(List, Function)}, recorded into the
+	 * {@code oh.mapper} metrics: the subclasses overriding {@link #map2DTOList(List)} map through it too.
+	 */
+	protected List<DestType> mapDTOList(List<SourceType> list, Function<SourceType, DestType> mapping) {
+		if (dtoListTimer == null) {
+			return mapList(list, mapping);
+		}
+		dtoListSizes.record(list.size());
+		return dtoListTimer.record(() -> mapList(list, mapping));
+	}
+
+	/**
+	 * Maps every element of {@code list}, in parallel when the list reaches the configured threshold. The result keeps the
+	 * order of {@code list}; {@code mapping} must be thread-safe.
+	 */
+	protected <F, T> List<T> mapList(List<F> list, Function<F, T> mapping) {
+		if (list.size() >= parallelThreshold) {
+			return ParallelMapping.map(list, mapping, parallelChunkSize);
+		}
+		return list.stream().map(mapping).collect(Collectors.toList());
+	}
+
+	private DestType toDTO(SourceType fromObj) {
+		if (backend != null) {
+			return backend.map2DTO(fromObj);
+		}
+		if (dtoTypeMap == null || fromObj == null) {
+			return modelMapper.map(fromObj, destClass);
+		}
+		return dtoTypeMap.map(fromObj);
+	}
+
+	private SourceType toModel(DestType toObj) {
+		if (backend != null) {
+			return backend.map2Model(toObj);
+		}
+		if (modelTypeMap == null || toObj == null) {
+			return modelMapper.map(toObj, sourceClass);
+		}
+		return modelTypeMap.map(toObj);
 	}
 
 	@Override
@@ -0,0 +1,149 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.concurrency;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * With virtual threads ({@code spring.threads.virtual.enabled}), where the number of requests in progress is no longer
+ * bounded by the Tomcat thread pool, lets at most {@code db.concurrency.maxRequests} requests run at the same time, by
+ * default as many as the connections of the pool ({@code spring.datasource.hikari.maximum-pool-size}). The others wait
+ * here, in order, for at most {@code db.concurrency.acquireTimeoutInMillis} and are then answered 503 with a
+ * {@code Retry-After}, instead of piling up on the connection pool.
+ * <p>
+ * A permit is held for the whole request, including the ones answered 304 and the long downloads and exports, so the
+ * limit can be raised, or removed with {@code 0}; it is not applied at all on platform threads. The filter runs after the
+ * security filters: rejected authentications do not take a permit. Active and waiting requests and rejections are published as
+ * {@code db.concurrency.*} meters.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DatabaseConcurrencyFilter extends OncePerRequestFilter implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseConcurrencyFilter.class);
+
+	private final Semaphore permits;
+
+	private final int maxRequests;
+
+	private final long acquireTimeoutInMillis;
+
+	private final int retryAfterSeconds;
+
+	private Counter rejections;
+
+	@Autowired
+	public DatabaseConcurrencyFilter(
+		@Value("${db.concurrency.maxRequests:}") Integer maxRequests,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+		@Value("${db.concurrency.acquireTimeoutInMillis:5000}") long acquireTimeoutInMillis,
+		@Value("${db.concurrency.retryAfterInSeconds:1}") int retryAfterSeconds
+	) {
+		this(maxRequests != null ? maxRequests : maximumPoolSize, acquireTimeoutInMillis, retryAfterSeconds);
+		if (this.maxRequests > 0) {
+			LOGGER.info("Virtual threads: at most {} requests run at the same time.", this.maxRequests);
+		} else {
+			LOGGER.warn("Virtual threads without db.concurrency.maxRequests: the requests are not limited and can exhaust the connection pool.");
+		}
+	}
+
+	public DatabaseConcurrencyFilter(int maxRequests, long acquireTimeoutInMillis, int retryAfterSeconds) {
+		this.maxRequests = maxRequests;
+		this.permits = maxRequests > 0 ? new Semaphore(maxRequests, true) : null;
+		this.acquireTimeoutInMillis = acquireTimeoutInMillis;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String path = request.getServletPath();
+		return permits == null || path.equals("/") || path.equals("/healthcheck") || path.startsWith("/metrics/")
+			|| path.startsWith("/swagger-ui/") || path.startsWith("/v3/api-docs");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutInMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			if (rejections != null) {
+				rejections.increment();
+			}
+			response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+			response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+			response.setContentType("application/json");
+			response.getWriter().write("{\"error\": \"Too many requests in progress, retry later.\"}");
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			permits.release();
+		}
+	}
+
+	public int getMaxRequests() {
+		return maxRequests;
+	}
+
+	public int getActiveRequests() {
+		return permits != null ? maxRequests - permits.availablePermits() : 0;
+	}
+
+	public int getWaitingRequests() {
+		return permits != null ? permits.getQueueLength() : 0;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("db.concurrency.active", this, DatabaseConcurrencyFilter::getActiveRequests).register(registry);
+		Gauge.builder("db.concurrency.waiting", this, DatabaseConcurrencyFilter::getWaitingRequests).register(registry);
+		rejections = Counter.builder("db.concurrency.rejections").register(registry);
+	}
+}
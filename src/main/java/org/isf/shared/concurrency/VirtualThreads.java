@@ -0,0 +1,57 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.concurrency;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual threads when the runtime supports them (Java 21 or later). The API is compiled for Java 17, so the
+ * {@code Thread.ofVirtual()} builder is looked up reflectively.
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads() {
+	}
+
+	/**
+	 * @return whether the runtime can create virtual threads
+	 */
+	public static boolean isSupported() {
+		return factory("probe-") != null;
+	}
+
+	/**
+	 * @param prefix the prefix of the names of the threads, followed by a counter
+	 * @return a factory of virtual threads, {@code null} if the runtime does not support them
+	 */
+	public static ThreadFactory factory(String prefix) {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class< ? > builderType = Class.forName("java.lang.Thread$Builder");
+			Method name = builderType.getMethod("name", String.class, long.class);
+			return (ThreadFactory) builderType.getMethod("factory").invoke(name.invoke(builder, prefix, 1L));
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+}
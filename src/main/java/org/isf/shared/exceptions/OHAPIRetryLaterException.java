@@ -0,0 +1,46 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.exceptions;
+
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.springframework.http.HttpStatus;
+
+/**
+ * {@link OHAPIException} for a temporary condition: the response carries a {@code Retry-After} header.
+ */
+public class OHAPIRetryLaterException extends OHAPIException {
+
+    private final int retryAfterSeconds;
+
+    public OHAPIRetryLaterException(OHExceptionMessage message, int retryAfterSeconds) {
+        this(message, HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds);
+    }
+
+    public OHAPIRetryLaterException(OHExceptionMessage message, HttpStatus status, int retryAfterSeconds) {
+        super(message, status);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+	public int getRetryAfterSeconds() {
+		return this.retryAfterSeconds;
+	}
+}
@@ -34,6 +34,7 @@ import org.isf.utils.exception.OHReportException;
 import org.isf.utils.exception.OHServiceException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -94,6 +95,14 @@ public class OHResponseEntityExceptionHandler extends ResponseEntityExceptionHan
         return buildResponseEntity(new OHAPIError(ex.getStatus(), ex));
     }
 
+    @ExceptionHandler(value = {OHAPIRetryLaterException.class})
+    protected ResponseEntity<Object> handleOHAPIRetryLaterException(OHAPIRetryLaterException ex) {
+        OHAPIError apiError = new OHAPIError(ex.getStatus(), ex);
+        return ResponseEntity.status(apiError.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(apiError);
+    }
+
     private ResponseEntity<Object> buildResponseEntity(OHAPIError apiError) {
         return new ResponseEntity<>(apiError, apiError.getStatus());
     }
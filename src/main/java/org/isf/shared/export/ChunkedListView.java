@@ -0,0 +1,76 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a list of entities that maps them to their DTOs chunk by chunk when they are read, keeping only the
+ * current chunk.
+ * <p>
+ * Used instead of {@link MappedListView} when the mapping of a list costs a query (the rows of the laboratory exams...): the
+ * query then runs once per chunk rather than once per element or once for the whole list. Reading the elements in order maps
+ * each chunk once.
+ *
+ * @param <S> the entity type
+ * @param <D> the DTO type
+ */
+public class ChunkedListView<S, D> extends AbstractList<D> implements RandomAccess {
+
+	private final List<S> source;
+
+	private final Function<List<S>, List<D>> mapping;
+
+	private final int chunkSize;
+
+	private int chunkStart;
+
+	private List<D> chunk = List.of();
+
+	/**
+	 * @param mapping maps a chunk of the source to as many DTOs, in the same order
+	 */
+	public ChunkedListView(List<S> source, Function<List<S>, List<D>> mapping, int chunkSize) {
+		this.source = source;
+		this.mapping = mapping;
+		this.chunkSize = Math.max(1, chunkSize);
+	}
+
+	@Override
+	public D get(int index) {
+		Objects.checkIndex(index, source.size());
+		if (index < chunkStart || index >= chunkStart + chunk.size()) {
+			chunkStart = index - index % chunkSize;
+			chunk = mapping.apply(source.subList(chunkStart, Math.min(chunkStart + chunkSize, source.size())));
+		}
+		return chunk.get(index - chunkStart);
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * Writes a collection of DTOs as CSV ({@code text/csv}), one row per element, streaming each row to the response.
+ * <p>
+ * The columns are the JSON properties of the element type, nested DTOs being flattened with dotted names
+ * ({@code medical.description}); collections are written as their JSON text. The header is derived from the declared element
+ * type, so it is the same whatever the content of the rows.
+ */
+@Component
+public class CsvHttpMessageConverter extends AbstractGenericHttpMessageConverter<Collection<?>> {
+
+	public static final String TEXT_CSV_VALUE = "text/csv";
+
+	public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+	private static final int MAX_NESTING = 3;
+
+	private final ObjectMapper objectMapper;
+
+	private final Map<Type, List<String>> columnsByType = new ConcurrentHashMap<>();
+
+	public CsvHttpMessageConverter(ObjectMapper objectMapper) {
+		super(TEXT_CSV);
+		setDefaultCharset(StandardCharsets.UTF_8);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return Collection.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected void writeInternal(Collection<?> elements, Type type, HttpOutputMessage outputMessage) throws IOException {
+		List<String> columns = columnsByType.computeIfAbsent(elementType(type, elements), this::columnsOf);
+		List<JsonPointer> pointers = columns.stream().map(column -> JsonPointer.compile('/' + column.replace('.', '/'))).toList();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody(), StandardCharsets.UTF_8));
+		writeRow(writer, columns);
+		List<String> values = new ArrayList<>(columns.size());
+		for (Object element : elements) {
+			JsonNode node = objectMapper.valueToTree(element);
+			values.clear();
+			for (JsonPointer pointer : pointers) {
+				values.add(text(node.at(pointer)));
+			}
+			writeRow(writer, values);
+		}
+		writer.flush();
+	}
+
+	@Override
+	protected Collection<?> readInternal(Class<? extends Collection<?>> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("CSV request bodies are not supported", inputMessage);
+	}
+
+	@Override
+	public Collection<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("CSV request bodies are not supported", inputMessage);
+	}
+
+	private static Type elementType(Type type, Collection<?> elements) {
+		Class<?> elementClass = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+		if (elementClass == null && !elements.isEmpty()) {
+			elementClass = elements.iterator().next().getClass();
+		}
+		return elementClass != null ? elementClass : Object.class;
+	}
+
+	private List<String> columnsOf(Type elementType) {
+		List<String> columns = new ArrayList<>();
+		JavaType javaType = objectMapper.constructType(elementType);
+		if (isNested(javaType)) {
+			collectColumns(javaType, "", 0, columns);
+		}
+		return columns;
+	}
+
+	private void collectColumns(JavaType type, String prefix, int depth, List<String> columns) {
+		BeanDescription description = objectMapper.getSerializationConfig().introspect(type);
+		for (BeanPropertyDefinition property : description.findProperties()) {
+			if (!property.couldSerialize()) {
+				continue;
+			}
+			String name = prefix + property.getName();
+			JavaType propertyType = property.getPrimaryType();
+			if (depth < MAX_NESTING && isNested(propertyType)) {
+				collectColumns(propertyType, name + '.', depth + 1, columns);
+			} else {
+				columns.add(name);
+			}
+		}
+	}
+
+	// the application DTOs, not the JDK types (String, numbers, dates...), nor containers and enums
+	private static boolean isNested(JavaType type) {
+		return !type.isContainerType() && !type.isArrayType() && !type.isEnumType() && !type.isPrimitive()
+						&& !type.getRawClass().getName().startsWith("java.");
+	}
+
+	private static String text(JsonNode value) {
+		if (value.isMissingNode() || value.isNull()) {
+			return "";
+		}
+		return value.isContainerNode() ? value.toString() : value.asText();
+	}
+
+	private static void writeRow(Writer writer, List<String> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(escape(values.get(i)));
+		}
+		writer.write("\r\n");
+	}
+
+	// RFC 4180 quoting
+	private static String escape(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a list of entities that maps each element to its DTO when it is read, without keeping the result.
+ * <p>
+ * Returned by the export endpoints so that the message converters (JSON, {@link NdjsonHttpMessageConverter},
+ * {@link CsvHttpMessageConverter}) serialize the DTOs one by one: only the current DTO is alive instead of the whole DTO
+ * list. Every {@link #get(int)} maps again, so the view is meant to be iterated once.
+ *
+ * @param <S> the entity type
+ * @param <D> the DTO type
+ */
+public class MappedListView<S, D> extends AbstractList<D> implements RandomAccess {
+
+	private final List<S> source;
+
+	private final Function<? super S, ? extends D> mapping;
+
+	public MappedListView(List<S> source, Function<? super S, ? extends D> mapping) {
+		this.source = source;
+		this.mapping = mapping;
+	}
+
+	@Override
+	public D get(int index) {
+		return mapping.apply(source.get(index));
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes a collection of DTOs as newline-delimited JSON ({@code application/x-ndjson}), one element per line, streaming each
+ * element to the response as soon as it is serialized.
+ */
+@Component
+public class NdjsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Collection<?>> {
+
+	private final ObjectMapper objectMapper;
+
+	public NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+		super(MediaType.APPLICATION_NDJSON);
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return Collection.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected void writeInternal(Collection<?> elements, Type type, HttpOutputMessage outputMessage) throws IOException {
+		// the servlet container flushes its buffer when full, flushing after every element would send tiny chunks
+		ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			for (Object element : elements) {
+				writer.writeValue(generator, element);
+				generator.writeRaw('\n');
+			}
+		}
+	}
+
+	@Override
+	protected Collection<?> readInternal(Class<? extends Collection<?>> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("NDJSON request bodies are not supported", inputMessage);
+	}
+
+	@Override
+	public Collection<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("NDJSON request bodies are not supported", inputMessage);
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Makes writes safe to retry: the result of a write sent with an {@value #HEADER} header is kept for
+ * {@code idempotency.ttlInSeconds}, and a request repeating the key (same user, same endpoint) gets that result back
+ * instead of writing again. A repeat arriving while the first request is still running waits for its result.
+ * <p>
+ * The key is bound to the request it was first sent with: a repeat with a different body is rejected with
+ * {@code 422 Unprocessable Entity}, rather than answered with the result of another write.
+ * <p>
+ * A failed write is forgotten, so that it can be retried with the same key. Keys are kept in memory only: they do not
+ * survive a restart and are not shared between instances.
+ */
+@Component
+public class IdempotencyCache {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	/**
+	 * Serializes the requests to fingerprint with a stable property order, whatever the order of the JSON received.
+	 */
+	private static final ObjectMapper FINGERPRINT_MAPPER = JsonMapper.builder()
+		.findAndAddModules()
+		.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+		.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+		.build();
+
+	private final int maxSize;
+
+	private final long ttlInMilliseconds;
+
+	private final Map<String, Entry> entries;
+
+	public IdempotencyCache(
+		@Value("${idempotency.maxSize:10000}") int maxSize,
+		@Value("${idempotency.ttlInSeconds:86400}") long ttlInSeconds
+	) {
+		this.maxSize = maxSize;
+		this.ttlInMilliseconds = ttlInSeconds * 1000;
+		this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > IdempotencyCache.this.maxSize;
+			}
+		};
+	}
+
+	public boolean isEnabled() {
+		return maxSize > 0 && ttlInMilliseconds > 0;
+	}
+
+	/**
+	 * Runs {@code write} once per {@code key}.
+	 *
+	 * @param scope the endpoint, e.g. {@code "POST /opds/rows"}
+	 * @param key the value of the {@value #HEADER} header, {@code null} or blank to always write
+	 * @param request the body of the request, compared with the one first sent with this key
+	 * @param write the write, returning the response
+	 * @return the result of {@code write}, now or when first run with this key
+	 * @throws OHServiceException the failure of {@code write}, or {@code 422} if {@code key} was first sent with another body
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String scope, String key, Object request, Write<T> write) throws OHServiceException {
+		if (!isEnabled() || key == null || key.isBlank()) {
+			return write.run();
+		}
+		String id = currentUser() + ' ' + scope + ' ' + key;
+		String fingerprint = fingerprint(request);
+		Entry entry;
+		boolean first = false;
+		synchronized (entries) {
+			entry = entries.get(id);
+			if (entry == null || entry.isStale(ttlInMilliseconds)) {
+				entry = new Entry(fingerprint, System.currentTimeMillis());
+				entries.put(id, entry);
+				first = true;
+			}
+		}
+		if (!first) {
+			if (!entry.fingerprint.equals(fingerprint)) {
+				throw new OHAPIException(new OHExceptionMessage(HEADER + " already used with a different request."),
+								HttpStatus.UNPROCESSABLE_ENTITY);
+			}
+			return (T) await(entry.result);
+		}
+
+		try {
+			T result = write.run();
+			entry.result.complete(result);
+			return result;
+		} catch (OHServiceException | RuntimeException e) {
+			synchronized (entries) {
+				entries.remove(id, entry);
+			}
+			entry.result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private static Object await(CompletableFuture<Object> result) throws OHServiceException {
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof OHServiceException serviceException) {
+				throw serviceException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static String fingerprint(Object request) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(FINGERPRINT_MAPPER.writeValueAsBytes(request)));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is mandatory on every Java platform
+			throw new IllegalStateException(e);
+		} catch (JsonProcessingException e) {
+			// the request has just been deserialized from JSON
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication == null ? "" : authentication.getName();
+	}
+
+	/**
+	 * A write returning the response of the request.
+	 */
+	@FunctionalInterface
+	public interface Write<T> {
+
+		T run() throws OHServiceException;
+	}
+
+	private static final class Entry {
+
+		private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+		private final String fingerprint;
+
+		private final long createdAt;
+
+		private Entry(String fingerprint, long createdAt) {
+			this.fingerprint = fingerprint;
+			this.createdAt = createdAt;
+		}
+
+		private boolean isStale(long ttlInMilliseconds) {
+			return System.currentTimeMillis() - createdAt > ttlInMilliseconds;
+		}
+	}
+}
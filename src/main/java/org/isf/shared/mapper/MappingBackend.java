@@ -0,0 +1,39 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+/**
+ * A mapping implementation generated at compile time (by MapStruct) that a {@link org.isf.shared.GenericMapper} can use in
+ * place of the reflective {@link org.modelmapper.ModelMapper}.
+ * <p>
+ * Implementations are declared as {@code @org.mapstruct.Mapper(config = GeneratedMappingConfig.class)} interfaces extending
+ * this one, next to the {@code *Mapper} component that opts into them.
+ *
+ * @param <SourceType> the entity type
+ * @param <DestType> the DTO type
+ */
+public interface MappingBackend<SourceType, DestType> {
+
+	DestType map2DTO(SourceType fromObj);
+
+	SourceType map2Model(DestType toObj);
+}
@@ -0,0 +1,110 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+import org.isf.shared.sql.SqlStatementCounter;
+
+/**
+ * Maps a list in chunks on the common {@link ForkJoinPool}, keeping the order of the elements.
+ * <p>
+ * The mapping function must be thread-safe and must only read the elements: the entities handed to the mappers are detached
+ * ({@code spring.jpa.open-in-view=false}), so the conversion never goes back to a Hibernate session. Should it run a
+ * statement anyway, the statement is counted for the calling request (see {@link SqlStatementCounter}).
+ */
+public final class ParallelMapping {
+
+	private ParallelMapping() {
+	}
+
+	/**
+	 * @param list the elements to map
+	 * @param mapping the conversion of one element
+	 * @param chunkSize the number of consecutive elements mapped by one task
+	 * @return a new mutable list holding the mapped elements in the order of {@code list}
+	 */
+	public static <F, T> List<T> map(List<F> list, Function<? super F, ? extends T> mapping, int chunkSize) {
+		Object[] result = new Object[list.size()];
+		ForkJoinPool.commonPool().invoke(new ChunkTask<>(list, mapping, SqlStatementCounter.current(), result, 0, list.size(),
+						Math.max(1, chunkSize)));
+		@SuppressWarnings("unchecked")
+		List<T> mapped = (List<T>) new ArrayList<>(Arrays.asList(result));
+		return mapped;
+	}
+
+	private static final class ChunkTask<F, T> extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<F> list;
+
+		private final transient Function<? super F, ? extends T> mapping;
+
+		private final transient SqlStatementCounter.Counts counts;
+
+		private final transient Object[] result;
+
+		private final int from;
+
+		private final int to;
+
+		private final int chunkSize;
+
+		ChunkTask(
+			List<F> list, Function<? super F, ? extends T> mapping, SqlStatementCounter.Counts counts, Object[] result, int from, int to,
+			int chunkSize
+		) {
+			this.list = list;
+			this.mapping = mapping;
+			this.counts = counts;
+			this.result = result;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunkSize) {
+				SqlStatementCounter.runCounting(counts, () -> {
+					for (int i = from; i < to; i++) {
+						result[i] = mapping.apply(list.get(i));
+					}
+				});
+				return;
+			}
+			// split on a chunk boundary so that every leaf maps whole chunks
+			int middle = from + ((to - from) / chunkSize / 2) * chunkSize;
+			if (middle == from) {
+				middle += chunkSize;
+			}
+			invokeAll(new ChunkTask<>(list, mapping, counts, result, from, middle, chunkSize),
+							new ChunkTask<>(list, mapping, counts, result, middle, to, chunkSize));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.isf.shared.GenericMapper;
+import org.modelmapper.TypeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiles the {@link TypeMap}s of every registered {@link GenericMapper} once all the mappers have been created (and their
+ * custom mappings registered), so that ambiguous or broken mappings prevent the application from starting instead of failing
+ * the first request that uses them.
+ * <p>
+ * With {@code mapper.typemap.validate=true} every type map is also required to map all of its destination properties.
+ */
+@Component
+public class TypeMapInitializer implements SmartInitializingSingleton {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TypeMapInitializer.class);
+
+	private final List<GenericMapper<?, ?>> mappers;
+
+	private final boolean validate;
+
+	public TypeMapInitializer(List<GenericMapper<?, ?>> mappers, @Value("${mapper.typemap.validate:false}") boolean validate) {
+		this.mappers = mappers;
+		this.validate = validate;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		long start = System.nanoTime();
+		List<String> errors = new ArrayList<>();
+		int count = 0;
+		for (GenericMapper<?, ?> mapper : mappers) {
+			String mapperName = mapper.getClass().getSimpleName();
+			try {
+				for (TypeMap<?, ?> typeMap : mapper.compileTypeMaps()) {
+					count++;
+					check(mapperName, typeMap);
+				}
+			} catch (RuntimeException e) {
+				errors.add(mapperName + ": " + e.getMessage());
+			}
+		}
+		if (!errors.isEmpty()) {
+			throw new IllegalStateException("Invalid ModelMapper type maps:\n" + String.join("\n", errors));
+		}
+		LOGGER.info("Compiled {} type maps for {} mappers in {} ms", count, mappers.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+
+	// ConfigurationException (ambiguous matching) is already thrown by compileTypeMaps(), ValidationException by validate()
+	private void check(String mapperName, TypeMap<?, ?> typeMap) {
+		if (validate) {
+			typeMap.validate();
+		} else if (LOGGER.isDebugEnabled() && !typeMap.getUnmappedProperties().isEmpty()) {
+			LOGGER.debug("{}: unmapped properties in {}: {}", mapperName, typeMap.getName() != null ? typeMap.getName() : typeMap,
+							typeMap.getUnmappedProperties());
+		}
+	}
+}
@@ -39,6 +39,9 @@ public class ModelMapperConfig {
 	@Bean
 	public ModelMapper modelMapper() {
 		ModelMapper modelMapper = new ModelMapper();
+		// also switched on by PatientMapping, but only when PatientMapper is created: set it here so that the type maps
+		// compiled at startup do not depend on the bean creation order
+		modelMapper.getConfiguration().setAmbiguityIgnored(true);
 		modelMapper.addConverter(blobToByteArrayConverter);
 		modelMapper.addConverter(byteArrayToBlobConverter);
 		modelMapper.registerModule(new Jsr310Module());
@@ -0,0 +1,122 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public method of the OH-core managers (the {@code org.isf.*.manager.*Manager} beans) into the
+ * {@code oh.manager} timer, tagged with the manager, the method and the exception thrown, if any. The managers are called
+ * by the controllers: their time is mostly database time, to compare with the request latency and the mapping time.
+ */
+public class ManagerTimingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+	public static final String TIMER = "oh.manager";
+
+	public ManagerTimingPostProcessor(ObjectProvider<MeterRegistry> registry) {
+		setProxyTargetClass(true);
+		setBeforeExistingAdvisors(true);
+		this.advisor = new DefaultPointcutAdvisor(new ManagerMethods(), new TimingInterceptor(registry));
+	}
+
+	/**
+	 * @return whether {@code type} is an OH-core manager
+	 */
+	public static boolean isManager(Class<?> type) {
+		String packageName = type.getPackageName();
+		return packageName.startsWith("org.isf.") && packageName.endsWith(".manager") && type.getSimpleName().endsWith("Manager");
+	}
+
+	private static final class ManagerMethods extends StaticMethodMatcherPointcut {
+
+		@Override
+		public ClassFilter getClassFilter() {
+			return ManagerTimingPostProcessor::isManager;
+		}
+
+		@Override
+		public boolean matches(Method method, Class<?> targetClass) {
+			return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+		}
+	}
+
+	static final class TimingInterceptor implements MethodInterceptor {
+
+		private final ObjectProvider<MeterRegistry> registryProvider;
+
+		private final Map<Method, String> managerNames = new ConcurrentHashMap<>();
+
+		private volatile MeterRegistry registry;
+
+		TimingInterceptor(ObjectProvider<MeterRegistry> registryProvider) {
+			this.registryProvider = registryProvider;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+			long start = System.nanoTime();
+			String exception = "none";
+			try {
+				return invocation.proceed();
+			} catch (Throwable e) {
+				exception = e.getClass().getSimpleName();
+				throw e;
+			} finally {
+				Method method = invocation.getMethod();
+				String manager = managerNames.computeIfAbsent(method, m -> invocation.getThis() != null
+					? invocation.getThis().getClass().getSimpleName() : m.getDeclaringClass().getSimpleName());
+				Timer.builder(TIMER)
+					.tag("manager", manager)
+					.tag("method", method.getName())
+					.tag("exception", exception)
+					.register(registry())
+					.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		private MeterRegistry registry() {
+			MeterRegistry current = registry;
+			if (current == null) {
+				// resolved on the first call: the post-processor is created before the registry
+				current = registryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+				registry = current;
+			}
+			return current;
+		}
+	}
+}
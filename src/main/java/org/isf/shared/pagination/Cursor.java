@@ -0,0 +1,85 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+
+/**
+ * Opaque keyset pagination cursors: the sort key of the last row of a page, encoded in URL-safe Base64.
+ * <p>
+ * The cursor is not signed: a client forging one can only choose where its listing starts, with the same permissions.
+ */
+public final class Cursor {
+
+	private static final String SEPARATOR = "\u001F";
+
+	private static final Pattern SPLITTER = Pattern.compile(SEPARATOR);
+
+	private Cursor() {
+	}
+
+	public static String encode(Object... keys) {
+		StringBuilder builder = new StringBuilder();
+		for (Object key : keys) {
+			if (!builder.isEmpty()) {
+				builder.append(SEPARATOR);
+			}
+			builder.append(key);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param cursor the cursor received from the client, empty for the first page
+	 * @param keyCount the number of keys of the cursors of this listing
+	 * @return the keys, or {@code null} for the first page
+	 * @throws OHAPIException if the cursor was not produced by {@link #encode(Object...)} for this listing
+	 */
+	public static List<String> decode(String cursor, int keyCount) throws OHAPIException {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			List<String> keys = List.of(SPLITTER.split(decoded, -1));
+			if (keys.size() == keyCount) {
+				return keys;
+			}
+		} catch (IllegalArgumentException e) {
+			// reported below
+		}
+		throw invalid();
+	}
+
+	/**
+	 * @return the exception reported when a cursor, or one of its keys, cannot be decoded
+	 */
+	public static OHAPIException invalid() {
+		return new OHAPIException(new OHExceptionMessage("Invalid cursor."));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset (cursor) paginated list: unlike {@link Page}, the position is carried by the opaque
+ * {@link CursorInfoDTO#getNext() next} cursor, so fetching a deep page costs the same as fetching the first one.
+ */
+public class CursorPage<T> {
+
+	List<T> data;
+	CursorInfoDTO cursorInfoDTO;
+
+	/**
+	 * Builds the page from the rows read with a limit of {@code size + 1}: the extra row, if any, only tells that there is a
+	 * next page and is not returned.
+	 *
+	 * @param rows the rows read, at most {@code size + 1}
+	 * @param size the requested page size
+	 * @param cursorOf the cursor positioned after a row
+	 * @param mapper the mapping of the returned rows
+	 * @param totalNbOfElements the total number of rows, or {@code null} when not requested
+	 */
+	public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, String> cursorOf, Function<List<E>, List<T>> mapper,
+					Long totalNbOfElements) {
+		boolean hasNextPage = rows.size() > size;
+		List<E> pageRows = hasNextPage ? rows.subList(0, size) : rows;
+
+		CursorInfoDTO cursorInfoDTO = new CursorInfoDTO();
+		cursorInfoDTO.setSize(size);
+		cursorInfoDTO.setNbOfElements(pageRows.size());
+		cursorInfoDTO.setHasNextPage(hasNextPage);
+		cursorInfoDTO.setNext(hasNextPage ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null);
+		cursorInfoDTO.setTotalNbOfElements(totalNbOfElements);
+
+		CursorPage<T> page = new CursorPage<>();
+		page.setData(mapper.apply(pageRows));
+		page.setCursorInfo(cursorInfoDTO);
+		return page;
+	}
+
+	public List<T> getData() {
+		return data;
+	}
+
+	public void setData(List<T> data) {
+		this.data = data;
+	}
+
+	public CursorInfoDTO getCursorInfo() {
+		return cursorInfoDTO;
+	}
+
+	public void setCursorInfo(CursorInfoDTO cursorInfoDTO) {
+		this.cursorInfoDTO = cursorInfoDTO;
+	}
+}
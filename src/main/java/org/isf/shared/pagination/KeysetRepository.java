@@ -0,0 +1,154 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import org.isf.admission.model.Admission;
+import org.isf.lab.model.Laboratory;
+import org.isf.patient.model.Patient;
+import org.isf.shared.exceptions.OHAPIException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keyset queries behind the {@link CursorPage} listings: each page is read with {@code WHERE key > :last ORDER BY key}
+ * and a row limit, which an index on the key serves without scanning the previous pages, and without a count.
+ * <p>
+ * The cursors are the ones produced by the {@code *Cursor(...)} methods, the sort keys are unique so no row is skipped or
+ * repeated between pages.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class KeysetRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Patients not deleted, newest (highest code) first.
+	 */
+	public List<Patient> findPatients(String cursor, int limit) throws OHAPIException {
+		List<String> after = Cursor.decode(cursor, 1);
+		TypedQuery<Patient> query;
+		if (after == null) {
+			query = entityManager.createQuery("select p from Patient p where " + notDeleted("p") + " order by p.code desc", Patient.class);
+		} else {
+			query = entityManager.createQuery("select p from Patient p where " + notDeleted("p") + " and p.code < :code order by p.code desc",
+							Patient.class);
+			query.setParameter("code", parse(() -> Integer.valueOf(after.get(0))));
+		}
+		return query.setMaxResults(limit).getResultList();
+	}
+
+	public long countPatients() {
+		return entityManager.createQuery("select count(p) from Patient p where " + notDeleted("p"), Long.class).getSingleResult();
+	}
+
+	public static String patientCursor(Patient patient) {
+		return Cursor.encode(patient.getCode());
+	}
+
+	/**
+	 * Admissions not deleted and started in the range, by admission date then id.
+	 */
+	public List<Admission> findAdmissions(LocalDateTime from, LocalDateTime to, String cursor, int limit) throws OHAPIException {
+		List<String> after = Cursor.decode(cursor, 2);
+		String where = "where " + notDeleted("a") + " and a.admDate >= :from and a.admDate <= :to";
+		TypedQuery<Admission> query;
+		if (after == null) {
+			query = entityManager.createQuery("select a from Admission a " + where + " order by a.admDate, a.id", Admission.class);
+		} else {
+			query = entityManager.createQuery("select a from Admission a " + where
+							+ " and (a.admDate > :date or (a.admDate = :date and a.id > :id)) order by a.admDate, a.id", Admission.class);
+			query.setParameter("date", parse(() -> LocalDateTime.parse(after.get(0))));
+			query.setParameter("id", parse(() -> Integer.valueOf(after.get(1))));
+		}
+		return query.setParameter("from", from).setParameter("to", to).setMaxResults(limit).getResultList();
+	}
+
+	public long countAdmissions(LocalDateTime from, LocalDateTime to) {
+		return entityManager.createQuery("select count(a) from Admission a where " + notDeleted("a") + " and a.admDate >= :from and a.admDate <= :to",
+						Long.class)
+			.setParameter("from", from)
+			.setParameter("to", to)
+			.getSingleResult();
+	}
+
+	public static String admissionCursor(Admission admission) {
+		return Cursor.encode(admission.getAdmDate(), admission.getId());
+	}
+
+	/**
+	 * Laboratory exams, optionally only the ones since {@code since}, most recent first.
+	 */
+	public List<Laboratory> findLaboratories(LocalDateTime since, String cursor, int limit) throws OHAPIException {
+		List<String> after = Cursor.decode(cursor, 2);
+		StringBuilder jpql = new StringBuilder("select l from Laboratory l where 1 = 1");
+		if (since != null) {
+			jpql.append(" and l.labDate >= :since");
+		}
+		if (after != null) {
+			jpql.append(" and (l.labDate < :date or (l.labDate = :date and l.code < :code))");
+		}
+		TypedQuery<Laboratory> query = entityManager.createQuery(jpql.append(" order by l.labDate desc, l.code desc").toString(), Laboratory.class);
+		if (since != null) {
+			query.setParameter("since", since);
+		}
+		if (after != null) {
+			query.setParameter("date", parse(() -> LocalDateTime.parse(after.get(0))));
+			query.setParameter("code", parse(() -> Integer.valueOf(after.get(1))));
+		}
+		return query.setMaxResults(limit).getResultList();
+	}
+
+	public long countLaboratories(LocalDateTime since) {
+		if (since == null) {
+			return entityManager.createQuery("select count(l) from Laboratory l", Long.class).getSingleResult();
+		}
+		return entityManager.createQuery("select count(l) from Laboratory l where l.labDate >= :since", Long.class)
+			.setParameter("since", since)
+			.getSingleResult();
+	}
+
+	public static String laboratoryCursor(Laboratory laboratory) {
+		return Cursor.encode(laboratory.getLabDate(), laboratory.getCode());
+	}
+
+	private static String notDeleted(String alias) {
+		return "(" + alias + ".deleted is null or " + alias + ".deleted <> 'Y')";
+	}
+
+	private static <T> T parse(Supplier<T> key) throws OHAPIException {
+		try {
+			return key.get();
+		} catch (RuntimeException e) {
+			throw Cursor.invalid();
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.export.ChunkedListView;
+import org.isf.shared.export.MappedListView;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Page size policy shared by the paginated listings.
+ * <p>
+ * Each listing is identified by a resource name ({@code patients}, {@code admissions}...) and gets its default and maximum
+ * page size from {@code pagination.<resource>.default-size} and {@code pagination.<resource>.max-size}, falling back to
+ * {@code pagination.default-size} and {@code pagination.max-size}. Larger sizes are clamped to the maximum.
+ * <p>
+ * Unpaged listings ({@code paged=false}) are refused above {@code pagination.unpaged.max-rows} rows and their DTOs are
+ * streamed (see {@link MappedListView} and {@link ChunkedListView}) above {@code pagination.unpaged.stream-threshold} rows.
+ * <p>
+ * The requested and served sizes are recorded in the {@code pagination.size.requested} and {@code pagination.size.served}
+ * distribution summaries, tagged by resource.
+ */
+@Component
+public class PageSizePolicy {
+
+	public static final int DEFAULT_SIZE = 80;
+
+	public static final int DEFAULT_MAX_SIZE = 500;
+
+	private static final String PREFIX = "pagination.";
+
+	private final Environment environment;
+
+	private final MeterRegistry meterRegistry;
+
+	private final int unpagedMaxRows;
+
+	private final int unpagedStreamThreshold;
+
+	@Autowired
+	public PageSizePolicy(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+		this(environment, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	public PageSizePolicy(Environment environment, MeterRegistry meterRegistry) {
+		this.environment = environment;
+		this.meterRegistry = meterRegistry;
+		this.unpagedMaxRows = environment.getProperty(PREFIX + "unpaged.max-rows", Integer.class, 50_000);
+		this.unpagedStreamThreshold = environment.getProperty(PREFIX + "unpaged.stream-threshold", Integer.class, 5_000);
+	}
+
+	/**
+	 * @param resource the listing
+	 * @param requested the size requested by the client, {@code null} if none
+	 * @return the size to use: the default size if none was requested, at most the maximum size of the listing
+	 * @throws OHAPIException if the requested size is not positive
+	 */
+	public int resolve(String resource, Integer requested) throws OHAPIException {
+		if (requested == null) {
+			return defaultSize(resource);
+		}
+		if (requested < 1) {
+			throw new OHAPIException(new OHExceptionMessage("Invalid page size."));
+		}
+		summary("pagination.size.requested", resource).record(requested);
+		return Math.min(requested, maxSize(resource));
+	}
+
+	public int defaultSize(String resource) {
+		return environment.getProperty(PREFIX + resource + ".default-size", Integer.class,
+						environment.getProperty(PREFIX + "default-size", Integer.class, DEFAULT_SIZE));
+	}
+
+	public int maxSize(String resource) {
+		return environment.getProperty(PREFIX + resource + ".max-size", Integer.class,
+						environment.getProperty(PREFIX + "max-size", Integer.class, DEFAULT_MAX_SIZE));
+	}
+
+	/**
+	 * Records the number of elements of a served page.
+	 *
+	 * @return {@code data}
+	 */
+	public <T> List<T> served(String resource, List<T> data) {
+		summary("pagination.size.served", resource).record(data.size());
+		return data;
+	}
+
+	/**
+	 * Refuses an unpaged listing that would return more than {@code pagination.unpaged.max-rows} rows; call it with a count
+	 * before loading the rows when one is available.
+	 *
+	 * @throws OHAPIException if there are too many rows
+	 */
+	public void checkUnpaged(String resource, long rows) throws OHAPIException {
+		if (unpagedMaxRows > 0 && rows > unpagedMaxRows) {
+			throw new OHAPIException(new OHExceptionMessage(
+							"Too many " + resource + " (" + rows + ") to return without pagination, at most " + unpagedMaxRows + ": use paged=true."));
+		}
+	}
+
+	/**
+	 * Maps the rows of an unpaged listing after {@link #checkUnpaged(String, long) checking} their number: with
+	 * {@code mapList} when they are few, with a {@link MappedListView} over {@code mapOne} above the streaming threshold.
+	 */
+	public <S, D> List<D> unpaged(String resource, List<S> rows, Function<List<S>, List<D>> mapList, Function<S, D> mapOne)
+					throws OHAPIException {
+		checkUnpaged(resource, rows.size());
+		List<D> data = rows.size() > unpagedStreamThreshold ? new MappedListView<>(rows, mapOne) : mapList.apply(rows);
+		return served(resource, data);
+	}
+
+	/**
+	 * Maps the rows of an unpaged listing after {@link #checkUnpaged(String, long) checking} their number, for the mappings
+	 * that load data for the whole list they are given: above the streaming threshold {@code mapList} is applied, through a
+	 * {@link ChunkedListView}, to chunks of the {@link #maxSize(String) maximum page size} as they are read.
+	 */
+	public <S, D> List<D> unpagedInChunks(String resource, List<S> rows, Function<List<S>, List<D>> mapList) throws OHAPIException {
+		checkUnpaged(resource, rows.size());
+		List<D> data = rows.size() > unpagedStreamThreshold ? new ChunkedListView<>(rows, mapList, maxSize(resource)) : mapList.apply(rows);
+		return served(resource, data);
+	}
+
+	private DistributionSummary summary(String name, String resource) {
+		return DistributionSummary.builder(name)
+			.tag("resource", resource)
+			.baseUnit("elements")
+			.register(meterRegistry);
+	}
+}
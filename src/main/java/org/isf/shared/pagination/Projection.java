@@ -0,0 +1,51 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@code fields} parameter of the list endpoints: the full DTOs, or the summary ones read with a projection that does
+ * not load the photos and the long texts.
+ */
+public enum Projection {
+
+	FULL,
+	SUMMARY;
+
+	/**
+	 * @param fields the {@code fields} parameter, {@code summary} or empty
+	 * @return the projection
+	 * @throws OHAPIException when the value is not known
+	 */
+	public static Projection of(String fields) throws OHAPIException {
+		if (!StringUtils.hasText(fields)) {
+			return FULL;
+		}
+		if ("summary".equalsIgnoreCase(fields.trim())) {
+			return SUMMARY;
+		}
+		throw new OHAPIException(new OHExceptionMessage("Unknown fields '" + fields + "', expected 'summary'."));
+	}
+}
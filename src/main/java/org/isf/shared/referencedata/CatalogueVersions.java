@@ -0,0 +1,122 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.referencedata;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versions of the reference catalogues downloaded by the clients on every screen, used as ETags by their list endpoints.
+ * <p>
+ * The endpoints creating, updating or deleting the elements of a catalogue {@link #bump(Catalogue) bump} its version, so
+ * that a request whose {@code If-None-Match} holds the {@link #eTag(Catalogue) current ETag} is answered with a
+ * {@code 304 Not Modified} without reading the catalogue. The versions are kept in memory: the ETags embed the startup
+ * time of the instance, so that they never match the ones handed out before a restart.
+ */
+@Component
+public class CatalogueVersions {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CatalogueVersions.class);
+
+	public enum Catalogue {
+		WARDS,
+		DISEASES,
+		EXAMS,
+		EXAM_ROWS,
+		MEDICALS,
+		PRICE_LISTS,
+		ADMISSION_TYPES,
+		DISCHARGE_TYPES,
+		VACCINES,
+		SUPPLIERS,
+		OPERATIONS,
+		AGE_TYPES,
+		DELIVERY_TYPES,
+		DELIVERY_RESULT_TYPES,
+		PREGNANT_TREATMENT_TYPES,
+		DISEASE_TYPES,
+		EXAM_TYPES,
+		MEDICAL_TYPES,
+		MEDICAL_STOCK_MOVEMENT_TYPES,
+		OPERATION_TYPES,
+		VACCINE_TYPES
+	}
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+	private final Map<Catalogue, AtomicLong> versions = new EnumMap<>(Catalogue.class);
+
+	public CatalogueVersions() {
+		for (Catalogue catalogue : Catalogue.values()) {
+			versions.put(catalogue, new AtomicLong());
+		}
+	}
+
+	/**
+	 * @return the current version of the given catalogue, increased each time it is {@link #bump(Catalogue) bumped}
+	 */
+	public long version(Catalogue catalogue) {
+		return versions.get(catalogue).get();
+	}
+
+	/**
+	 * @return the combined version of the given catalogues, increased each time one of them is {@link #bump(Catalogue) bumped}
+	 */
+	public long combinedVersion(Catalogue... catalogues) {
+		long version = 0;
+		for (Catalogue catalogue : catalogues) {
+			version += version(catalogue);
+		}
+		return version;
+	}
+
+	/**
+	 * @return the weak ETag of the current version of the given catalogue
+	 */
+	public String eTag(Catalogue catalogue) {
+		return eTag(catalogue.name().toLowerCase(), version(catalogue));
+	}
+
+	/**
+	 * @param name the name of the resource
+	 * @param version a version of the resource, as a {@link #combinedVersion(Catalogue...) combined version}
+	 * @return the weak ETag of the given version of the named resource
+	 */
+	public String eTag(String name, long version) {
+		return "W/\"" + name + '-' + epoch + '-' + version + '"';
+	}
+
+	/**
+	 * Increases the version of the given catalogues; to be called after each write.
+	 */
+	public void bump(Catalogue... catalogues) {
+		for (Catalogue catalogue : catalogues) {
+			long version = versions.get(catalogue).incrementAndGet();
+			LOGGER.debug("{} catalogue changed, version: {}", catalogue, version);
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.referencedata;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.isf.admission.manager.AdmissionBrowserManager;
+import org.isf.admtype.model.AdmissionType;
+import org.isf.disctype.model.DischargeType;
+import org.isf.disease.manager.DiseaseBrowserManager;
+import org.isf.disease.model.Disease;
+import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
+import org.isf.dlvrrestype.model.DeliveryResultType;
+import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
+import org.isf.dlvrtype.model.DeliveryType;
+import org.isf.exa.manager.ExamBrowsingManager;
+import org.isf.exa.model.Exam;
+import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
+import org.isf.pregtreattype.model.PregnantTreatmentType;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.ward.manager.WardBrowserManager;
+import org.isf.ward.model.Ward;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * In memory registry of the reference data looked up by code when writing admissions and laboratory exams: wards,
+ * admission types, diseases, discharge types, pregnant treatment types, delivery types, delivery result types and exams.
+ * <p>
+ * Each type is loaded with a single full read the first time it is looked up, then indexed by code. The controllers
+ * writing a type call {@link #refresh(Class)}, which bumps the version of the type so that the next lookup reloads it.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataRegistry.class);
+
+	private final Map<Class<?>, Table<?>> tables = new HashMap<>();
+
+	public ReferenceDataRegistry(
+		WardBrowserManager wardManager,
+		AdmissionBrowserManager admissionManager,
+		DiseaseBrowserManager diseaseManager,
+		PregnantTreatmentTypeBrowserManager pregnantTreatmentTypeManager,
+		DeliveryTypeBrowserManager deliveryTypeManager,
+		DeliveryResultTypeBrowserManager deliveryResultTypeManager,
+		ExamBrowsingManager examManager
+	) {
+		register(Ward.class, wardManager::getWards, Ward::getCode);
+		register(AdmissionType.class, admissionManager::getAdmissionType, AdmissionType::getCode);
+		register(Disease.class, diseaseManager::getDiseaseAll, Disease::getCode);
+		register(DischargeType.class, admissionManager::getDischargeType, DischargeType::getCode);
+		register(PregnantTreatmentType.class, pregnantTreatmentTypeManager::getPregnantTreatmentType, PregnantTreatmentType::getCode);
+		register(DeliveryType.class, deliveryTypeManager::getDeliveryType, DeliveryType::getCode);
+		register(DeliveryResultType.class, deliveryResultTypeManager::getDeliveryResultType, DeliveryResultType::getCode);
+		register(Exam.class, examManager::getExams, Exam::getCode);
+	}
+
+	private <T> void register(Class<T> type, Loader<T> loader, Function<T, String> codeOf) {
+		tables.put(type, new Table<>(type, loader, codeOf));
+	}
+
+	/**
+	 * @param type the reference type
+	 * @param code the code
+	 * @return the element of the given type with the given code, {@code null} if there is none
+	 * @throws OHServiceException When failed to load the elements of the type
+	 */
+	public <T> T findByCode(Class<T> type, String code) throws OHServiceException {
+		return code == null ? null : table(type).snapshot().byCode().get(code);
+	}
+
+	/**
+	 * @return the current version of the given type, increased each time it is {@link #refresh(Class) refreshed}
+	 */
+	public long version(Class<?> type) {
+		return table(type).version.get();
+	}
+
+	/**
+	 * Discards the elements of the given type, to be reloaded on the next lookup; to be called after each write.
+	 */
+	public void refresh(Class<?> type) {
+		long version = table(type).version.incrementAndGet();
+		LOGGER.debug("{} reference data refreshed, version: {}", type.getSimpleName(), version);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Table<T> table(Class<T> type) {
+		Table<T> table = (Table<T>) tables.get(type);
+		if (table == null) {
+			throw new IllegalArgumentException("Not a reference data type: " + type.getName());
+		}
+		return table;
+	}
+
+	@FunctionalInterface
+	private interface Loader<T> {
+
+		List<T> load() throws OHServiceException;
+	}
+
+	private static final class Table<T> {
+
+		private final Class<T> type;
+
+		private final Loader<T> loader;
+
+		private final Function<T, String> codeOf;
+
+		private final AtomicLong version = new AtomicLong();
+
+		private volatile Snapshot<T> snapshot;
+
+		private Table(Class<T> type, Loader<T> loader, Function<T, String> codeOf) {
+			this.type = type;
+			this.loader = loader;
+			this.codeOf = codeOf;
+		}
+
+		private Snapshot<T> snapshot() throws OHServiceException {
+			Snapshot<T> current = snapshot;
+			if (current != null && current.version() == version.get()) {
+				return current;
+			}
+			synchronized (this) {
+				current = snapshot;
+				long expectedVersion = version.get();
+				if (current != null && current.version() == expectedVersion) {
+					return current;
+				}
+				Map<String, T> byCode = new HashMap<>();
+				for (T element : loader.load()) {
+					String code = codeOf.apply(element);
+					if (code != null) {
+						byCode.putIfAbsent(code, element);
+					}
+				}
+				// tagged with the version read before loading: a refresh during the load triggers another one
+				current = new Snapshot<>(expectedVersion, Map.copyOf(byCode));
+				snapshot = current;
+				LOGGER.debug("{} reference data loaded, version: {}, elements: {}", type.getSimpleName(), expectedVersion, byCode.size());
+				return current;
+			}
+		}
+	}
+
+	private record Snapshot<T>(long version, Map<String, T> byCode) {
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.sql;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Counts the SQL statements executed by the current thread, and the time spent executing them, between
+ * {@link #start()} and {@link #stop(Counts)}. Registered on the proxied data source, see
+ * {@link SqlStatementCountingPostProcessor}.
+ * <p>
+ * A JDBC batch counts as one statement: it is one round trip to the database.
+ * <p>
+ * The counts are bound to the thread: the work that a request hands to other threads and waits for (e.g.
+ * {@link org.isf.shared.mapper.ParallelMapping}) is counted only if run with {@link #runCounting(Counts, Runnable)}. The
+ * tasks outliving the request ({@code @Async} methods, report jobs) are not counted.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+	private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Starts counting the statements of the current thread. Counts can be nested: the statements are also added to the
+	 * enclosing counts.
+	 *
+	 * @return the counts, to pass to {@link #stop(Counts)}
+	 */
+	public static Counts start() {
+		Counts counts = new Counts(CURRENT.get());
+		CURRENT.set(counts);
+		return counts;
+	}
+
+	/**
+	 * Stops counting into {@code counts}, restoring the enclosing counts, if any.
+	 *
+	 * @return {@code counts}
+	 */
+	public static Counts stop(Counts counts) {
+		if (counts.parent != null) {
+			CURRENT.set(counts.parent);
+		} else {
+			CURRENT.remove();
+		}
+		return counts;
+	}
+
+	/**
+	 * @return the counts of the current thread, {@code null} if its statements are not counted
+	 */
+	public static Counts current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Runs {@code task} on the current thread, counting its statements into {@code counts} (and the enclosing ones), for
+	 * instance on a thread working for the request that obtained {@code counts} with {@link #current()}.
+	 *
+	 * @param counts the counts, {@code null} to run {@code task} as is
+	 */
+	public static void runCounting(Counts counts, Runnable task) {
+		Counts previous = CURRENT.get();
+		if (counts == null || counts == previous) {
+			task.run();
+			return;
+		}
+		CURRENT.set(counts);
+		try {
+			task.run();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		for (Counts counts = CURRENT.get(); counts != null; counts = counts.parent) {
+			counts.statements.incrementAndGet();
+			counts.timeInMillis.addAndGet(execInfo.getElapsedTime());
+		}
+	}
+
+	public static final class Counts {
+
+		private final Counts parent;
+
+		private final AtomicInteger statements = new AtomicInteger();
+
+		private final AtomicLong timeInMillis = new AtomicLong();
+
+		private Counts(Counts parent) {
+			this.parent = parent;
+		}
+
+		public int getStatements() {
+			return statements.get();
+		}
+
+		public long getTimeInMillis() {
+			return timeInMillis.get();
+		}
+	}
+}
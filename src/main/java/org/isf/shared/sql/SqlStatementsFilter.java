@@ -0,0 +1,131 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.sql;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Counts the SQL statements of every request, and the time spent executing them, to spot the endpoints issuing one
+ * query per row. They are recorded into the {@code oh.sql.statements} summary and the {@code oh.sql.time} timer, tagged
+ * with the URI pattern and the method; with {@code sql.statements.headers} (meant for development) they are also sent
+ * in the {@code X-SQL-Statements} and {@code X-SQL-Time} (milliseconds) response headers, with the statements executed
+ * until the response is committed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class SqlStatementsFilter extends OncePerRequestFilter {
+
+	public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+
+	public static final String TIME_HEADER = "X-SQL-Time";
+
+	private final boolean headers;
+
+	private final MeterRegistry meterRegistry;
+
+	public SqlStatementsFilter(@Value("${sql.statements.headers:false}") boolean headers, ObjectProvider<MeterRegistry> meterRegistry) {
+		this.headers = headers;
+		this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		SqlStatementCounter.Counts counts = SqlStatementCounter.start();
+		try {
+			if (headers) {
+				CountingResponse countingResponse = new CountingResponse(response, counts);
+				filterChain.doFilter(request, countingResponse);
+				countingResponse.writeHeaders();
+			} else {
+				filterChain.doFilter(request, response);
+			}
+		} finally {
+			SqlStatementCounter.stop(counts);
+			record(request, counts);
+		}
+	}
+
+	private void record(HttpServletRequest request, SqlStatementCounter.Counts counts) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+		DistributionSummary.builder("oh.sql.statements")
+			.tag("uri", uri)
+			.tag("method", request.getMethod())
+			.baseUnit("statements")
+			.register(meterRegistry)
+			.record(counts.getStatements());
+		Timer.builder("oh.sql.time")
+			.tag("uri", uri)
+			.tag("method", request.getMethod())
+			.register(meterRegistry)
+			.record(counts.getTimeInMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Adds the headers just before the response is committed, or at the end of the request if it is not.
+	 */
+	private static final class CountingResponse extends OnCommittedResponseWrapper {
+
+		private final SqlStatementCounter.Counts counts;
+
+		private boolean written;
+
+		private CountingResponse(HttpServletResponse response, SqlStatementCounter.Counts counts) {
+			super(response);
+			this.counts = counts;
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+			writeHeaders();
+		}
+
+		private void writeHeaders() {
+			if (!written && !isCommitted()) {
+				written = true;
+				setHeader(STATEMENTS_HEADER, String.valueOf(counts.getStatements()));
+				setHeader(TIME_HEADER, String.valueOf(counts.getTimeInMillis()));
+			}
+		}
+	}
+}
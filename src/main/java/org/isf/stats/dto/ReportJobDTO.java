@@ -0,0 +1,82 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Asynchronous generation of a report")
+public class ReportJobDTO {
+
+	@Schema(description = "The job's ID, derived from the report and the version of its data")
+	private String id;
+
+	@Schema(description = "The report", example = "exams-list")
+	private String report;
+
+	@Schema(description = "PENDING, RUNNING, DONE or FAILED", example = "PENDING")
+	private String status;
+
+	@Schema(description = "Why the generation failed")
+	private String error;
+
+	public ReportJobDTO() {
+	}
+
+	public ReportJobDTO(String id, String report, String status, String error) {
+		this.id = id;
+		this.report = report;
+		this.status = status;
+		this.error = error;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getReport() {
+		return report;
+	}
+
+	public void setReport(String report) {
+		this.report = report;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+}
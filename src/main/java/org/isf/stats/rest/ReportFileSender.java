@@ -0,0 +1,230 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends a generated report file without loading it in memory: through the container's sendfile when available (Tomcat
+ * with the NIO connector), otherwise with {@link FileChannel#transferTo}.
+ * <p>
+ * The response carries an {@code ETag}, the SHA-256 of the file: a request with a matching {@code If-None-Match} is
+ * answered 304, and a single {@code Range} (honoured only if the {@code If-Range} still matches) is answered 206, so that
+ * interrupted downloads can be resumed. The ETags of the last {@value #MAX_ETAGS} files sent are kept, as long as the
+ * files are not modified.
+ */
+@Component
+public class ReportFileSender {
+
+	// request attributes of the Tomcat sendfile support, see org.apache.catalina.Globals
+	private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static final int MAX_ETAGS = 256;
+
+	/**
+	 * The ETag of the files last sent, the least recently sent first.
+	 */
+	private final Map<Path, FileTag> eTags = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, FileTag> eldest) {
+			return size() > MAX_ETAGS;
+		}
+	});
+
+	/**
+	 * Sends a report file as an attachment.
+	 *
+	 * @param file the report file
+	 * @param filename the name of the attachment
+	 * @param contentType the content type, {@code application/octet-stream} if {@code null}
+	 * @throws OHAPIException if the file does not exist
+	 * @throws IOException if the file cannot be read or sent
+	 */
+	public void send(Path file, String filename, String contentType, HttpServletRequest request, HttpServletResponse response)
+		throws OHAPIException, IOException {
+		send(file, filename, contentType, request, response, false);
+	}
+
+	/**
+	 * Sends a file written for this request only as an attachment, then deletes it. The file is sent before returning,
+	 * without the container's sendfile that would read it once deleted, and its ETag is not kept.
+	 *
+	 * @param file the report file
+	 * @param filename the name of the attachment
+	 * @param contentType the content type, {@code application/octet-stream} if {@code null}
+	 * @throws OHAPIException if the file does not exist
+	 * @throws IOException if the file cannot be read or sent
+	 */
+	public void sendAndDelete(Path file, String filename, String contentType, HttpServletRequest request, HttpServletResponse response)
+		throws OHAPIException, IOException {
+		try {
+			send(file, filename, contentType, request, response, true);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private void send(
+		Path file, String filename, String contentType, HttpServletRequest request, HttpServletResponse response, boolean temporary
+	) throws OHAPIException, IOException {
+		if (!Files.isRegularFile(file)) {
+			throw new OHAPIException(new OHExceptionMessage("File not found."));
+		}
+		long length = Files.size(file);
+		String eTag = temporary ? '"' + hash(file) + '"' : eTag(file, length);
+
+		response.setHeader(HttpHeaders.ETAG, eTag);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		long start = 0;
+		long end = length - 1;
+		String range = request.getHeader(HttpHeaders.RANGE);
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(range);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of();
+			}
+			// several ranges would need a multipart response: the whole file is sent instead
+			if (ranges.size() == 1) {
+				if (length == 0 || !isSatisfiable(ranges.get(0), length)) {
+					response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					return;
+				}
+				start = ranges.get(0).getRangeStart(length);
+				end = ranges.get(0).getRangeEnd(length);
+				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + length);
+			}
+		}
+
+		response.setContentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + '"');
+		response.setContentLengthLong(end - start + 1);
+		if ("HEAD".equals(request.getMethod()) || length == 0) {
+			return;
+		}
+
+		if (!temporary && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+			request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			while (position <= end) {
+				long sent = channel.transferTo(position, end + 1 - position, out);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+			}
+		}
+	}
+
+	private String eTag(Path file, long length) throws IOException {
+		long lastModified = Files.getLastModifiedTime(file).toMillis();
+		FileTag tag = eTags.get(file);
+		if (tag == null || tag.lastModified() != lastModified || tag.length() != length) {
+			tag = new FileTag(lastModified, length, '"' + hash(file) + '"');
+			eTags.put(file, tag);
+		}
+		return tag.eTag();
+	}
+
+	private static boolean isSatisfiable(HttpRange range, long length) {
+		try {
+			return range.getRangeStart(length) <= range.getRangeEnd(length);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.trim();
+			if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String hash(Path file) throws IOException {
+		try (InputStream in = Files.newInputStream(file)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] buffer = new byte[BUFFER_SIZE];
+			for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+				digest.update(buffer, 0, read);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is mandatory on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record FileTag(long lastModified, long length, String eTag) {
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.rest;
+
+import java.nio.file.Path;
+
+import org.isf.stats.dto.ReportJobDTO;
+
+/**
+ * A report generation submitted to {@link ReportJobs}.
+ */
+public class ReportJob {
+
+	public enum Status {
+		PENDING, RUNNING, DONE, FAILED
+	}
+
+	private final String id;
+
+	private final String report;
+
+	private final Path file;
+
+	private volatile Status status = Status.PENDING;
+
+	private volatile String error;
+
+	ReportJob(String id, String report, Path file) {
+		this.id = id;
+		this.report = report;
+		this.file = file;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getReport() {
+		return report;
+	}
+
+	/**
+	 * @return the generated report, complete once the job is {@link Status#DONE}
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public boolean isFinished() {
+		return status == Status.DONE || status == Status.FAILED;
+	}
+
+	void running() {
+		status = Status.RUNNING;
+	}
+
+	void done() {
+		status = Status.DONE;
+	}
+
+	void failed(String error) {
+		this.error = error;
+		status = Status.FAILED;
+	}
+
+	public ReportJobDTO toDTO() {
+		return new ReportJobDTO(id, report, status.name(), error);
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.rest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.isf.shared.concurrency.VirtualThreads;
+import org.isf.shared.exceptions.OHAPIRetryLaterException;
+import org.isf.stat.dto.JasperReportResultDto;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates reports off the request threads, on a pool of {@code reports.jobs.threads} threads with at most
+ * {@code reports.jobs.queueCapacity} waiting jobs; when the queue is full the submission is refused with a
+ * {@code Retry-After}. The threads are virtual when {@code spring.threads.virtual.enabled} is set and the runtime supports
+ * them.
+ * <p>
+ * The generated PDFs are kept in {@code reports.cache.dir}, named after the hash of the report name and of the version of
+ * its data: the job id. Submitting a report whose data has not changed returns the job already running or done, so that
+ * repeated downloads do not generate the report again. Cached reports are dropped after {@code reports.cache.ttlInSeconds}
+ * and on startup, as the data versions start over: only the files named like a job id are deleted, so that
+ * {@code reports.cache.dir} can be shared with other files.
+ */
+@Component
+public class ReportJobs implements DisposableBean {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportJobs.class);
+
+	/**
+	 * The cached reports, named after their job id (a SHA-256 in hexadecimal), and their leftover temporary files.
+	 */
+	private static final Pattern OWNED_FILE = Pattern.compile("[0-9a-f]{64}(\\.pdf|\\d*\\.tmp)");
+
+	private final ThreadPoolExecutor executor;
+
+	private final int retryAfterSeconds;
+
+	private final Path cacheDir;
+
+	private final long ttlInMilliseconds;
+
+	private final Map<String, ReportJob> jobs = new HashMap<>();
+
+	/**
+	 * The id of the last job of each report: the jobs of older data versions are dropped when a new one is submitted.
+	 */
+	private final Map<String, String> latestJobs = new HashMap<>();
+
+	private final Map<String, Object> reportLocks = new ConcurrentHashMap<>();
+
+	public ReportJobs(
+		@Value("${reports.jobs.threads:2}") int threads,
+		@Value("${reports.jobs.queueCapacity:20}") int queueCapacity,
+		@Value("${reports.jobs.retryAfterInSeconds:2}") int retryAfterSeconds,
+		@Value("${reports.cache.dir:${java.io.tmpdir}/oh-reports}") String cacheDir,
+		@Value("${reports.cache.ttlInSeconds:3600}") long ttlInSeconds,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+	) throws IOException {
+		ThreadFactory threadFactory = virtualThreads ? VirtualThreads.factory("oh-reports-") : null;
+		if (virtualThreads && threadFactory == null) {
+			LOGGER.warn("Virtual threads are not supported by this Java runtime, reports are generated on platform threads.");
+		}
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+			threadFactory != null ? threadFactory : new ReportThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.cacheDir = Files.createDirectories(Paths.get(cacheDir));
+		this.ttlInMilliseconds = ttlInSeconds * 1000;
+		try (DirectoryStream<Path> reports = Files.newDirectoryStream(this.cacheDir,
+						file -> OWNED_FILE.matcher(file.getFileName().toString()).matches())) {
+			for (Path report : reports) {
+				Files.deleteIfExists(report);
+			}
+		}
+	}
+
+	/**
+	 * Starts the generation of a report, unless the same report with the same data is already being generated or
+	 * cached.
+	 *
+	 * @param report the name of the report
+	 * @param dataVersion the version of the data of the report
+	 * @param generator generates the report
+	 * @return the job
+	 * @throws OHAPIRetryLaterException if too many reports are waiting to be generated
+	 */
+	public ReportJob submit(String report, long dataVersion, Generator generator) throws OHAPIRetryLaterException {
+		String id = hash(report + '\n' + dataVersion);
+		ReportJob job;
+		synchronized (jobs) {
+			job = get(id);
+			if (job != null && job.getStatus() != ReportJob.Status.FAILED) {
+				return job;
+			}
+			job = new ReportJob(id, report, cacheDir.resolve(id + ".pdf"));
+			jobs.put(id, job);
+			String previous = latestJobs.put(report, id);
+			if (previous != null && !previous.equals(id)) {
+				ReportJob outdated = jobs.remove(previous);
+				if (outdated != null && outdated.isFinished()) {
+					deleteQuietly(outdated.getFile());
+				}
+			}
+		}
+
+		ReportJob submitted = job;
+		try {
+			executor.execute(() -> generate(submitted, generator));
+		} catch (RejectedExecutionException e) {
+			synchronized (jobs) {
+				jobs.remove(id, job);
+			}
+			throw new OHAPIRetryLaterException(new OHExceptionMessage("Too many reports being generated, retry later."), retryAfterSeconds);
+		}
+		return job;
+	}
+
+	/**
+	 * @param id the job id
+	 * @return the job, {@code null} if unknown or if its report has expired
+	 */
+	public ReportJob get(String id) {
+		synchronized (jobs) {
+			ReportJob job = jobs.get(id);
+			if (job != null && job.getStatus() == ReportJob.Status.DONE && isExpired(job.getFile())) {
+				jobs.remove(id);
+				deleteQuietly(job.getFile());
+				return null;
+			}
+			return job;
+		}
+	}
+
+	/**
+	 * Generates a report on the calling thread, into a new file of {@code reports.cache.dir}: unlike the file written by
+	 * the manager, it is not overwritten by a concurrent generation of the same report. The caller deletes it.
+	 *
+	 * @param report the name of the report
+	 * @param generator generates the report
+	 * @return the new file
+	 */
+	public Path generateNow(String report, Generator generator) throws OHServiceException, IOException {
+		// the reports of the same name are written to the same file by the manager
+		synchronized (reportLocks.computeIfAbsent(report, name -> new Object())) {
+			Path generated = Paths.get(generator.generate().getFilename()).normalize();
+			Path temporary = Files.createTempFile(cacheDir, hash(report), ".tmp");
+			Files.copy(generated, temporary, StandardCopyOption.REPLACE_EXISTING);
+			return temporary;
+		}
+	}
+
+	public int getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private void generate(ReportJob job, Generator generator) {
+		job.running();
+		try {
+			Path temporary = generateNow(job.getReport(), generator);
+			Files.move(temporary, job.getFile(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			job.done();
+		} catch (OHServiceException e) {
+			LOGGER.error("Report {} not generated: {}", job.getReport(), e.getMessage());
+			job.failed(e.getMessages().isEmpty() ? e.getMessage() : e.getMessages().get(0).getMessage());
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Report {} not generated", job.getReport(), e);
+			job.failed("Report not generated.");
+		}
+	}
+
+	private boolean isExpired(Path file) {
+		try {
+			return !Files.exists(file) || System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis() > ttlInMilliseconds;
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOGGER.warn("Cached report {} not deleted: {}", file, e.getMessage());
+		}
+	}
+
+	private static String hash(String key) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is mandatory on every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Generates a report, usually with the {@code JasperReportsManager}.
+	 */
+	@FunctionalInterface
+	public interface Generator {
+
+		JasperReportResultDto generate() throws OHServiceException;
+	}
+
+	private static final class ReportThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "oh-reports-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -22,24 +22,28 @@
 package org.isf.stats.rest;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.net.URI;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Map;
+import java.util.function.LongSupplier;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
-import org.apache.poi.util.IOUtils;
 import org.isf.shared.exceptions.OHAPIException;
-import org.isf.stat.dto.JasperReportResultDto;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.stat.manager.JasperReportsManager;
+import org.isf.stats.dto.ReportJobDTO;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -54,52 +58,104 @@ public class ReportsController {
 
 	private final JasperReportsManager reportsManager;
 
-	public ReportsController(JasperReportsManager reportsManager) {
+	private final ReportJobs reportJobs;
+
+	private final ReportFileSender reportFileSender;
+
+	/**
+	 * The reports that can be generated asynchronously, with the version of the data they print.
+	 */
+	private final Map<String, AsyncReport> asyncReports;
+
+	public ReportsController(
+		JasperReportsManager reportsManager, ReportJobs reportJobs, ReportFileSender reportFileSender, CatalogueVersions catalogues
+	) {
 		this.reportsManager = reportsManager;
+		this.reportJobs = reportJobs;
+		this.reportFileSender = reportFileSender;
+		// the catalogue versions are also bumped when the exam and disease types change
+		this.asyncReports = Map.of(
+			"exams-list", new AsyncReport(() -> catalogues.version(Catalogue.EXAMS), reportsManager::getExamsListPdf),
+			"diseases-list", new AsyncReport(() -> catalogues.version(Catalogue.DISEASES), reportsManager::getDiseasesListPdf));
 	}
 
 	@GetMapping("/reports/exams-list")
-	public ResponseEntity<byte[]> printExamsListPdf(HttpServletRequest request) throws OHServiceException, IOException {
-		return getReport(reportsManager.getExamsListPdf(), request);
+	public void printExamsListPdf(HttpServletRequest request, HttpServletResponse response) throws OHServiceException, IOException {
+		getReport("exams-list", reportsManager::getExamsListPdf, request, response);
 	}
 
 	@GetMapping("/reports/diseases-list")
-	public ResponseEntity<byte[]> printDiseasesListPdf(HttpServletRequest request) throws OHServiceException, IOException {
-		return getReport(reportsManager.getDiseasesListPdf(), request);
+	public void printDiseasesListPdf(HttpServletRequest request, HttpServletResponse response) throws OHServiceException, IOException {
+		getReport("diseases-list", reportsManager::getDiseasesListPdf, request, response);
 	}
 
-	private ResponseEntity<byte[]> getReport(
-		JasperReportResultDto resultDto, HttpServletRequest request
-	) throws OHServiceException, IOException {
-		Path report = Paths.get(resultDto.getFilename()).normalize();
-		Resource resource;
-		try {
-			resource = new UrlResource(report.toUri());
-			if (!resource.exists()) {
-				throw new OHAPIException(new OHExceptionMessage("File not found."));
-			}
-		} catch (MalformedURLException e) {
-			throw new OHAPIException(new OHExceptionMessage("File not found."));
+	/**
+	 * Starts the generation of a report, or returns the job already generating it when its data has not changed since.
+	 *
+	 * @param report the name of the report: {@code exams-list} or {@code diseases-list}
+	 * @return the job, to poll at its {@code Location}
+	 * @throws OHServiceException if the report is unknown or too many reports are waiting to be generated
+	 */
+	@PostMapping("/reports/jobs/{report}")
+	public ResponseEntity<ReportJobDTO> submitReportJob(@PathVariable("report") String report) throws OHServiceException {
+		AsyncReport asyncReport = asyncReports.get(report);
+		if (asyncReport == null) {
+			throw new OHAPIException(new OHExceptionMessage("Report not found."), HttpStatus.NOT_FOUND);
+		}
+		ReportJob job = reportJobs.submit(report, asyncReport.dataVersion().getAsLong(), asyncReport.generator());
+		ResponseEntity.BodyBuilder response = ResponseEntity.accepted().location(URI.create("/reports/jobs/" + job.getId()));
+		if (!job.isFinished()) {
+			response.header(HttpHeaders.RETRY_AFTER, String.valueOf(reportJobs.getRetryAfterSeconds()));
+		}
+		return response.body(job.toDTO());
+	}
+
+	@GetMapping("/reports/jobs/{id}")
+	public ResponseEntity<ReportJobDTO> getReportJob(@PathVariable("id") String id) throws OHServiceException {
+		ReportJob job = getJob(id);
+		if (!job.isFinished()) {
+			return ResponseEntity.accepted()
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(reportJobs.getRetryAfterSeconds()))
+				.body(job.toDTO());
 		}
+		return ResponseEntity.ok(job.toDTO());
+	}
 
-		String contentType;
-		try {
-			contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
-		} catch (IOException ex) {
-			throw new OHAPIException(new OHExceptionMessage("Failed to load the file's type."));
+	@GetMapping(value = "/reports/jobs/{id}/file", produces = { MediaType.APPLICATION_PDF_VALUE, MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<ReportJobDTO> getReportJobFile(
+		@PathVariable("id") String id, HttpServletRequest request, HttpServletResponse response
+	) throws OHServiceException, IOException {
+		ReportJob job = getJob(id);
+		switch (job.getStatus()) {
+			case DONE:
+				reportFileSender.send(job.getFile(), job.getReport() + ".pdf", MediaType.APPLICATION_PDF_VALUE, request, response);
+				// the response has been written by the sender
+				return null;
+			case FAILED:
+				throw new OHAPIException(new OHExceptionMessage(job.getError()), HttpStatus.INTERNAL_SERVER_ERROR);
+			default:
+				return ResponseEntity.accepted()
+					.header(HttpHeaders.RETRY_AFTER, String.valueOf(reportJobs.getRetryAfterSeconds()))
+					.body(job.toDTO());
 		}
+	}
 
-		// Fallback to the default content type if type could not be determined
-		if (contentType == null) {
-			contentType = "application/octet-stream";
+	private ReportJob getJob(String id) throws OHAPIException {
+		ReportJob job = reportJobs.get(id);
+		if (job == null) {
+			throw new OHAPIException(new OHExceptionMessage("Report job not found."), HttpStatus.NOT_FOUND);
 		}
+		return job;
+	}
 
-		byte[] out = IOUtils.toByteArray(resource.getInputStream());
+	private void getReport(
+		String report, ReportJobs.Generator generator, HttpServletRequest request, HttpServletResponse response
+	) throws OHServiceException, IOException {
+		// each request sends its own copy: the manager writes every generation of a report to the same file
+		Path generated = reportJobs.generateNow(report, generator);
+		reportFileSender.sendAndDelete(generated, report + ".pdf", MediaType.APPLICATION_PDF_VALUE, request, response);
+	}
 
-		return ResponseEntity.ok()
-			.contentType(MediaType.parseMediaType(contentType))
-			.header(HttpHeaders.CONTENT_DISPOSITION,
-				"attachment; filename=\"" + resource.getFilename() + '"')
-			.body(out);
+	private record AsyncReport(LongSupplier dataVersion, ReportJobs.Generator generator) {
 	}
 }
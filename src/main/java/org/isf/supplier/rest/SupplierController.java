@@ -26,6 +26,8 @@ import java.util.List;
 import jakarta.validation.Valid;
 
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.supplier.dto.SupplierDTO;
 import org.isf.supplier.manager.SupplierBrowserManager;
 import org.isf.supplier.mapper.SupplierMapper;
@@ -46,6 +48,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -62,9 +65,12 @@ public class SupplierController {
 
 	private final SupplierMapper mapper;
 
-	public SupplierController(SupplierBrowserManager manager, SupplierMapper mapper) {
+	private final CatalogueVersions catalogues;
+
+	public SupplierController(SupplierBrowserManager manager, SupplierMapper mapper, CatalogueVersions catalogues) {
 		this.manager = manager;
 		this.mapper = mapper;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -79,6 +85,7 @@ public class SupplierController {
 		LOGGER.info("Saving a new supplier...");
 		try {
 			Supplier newSupplier = manager.saveOrUpdate(mapper.map2Model(supplierDTO));
+			catalogues.bump(Catalogue.SUPPLIERS);
 			LOGGER.info("Supplier saved successfully.");
 			return mapper.map2DTO(newSupplier);
 		} catch (OHServiceException serviceException) {
@@ -101,6 +108,7 @@ public class SupplierController {
 		LOGGER.info("Updating supplier...");
 		try {
 			Supplier updatedSupplier = manager.saveOrUpdate(mapper.map2Model(supplierDTO));
+			catalogues.bump(Catalogue.SUPPLIERS);
 			LOGGER.info("Supplier updated successfully.");
 			return mapper.map2DTO(updatedSupplier);
 		} catch (OHServiceException serviceException) {
@@ -112,14 +120,19 @@ public class SupplierController {
 	/**
 	 * Get the suppliers.
 	 * @param excludeDeleted Whether to exclude deleted suppliers or not
+	 * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
 	 * @return the list of suppliers found
 	 * @throws OHServiceException When failed to retrieve suppliers
 	 */
 	@GetMapping("/suppliers")
 	public List<SupplierDTO> getSuppliers(
-		@RequestParam(name="exclude_deleted", defaultValue="true") boolean excludeDeleted
+		@RequestParam(name="exclude_deleted", defaultValue="true") boolean excludeDeleted,
+		WebRequest request
 	) throws OHServiceException {
 		LOGGER.info("Loading suppliers...");
+		if (request.checkNotModified(catalogues.eTag(Catalogue.SUPPLIERS))) {
+			return null;
+		}
 		List<Supplier> suppliers = excludeDeleted? manager.getList() : manager.getAll();
 		LOGGER.info("Found {} suppliers.", suppliers.size());
 
@@ -164,6 +177,7 @@ public class SupplierController {
 		LOGGER.info("Deleting supplier with ID {}", id);
 
 		manager.delete(supplier);
+		catalogues.bump(Catalogue.SUPPLIERS);
 
 		LOGGER.info("Supplier with ID {} deleted", id);
 	}
@@ -35,6 +35,7 @@ import org.isf.permissions.manager.PermissionManager;
 import org.isf.permissions.mapper.PermissionMapper;
 import org.isf.permissions.model.GroupPermission;
 import org.isf.permissions.model.Permission;
+import org.isf.security.UserDetailsCache;
 import org.isf.shared.exceptions.OHAPIException;
 import org.isf.usergroups.dto.GroupPermissionsDTO;
 import org.isf.usergroups.dto.UserGroupDTO;
@@ -78,18 +79,22 @@ public class UserGroupController {
 
 	private final UserBrowsingManager userManager;
 
+	private final UserDetailsCache userDetailsCache;
+
 	public UserGroupController(
 		PermissionManager permissionManager,
 		GroupPermissionManager groupPermissionManager,
 		UserGroupMapper userGroupMapper,
 		PermissionMapper permissionMapper,
-		UserBrowsingManager userManager
+		UserBrowsingManager userManager,
+		UserDetailsCache userDetailsCache
 	) {
 		this.permissionManager = permissionManager;
 		this.groupPermissionManager = groupPermissionManager;
 		this.userGroupMapper = userGroupMapper;
 		this.permissionMapper = permissionMapper;
 		this.userManager = userManager;
+		this.userDetailsCache = userDetailsCache;
 	}
 
 	/**
@@ -115,6 +120,7 @@ public class UserGroupController {
 		UserGroup group = userManager.findUserGroupByCode(code, true);
 		try {
 			userManager.deleteGroup(group);
+			userDetailsCache.evictUserGroup(code);
 		} catch (OHServiceException ex) {
 			OHExceptionMessage mex = ex.getMessages().get(0);
 			throw new OHAPIException(new OHExceptionMessage(Objects.equals(mex, null) ? "User group not deleted" : mex.getMessage()));
@@ -170,6 +176,7 @@ public class UserGroupController {
 
 		if (oldUserGroup.isDeleted() && !group.isDeleted()) {
 			userManager.updateUserGroup(group);
+			userDetailsCache.evictUserGroup(code);
 			return loadUserGroupDTO(group.getCode(), true);
 		}
 
@@ -181,6 +188,7 @@ public class UserGroupController {
 		}
 
 		UserGroup updatedUserGroup = userManager.updateUserGroup(group, permissions);
+		userDetailsCache.evictUserGroup(code);
 		if (updatedUserGroup != null) {
 			return loadUserGroupDTO(group.getCode(), true);
 		} else {
@@ -224,7 +232,9 @@ public class UserGroupController {
 		}
 
 		try {
-			return groupPermissionManager.create(userGroup, permission).getId();
+			int groupPermissionId = groupPermissionManager.create(userGroup, permission).getId();
+			userDetailsCache.evictUserGroup(userGroupCode);
+			return groupPermissionId;
 		} catch (OHDataValidationException e) {
 			throw new OHAPIException(new OHExceptionMessage("Failed to assign permission"));
 		}
@@ -250,9 +260,9 @@ public class UserGroupController {
 		}
 
 		try {
-			return permissionMapper.map2DTOList(
-				groupPermissionManager.update(userGroup, payload.permissionIds(), false)
-			);
+			List<Permission> permissions = groupPermissionManager.update(userGroup, payload.permissionIds(), false);
+			userDetailsCache.evictUserGroup(userGroupCode);
+			return permissionMapper.map2DTOList(permissions);
 		} catch (OHDataValidationException e) {
 			LOGGER.info("Fail to update user groups permissions, reason: {}", e.getMessage());
 			throw new OHAPIException(new OHExceptionMessage("Failed to update permissions"));
@@ -289,9 +299,9 @@ public class UserGroupController {
 		}
 
 		try {
-			return permissionMapper.map2DTOList(
-				groupPermissionManager.update(userGroup, payload.permissionIds(), true)
-			);
+			List<Permission> permissions = groupPermissionManager.update(userGroup, payload.permissionIds(), true);
+			userDetailsCache.evictUserGroup(userGroupCode);
+			return permissionMapper.map2DTOList(permissions);
 		} catch (OHDataValidationException e) {
 			LOGGER.info("Fail to replace user groups permissions, reason: {}", e.getMessage());
 			throw new OHAPIException(new OHExceptionMessage("Failed to update permissions"));
@@ -323,6 +333,7 @@ public class UserGroupController {
 
 		try {
 			groupPermissionManager.delete(userGroup, permission);
+			userDetailsCache.evictUserGroup(userGroupCode);
 		} catch (OHDataValidationException e) {
 			throw new OHAPIException(new OHExceptionMessage("Failed to revoke permission"));
 		}
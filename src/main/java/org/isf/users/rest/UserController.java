@@ -33,6 +33,7 @@ import org.isf.permissions.dto.PermissionDTO;
 import org.isf.permissions.manager.PermissionManager;
 import org.isf.permissions.mapper.PermissionMapper;
 import org.isf.permissions.model.Permission;
+import org.isf.security.UserDetailsCache;
 import org.isf.shared.exceptions.OHAPIException;
 import org.isf.usergroups.mapper.UserGroupMapper;
 import org.isf.users.dto.UserDTO;
@@ -77,18 +78,22 @@ public class UserController {
 
 	private final UserBrowsingManager userManager;
 
+	private final UserDetailsCache userDetailsCache;
+
 	public UserController(
 		PermissionManager permissionManager,
 		PermissionMapper permissionMapper,
 		UserMapper userMapper,
 		UserGroupMapper userGroupMapper,
-		UserBrowsingManager userManager
+		UserBrowsingManager userManager,
+		UserDetailsCache userDetailsCache
 	) {
 		this.permissionManager = permissionManager;
 		this.permissionMapper = permissionMapper;
 		this.userMapper = userMapper;
 		this.userGroupMapper = userGroupMapper;
 		this.userManager = userManager;
+		this.userDetailsCache = userDetailsCache;
 	}
 
 	/**
@@ -155,6 +160,7 @@ public class UserController {
 		} else {
 			updatedUser = userManager.updateUser(user);
 		}
+		userDetailsCache.evictUser(userName);
 		if (updatedUser != null) {
 			LOGGER.info("User {} has been updated successfully.", userName);
 			updatedUser.setPasswd(null);
@@ -197,6 +203,7 @@ public class UserController {
 		}
 		try {
 			userManager.deleteUser(foundUser);
+			userDetailsCache.evictUser(username);
 		} catch (OHServiceException ex) {
 			ex.printStackTrace();
 			OHExceptionMessage mex = ex.getMessages().get(0);
@@ -244,6 +251,7 @@ public class UserController {
 		} else {
 			updatedUser = userManager.updateUser(user);
 		}
+		userDetailsCache.evictUser(currentUser);
 		if (updatedUser != null) {
 			LOGGER.info("User {} has been successfully updated.", currentUser);
 			return retrieveProfile(currentUser);
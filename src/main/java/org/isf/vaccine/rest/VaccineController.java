@@ -24,6 +24,8 @@ package org.isf.vaccine.rest;
 import java.util.List;
 
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHDataIntegrityViolationException;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
@@ -44,6 +46,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -60,20 +63,27 @@ public class VaccineController {
 
     private final VaccineMapper mapper;
 
-    public VaccineController(VaccineBrowserManager vaccineManager, VaccineMapper vaccineMapper) {
+    private final CatalogueVersions catalogues;
+
+    public VaccineController(VaccineBrowserManager vaccineManager, VaccineMapper vaccineMapper, CatalogueVersions catalogues) {
         this.vaccineManager = vaccineManager;
         this.mapper = vaccineMapper;
+        this.catalogues = catalogues;
     }
 
     /**
      * Get all the vaccines.
      *
+     * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
      * @return List of vaccines.
      * @throws OHServiceException When failed to get vaccine
      */
     @GetMapping("/vaccines")
-    public List<VaccineDTO> getVaccines() throws OHServiceException {
+    public List<VaccineDTO> getVaccines(WebRequest request) throws OHServiceException {
         LOGGER.info("Get vaccines");
+        if (request.checkNotModified(catalogues.eTag(Catalogue.VACCINES))) {
+            return null;
+        }
 
         return mapper.map2DTOList(vaccineManager.getVaccine());
     }
@@ -104,7 +114,9 @@ public class VaccineController {
     public VaccineDTO newVaccine(@RequestBody VaccineDTO newVaccine) throws OHServiceException {
         LOGGER.info("Create vaccine: {}", newVaccine);
         try {
-            return mapper.map2DTO(vaccineManager.newVaccine(mapper.map2Model(newVaccine)));
+            Vaccine vaccine = vaccineManager.newVaccine(mapper.map2Model(newVaccine));
+            catalogues.bump(Catalogue.VACCINES);
+            return mapper.map2DTO(vaccine);
         } catch (OHDataIntegrityViolationException e) {
             throw new OHAPIException(new OHExceptionMessage("Vaccine type already present."));
         } catch (OHServiceException serviceException) {
@@ -124,7 +136,9 @@ public class VaccineController {
         LOGGER.info("Update vaccine: {}", updateVaccine);
 
         try {
-            return mapper.map2DTO(vaccineManager.updateVaccine(mapper.map2Model(updateVaccine)));
+            Vaccine vaccine = vaccineManager.updateVaccine(mapper.map2Model(updateVaccine));
+            catalogues.bump(Catalogue.VACCINES);
+            return mapper.map2DTO(vaccine);
         } catch (OHServiceException serviceException) {
             throw new OHAPIException(new OHExceptionMessage("Vaccine not updated."));
         }
@@ -147,6 +161,7 @@ public class VaccineController {
 
         try {
             vaccineManager.deleteVaccine(vaccine);
+            catalogues.bump(Catalogue.VACCINES);
             return true;
         } catch (OHServiceException serviceException) {
             throw new OHAPIException(new OHExceptionMessage("Vaccine not deleted."));
@@ -24,6 +24,8 @@ package org.isf.vactype.rest;
 import java.util.List;
 
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
 import org.isf.utils.exception.OHDataIntegrityViolationException;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
@@ -60,12 +62,16 @@ public class VaccineTypeController {
 
 	private final VaccineTypeMapper mapper;
 
+	private final CatalogueVersions catalogues;
+
 	public VaccineTypeController(
 		VaccineTypeBrowserManager vaccineTypeManager,
-		VaccineTypeMapper vaccineTypeMapper
+		VaccineTypeMapper vaccineTypeMapper,
+		CatalogueVersions catalogues
 	) {
 		this.vaccineTypeManager = vaccineTypeManager;
 		this.mapper = vaccineTypeMapper;
+		this.catalogues = catalogues;
 	}
 
 	/**
@@ -92,7 +98,9 @@ public class VaccineTypeController {
 	public VaccineTypeDTO newVaccineType(@RequestBody VaccineTypeDTO newVaccineType) throws OHServiceException {
 		LOGGER.info("Create vaccine type: {}", newVaccineType);
 		try {
-			return mapper.map2DTO(vaccineTypeManager.newVaccineType(mapper.map2Model(newVaccineType)));
+			VaccineType vaccineType = vaccineTypeManager.newVaccineType(mapper.map2Model(newVaccineType));
+			catalogues.bump(Catalogue.VACCINE_TYPES);
+			return mapper.map2DTO(vaccineType);
 		} catch (OHDataIntegrityViolationException e) {
 			throw new OHAPIException(new OHExceptionMessage("Vaccine Type already present."));
 		} catch (OHServiceException e) {
@@ -112,7 +120,10 @@ public class VaccineTypeController {
 		LOGGER.info("Update vaccine type: {}", updateVaccineType);
 
 		try {
-			return mapper.map2DTO(vaccineTypeManager.updateVaccineType(mapper.map2Model(updateVaccineType)));
+			VaccineType vaccineType = vaccineTypeManager.updateVaccineType(mapper.map2Model(updateVaccineType));
+			// the vaccines embed their type
+			catalogues.bump(Catalogue.VACCINE_TYPES, Catalogue.VACCINES);
+			return mapper.map2DTO(vaccineType);
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Vaccine Type not updated."));
 		}
@@ -135,6 +146,7 @@ public class VaccineTypeController {
 		}
 		try {
 			vaccineTypeManager.deleteVaccineType(vaccineType);
+			catalogues.bump(Catalogue.VACCINE_TYPES);
 			return true;
 		} catch (OHServiceException serviceException) {
 			throw new OHAPIException(new OHExceptionMessage("Vaccine Type not deleted."));
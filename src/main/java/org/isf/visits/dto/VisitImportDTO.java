@@ -0,0 +1,107 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.visits.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Report of a bulk import of visits")
+public class VisitImportDTO {
+
+	@Schema(description = "Number of visits received")
+	private int total;
+
+	@Schema(description = "Number of visits created")
+	private int created;
+
+	@Schema(description = "Number of visits not created")
+	private int failed;
+
+	@Schema(description = "Number of visits written per transaction")
+	private int chunkSize;
+
+	@Schema(description = "Duration of the import in milliseconds")
+	private long durationInMillis;
+
+	@Schema(description = "Visits created per second")
+	private double visitsPerSecond;
+
+	@Schema(description = "Outcome of each visit, in the order received")
+	private List<VisitImportItemDTO> items;
+
+	public int getTotal() {
+		return total;
+	}
+
+	public void setTotal(int total) {
+		this.total = total;
+	}
+
+	public int getCreated() {
+		return created;
+	}
+
+	public void setCreated(int created) {
+		this.created = created;
+	}
+
+	public int getFailed() {
+		return failed;
+	}
+
+	public void setFailed(int failed) {
+		this.failed = failed;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	public long getDurationInMillis() {
+		return durationInMillis;
+	}
+
+	public void setDurationInMillis(long durationInMillis) {
+		this.durationInMillis = durationInMillis;
+	}
+
+	public double getVisitsPerSecond() {
+		return visitsPerSecond;
+	}
+
+	public void setVisitsPerSecond(double visitsPerSecond) {
+		this.visitsPerSecond = visitsPerSecond;
+	}
+
+	public List<VisitImportItemDTO> getItems() {
+		return items;
+	}
+
+	public void setItems(List<VisitImportItemDTO> items) {
+		this.items = items;
+	}
+}
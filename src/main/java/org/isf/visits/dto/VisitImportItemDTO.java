@@ -0,0 +1,90 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.visits.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of the import of one visit")
+public class VisitImportItemDTO {
+
+	@Schema(description = "Position of the visit in the imported list, from 0")
+	private int index;
+
+	@Schema(description = "Whether the visit has been created")
+	private boolean created;
+
+	@Schema(description = "The ID of the created visit, 0 if not created")
+	private int visitID;
+
+	@Schema(description = "Why the visit has not been created")
+	private String error;
+
+	public VisitImportItemDTO() {
+	}
+
+	public VisitImportItemDTO(int index, boolean created, int visitID, String error) {
+		this.index = index;
+		this.created = created;
+		this.visitID = visitID;
+		this.error = error;
+	}
+
+	public static VisitImportItemDTO created(int index, int visitID) {
+		return new VisitImportItemDTO(index, true, visitID, null);
+	}
+
+	public static VisitImportItemDTO failed(int index, String error) {
+		return new VisitImportItemDTO(index, false, 0, error);
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public void setIndex(int index) {
+		this.index = index;
+	}
+
+	public boolean isCreated() {
+		return created;
+	}
+
+	public void setCreated(boolean created) {
+		this.created = created;
+	}
+
+	public int getVisitID() {
+		return visitID;
+	}
+
+	public void setVisitID(int visitID) {
+		this.visitID = visitID;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.visits.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.isf.utils.exception.OHServiceException;
+import org.isf.visits.manager.VisitManager;
+import org.isf.visits.model.Visit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes a chunk of a {@link VisitImporter bulk import} in its own transaction: either all the visits of the chunk are
+ * created, or none.
+ * <p>
+ * The visit ids are generated by the database (identity columns), so Hibernate inserts each visit with its own statement
+ * even with {@code hibernate.jdbc.batch_size} set: a chunk saves the transaction per visit, not the statement per visit.
+ */
+@Component
+public class VisitImportWriter {
+
+	private final VisitManager visitManager;
+
+	public VisitImportWriter(VisitManager visitManager) {
+		this.visitManager = visitManager;
+	}
+
+	/**
+	 * @param visits the visits of the chunk
+	 * @return the created visits, in the same order
+	 * @throws OHServiceException if a visit is invalid or cannot be stored, the chunk is rolled back
+	 */
+	@Transactional(rollbackFor = OHServiceException.class)
+	public List<Visit> write(List<Visit> visits) throws OHServiceException {
+		List<Visit> created = new ArrayList<>(visits.size());
+		for (Visit visit : visits) {
+			created.add(visitManager.newVisit(visit));
+		}
+		return created;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.visits.rest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.isf.visits.dto.VisitDTO;
+import org.isf.visits.dto.VisitImportDTO;
+import org.isf.visits.dto.VisitImportItemDTO;
+import org.isf.visits.mapper.VisitMapper;
+import org.isf.visits.model.Visit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports a large list of visits by chunks of {@code visits.import.chunkSize}, each chunk in its own transaction
+ * ({@link VisitImportWriter}), so that an import neither holds one huge transaction nor fails as a whole.
+ * <p>
+ * When a chunk fails, its visits are written again one by one to tell the invalid ones from the others; the outcome of
+ * every visit is reported.
+ */
+@Component
+public class VisitImporter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VisitImporter.class);
+
+	private final VisitImportWriter writer;
+
+	private final VisitMapper mapper;
+
+	private final int defaultChunkSize;
+
+	private final int maxSize;
+
+	public VisitImporter(
+		VisitImportWriter writer,
+		VisitMapper mapper,
+		@Value("${visits.import.chunkSize:500}") int defaultChunkSize,
+		@Value("${visits.import.maxSize:100000}") int maxSize
+	) {
+		this.writer = writer;
+		this.mapper = mapper;
+		this.defaultChunkSize = defaultChunkSize;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param visits the visits to create
+	 * @param chunkSize the number of visits per transaction, {@code null} for {@code visits.import.chunkSize}
+	 * @return the outcome of each visit and the throughput of the import
+	 * @throws OHAPIException if the chunk size is not positive or there are more than {@code visits.import.maxSize} visits
+	 */
+	public VisitImportDTO importVisits(List<VisitDTO> visits, Integer chunkSize) throws OHAPIException {
+		int size = chunkSize == null ? defaultChunkSize : chunkSize;
+		if (size <= 0) {
+			throw new OHAPIException(new OHExceptionMessage("The chunk size must be positive."));
+		}
+		if (maxSize > 0 && visits.size() > maxSize) {
+			throw new OHAPIException(new OHExceptionMessage("Too many visits: at most " + maxSize + " can be imported at once."),
+							HttpStatus.PAYLOAD_TOO_LARGE);
+		}
+
+		long start = System.nanoTime();
+		List<VisitImportItemDTO> items = new ArrayList<>(visits.size());
+		for (int from = 0; from < visits.size(); from += size) {
+			importChunk(visits.subList(from, Math.min(from + size, visits.size())), from, items);
+		}
+		long durationInNanos = System.nanoTime() - start;
+
+		VisitImportDTO report = new VisitImportDTO();
+		report.setTotal(visits.size());
+		report.setCreated((int) items.stream().filter(VisitImportItemDTO::isCreated).count());
+		report.setFailed(visits.size() - report.getCreated());
+		report.setChunkSize(size);
+		report.setDurationInMillis(durationInNanos / 1_000_000);
+		report.setVisitsPerSecond(durationInNanos == 0 ? 0 : report.getCreated() * 1e9 / durationInNanos);
+		report.setItems(items);
+		LOGGER.info("Imported {} visits of {} in {} ms", report.getCreated(), report.getTotal(), report.getDurationInMillis());
+		return report;
+	}
+
+	private void importChunk(List<VisitDTO> chunk, int offset, List<VisitImportItemDTO> items) {
+		try {
+			List<Visit> created = writer.write(mapper.map2ModelList(chunk));
+			for (int i = 0; i < created.size(); i++) {
+				items.add(VisitImportItemDTO.created(offset + i, created.get(i).getVisitID()));
+			}
+		} catch (OHServiceException | RuntimeException chunkFailure) {
+			LOGGER.debug("Chunk of visits from {} failed, importing them one by one", offset, chunkFailure);
+			for (int i = 0; i < chunk.size(); i++) {
+				items.add(importOne(chunk.get(i), offset + i));
+			}
+		}
+	}
+
+	private VisitImportItemDTO importOne(VisitDTO visit, int index) {
+		try {
+			return VisitImportItemDTO.created(index, writer.write(List.of(mapper.map2Model(visit))).get(0).getVisitID());
+		} catch (OHServiceException e) {
+			return VisitImportItemDTO.failed(index, e.getMessages().isEmpty() ? e.getMessage() : e.getMessages().get(0).getMessage());
+		} catch (RuntimeException e) {
+			return VisitImportItemDTO.failed(index, e.getMessage());
+		}
+	}
+}
@@ -27,6 +27,7 @@ import org.isf.shared.exceptions.OHAPIException;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.visits.dto.VisitDTO;
+import org.isf.visits.dto.VisitImportDTO;
 import org.isf.visits.manager.VisitManager;
 import org.isf.visits.mapper.VisitMapper;
 import org.isf.visits.model.Visit;
@@ -41,6 +42,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -59,9 +61,12 @@ public class VisitsController {
 
 	private final VisitMapper mapper;
 
-	public VisitsController(VisitManager visitManager, VisitMapper visitMapper) {
+	private final VisitImporter visitImporter;
+
+	public VisitsController(VisitManager visitManager, VisitMapper visitMapper, VisitImporter visitImporter) {
 		this.visitManager = visitManager;
 		this.mapper = visitMapper;
+		this.visitImporter = visitImporter;
 	}
 
 	/**
@@ -106,6 +111,23 @@ public class VisitsController {
 		return visitManager.newVisits(mapper.map2ModelList(newVisits));
 	}
 
+	/**
+	 * Chunked variant of {@link #newVisits(List)}, selected by the {@code chunkSize} parameter (empty for the configured
+	 * size): the visits are created by chunks, each in its own transaction, and the outcome of each visit is reported.
+	 *
+	 * @param newVisits a list with all the visitors
+	 * @param chunkSize the number of visits per transaction
+	 * @return the outcome of each visit and the throughput of the import
+	 * @throws OHServiceException When the chunk size is invalid or there are too many visits
+	 */
+	@PostMapping(value = "/visits/insertList", params = "chunkSize")
+	public VisitImportDTO importVisits(
+		@RequestBody List<VisitDTO> newVisits, @RequestParam(required = false) Integer chunkSize
+	) throws OHServiceException {
+		LOGGER.info("Import {} Visits", newVisits.size());
+		return visitImporter.importVisits(newVisits, chunkSize);
+	}
+
 	/**
 	 * Delete all the visits related to a patient.
 	 *
@@ -24,11 +24,13 @@ package org.isf.ward.mapper;
 import org.isf.shared.GenericMapper;
 import org.isf.ward.dto.WardDTO;
 import org.isf.ward.model.Ward;
+import org.mapstruct.factory.Mappers;
 import org.springframework.stereotype.Component;
 
 @Component
 public class WardMapper extends GenericMapper<Ward, WardDTO> {
 	public WardMapper() {
 		super(Ward.class, WardDTO.class);
+		useBackend(Mappers.getMapper(WardMappingBackend.class));
 	}
 }
\ No newline at end of file
@@ -24,6 +24,9 @@ package org.isf.ward.rest;
 import java.util.List;
 
 import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.ward.dto.WardDTO;
@@ -43,6 +46,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -59,20 +63,31 @@ public class WardController {
 
     private final WardMapper mapper;
 
-    public WardController(WardBrowserManager wardManager, WardMapper wardMapper) {
+    private final ReferenceDataRegistry referenceData;
+
+    private final CatalogueVersions catalogues;
+
+    public WardController(WardBrowserManager wardManager, WardMapper wardMapper, ReferenceDataRegistry referenceData,
+        CatalogueVersions catalogues) {
         this.wardManager = wardManager;
         this.mapper =  wardMapper;
+        this.referenceData = referenceData;
+        this.catalogues = catalogues;
     }
 
     /**
      * Get all the {@link Ward}s.
      *
+     * @param request the request, answered with NOT_MODIFIED when its {@code If-None-Match} holds the current version
      * @return NO_CONTENT if there aren't wards, {@code List<WardDTO>} otherwise
      * @throws OHServiceException When failed to get wards
      */
     @GetMapping(value = "/wards")
-    public List<WardDTO> getWards() throws OHServiceException {
+    public List<WardDTO> getWards(WebRequest request) throws OHServiceException {
         LOGGER.info("Get wards");
+        if (request.checkNotModified(catalogues.eTag(Catalogue.WARDS))) {
+            return null;
+        }
 
         return mapper.map2DTOList(wardManager.getWards());
     }
@@ -117,6 +132,8 @@ public class WardController {
     public WardDTO newWard(@RequestBody WardDTO newWard) throws OHServiceException {
         LOGGER.info("Create Ward: {}", newWard);
         Ward wardCreated = wardManager.newWard(mapper.map2Model(newWard));
+        referenceData.refresh(Ward.class);
+        catalogues.bump(Catalogue.WARDS);
         if (wardCreated == null) {
             throw new OHAPIException(new OHExceptionMessage("Ward not created."));
         }
@@ -137,6 +154,8 @@ public class WardController {
         Ward ward = mapper.map2Model(updateWard);
         ward.setLock(updateWard.getLock());
         Ward wardUpdated = wardManager.updateWard(ward);
+        referenceData.refresh(Ward.class);
+        catalogues.bump(Catalogue.WARDS);
         if (wardUpdated == null) {
             throw new OHAPIException(new OHExceptionMessage("Ward not updated."));
         }
@@ -162,6 +181,8 @@ public class WardController {
 
         try {
             wardManager.deleteWard(ward);
+            referenceData.refresh(Ward.class);
+            catalogues.bump(Catalogue.WARDS);
             return true;
         } catch (OHServiceException serviceException) {
             throw new OHAPIException(new OHExceptionMessage("Ward not deleted."));
@@ -196,6 +217,11 @@ public class WardController {
         @PathVariable Boolean createIfNotExist
     ) throws OHServiceException {
         LOGGER.info("Check ward maternity code");
-        return wardManager.maternityControl(createIfNotExist);
+        boolean exists = wardManager.maternityControl(createIfNotExist);
+        if (Boolean.TRUE.equals(createIfNotExist)) {
+            referenceData.refresh(Ward.class);
+            catalogues.bump(Catalogue.WARDS);
+        }
+        return exists;
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.admission.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.admission.manager.AdmissionBrowserManager;
+import org.isf.patient.model.Patient;
+import org.isf.testing.jpa.EntityFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Compares {@link AdmittedPatientLoader} with {@link AdmissionBrowserManager#getCurrentAdmission} on the H2 test database,
+ * for patients with open, discharged and deleted admissions.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@Transactional
+class AdmittedPatientLoaderTest {
+
+	@Autowired
+	private AdmittedPatientLoader admittedPatientLoader;
+
+	@Autowired
+	private AdmissionBrowserManager admissionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	void testFindAdmittedMatchesTheCurrentAdmissions() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		LocalDateTime date = LocalDateTime.of(2001, 2, 3, 10, 0);
+		Patient admitted = fixtures.patient();
+		fixtures.admission(admitted, date, true, null, "N");
+		Patient discharged = fixtures.patient();
+		fixtures.admission(discharged, date, false, date.plusDays(2), "N");
+		Patient deleted = fixtures.patient();
+		fixtures.admission(deleted, date, true, null, "Y");
+		Patient readmitted = fixtures.patient();
+		fixtures.admission(readmitted, date, false, date.plusDays(2), "N");
+		fixtures.admission(readmitted, date.plusDays(5), true, null, "N");
+		Patient neverAdmitted = fixtures.patient();
+		fixtures.flushAndClear();
+		List<Patient> patients = List.of(admitted, discharged, deleted, readmitted, neverAdmitted);
+
+		Set<Integer> found = admittedPatientLoader.findAdmitted(patients.stream().map(Patient::getCode).toList());
+
+		assertThat(found).containsExactlyInAnyOrder(admitted.getCode(), readmitted.getCode());
+		for (Patient patient : patients) {
+			assertThat(found.contains(patient.getCode()))
+				.as("admission status of patient %d", patient.getCode())
+				.isEqualTo(admissionManager.getCurrentAdmission(patient) != null);
+		}
+	}
+}
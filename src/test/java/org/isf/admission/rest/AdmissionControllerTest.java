@@ -23,6 +23,10 @@ package org.isf.admission.rest;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -30,6 +34,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
@@ -53,12 +58,15 @@ import org.isf.disease.manager.DiseaseBrowserManager;
 import org.isf.disease.model.Disease;
 import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
 import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
+import org.isf.exa.manager.ExamBrowsingManager;
 import org.isf.operation.data.OperationHelper;
 import org.isf.operation.manager.OperationBrowserManager;
 import org.isf.operation.model.Operation;
 import org.isf.patient.data.PatientHelper;
+import org.isf.patient.dto.PatientSummaryDTO;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
+import org.isf.patient.repository.PatientSummaryRepository;
 import org.isf.pregtreattype.data.PregnantTreatmentTypeHelper;
 import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
 import org.isf.pregtreattype.model.PregnantTreatmentType;
@@ -66,6 +74,9 @@ import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
 import org.isf.shared.mapper.mappings.PatientMapping;
+import org.isf.shared.pagination.KeysetRepository;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.ward.data.WardHelper;
 import org.isf.ward.manager.WardBrowserManager;
 import org.isf.ward.model.Ward;
@@ -78,11 +89,14 @@ import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class AdmissionControllerTest {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionControllerTest.class);
@@ -114,6 +128,15 @@ class AdmissionControllerTest {
 	@Mock
 	private DischargeTypeBrowserManager dischargeTypeManagerMock;
 
+	@Mock
+	private ExamBrowsingManager examManagerMock;
+
+	@Mock
+	private KeysetRepository keysetRepositoryMock;
+
+	@Mock
+	private PatientSummaryRepository patientSummaryRepositoryMock;
+
 	private final AdmissionMapper admissionMapper;
 
 	private final AdmittedPatientMapper admittedMapper;
@@ -132,9 +155,10 @@ class AdmissionControllerTest {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
 			.standaloneSetup(new AdmissionController(admissionManagerMock, patientManagerMock, wardManagerMock,
-				diseaseManagerMock, pregnancyTreatmentTypeManagerMock,
-				deliveryTypeManager, deliveryResultTypeManagerMock, admissionMapper,
-				admittedMapper, dischargeTypeManagerMock)
+				admissionMapper, admittedMapper, dischargeTypeManagerMock,
+				new ReferenceDataRegistry(wardManagerMock, admissionManagerMock, diseaseManagerMock, pregnancyTreatmentTypeManagerMock,
+					deliveryTypeManager, deliveryResultTypeManagerMock, examManagerMock),
+				keysetRepositoryMock, new PageSizePolicy(new MockEnvironment(), new SimpleMeterRegistry()), patientSummaryRepositoryMock)
 			)
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
@@ -239,6 +263,22 @@ class AdmissionControllerTest {
 		LOGGER.debug("result: {}", result);
 	}
 
+	@Test
+	void testGetAdmittedPatientsSummary_200() throws Exception {
+		List<PatientSummaryDTO> summaries = List.of(new PatientSummaryDTO(1, "Mario", "Rossi", "Mario Rossi", 40, 'M', "M", "MEDICINE"));
+		when(patientSummaryRepositoryMock.findAdmittedPatients(eq("rossi"), isNull(), isNull())).thenReturn(summaries);
+
+		this.mockMvc
+			.perform(get("/admissions/admittedPatients").param("searchterms", "rossi").param("fields", "summary"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(1))
+			.andExpect(jsonPath("$[0].wardDescription").value("MEDICINE"))
+			.andExpect(jsonPath("$[0].status").value("I"))
+			.andExpect(jsonPath("$[0].admission").doesNotExist());
+
+		verify(admissionManagerMock, times(0)).getAdmittedPatients(any(), any(), any(String.class));
+	}
+
 	@Test
 	void testGetPatientAdmissions_200() throws Exception {
 		int patientCode = 1;
@@ -423,6 +463,39 @@ class AdmissionControllerTest {
 		LOGGER.debug("result: {}", result);
 	}
 
+	@Test
+	void testNewAdmissionsReadReferenceDataOnce() throws Exception {
+		AdmissionDTO body = AdmissionHelper.setup(admissionMapper);
+		Integer code = 10;
+		body.getPatient().setCode(code);
+
+		when(wardManagerMock.getWards())
+			.thenReturn(WardHelper.setupWardList(2));
+		when(admissionManagerMock.getAdmissionType())
+			.thenReturn(AdmissionTypeDTOHelper.setupAdmissionTypeList(3));
+		Patient patient = PatientHelper.setup();
+		patient.setCode(code);
+		when(patientManagerMock.getPatientById(code))
+			.thenReturn(patient);
+		when(diseaseManagerMock.getDiseaseAll())
+			.thenReturn(DiseaseHelper.setupDiseaseList(3));
+		when(admissionManagerMock.getDischargeType())
+			.thenReturn(DischargeTypeHelper.setupDischargeTypeList(3));
+
+		for (int i = 0; i < 3; i++) {
+			this.mockMvc
+				.perform(post("/admissions")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(Objects.requireNonNull(AdmissionHelper.asJsonString(body))))
+				.andExpect(status().isCreated());
+		}
+
+		verify(wardManagerMock, times(1)).getWards();
+		verify(admissionManagerMock, times(1)).getAdmissionType();
+		verify(diseaseManagerMock, times(1)).getDiseaseAll();
+		verify(admissionManagerMock, times(1)).getDischargeType();
+	}
+
 	@Test
 	void testUpdateAdmissions() throws Exception {
 		String request = "/admissions";
@@ -0,0 +1,125 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.admission.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.admission.manager.AdmissionBrowserManager;
+import org.isf.admission.model.AdmittedPatient;
+import org.isf.patient.model.Patient;
+import org.isf.testing.jpa.EntityFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the summary ({@code fields=summary}) and the full listings of {@code /admissions/admittedPatients} with
+ * {@link AdmissionBrowserManager#getAdmittedPatients} on the H2 test database, for patients with open, discharged and
+ * deleted admissions: same patients, same order, same ward and admission status.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class AdmittedPatientsProjectionTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private AdmissionBrowserManager admissionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "admissions.read" })
+	void testSummaryMatchesTheFullListing() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		LocalDateTime date = LocalDateTime.of(2001, 2, 3, 10, 0);
+		Patient admitted = fixtures.patient();
+		fixtures.admission(admitted, date, true, null, "N");
+		Patient discharged = fixtures.patient();
+		fixtures.admission(discharged, date, false, date.plusDays(2), "N");
+		Patient deleted = fixtures.patient();
+		fixtures.admission(deleted, date, true, null, "Y");
+		Patient readmitted = fixtures.patient();
+		fixtures.admission(readmitted, date, false, date.plusDays(2), "N");
+		fixtures.admission(readmitted, date.plusDays(5), true, null, "N");
+		fixtures.patient();
+		fixtures.flushAndClear();
+
+		JsonNode summaries = list(get("/admissions/admittedPatients").param("fields", "summary"));
+		JsonNode full = list(get("/admissions/admittedPatients"));
+		List<AdmittedPatient> expected = admissionManager.getAdmittedPatients(null, null, "");
+
+		assertThat(codes(summaries, "code")).containsExactlyElementsOf(codes(full, "patient", "code"))
+			.containsExactlyElementsOf(expected.stream().map(admittedPatient -> admittedPatient.getPatient().getCode()).toList())
+			.contains(admitted.getCode(), discharged.getCode(), deleted.getCode(), readmitted.getCode());
+		for (int i = 0; i < summaries.size(); i++) {
+			JsonNode summary = summaries.get(i);
+			JsonNode admission = full.get(i).get("admission");
+			boolean isAdmitted = admission != null && !admission.isNull();
+			assertThat(summary.get("status").asText()).as("status of patient %s", summary.get("code")).isEqualTo(isAdmitted ? "I" : "O");
+			assertThat(summary.get("wardCode").isNull() ? null : summary.get("wardCode").asText())
+				.as("ward of patient %s", summary.get("code"))
+				.isEqualTo(isAdmitted ? admission.get("ward").get("code").asText() : null);
+		}
+	}
+
+	private JsonNode list(MockHttpServletRequestBuilder request) throws Exception {
+		String body = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body);
+	}
+
+	private static List<Integer> codes(JsonNode list, String... path) {
+		List<Integer> codes = new ArrayList<>();
+		for (JsonNode element : list) {
+			JsonNode code = element;
+			for (String field : path) {
+				code = code.get(field);
+			}
+			codes.add(code.asInt());
+		}
+		return codes;
+	}
+}
@@ -41,6 +41,8 @@ import org.isf.admtype.model.AdmissionType;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +64,9 @@ class AdmissionTypeControllerTest {
 	@Mock
 	protected AdmissionTypeBrowserManager admissionTypeManagerMock;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	protected AdmissionTypeMapper admissionTypemapper = new AdmissionTypeMapper();
 
 	private MockMvc mockMvc;
@@ -72,7 +77,7 @@ class AdmissionTypeControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new AdmissionTypeController(admissionTypeManagerMock, admissionTypemapper))
+			.standaloneSetup(new AdmissionTypeController(admissionTypeManagerMock, admissionTypemapper, referenceDataMock, new CatalogueVersions()))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -0,0 +1,152 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.bootstrap.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.isf.ward.model.Ward;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+@WithMockUser(username = "admin", authorities = { "agetypes.read", "deliverytypes.read", "deliveryresulttypes.read",
+	"pregnanttreatmenttypes.read", "diseasetypes.read", "examtypes.read", "medicaltypes.read", "medstockmovementtypes.read",
+	"operationtypes.read", "vaccinetypes.read", "admissiontypes.read", "dischargetypes.read", "wards.read" })
+class BootstrapControllerTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CatalogueVersions catalogues;
+
+	@Autowired
+	private WardBrowserManager wardManager;
+
+	private Ward ward;
+
+	private int wards;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ward = WardHelper.setup();
+		if (!wardManager.isCodePresent(ward.getCode())) {
+			wardManager.newWard(ward);
+		}
+		wards = wardManager.getWards().size();
+		// the bundle built by a previous test holds the wards of its own, rolled back, transaction
+		catalogues.bump(Catalogue.WARDS);
+	}
+
+	@Test
+	void testGetBootstrap_gzip() throws Exception {
+		MvcResult result = mvc.perform(get("/bootstrap").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+			.andDo(log())
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+			.andReturn();
+
+		JsonNode bundle = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray())));
+		assertThat(bundle.fieldNames()).toIterable().containsExactly("agetypes", "deliverytypes", "deliveryresulttypes",
+			"pregnanttreatmenttypes", "diseasetypes", "examtypes", "medicaltypes", "medstockmovementtypes", "operationtypes", "vaccinetypes",
+			"admissiontypes", "dischargetypes", "wards");
+		assertThat(bundle.get("wards")).hasSize(wards);
+		assertThat(bundle.get("wards").findValuesAsText("code")).contains(ward.getCode());
+	}
+
+	@Test
+	void testGetBootstrap_identity() throws Exception {
+		mvc.perform(get("/bootstrap").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+			.andExpect(jsonPath("$.wards.length()").value(wards));
+	}
+
+	@Test
+	void testGetBootstrap_304() throws Exception {
+		String eTag = mvc.perform(get("/bootstrap"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(get("/bootstrap").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andDo(log())
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+
+		// the bundle is not built again while the catalogues are unchanged
+		mvc.perform(get("/bootstrap"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, eTag));
+	}
+
+	@Test
+	void testGetBootstrap_rebuiltAfterChange() throws Exception {
+		String eTag = mvc.perform(get("/bootstrap"))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		catalogues.bump(Catalogue.EXAM_TYPES);
+
+		String newETag = mvc.perform(get("/bootstrap").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isOk())
+			.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		assertThat(newETag).isNotEqualTo(eTag);
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "wards.read" })
+	void testGetBootstrap_403() throws Exception {
+		mvc.perform(get("/bootstrap"))
+			.andExpect(status().isForbidden());
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.bootstrap.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.security.jwt.TokenProvider;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Compares the time to load the lookup tables needed by the clients on login over a 3G link: the sequence of one
+ * {@code GET} per table against a single {@code GET /bootstrap}.
+ * <p>
+ * The requests are sent to the API started on the H2 test database; the time of each one over the link is its measured
+ * time on the loopback, plus a round trip and the transfer of its request and of its response at the bandwidths of the
+ * link.
+ */
+@Tag(MicroBenchmark.TAG)
+class BootstrapLinkBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BootstrapLinkBenchmarkTest.class);
+
+	private static final double RTT_IN_MILLIS = 300;
+
+	private static final double DOWNLINK_BITS_PER_SECOND = 750_000;
+
+	private static final double UPLINK_BITS_PER_SECOND = 250_000;
+
+	private static final List<String> LOOKUP_TABLES = List.of("agetypes", "deliverytypes", "deliveryresulttypes", "pregnanttreatmenttypes",
+		"diseasetypes", "examtypes", "medicaltypes", "medstockmovementtypes", "operationtypes", "vaccinetypes", "admissiontypes",
+		"dischargetypes", "wards");
+
+	private static final int RUNS = 5;
+
+	@Test
+	void benchmarkBootstrapOverA3gLink() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenHospitalApiApplication.class)
+			.properties("server.port=0")
+			.run()) {
+			WardBrowserManager wardManager = context.getBean(WardBrowserManager.class);
+			wardManager.newWard(WardHelper.setup());
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String token = context.getBean(TokenProvider.class).generateJwtToken(new UsernamePasswordAuthenticationToken("admin", null,
+				LOOKUP_TABLES.stream().map(table -> new SimpleGrantedAuthority(table + ".read")).toList()), false);
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+			double[] sequence = new double[RUNS];
+			double[] bootstrap = new double[RUNS];
+			long sequenceBytes = 0;
+			long bootstrapBytes = 0;
+			// warm-up
+			for (String table : LOOKUP_TABLES) {
+				send(client, request(port, table, token));
+			}
+			send(client, request(port, "bootstrap", token));
+			for (int run = 0; run < RUNS; run++) {
+				sequenceBytes = 0;
+				for (String table : LOOKUP_TABLES) {
+					Exchange exchange = send(client, request(port, table, token));
+					sequence[run] += exchange.overLinkInMillis();
+					sequenceBytes += exchange.responseBytes();
+				}
+				Exchange exchange = send(client, request(port, "bootstrap", token));
+				bootstrap[run] = exchange.overLinkInMillis();
+				bootstrapBytes = exchange.responseBytes();
+			}
+
+			double sequenceMillis = median(sequence);
+			double bootstrapMillis = median(bootstrap);
+			LOGGER.info("{} sequential requests: {} ms, {} bytes received", LOOKUP_TABLES.size(), String.format("%.0f", sequenceMillis),
+				sequenceBytes);
+			LOGGER.info("bootstrap: {} ms, {} bytes received", String.format("%.0f", bootstrapMillis), bootstrapBytes);
+			assertThat(bootstrapMillis).isLessThan(sequenceMillis);
+		}
+	}
+
+	private static HttpRequest request(int port, String path, String token) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + '/' + path))
+			.header("Authorization", "Bearer " + token)
+			.header("Accept-Encoding", "gzip")
+			.build();
+	}
+
+	private static Exchange send(HttpClient client, HttpRequest request) throws Exception {
+		long start = System.nanoTime();
+		HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		double loopbackMillis = (System.nanoTime() - start) / 1_000_000.0;
+		assertThat(response.statusCode()).isEqualTo(200);
+
+		long requestBytes = request.uri().getRawPath().length() + headersBytes(request.headers().map());
+		long responseBytes = response.body().length + headersBytes(response.headers().map());
+		double transferMillis = requestBytes * 8_000 / UPLINK_BITS_PER_SECOND + responseBytes * 8_000 / DOWNLINK_BITS_PER_SECOND;
+		return new Exchange(loopbackMillis + RTT_IN_MILLIS + transferMillis, responseBytes);
+	}
+
+	private static long headersBytes(Map<String, List<String>> headers) {
+		long bytes = 0;
+		for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+			for (String value : header.getValue()) {
+				// name: value CRLF
+				bytes += header.getKey().length() + value.length() + 4;
+			}
+		}
+		return bytes;
+	}
+
+	private static double median(double[] values) {
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private record Exchange(double overLinkInMillis, long responseBytes) {
+	}
+}
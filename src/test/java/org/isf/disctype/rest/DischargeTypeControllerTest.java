@@ -43,6 +43,8 @@ import org.isf.disctype.model.DischargeType;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,9 @@ class DischargeTypeControllerTest {
 	@Mock
 	protected DischargeTypeBrowserManager discTypeManagerMock;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	protected DischargeTypeMapper dischargeTypeMapper = new DischargeTypeMapper();
 
 	private MockMvc mockMvc;
@@ -74,7 +79,7 @@ class DischargeTypeControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new DischargeTypeController(discTypeManagerMock, dischargeTypeMapper))
+			.standaloneSetup(new DischargeTypeController(discTypeManagerMock, dischargeTypeMapper, referenceDataMock, new CatalogueVersions()))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
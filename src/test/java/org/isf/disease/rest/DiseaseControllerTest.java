@@ -42,6 +42,8 @@ import org.isf.disease.model.Disease;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,6 +65,9 @@ class DiseaseControllerTest {
 	@Mock
 	private DiseaseBrowserManager diseaseBrowserManagerMock;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	private final DiseaseMapper diseaseMapper = new DiseaseMapper();
 
 	private MockMvc mockMvc;
@@ -73,7 +78,7 @@ class DiseaseControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new DiseaseController(diseaseBrowserManagerMock, diseaseMapper))
+			.standaloneSetup(new DiseaseController(diseaseBrowserManagerMock, diseaseMapper, referenceDataMock, new CatalogueVersions()))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -23,6 +23,7 @@ package org.isf.distype.rest;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -35,6 +36,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.List;
 import java.util.Objects;
 
+import org.isf.disease.model.Disease;
 import org.isf.distype.data.DiseaseTypeHelper;
 import org.isf.distype.dto.DiseaseTypeDTO;
 import org.isf.distype.manager.DiseaseTypeBrowserManager;
@@ -43,6 +45,8 @@ import org.isf.distype.model.DiseaseType;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +68,9 @@ class DiseaseTypeControllerTest {
 	@Mock
 	protected DiseaseTypeBrowserManager diseaseTypeBrowserManager;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	protected DiseaseTypeMapper diseaseTypeMapper = new DiseaseTypeMapper();
 
 	private MockMvc mockMvc;
@@ -74,7 +81,7 @@ class DiseaseTypeControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new DiseaseTypeController(diseaseTypeBrowserManager, diseaseTypeMapper))
+			.standaloneSetup(new DiseaseTypeController(diseaseTypeBrowserManager, diseaseTypeMapper, referenceDataMock, new CatalogueVersions()))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -160,6 +167,8 @@ class DiseaseTypeControllerTest {
 			.andExpect(status().isOk())
 			.andReturn();
 
+		// the cached diseases embed the updated type
+		verify(referenceDataMock).refresh(Disease.class);
 		LOGGER.debug("result: {}", result);
 	}
 
@@ -43,6 +43,8 @@ import org.isf.dlvrrestype.model.DeliveryResultType;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,9 @@ class DeliveryResultTypeControllerTest {
 	@Mock
 	protected DeliveryResultTypeBrowserManager deliveryResultTypeBrowserManagerMock;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	protected DeliveryResultTypeMapper deliveryResultTypeMapper = new DeliveryResultTypeMapper();
 
 	private MockMvc mockMvc;
@@ -74,7 +79,8 @@ class DeliveryResultTypeControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new DeliveryResultTypeController(deliveryResultTypeBrowserManagerMock, deliveryResultTypeMapper))
+			.standaloneSetup(new DeliveryResultTypeController(deliveryResultTypeBrowserManagerMock, deliveryResultTypeMapper, referenceDataMock,
+				new CatalogueVersions()))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
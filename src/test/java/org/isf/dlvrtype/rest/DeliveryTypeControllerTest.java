@@ -43,6 +43,8 @@ import org.isf.dlvrtype.model.DeliveryType;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +66,9 @@ class DeliveryTypeControllerTest {
 	@Mock
 	protected DeliveryTypeBrowserManager deliveryTypeBrowserManagerMock;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	protected DeliveryTypeMapper deliveryTypeMapper = new DeliveryTypeMapper();
 
 	private MockMvc mockMvc;
@@ -74,7 +79,7 @@ class DeliveryTypeControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new DeliveryTypeController(deliveryTypeBrowserManagerMock, deliveryTypeMapper))
+			.standaloneSetup(new DeliveryTypeController(deliveryTypeBrowserManagerMock, deliveryTypeMapper, referenceDataMock, new CatalogueVersions()))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
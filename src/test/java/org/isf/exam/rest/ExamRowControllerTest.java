@@ -47,6 +47,8 @@ import org.isf.exam.data.ExamHelper;
 import org.isf.exam.dto.ExamRowDTO;
 import org.isf.exam.mapper.ExamMapper;
 import org.isf.exam.mapper.ExamRowMapper;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -84,6 +86,15 @@ class ExamRowControllerTest {
 	@MockBean
 	private ExamRowBrowsingManager manager;
 
+	@Autowired
+	private ReferenceDataRegistry referenceData;
+
+	@BeforeEach
+	void setUp() {
+		// the exam catalogue is cached across the tests sharing the context
+		referenceData.refresh(Exam.class);
+	}
+
 	@Test
 	@WithMockUser(username = "admin", authorities = {"examrows.read"})
 	@DisplayName("Should get all exam rows")
@@ -0,0 +1,79 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.lab.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.patient.model.Patient;
+import org.isf.testing.jpa.EntityFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads the rows of more than {@value LaboratoryRowLoader#MAX_CODES_PER_QUERY} laboratory exams on the H2 test database,
+ * so that the codes are split in several queries.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@Transactional
+class LaboratoryRowLoaderTest {
+
+	private static final int LABORATORIES = LaboratoryRowLoader.MAX_CODES_PER_QUERY + 5;
+
+	@Autowired
+	private LaboratoryRowLoader laboratoryRowLoader;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	void testRowsOfEachLaboratoryInRowOrder() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		Patient patient = fixtures.patient();
+		LocalDateTime date = LocalDateTime.of(2001, 2, 3, 10, 0);
+		List<Integer> codes = new ArrayList<>();
+		for (int i = 0; i < LABORATORIES; i++) {
+			// not in alphabetical order, the rows are returned in the order they were recorded
+			codes.add(fixtures.laboratory(patient, date, "lab " + i + " z", "lab " + i + " a").getCode());
+		}
+		int withoutRows = fixtures.laboratory(patient, date).getCode();
+		codes.add(withoutRows);
+		fixtures.flushAndClear();
+
+		Map<Integer, List<String>> descriptions = laboratoryRowLoader.findDescriptions(codes);
+
+		assertThat(descriptions).hasSize(LABORATORIES).doesNotContainKey(withoutRows);
+		for (int i = 0; i < LABORATORIES; i++) {
+			assertThat(descriptions.get(codes.get(i))).containsExactly("lab " + i + " z", "lab " + i + " a");
+		}
+	}
+}
@@ -21,24 +21,38 @@
  */
 package org.isf.lab.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.isf.exa.manager.ExamBrowsingManager;
+import org.isf.exa.model.Exam;
 import org.isf.lab.data.LaboratoryHelper;
 import org.isf.lab.dto.LabWithRowsDTO;
 import org.isf.lab.dto.LaboratoryDTO;
@@ -47,12 +61,17 @@ import org.isf.lab.mapper.LaboratoryMapper;
 import org.isf.lab.mapper.LaboratoryRowMapper;
 import org.isf.lab.model.Laboratory;
 import org.isf.lab.model.LaboratoryStatus;
+import org.isf.lab.repository.LaboratoryRowLoader;
 import org.isf.patient.data.PatientHelper;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.pagination.KeysetRepository;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
+import org.isf.utils.pagination.PagedResponse;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,11 +81,15 @@ import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class LaboratoryControllerTest {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(LaboratoryControllerTest.class);
@@ -80,6 +103,15 @@ class LaboratoryControllerTest {
 	@Mock
 	private PatientBrowserManager patientBrowserManager;
 
+	@Mock
+	private LaboratoryRowLoader laboratoryRowLoader;
+
+	@Mock
+	private ReferenceDataRegistry referenceData;
+
+	@Mock
+	private KeysetRepository keysetRepository;
+
 	protected LaboratoryMapper laboratoryMapper = new LaboratoryMapper();
 
 	protected LaboratoryRowMapper laboratoryRowMapper = new LaboratoryRowMapper();
@@ -92,7 +124,8 @@ class LaboratoryControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new LaboratoryController(laboratoryManager, patientBrowserManager, examManager, laboratoryMapper, laboratoryRowMapper))
+			.standaloneSetup(new LaboratoryController(laboratoryManager, patientBrowserManager, examManager, laboratoryMapper, laboratoryRowMapper,
+				laboratoryRowLoader, referenceData, keysetRepository, new PageSizePolicy(new MockEnvironment(), new SimpleMeterRegistry())))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -127,7 +160,7 @@ class LaboratoryControllerTest {
 
 		when(laboratoryManager.newLaboratory(any(Laboratory.class), anyList())).thenReturn(lab);
 		when(patientBrowserManager.getPatientById(anyInt())).thenReturn(patient);
-		when(examManager.getExams()).thenReturn(Collections.singletonList(lab.getExam()));
+		when(referenceData.findByCode(Exam.class, lab.getExam().getCode())).thenReturn(lab.getExam());
 
 		MvcResult result = this.mockMvc
 			.perform(post(request)
@@ -165,7 +198,7 @@ class LaboratoryControllerTest {
 		when(laboratoryManager.newLaboratory(any(Laboratory.class), anyList())).thenReturn(lab);
 		when(laboratoryManager.getLaboratory(anyInt())).thenReturn(Optional.of(lab));
 		when(patientBrowserManager.getPatientById(anyInt())).thenReturn(patient);
-		when(examManager.getExams()).thenReturn(Collections.singletonList(lab.getExam()));
+		when(referenceData.findByCode(Exam.class, lab.getExam().getCode())).thenReturn(lab.getExam());
 
 		MvcResult result = this.mockMvc
 			.perform(put(request, lab.getCode())
@@ -205,7 +238,7 @@ class LaboratoryControllerTest {
 		when(laboratoryManager.getLaboratory(anyInt())).thenReturn(Optional.of(lab));
 		when(laboratoryManager.getLaboratory(any(Patient.class))).thenReturn(Collections.singletonList(lab));
 		when(patientBrowserManager.getPatientById(anyInt())).thenReturn(patient);
-		when(examManager.getExams()).thenReturn(Collections.singletonList(lab.getExam()));
+		when(referenceData.findByCode(Exam.class, lab.getExam().getCode())).thenReturn(lab.getExam());
 		MvcResult result = this.mockMvc
 			.perform(get(request, patient.getCode())
 				.contentType(MediaType.APPLICATION_JSON))
@@ -218,4 +251,51 @@ class LaboratoryControllerTest {
 		LOGGER.debug("result: {}", result);
 	}
 
+	@Test
+	void testListingsLoadRowsInOneQuery() throws Exception {
+		int pageSize = PageSizePolicy.DEFAULT_SIZE;
+		Patient patient = PatientHelper.setup();
+		List<Laboratory> labs = new ArrayList<>();
+		for (int code = 1; code <= pageSize; code++) {
+			Laboratory lab = LaboratoryHelper.setup(code);
+			lab.getExam().setProcedure(2);
+			lab.setStatus(LaboratoryStatus.done.toString());
+			lab.setPatient(patient);
+			labs.add(lab);
+		}
+		PagedResponse<Laboratory> labsPage = new PagedResponse<>();
+		labsPage.setData(labs);
+		labsPage.setPageInfo(PatientHelper.setParameterPage());
+
+		when(laboratoryManager.getLaboratoryPageable(anyBoolean(), anyInt(), anyInt())).thenReturn(labsPage);
+		when(keysetRepository.findLaboratories(isNull(), anyString(), anyInt())).thenReturn(labs);
+		when(patientBrowserManager.getPatientById(anyInt())).thenReturn(patient);
+		when(laboratoryManager.getLaboratory(any(Patient.class))).thenReturn(labs);
+		when(laboratoryManager.getLaboratory(eq(""), any(), any(), isNull())).thenReturn(labs);
+		when(laboratoryRowLoader.findDescriptions(anyCollection())).thenReturn(Map.of(1, List.of("good", "material")));
+
+		String dateFrom = "2024-01-01T00:00:00.000Z";
+		String dateTo = "2024-12-31T00:00:00.000Z";
+		assertOneRowQuery("paged", get("/laboratories").param("oneWeek", "false").param("page", "0"));
+		assertOneRowQuery("cursor", get("/laboratories").param("oneWeek", "false").param("cursor", ""));
+		assertOneRowQuery("byPatientId", get("/laboratories/byPatientId/{patId}", 1));
+		assertOneRowQuery("exams", get("/laboratories/exams").param("dateFrom", dateFrom).param("dateTo", dateTo));
+	}
+
+	/**
+	 * Checks that a listing of {@link PageSizePolicy#DEFAULT_SIZE} exams with rows reads the rows with one query, instead
+	 * of one per exam.
+	 */
+	private void assertOneRowQuery(String endpoint, MockHttpServletRequestBuilder request) throws Exception {
+		clearInvocations(laboratoryManager, laboratoryRowLoader);
+		this.mockMvc
+			.perform(request.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("\"laboratoryRowList\":[\"good\",\"material\"]")));
+
+		long rowQueries = mockingDetails(laboratoryRowLoader).getInvocations().size();
+		LOGGER.info("{}: {} row queries for {} exams", endpoint, rowQueries, PageSizePolicy.DEFAULT_SIZE);
+		assertThat(rowQueries).isEqualTo(1);
+		verify(laboratoryManager, never()).getLaboratoryRowList(anyInt());
+	}
 }
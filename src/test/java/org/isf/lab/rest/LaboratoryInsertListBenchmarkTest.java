@@ -0,0 +1,174 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.lab.rest;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.isf.admission.manager.AdmissionBrowserManager;
+import org.isf.disease.manager.DiseaseBrowserManager;
+import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
+import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
+import org.isf.exa.manager.ExamBrowsingManager;
+import org.isf.exa.model.Exam;
+import org.isf.lab.data.LaboratoryHelper;
+import org.isf.lab.dto.LabWithRowsDTO;
+import org.isf.lab.dto.LaboratoryDTO;
+import org.isf.lab.manager.LabManager;
+import org.isf.lab.mapper.LaboratoryMapper;
+import org.isf.lab.mapper.LaboratoryRowMapper;
+import org.isf.lab.model.Laboratory;
+import org.isf.lab.repository.LaboratoryRowLoader;
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.manager.PatientBrowserManager;
+import org.isf.patient.model.Patient;
+import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
+import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
+import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
+import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.pagination.KeysetRepository;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.isf.ward.manager.WardBrowserManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Times {@code /laboratories/insertList} for batches of 1 to 1000 exams against a catalogue of {@value #CATALOGUE_SIZE}
+ * exams and counts the catalogue loads: one per element of the batch before the exam catalogue was cached, none now while
+ * the catalogue is unchanged and one after an exam is written.
+ */
+@Tag(MicroBenchmark.TAG)
+class LaboratoryInsertListBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaboratoryInsertListBenchmarkTest.class);
+
+	private static final int CATALOGUE_SIZE = 1000;
+
+	private final AtomicInteger catalogueLoads = new AtomicInteger();
+
+	@Test
+	void benchmarkInsertList() throws Exception {
+		List<Exam> catalogue = IntStream.range(0, CATALOGUE_SIZE).mapToObj(i -> {
+			Exam exam = new Exam();
+			exam.setCode("EX" + i);
+			exam.setDescription("Exam " + i);
+			return exam;
+		}).collect(Collectors.toList());
+		ExamBrowsingManager examManager = mock(ExamBrowsingManager.class);
+		when(examManager.getExams()).thenAnswer(invocation -> {
+			catalogueLoads.incrementAndGet();
+			return catalogue;
+		});
+		ReferenceDataRegistry referenceData = new ReferenceDataRegistry(mock(WardBrowserManager.class), mock(AdmissionBrowserManager.class),
+						mock(DiseaseBrowserManager.class), mock(PregnantTreatmentTypeBrowserManager.class), mock(DeliveryTypeBrowserManager.class),
+						mock(DeliveryResultTypeBrowserManager.class), examManager);
+
+		Patient patient = PatientHelper.setup();
+		PatientBrowserManager patientManager = mock(PatientBrowserManager.class);
+		when(patientManager.getPatientById(anyInt())).thenReturn(patient);
+		LabManager labManager = mock(LabManager.class);
+		when(labManager.newLaboratory2(anyList(), anyList())).thenReturn(true);
+
+		LaboratoryMapper laboratoryMapper = new LaboratoryMapper();
+		LaboratoryRowMapper laboratoryRowMapper = new LaboratoryRowMapper();
+		ModelMapper modelMapper = new ModelMapper();
+		modelMapper.addConverter(new BlobToByteArrayConverter());
+		modelMapper.addConverter(new ByteArrayToBlobConverter());
+		ReflectionTestUtils.setField(laboratoryMapper, "modelMapper", modelMapper);
+		ReflectionTestUtils.setField(laboratoryRowMapper, "modelMapper", modelMapper);
+
+		MockMvc mockMvc = MockMvcBuilders
+			.standaloneSetup(new LaboratoryController(labManager, patientManager, examManager, laboratoryMapper, laboratoryRowMapper,
+				mock(LaboratoryRowLoader.class), referenceData, mock(KeysetRepository.class), new PageSizePolicy(new MockEnvironment(), new SimpleMeterRegistry())))
+			.setControllerAdvice(new OHResponseEntityExceptionHandler())
+			.build();
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new Jdk8Module()).registerModule(new JavaTimeModule());
+
+		for (int size : new int[] { 1, 10, 100, 1000 }) {
+			String body = objectMapper.writeValueAsString(batch(laboratoryMapper, patient, size));
+
+			catalogueLoads.set(0);
+			double warm = MicroBenchmark.nanosPerOperation(5, 20, () -> insertList(mockMvc, body));
+			int warmLoads = catalogueLoads.get();
+
+			catalogueLoads.set(0);
+			double afterExamWrite = MicroBenchmark.nanosPerOperation(5, 20, () -> {
+				referenceData.refresh(Exam.class);
+				return insertList(mockMvc, body);
+			});
+			LOGGER.info("insertList of {} exams: {} ms with the cached catalogue ({} loads for 25 batches), {} ms right after an exam write "
+							+ "({} loads for 25 batches), {} loads per batch without the cache", size, String.format("%.3f", warm / 1_000_000),
+							warmLoads, String.format("%.3f", afterExamWrite / 1_000_000), catalogueLoads.get(), size);
+		}
+	}
+
+	private List<LabWithRowsDTO> batch(LaboratoryMapper laboratoryMapper, Patient patient, int size) throws Exception {
+		List<LabWithRowsDTO> batch = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Laboratory lab = LaboratoryHelper.setup();
+			lab.getExam().setCode("EX" + (i % CATALOGUE_SIZE));
+			lab.setPatient(patient);
+			LaboratoryDTO laboratoryDTO = laboratoryMapper.map2DTO(lab);
+			LabWithRowsDTO labWithRowsDTO = new LabWithRowsDTO();
+			labWithRowsDTO.setLaboratoryDTO(laboratoryDTO);
+			labWithRowsDTO.setLaboratoryRowList(List.of("good", "material"));
+			batch.add(labWithRowsDTO);
+		}
+		return batch;
+	}
+
+	private static Object insertList(MockMvc mockMvc, String body) {
+		try {
+			return mockMvc.perform(post("/laboratories/insertList").content(body).contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isCreated())
+				.andReturn();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
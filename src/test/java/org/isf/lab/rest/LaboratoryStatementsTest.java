@@ -0,0 +1,113 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.lab.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.lab.model.Laboratory;
+import org.isf.lab.model.LaboratoryStatus;
+import org.isf.patient.model.Patient;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.testing.jpa.EntityFixtures;
+import org.isf.testing.rest.ControllerBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Budgets of SQL statements of the laboratory listings on the H2 test database: a page of
+ * {@link PageSizePolicy#DEFAULT_SIZE} exams with results by row must not issue one query per exam for its rows.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class LaboratoryStatementsTest extends ControllerBaseTest {
+
+	private static final int MAX_STATEMENTS = 10;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Patient patient;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		patient = fixtures.patient();
+		LocalDateTime labDate = LocalDateTime.now().minusHours(1);
+		for (int i = 0; i < PageSizePolicy.DEFAULT_SIZE; i++) {
+			Laboratory laboratory = fixtures.laboratory(patient, labDate.minusMinutes(i), "lab " + i + " a", "lab " + i + " b");
+			laboratory.setStatus(LaboratoryStatus.done.toString());
+			// results by row, loaded with the exams
+			laboratory.getExam().setProcedure(2);
+		}
+		fixtures.flushAndClear();
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "laboratories.read" })
+	void testLaboratoriesPage() throws Exception {
+		assertMaxStatements("laboratories page", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/laboratories").param("oneWeek", "true").param("page", "0")
+				.param("size", String.valueOf(PageSizePolicy.DEFAULT_SIZE)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(PageSizePolicy.DEFAULT_SIZE))
+			.andExpect(jsonPath("$.data[0].laboratoryRowList.length()").value(2)));
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "laboratories.read" })
+	void testLaboratoriesByCursor() throws Exception {
+		assertMaxStatements("laboratories by cursor", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/laboratories").param("oneWeek", "true").param("cursor", "")
+				.param("size", String.valueOf(PageSizePolicy.DEFAULT_SIZE)).param("total", "true"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(PageSizePolicy.DEFAULT_SIZE))
+			.andExpect(jsonPath("$.data[0].laboratoryRowList.length()").value(2)));
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "laboratories.read" })
+	void testLaboratoriesByPatient() throws Exception {
+		assertMaxStatements("laboratories by patient", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/laboratories/byPatientId/{patId}", patient.getCode()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(PageSizePolicy.DEFAULT_SIZE))
+			.andExpect(jsonPath("$[0].laboratoryRowList.length()").value(2)));
+	}
+}
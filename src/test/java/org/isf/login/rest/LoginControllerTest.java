@@ -28,6 +28,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
@@ -42,9 +43,10 @@ import org.isf.login.dto.TokenRefreshRequest;
 import org.isf.menu.manager.UserBrowsingManager;
 import org.isf.menu.model.User;
 import org.isf.security.CustomAuthenticationManager;
+import org.isf.security.LoginThrottledException;
+import org.isf.security.SessionAuditWriter;
 import org.isf.security.jwt.TokenProvider;
 import org.isf.security.jwt.TokenValidationResult;
-import org.isf.sessionaudit.manager.SessionAuditManager;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.users.data.UserHelper;
 import org.junit.jupiter.api.AfterEach;
@@ -75,7 +77,7 @@ class LoginControllerTest {
 	private HttpSession httpSession;
 
 	@Mock
-	private SessionAuditManager sessionAuditManager;
+	private SessionAuditWriter sessionAuditWriter;
 
 	@Mock
 	private CustomAuthenticationManager authenticationManager;
@@ -90,7 +92,7 @@ class LoginControllerTest {
 		closeable = MockitoAnnotations.openMocks(this);
 
 		LoginController loginController = new LoginController(
-			httpSession, sessionAuditManager, tokenProvider, authenticationManager, userManager
+			httpSession, sessionAuditWriter, tokenProvider, authenticationManager, userManager
 		);
 
 		this.mvc = MockMvcBuilders
@@ -142,6 +144,20 @@ class LoginControllerTest {
 
 	// TODO testAuthenticateUser_Failure
 
+	@Test
+	void testAuthenticateUser_Throttled() throws Exception {
+		LoginRequest loginRequest = new LoginRequest("testUser", "testPassword");
+
+		when(authenticationManager.authenticate(any())).thenThrow(new LoginThrottledException("Too many login attempts in progress, retry later.", 5));
+
+		mvc.perform(post("/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(Objects.requireNonNull(UserHelper.asJsonString(loginRequest))))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(header().string("Retry-After", "5"))
+			.andExpect(content().string(containsString("retry later")));
+	}
+
 	@Test
 	void testRefreshToken_Success() throws Exception {
 		String refreshToken = "validRefreshToken";
@@ -0,0 +1,78 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.opd.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.opd.manager.OpdBrowserManager;
+import org.isf.opd.model.Opd;
+import org.isf.patient.model.Patient;
+import org.isf.testing.jpa.EntityFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Compares {@link OpdLoader#findByPatientSince} with the visits of {@link OpdBrowserManager#getOpdList(int)} on or after
+ * the same date, on the H2 test database.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@Transactional
+class OpdLoaderTest {
+
+	@Autowired
+	private OpdLoader opdLoader;
+
+	@Autowired
+	private OpdBrowserManager opdManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	void testVisitsSinceMatchTheFilteredList() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		LocalDateTime since = LocalDateTime.of(2001, 2, 3, 10, 0);
+		Patient patient = fixtures.patient();
+		Patient otherPatient = fixtures.patient();
+		for (int i = 0; i < 5; i++) {
+			fixtures.opd(patient, since.plusDays(i - 2)).setProg_year(i + 1);
+		}
+		fixtures.opd(otherPatient, since.plusDays(1)).setProg_year(6);
+		fixtures.flushAndClear();
+
+		List<Integer> found = opdLoader.findByPatientSince(patient.getCode(), since).stream().map(Opd::getCode).toList();
+
+		assertThat(found).hasSize(3).containsExactlyElementsOf(opdManager.getOpdList(patient.getCode()).stream()
+			.filter(opd -> opd.getDate() != null && !opd.getDate().isBefore(since))
+			.map(Opd::getCode)
+			.toList());
+	}
+}
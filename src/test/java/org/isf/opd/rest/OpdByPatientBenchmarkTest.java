@@ -0,0 +1,156 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.opd.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.isf.opd.data.OpdHelper;
+import org.isf.opd.manager.OpdBrowserManager;
+import org.isf.opd.mapper.OpdMapper;
+import org.isf.opd.model.Opd;
+import org.isf.opd.repository.OpdLoader;
+import org.isf.operation.mapper.OperationRowMapper;
+import org.isf.operation.model.OperationRow;
+import org.isf.operation.repository.OperationRowLoader;
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.manager.PatientBrowserManager;
+import org.isf.patient.model.Patient;
+import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
+import org.isf.shared.idempotency.IdempotencyCache;
+import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
+import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.isf.ward.manager.WardBrowserManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Times {@code /opds/patient/{pcode}} for a patient with {@value #VISITS} visits, each with an operation, in full and
+ * with {@code since} keeping the last month, and counts the operation row queries: one per listing, where there was one
+ * per visit.
+ */
+@Tag(MicroBenchmark.TAG)
+class OpdByPatientBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OpdByPatientBenchmarkTest.class);
+
+	private static final int VISITS = 1000;
+
+	private final AtomicInteger operationRowQueries = new AtomicInteger();
+
+	@Test
+	void benchmarkOpdByPatient() throws Exception {
+		Patient patient = PatientHelper.setup();
+		patient.setCode(1);
+		LocalDateTime now = LocalDateTime.now();
+		List<Opd> opds = new ArrayList<>(VISITS);
+		Map<Integer, List<OperationRow>> operationRows = new HashMap<>();
+		for (int code = 1; code <= VISITS; code++) {
+			Opd opd = OpdHelper.setup();
+			opd.setCode(code);
+			opd.setPatient(patient);
+			opd.setDate(now.minusDays(VISITS - code));
+			opds.add(opd);
+			OperationRow operationRow = new OperationRow();
+			operationRow.setOpd(opd);
+			operationRow.setOpResult("success");
+			operationRows.put(code, List.of(operationRow));
+		}
+
+		OpdBrowserManager opdManager = mock(OpdBrowserManager.class);
+		when(opdManager.getOpdList(1)).thenReturn(opds);
+		// the visits since a date are selected by the query, only those are mapped
+		OpdLoader opdLoader = mock(OpdLoader.class);
+		when(opdLoader.findByPatientSince(eq(1), any())).thenAnswer(invocation -> {
+			LocalDateTime since = invocation.getArgument(1);
+			return opds.stream().filter(opd -> !opd.getDate().isBefore(since)).toList();
+		});
+		OperationRowLoader operationRowLoader = mock(OperationRowLoader.class);
+		when(operationRowLoader.findByOpdCodes(anyCollection())).thenAnswer(invocation -> {
+			operationRowQueries.incrementAndGet();
+			return operationRows;
+		});
+
+		OpdMapper opdMapper = new OpdMapper();
+		OperationRowMapper opRowMapper = new OperationRowMapper();
+		ModelMapper modelMapper = new ModelMapper();
+		modelMapper.addConverter(new BlobToByteArrayConverter());
+		modelMapper.addConverter(new ByteArrayToBlobConverter());
+		ReflectionTestUtils.setField(opdMapper, "modelMapper", modelMapper);
+		ReflectionTestUtils.setField(opRowMapper, "modelMapper", modelMapper);
+
+		MockMvc mockMvc = MockMvcBuilders
+			.standaloneSetup(new OpdController(opdManager, opdMapper, mock(PatientBrowserManager.class), opRowMapper, operationRowLoader,
+				mock(OpdWithOperationRowWriter.class), new IdempotencyCache(0, 0), mock(WardBrowserManager.class), new PageSizePolicy(new MockEnvironment(), new SimpleMeterRegistry()),
+				opdLoader))
+			.setControllerAdvice(new OHResponseEntityExceptionHandler())
+			.build();
+
+		operationRowQueries.set(0);
+		double all = MicroBenchmark.nanosPerOperation(3, 10, () -> opdByPatient(mockMvc, null));
+		int allQueries = operationRowQueries.get();
+		operationRowQueries.set(0);
+		double lastMonth = MicroBenchmark.nanosPerOperation(3, 10, () -> opdByPatient(mockMvc, now.minusMonths(1)));
+		LOGGER.info("opds of a patient with {} visits: {} ms ({} operation row queries for 13 requests), {} ms for the last month "
+						+ "({} operation row queries for 13 requests), {} queries per request without the bulk load", VISITS,
+						String.format("%.3f", all / 1_000_000), allQueries, String.format("%.3f", lastMonth / 1_000_000),
+						operationRowQueries.get(), VISITS);
+	}
+
+	private static Object opdByPatient(MockMvc mockMvc, LocalDateTime since) {
+		try {
+			MockHttpServletRequestBuilder request = get("/opds/patient/{pcode}", 1);
+			if (since != null) {
+				request.param("since", since.toString());
+			}
+			return mockMvc.perform(request)
+				.andExpect(status().isOk())
+				.andReturn();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
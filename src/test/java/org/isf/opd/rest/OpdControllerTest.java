@@ -21,26 +21,43 @@
  */
 package org.isf.opd.rest;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.isf.opd.data.OpdHelper;
 import org.isf.opd.dto.OpdDTO;
+import org.isf.opd.dto.OpdWithOperationRowDTO;
 import org.isf.opd.manager.OpdBrowserManager;
 import org.isf.opd.mapper.OpdMapper;
 import org.isf.opd.model.Opd;
+import org.isf.opd.repository.OpdLoader;
+import org.isf.operation.dto.OperationRowDTO;
 import org.isf.operation.manager.OperationRowBrowserManager;
 import org.isf.operation.mapper.OperationRowMapper;
+import org.isf.operation.model.OperationRow;
+import org.isf.operation.repository.OperationRowLoader;
 import org.isf.patient.data.PatientHelper;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.model.Patient;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
+import org.isf.shared.idempotency.IdempotencyCache;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.pagination.PageSizePolicy;
 import org.isf.ward.manager.WardBrowserManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,11 +68,14 @@ import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 class OpdControllerTest {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(OpdControllerTest.class);
@@ -73,6 +93,12 @@ class OpdControllerTest {
 
 	protected OperationRowMapper opRowMapper = new OperationRowMapper();
 
+	@Mock
+	protected OperationRowLoader operationRowLoaderMock;
+
+	@Mock
+	protected OpdLoader opdLoaderMock;
+
 	@Mock
 	protected WardBrowserManager wardBrowserManager;
 
@@ -84,14 +110,17 @@ class OpdControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new OpdController(opdBrowserManagerMock, opdMapper, patientBrowserManagerMock, operationRowBrowserManagerMock,
-				opRowMapper, wardBrowserManager))
+			.standaloneSetup(new OpdController(opdBrowserManagerMock, opdMapper, patientBrowserManagerMock, opRowMapper,
+				operationRowLoaderMock, new OpdWithOperationRowWriter(opdBrowserManagerMock, opdMapper, operationRowBrowserManagerMock, opRowMapper),
+				new IdempotencyCache(100, 60), wardBrowserManager, new PageSizePolicy(new MockEnvironment(), new SimpleMeterRegistry()),
+				opdLoaderMock))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
 		modelMapper.addConverter(new BlobToByteArrayConverter());
 		modelMapper.addConverter(new ByteArrayToBlobConverter());
 		ReflectionTestUtils.setField(opdMapper, "modelMapper", modelMapper);
+		ReflectionTestUtils.setField(opRowMapper, "modelMapper", modelMapper);
 	}
 
 	@AfterEach
@@ -127,4 +156,93 @@ class OpdControllerTest {
 		LOGGER.debug("result: {}", result);
 	}
 
+	@Test
+	void testNewOpdWithOperationRowRetried_201() throws Exception {
+		String request = "/opds/rows";
+		Patient patient = PatientHelper.setup();
+		Integer patientCode = 1;
+		patient.setCode(patientCode);
+
+		Opd opd = OpdHelper.setup();
+		opd.setPatient(patient);
+		OperationRow createdOperationRow = new OperationRow();
+		createdOperationRow.setId(7);
+		createdOperationRow.setOpResult("success");
+		createdOperationRow.setRemarks("persisted");
+
+		OperationRowDTO operationRowDTO = new OperationRowDTO();
+		operationRowDTO.setOpResult("success");
+		OpdWithOperationRowDTO body = new OpdWithOperationRowDTO();
+		body.setOpdDTO(opdMapper.map2DTO(opd));
+		body.setOperationRows(List.of(operationRowDTO));
+
+		when(patientBrowserManagerMock.getPatientById(patientCode)).thenReturn(patient);
+		when(opdBrowserManagerMock.newOpd(any(Opd.class))).thenReturn(opd);
+		when(operationRowBrowserManagerMock.newOperationRow(any(OperationRow.class))).thenReturn(createdOperationRow);
+
+		for (int attempt = 0; attempt < 2; attempt++) {
+			this.mockMvc
+				.perform(post(request)
+					.header(IdempotencyCache.HEADER, "visit-42")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(OpdHelper.getObjectMapper().writeValueAsString(body)))
+				.andDo(log())
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.operationRows[0].id").value(7))
+				.andExpect(jsonPath("$.operationRows[0].opResult").value("success"))
+				.andExpect(jsonPath("$.operationRows[0].remarks").value("persisted"));
+		}
+
+		verify(opdBrowserManagerMock, times(1)).newOpd(any(Opd.class));
+		verify(operationRowBrowserManagerMock, times(1)).newOperationRow(any(OperationRow.class));
+
+		operationRowDTO.setOpResult("failure");
+		this.mockMvc
+			.perform(post(request)
+				.header(IdempotencyCache.HEADER, "visit-42")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(OpdHelper.getObjectMapper().writeValueAsString(body)))
+			.andDo(log())
+			.andExpect(status().isUnprocessableEntity());
+
+		verify(opdBrowserManagerMock, times(1)).newOpd(any(Opd.class));
+	}
+
+	@Test
+	void testGetOpdByPatientSince_200() throws Exception {
+		String request = "/opds/patient/{pcode}";
+		Patient patient = PatientHelper.setup();
+		Integer patientCode = 1;
+		patient.setCode(patientCode);
+		LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+		List<Opd> opds = new ArrayList<>();
+		for (int code = 1; code <= 10; code++) {
+			Opd opd = OpdHelper.setup();
+			opd.setCode(code);
+			opd.setPatient(patient);
+			opd.setDate(since.plusDays(code - 5));
+			opds.add(opd);
+		}
+		OperationRow operationRow = new OperationRow();
+		operationRow.setOpd(opds.get(6));
+		operationRow.setOpResult("success");
+
+		when(opdLoaderMock.findByPatientSince(patientCode, since)).thenReturn(opds.subList(4, 10));
+		when(operationRowLoaderMock.findByOpdCodes(List.of(5, 6, 7, 8, 9, 10))).thenReturn(Map.of(7, List.of(operationRow)));
+
+		this.mockMvc
+			.perform(get(request, patientCode)
+				.param("since", "2024-01-01T00:00:00")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(log())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(6))
+			.andExpect(jsonPath("$[0].opdDTO.code").value(5))
+			.andExpect(jsonPath("$[0].operationRows.length()").value(0))
+			.andExpect(jsonPath("$[2].operationRows[0].opResult").value("success"));
+
+		verify(operationRowLoaderMock, times(1)).findByOpdCodes(anyCollection());
+		verify(opdBrowserManagerMock, times(0)).getOpdList(patientCode);
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.opd.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.opd.model.Opd;
+import org.isf.patient.model.Patient;
+import org.isf.testing.jpa.EntityFixtures;
+import org.isf.testing.rest.ControllerBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Budgets of SQL statements of the OPD history of a patient on the H2 test database: the operation rows of the
+ * {@value #VISITS} visits must not be loaded with one query per visit.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class OpdStatementsTest extends ControllerBaseTest {
+
+	private static final int VISITS = 50;
+
+	private static final int MAX_STATEMENTS = 10;
+
+	private static final LocalDateTime FIRST_VISIT = LocalDateTime.of(2001, 2, 3, 10, 0);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Patient patient;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		patient = fixtures.patient();
+		for (int i = 0; i < VISITS; i++) {
+			Opd opd = fixtures.opd(patient, FIRST_VISIT.plusDays(i));
+			opd.setProg_year(i + 1);
+			fixtures.operationRow(opd, "success");
+		}
+		fixtures.flushAndClear();
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "opds.read" })
+	void testOpdByPatient() throws Exception {
+		assertMaxStatements("OPD history", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/opds/patient/{pcode}", patient.getCode()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(VISITS))
+			.andExpect(jsonPath("$[0].operationRows.length()").value(1)));
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "opds.read" })
+	void testOpdByPatientSince() throws Exception {
+		assertMaxStatements("OPD history since", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/opds/patient/{pcode}", patient.getCode()).param("since", FIRST_VISIT.plusDays(VISITS / 2).toString()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(VISITS / 2))
+			.andExpect(jsonPath("$[0].operationRows.length()").value(1)));
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.operation.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.Hibernate;
+import org.isf.OpenHospitalApiApplication;
+import org.isf.opd.model.Opd;
+import org.isf.operation.model.OperationRow;
+import org.isf.patient.model.Patient;
+import org.isf.testing.jpa.EntityFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads the operation rows of several OPD visits on the H2 test database.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@Transactional
+class OperationRowLoaderTest {
+
+	@Autowired
+	private OperationRowLoader operationRowLoader;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	void testRowsOfEachVisitWithTheirOperation() throws Exception {
+		EntityFixtures fixtures = new EntityFixtures(entityManager);
+		LocalDateTime date = LocalDateTime.of(2001, 2, 3, 10, 0);
+		Patient patient = fixtures.patient();
+		Opd twoOperations = fixtures.opd(patient, date);
+		int first = fixtures.operationRow(twoOperations, "first").getId();
+		int second = fixtures.operationRow(twoOperations, "second").getId();
+		Opd oneOperation = fixtures.opd(patient, date.plusDays(1));
+		fixtures.operationRow(oneOperation, "only");
+		Opd noOperation = fixtures.opd(patient, date.plusDays(2));
+		fixtures.flushAndClear();
+
+		Map<Integer, List<OperationRow>> operationRows = operationRowLoader.findByOpdCodes(
+						List.of(twoOperations.getCode(), oneOperation.getCode(), noOperation.getCode()));
+
+		assertThat(operationRows).containsOnlyKeys(twoOperations.getCode(), oneOperation.getCode());
+		assertThat(operationRows.get(twoOperations.getCode())).extracting(OperationRow::getId).containsExactly(first, second);
+		assertThat(operationRows.get(oneOperation.getCode())).extracting(OperationRow::getOpResult).containsExactly("only");
+		// fetched with the rows, mapping them reads no more
+		operationRows.values().stream().flatMap(List::stream).forEach(row -> {
+			assertThat(Hibernate.isInitialized(row.getOpd())).isTrue();
+			assertThat(Hibernate.isInitialized(row.getOperation())).isTrue();
+		});
+	}
+}
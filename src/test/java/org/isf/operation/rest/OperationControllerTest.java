@@ -47,6 +47,7 @@ import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -102,7 +103,8 @@ class OperationControllerTest {
 				patientBrowserManager,
 				operationMapper,
 				opdMapper,
-				operationRowMapper
+				operationRowMapper,
+				new CatalogueVersions()
 			))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
@@ -27,7 +27,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -36,29 +40,35 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.isf.admission.data.AdmissionHelper;
-import org.isf.admission.manager.AdmissionBrowserManager;
-import org.isf.admission.model.Admission;
+import org.isf.admission.repository.AdmittedPatientLoader;
 import org.isf.patconsensus.manager.PatientConsensusBrowserManager;
 import org.isf.patconsensus.model.PatientConsensus;
 import org.isf.patient.data.PatientHelper;
 import org.isf.patient.dto.PatientDTO;
 import org.isf.patient.dto.PatientSTATUS;
+import org.isf.patient.dto.PatientSummaryDTO;
 import org.isf.patient.manager.PatientBrowserManager;
 import org.isf.patient.mapper.PatientMapper;
 import org.isf.patient.model.Patient;
+import org.isf.patient.repository.PatientSummaryRepository;
 import org.isf.shared.exceptions.OHAPIException;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
 import org.isf.shared.mapper.mappings.PatientMapping;
+import org.isf.shared.pagination.Cursor;
+import org.isf.shared.pagination.KeysetRepository;
 import org.isf.shared.pagination.Page;
+import org.isf.shared.pagination.PageSizePolicy;
 import org.isf.utils.exception.OHServiceException;
 import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.utils.pagination.PagedResponse;
@@ -72,12 +82,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * @author ecastaneda1
  */
@@ -89,11 +102,17 @@ class PatientControllerTest {
 	private PatientBrowserManager patientBrowserManagerMock;
 
 	@Mock
-	private AdmissionBrowserManager admissionBrowserManagerMock;
+	private AdmittedPatientLoader admittedPatientLoaderMock;
 
 	@Mock
 	private PatientConsensusBrowserManager patientConsensusManagerMock;
 
+	@Mock
+	private KeysetRepository keysetRepositoryMock;
+
+	@Mock
+	private PatientSummaryRepository patientSummaryRepositoryMock;
+
 	private final PatientMapper patientMapper = new PatientMapper();
 
 	private MockMvc mockMvc;
@@ -104,8 +123,9 @@ class PatientControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-			.standaloneSetup(new PatientController(patientBrowserManagerMock, admissionBrowserManagerMock, patientMapper,
-				patientConsensusManagerMock))
+			.standaloneSetup(new PatientController(patientBrowserManagerMock, patientMapper, patientConsensusManagerMock,
+				new AdmissionStatusCache(admittedPatientLoaderMock), keysetRepositoryMock, new PageSizePolicy(new MockEnvironment(), new SimpleMeterRegistry()),
+				patientSummaryRepositoryMock))
 			.setControllerAdvice(new OHResponseEntityExceptionHandler())
 			.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -356,7 +376,7 @@ class PatientControllerTest {
 	}
 
 	/**
-	 * Test method for {@link PatientController#getPatients(int, int)}.
+	 * Test method for {@link PatientController#getPatients(int, Integer, String)}.
 	 *
 	 * @throws Exception
 	 */
@@ -364,7 +384,7 @@ class PatientControllerTest {
 	void when_get_patients_non_parameters_then_return_list_of_PatientDTO_page_0_default_size_and_OK() throws Exception {
 		String request = "/patients";
 
-		int expectedPageSize = Integer.parseInt(PatientController.DEFAULT_PAGE_SIZE);
+		int expectedPageSize = PageSizePolicy.DEFAULT_SIZE;
 
 		List<Patient> patientList = PatientHelper.setupPatientList(expectedPageSize);
 
@@ -387,6 +407,107 @@ class PatientControllerTest {
 
 	}
 
+	/**
+	 * Test method for {@link PatientController#getPatientsByCursor(String, Integer, boolean, String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void when_get_patients_with_cursor_then_return_page_and_next_cursor() throws Exception {
+		List<Patient> patientList = PatientHelper.setupPatientList(3);
+		String cursor = Cursor.encode(100);
+		when(keysetRepositoryMock.findPatients(cursor, 3)).thenReturn(patientList);
+
+		this.mockMvc
+			.perform(get("/patients").param("cursor", cursor).param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(2))
+			.andExpect(jsonPath("$.cursorInfo.hasNextPage").value(true))
+			.andExpect(jsonPath("$.cursorInfo.next").value(KeysetRepository.patientCursor(patientList.get(1))))
+			.andExpect(jsonPath("$.cursorInfo.totalNbOfElements").doesNotExist());
+	}
+
+	/**
+	 * Test method for {@link PatientController#getPatientsByCursor(String, Integer, boolean, String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void when_get_patients_last_page_with_total_then_no_next_cursor() throws Exception {
+		List<Patient> patientList = PatientHelper.setupPatientList(1);
+		when(keysetRepositoryMock.findPatients(eq(""), anyInt())).thenReturn(patientList);
+		when(keysetRepositoryMock.countPatients()).thenReturn(1L);
+
+		this.mockMvc
+			.perform(get("/patients").param("cursor", "").param("total", "true"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(1))
+			.andExpect(jsonPath("$.cursorInfo.hasNextPage").value(false))
+			.andExpect(jsonPath("$.cursorInfo.next").doesNotExist())
+			.andExpect(jsonPath("$.cursorInfo.totalNbOfElements").value(1));
+	}
+
+	/**
+	 * Test method for {@link PatientController#getPatients(int, Integer, String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void when_get_patients_summary_then_return_summaries_without_loading_patients() throws Exception {
+		List<PatientSummaryDTO> summaries = List.of(
+			new PatientSummaryDTO(2, "Mario", "Rossi", "Mario Rossi", 40, 'M', "M", "MEDICINE"),
+			new PatientSummaryDTO(1, "Anna", "Bianchi", "Anna Bianchi", 31, 'F', null, null));
+		when(patientSummaryRepositoryMock.findPatients(1, 2)).thenReturn(summaries);
+		when(keysetRepositoryMock.countPatients()).thenReturn(5L);
+
+		this.mockMvc
+			.perform(get("/patients").param("page", "1").param("size", "2").param("fields", "summary"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(2))
+			.andExpect(jsonPath("$.data[0].wardCode").value("M"))
+			.andExpect(jsonPath("$.data[0].status").value("I"))
+			.andExpect(jsonPath("$.data[1].status").value("O"))
+			.andExpect(jsonPath("$.data[0].blobPhoto").doesNotExist())
+			.andExpect(jsonPath("$.pageInfo.totalPages").value(3))
+			.andExpect(jsonPath("$.pageInfo.hasPreviousPage").value(true))
+			.andExpect(jsonPath("$.pageInfo.hasNextPage").value(true));
+
+		verify(patientBrowserManagerMock, times(0)).getPatientsPageable(anyInt(), anyInt());
+	}
+
+	/**
+	 * Test method for {@link PatientController#getPatientsByCursor(String, Integer, boolean, String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void when_get_patients_summary_with_cursor_then_return_page_and_next_cursor() throws Exception {
+		List<PatientSummaryDTO> summaries = List.of(
+			new PatientSummaryDTO(3, "Mario", "Rossi", "Mario Rossi", 40, 'M', null, null),
+			new PatientSummaryDTO(2, "Anna", "Bianchi", "Anna Bianchi", 31, 'F', null, null));
+		when(patientSummaryRepositoryMock.findPatients("", 2)).thenReturn(summaries);
+
+		this.mockMvc
+			.perform(get("/patients").param("cursor", "").param("size", "1").param("fields", "summary"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(1))
+			.andExpect(jsonPath("$.data[0].code").value(3))
+			.andExpect(jsonPath("$.cursorInfo.next").value(Cursor.encode(3)));
+	}
+
+	/**
+	 * Test method for {@link PatientController#getPatients(int, Integer, String)}.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void when_get_patients_with_unknown_fields_then_BAD_REQUEST() throws Exception {
+		this.mockMvc
+			.perform(get("/patients").param("fields", "code,name"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(containsString("Unknown fields 'code,name'")));
+	}
+
 	/**
 	 * Test method for {@link PatientController#getPatient(int)}.
 	 *
@@ -404,7 +525,7 @@ class PatientControllerTest {
 
 		when(patientBrowserManagerMock.getPatientById(code)).thenReturn(patient);
 
-		when(admissionBrowserManagerMock.getCurrentAdmission(patient)).thenReturn(null);
+		when(admittedPatientLoaderMock.findAdmitted(Set.of(code))).thenReturn(Set.of());
 
 		this.mockMvc
 			.perform(
@@ -427,16 +548,14 @@ class PatientControllerTest {
 		int code = 123;
 		String request = "/patients/{code}";
 		Patient patient = PatientHelper.setup();
-		Admission admission = AdmissionHelper.setup();
 		patient.setCode(code);
-		admission.setPatient(patient);
 
 		PatientDTO expectedPatientDTO = patientMapper.map2DTO(patient);
 		expectedPatientDTO.setStatus(PatientSTATUS.I);
 
 		when(patientBrowserManagerMock.getPatientById(code)).thenReturn(patient);
 
-		when(admissionBrowserManagerMock.getCurrentAdmission(patient)).thenReturn(admission);
+		when(admittedPatientLoaderMock.findAdmitted(Set.of(code))).thenReturn(Set.of(code));
 
 		this.mockMvc
 			.perform(
@@ -511,6 +630,36 @@ class PatientControllerTest {
 			.andExpect(status().isOk());
 	}
 
+	/**
+	 * Test method for
+	 * {@link PatientController#searchPatient(String, String, java.time.LocalDateTime, String)}: the admission status of
+	 * all the patients found is read with a single query.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void when_get_patients_search_with_many_results_then_admission_status_read_in_one_query() throws Exception {
+		String request = "/patients/search";
+		List<Patient> patients = PatientHelper.setupPatientList(500);
+		Set<Integer> admitted = patients.stream().map(Patient::getCode).filter(code -> code % 2 == 0).collect(Collectors.toSet());
+
+		when(patientBrowserManagerMock.getPatients(anyMap())).thenReturn(patients);
+		when(admittedPatientLoaderMock.findAdmitted(any())).thenReturn(admitted);
+
+		this.mockMvc
+			.perform(
+				get(request)
+					.param("firstName", "John")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andDo(log())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(500))
+			.andExpect(jsonPath("$[0].status").value(PatientSTATUS.O.toString()))
+			.andExpect(jsonPath("$[1].status").value(PatientSTATUS.I.toString()));
+
+		verify(admittedPatientLoaderMock, times(1)).findAdmitted(any());
+	}
+
 	/**
 	 * Test method for {@link PatientController#deletePatient(int)}.
 	 *
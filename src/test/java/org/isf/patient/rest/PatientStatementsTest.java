@@ -0,0 +1,116 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.patient.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.manager.PatientBrowserManager;
+import org.isf.patient.model.Patient;
+import org.isf.shared.pagination.PageSizePolicy;
+import org.isf.testing.rest.ControllerBaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Budgets of SQL statements of the patient listings on the H2 test database: a page of
+ * {@link PageSizePolicy#DEFAULT_SIZE} patients must not issue one query per patient (e.g. for the admission status).
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class PatientStatementsTest extends ControllerBaseTest {
+
+	private static final int MAX_STATEMENTS = 10;
+
+	// the summary rows and their count
+	private static final int MAX_SUMMARY_STATEMENTS = 3;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PatientBrowserManager patientManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private String firstName;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		for (int i = 0; i < PageSizePolicy.DEFAULT_SIZE; i++) {
+			Patient patient = patientManager.savePatient(PatientHelper.setup());
+			firstName = patient.getFirstName();
+		}
+		// the inserts are not counted in the budgets
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "patients.read" })
+	void testSearchPatients() throws Exception {
+		assertMaxStatements("patient search", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/patients/search").param("firstName", firstName))
+			.andExpect(status().isOk()));
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "patients.read" })
+	void testPatientsPage() throws Exception {
+		assertMaxStatements("patients page", MAX_STATEMENTS, () -> mockMvc
+			.perform(get("/patients").param("page", "0").param("size", String.valueOf(PageSizePolicy.DEFAULT_SIZE)))
+			.andExpect(status().isOk()));
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "patients.read" })
+	void testPatientsSummaryPage() throws Exception {
+		assertMaxStatements("patients summary page", MAX_SUMMARY_STATEMENTS, () -> mockMvc
+			.perform(get("/patients").param("page", "0").param("size", String.valueOf(PageSizePolicy.DEFAULT_SIZE)).param("fields", "summary"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.length()").value(PageSizePolicy.DEFAULT_SIZE))
+			.andExpect(jsonPath("$.data[0].status").value("O")));
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "admissions.read" })
+	void testAdmittedPatientsSummary() throws Exception {
+		assertMaxStatements("admitted patients summary", MAX_SUMMARY_STATEMENTS, () -> mockMvc
+			.perform(get("/admissions/admittedPatients").param("searchterms", firstName).param("fields", "summary"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].firstName").value(firstName)));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.patient.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.dto.PatientDTO;
+import org.isf.patient.mapper.PatientMapper;
+import org.isf.security.jwt.TokenProvider;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the size and the time of the {@value #PATIENTS} rows responses of {@code GET /patients} and
+ * {@code GET /admissions/admittedPatients} in full and with {@code fields=summary}, on the H2 test database seeded with
+ * patients having a {@value #PHOTO_BYTES} bytes photo and a {@value #NOTE_CHARS} characters note.
+ */
+@Tag(MicroBenchmark.TAG)
+class PatientSummaryBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PatientSummaryBenchmarkTest.class);
+
+	private static final int PATIENTS = 1000;
+
+	private static final int PHOTO_BYTES = 20_000;
+
+	private static final int NOTE_CHARS = 2_000;
+
+	private static final int RUNS = 5;
+
+	@Test
+	void benchmarkSummaries() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenHospitalApiApplication.class)
+			.properties("server.port=0", "pagination.patients.max-size=" + PATIENTS)
+			.run()) {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String token = context.getBean(TokenProvider.class).generateJwtToken(new UsernamePasswordAuthenticationToken("admin", null,
+				List.of(new SimpleGrantedAuthority("patients.create"), new SimpleGrantedAuthority("patients.read"),
+					new SimpleGrantedAuthority("admissions.read"))), false);
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			seed(client, port, token, context.getBean(PatientMapper.class), context.getBean(ObjectMapper.class));
+
+			compare(client, token, "patients", "http://localhost:" + port + "/patients?page=0&size=" + PATIENTS);
+			compare(client, token, "admitted patients", "http://localhost:" + port + "/admissions/admittedPatients?searchterms=");
+		}
+	}
+
+	private static void seed(HttpClient client, int port, String token, PatientMapper patientMapper, ObjectMapper objectMapper)
+					throws Exception {
+		Random random = new Random(42);
+		for (int i = 0; i < PATIENTS; i++) {
+			PatientDTO patient = PatientHelper.setup(patientMapper);
+			patient.setCode(null);
+			byte[] photo = new byte[PHOTO_BYTES];
+			random.nextBytes(photo);
+			patient.setBlobPhoto(photo);
+			patient.setNote("n".repeat(NOTE_CHARS));
+			HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/patients"))
+				.header("Authorization", "Bearer " + token)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(patient)))
+				.build(), HttpResponse.BodyHandlers.ofString());
+			assertThat(response.statusCode()).isEqualTo(201);
+		}
+	}
+
+	private static void compare(HttpClient client, String token, String listing, String uri) throws Exception {
+		HttpRequest full = request(token, uri);
+		HttpRequest summary = request(token, uri + "&fields=summary");
+		double[] fullMillis = new double[RUNS];
+		double[] summaryMillis = new double[RUNS];
+		long fullBytes = 0;
+		long summaryBytes = 0;
+		// warm-up
+		send(client, full);
+		send(client, summary);
+		for (int run = 0; run < RUNS; run++) {
+			long start = System.nanoTime();
+			fullBytes = send(client, full);
+			fullMillis[run] = (System.nanoTime() - start) / 1_000_000.0;
+			start = System.nanoTime();
+			summaryBytes = send(client, summary);
+			summaryMillis[run] = (System.nanoTime() - start) / 1_000_000.0;
+		}
+
+		LOGGER.info("{} {}: {} bytes in {} ms, with fields=summary {} bytes in {} ms", PATIENTS, listing, fullBytes,
+			String.format("%.1f", median(fullMillis)), summaryBytes, String.format("%.1f", median(summaryMillis)));
+		assertThat(summaryBytes).isLessThan(fullBytes);
+	}
+
+	private static HttpRequest request(String token, String uri) {
+		return HttpRequest.newBuilder(URI.create(uri)).header("Authorization", "Bearer " + token).build();
+	}
+
+	private static long send(HttpClient client, HttpRequest request) throws Exception {
+		HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(response.statusCode()).isEqualTo(200);
+		return response.body().length;
+	}
+
+	private static double median(double[] values) {
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+}
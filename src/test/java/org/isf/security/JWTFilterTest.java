@@ -27,6 +27,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.List;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -34,6 +36,7 @@ import jakarta.servlet.ServletException;
 import org.isf.security.jwt.JWTFilter;
 import org.isf.security.jwt.TokenProvider;
 import org.isf.security.jwt.TokenValidationResult;
+import org.isf.security.jwt.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -42,9 +45,13 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 class JWTFilterTest {
 
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
 	@Mock
 	private TokenProvider tokenProvider;
 
@@ -68,10 +75,10 @@ class JWTFilterTest {
 	void testDoFilter_ValidToken() throws ServletException, IOException {
 		String validToken = "valid.token";
 		Authentication mockAuthentication = mock(Authentication.class);
+		VerifiedToken verifiedToken = new VerifiedToken("testuser", AUTHORITIES, new Date(System.currentTimeMillis() + 100000));
 
-		when(tokenProvider.validateToken(validToken)).thenReturn(TokenValidationResult.VALID);
-		when(tokenProvider.isTokenExpired(validToken)).thenReturn(false);
-		when(tokenProvider.getAuthentication(validToken)).thenReturn(mockAuthentication);
+		when(tokenProvider.verifyToken(validToken)).thenReturn(verifiedToken);
+		when(tokenProvider.getAuthentication(verifiedToken, validToken)).thenReturn(mockAuthentication);
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + validToken);
 
@@ -83,7 +90,7 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_ExpiredToken() throws ServletException, IOException {
 		String expiredToken = "expired.token";
-		when(tokenProvider.validateToken(expiredToken)).thenReturn(TokenValidationResult.EXPIRED);
+		when(tokenProvider.verifyToken(expiredToken)).thenReturn(VerifiedToken.rejected(TokenValidationResult.EXPIRED));
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + expiredToken);
 
@@ -95,7 +102,7 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_MalformedToken() throws ServletException, IOException {
 		String malformedToken = "malformed.token";
-		when(tokenProvider.validateToken(malformedToken)).thenReturn(TokenValidationResult.MALFORMED);
+		when(tokenProvider.verifyToken(malformedToken)).thenReturn(VerifiedToken.rejected(TokenValidationResult.MALFORMED));
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + malformedToken);
 
@@ -113,7 +120,7 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_InvalidSignatureToken() throws ServletException, IOException {
 		String invalidSignatureToken = "eyJhbGciOiJIUzI1NiJ9.MISSING_PART.HMAC_SIGNATURE";
-		when(tokenProvider.validateToken(invalidSignatureToken)).thenReturn(TokenValidationResult.INVALID_SIGNATURE);
+		when(tokenProvider.verifyToken(invalidSignatureToken)).thenReturn(VerifiedToken.rejected(TokenValidationResult.INVALID_SIGNATURE));
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + invalidSignatureToken);
 
@@ -125,7 +132,7 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_UnsupportedToken() throws ServletException, IOException {
 		String unsupportedToken = "unsupported.token";
-		when(tokenProvider.validateToken(unsupportedToken)).thenReturn(TokenValidationResult.UNSUPPORTED);
+		when(tokenProvider.verifyToken(unsupportedToken)).thenReturn(VerifiedToken.rejected(TokenValidationResult.UNSUPPORTED));
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + unsupportedToken);
 
@@ -137,7 +144,7 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_EmptyClaimsToken() throws ServletException, IOException {
 		String emptyClaimsToken = "empty.claims.token";
-		when(tokenProvider.validateToken(emptyClaimsToken)).thenReturn(TokenValidationResult.EMPTY_CLAIMS);
+		when(tokenProvider.verifyToken(emptyClaimsToken)).thenReturn(VerifiedToken.rejected(TokenValidationResult.EMPTY_CLAIMS));
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + emptyClaimsToken);
 
@@ -149,9 +156,9 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_UnexpectedResult() throws ServletException, IOException {
 		String unexpectedToken = "unexpected.token";
-		when(tokenProvider.validateToken(unexpectedToken)).thenAnswer(invocation -> {
+		when(tokenProvider.verifyToken(unexpectedToken)).thenAnswer(invocation -> {
 			// Return an unexpected result
-			return TokenValidationResult.valueOf("UNKNOWN"); // Use a valid value for testing
+			return VerifiedToken.rejected(TokenValidationResult.valueOf("UNKNOWN")); // Use a valid value for testing
 		});
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + unexpectedToken);
@@ -164,7 +171,7 @@ class JWTFilterTest {
 	@Test
 	void testDoFilter_NullValidationResult() throws ServletException, IOException {
 		String tokenWithNullValidationResult = "null.validation.token";
-		when(tokenProvider.validateToken(tokenWithNullValidationResult)).thenReturn(null);
+		when(tokenProvider.verifyToken(tokenWithNullValidationResult)).thenReturn(null);
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + tokenWithNullValidationResult);
 
@@ -177,10 +184,11 @@ class JWTFilterTest {
 	void testDoFilter_ValidButExpiredToken() throws ServletException, IOException {
 		String validTokenButExpired = "valid.token.but.expired";
 		Authentication mockAuthentication = mock(Authentication.class);
+		// Token is expired
+		VerifiedToken verifiedToken = new VerifiedToken("testuser", AUTHORITIES, new Date(System.currentTimeMillis() - 1000));
 
-		when(tokenProvider.validateToken(validTokenButExpired)).thenReturn(TokenValidationResult.VALID);
-		when(tokenProvider.isTokenExpired(validTokenButExpired)).thenReturn(true); // Token is expired
-		when(tokenProvider.getAuthentication(validTokenButExpired)).thenReturn(mockAuthentication);
+		when(tokenProvider.verifyToken(validTokenButExpired)).thenReturn(verifiedToken);
+		when(tokenProvider.getAuthentication(verifiedToken, validTokenButExpired)).thenReturn(mockAuthentication);
 
 		request.addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + validTokenButExpired);
 
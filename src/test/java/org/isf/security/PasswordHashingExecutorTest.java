@@ -0,0 +1,102 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingExecutorTest {
+
+	@Test
+	void testMatches() {
+		PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 5);
+		PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+		String encodedPassword = passwordEncoder.encode("secret");
+
+		assertThat(executor.matches(passwordEncoder, "secret", encodedPassword)).isTrue();
+		assertThat(executor.matches(passwordEncoder, "wrong", encodedPassword)).isFalse();
+		executor.destroy();
+	}
+
+	@Test
+	void testMatches_Saturated() throws Exception {
+		PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 7);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blockingEncoder = new BlockingPasswordEncoder(release);
+
+		// one login hashing, one waiting in the queue
+		CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.matches(blockingEncoder, "secret", "secret"));
+		waitFor(() -> executor.getActiveCount() == 1);
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.matches(blockingEncoder, "secret", "secret"));
+		waitFor(() -> executor.getQueueDepth() == 1);
+
+		LoginThrottledException exception = assertThrows(LoginThrottledException.class,
+						() -> executor.matches(blockingEncoder, "secret", "secret"));
+		assertThat(exception.getRetryAfterSeconds()).isEqualTo(7);
+
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+		executor.destroy();
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	private static final class BlockingPasswordEncoder implements PasswordEncoder {
+
+		private final CountDownLatch release;
+
+		private BlockingPasswordEncoder(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return rawPassword.toString();
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return rawPassword.toString().equals(encodedPassword);
+		}
+	}
+}
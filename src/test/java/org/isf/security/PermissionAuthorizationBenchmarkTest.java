@@ -0,0 +1,93 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ * Compares the cost of the "exams PUT" access rule evaluated with the former stream scans over the authorities and with the
+ * compiled {@link PermissionAuthorizationManager}, for users holding many permissions.
+ */
+@Tag(MicroBenchmark.TAG)
+class PermissionAuthorizationBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PermissionAuthorizationBenchmarkTest.class);
+
+	private static final String[] REQUIRED = { "exams.create", "exams.update", "examrows.create" };
+
+	private static final String[] ACTIONS = { "create", "read", "update", "delete" };
+
+	@Test
+	void benchmarkAuthorization() {
+		for (int permissionCount : new int[] { 20, 100, 200 }) {
+			PermissionRegistry registry = new PermissionRegistry();
+			AuthorizationManager<RequestAuthorizationContext> rule = registry.hasAllAuthorities(REQUIRED);
+			List<GrantedAuthority> authorities = authorities(permissionCount);
+			authorities.forEach(authority -> registry.register(authority.getAuthority()));
+			Authentication authentication = new PermissionAuthenticationToken("testuser", null, authorities, registry.toPermissionSet(authorities));
+
+			assertThat(streamScan(authentication)).isEqualTo(rule.check(() -> authentication, null).isGranted());
+
+			double streamNanos = MicroBenchmark.nanosPerOperation(200_000, 1_000_000, () -> streamScan(authentication));
+			double bitsetNanos = MicroBenchmark.nanosPerOperation(200_000, 1_000_000, () -> rule.check(() -> authentication, null));
+			LOGGER.info("{} permissions: stream scan {} ns/request, compiled bitset {} ns/request", permissionCount,
+							String.format("%.1f", streamNanos), String.format("%.1f", bitsetNanos));
+		}
+	}
+
+	// the lambda formerly used by SecurityConfig for "PUT /exams/**"
+	private static boolean streamScan(Authentication authentication) {
+		boolean hasCreateAuthority = authentication.getAuthorities().stream()
+			.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(REQUIRED[0]));
+		boolean hasUpdateAuthority = authentication.getAuthorities().stream()
+			.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(REQUIRED[1]));
+		boolean hasDeleteAuthority = authentication.getAuthorities().stream()
+			.anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(REQUIRED[2]));
+		return hasCreateAuthority && hasUpdateAuthority && hasDeleteAuthority;
+	}
+
+	// the required permissions are placed at the end, the worst case for a linear scan
+	private static List<GrantedAuthority> authorities(int count) {
+		List<GrantedAuthority> authorities = new ArrayList<>();
+		for (int i = 0; authorities.size() < count - REQUIRED.length; i++) {
+			authorities.add(new SimpleGrantedAuthority("resource" + i / ACTIONS.length + '.' + ACTIONS[i % ACTIONS.length]));
+		}
+		for (String permission : REQUIRED) {
+			authorities.add(new SimpleGrantedAuthority(permission));
+		}
+		return authorities;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+class PermissionRegistryTest {
+
+	private PermissionRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new PermissionRegistry();
+	}
+
+	@Test
+	void testRegister_SameIdForSamePermission() {
+		int id = registry.register("exams.read");
+
+		assertThat(registry.register("exams.read")).isEqualTo(id);
+		assertThat(registry.register("exams.create")).isNotEqualTo(id);
+	}
+
+	@Test
+	void testToPermissionSet_IgnoresUnregisteredAuthorities() {
+		int readId = registry.register("exams.read");
+		int createId = registry.register("exams.create");
+
+		PermissionSet permissions = registry.toPermissionSet(authorities("exams.read", "not.required"));
+
+		assertThat(permissions.contains(readId)).isTrue();
+		assertThat(permissions.contains(createId)).isFalse();
+		assertThat(permissions.size()).isEqualTo(1);
+	}
+
+	@Test
+	void testHasAuthority() {
+		AuthorizationManager<RequestAuthorizationContext> rule = registry.hasAuthority("exams.read");
+
+		assertThat(rule.check(() -> authentication("exams.read"), null).isGranted()).isTrue();
+		assertThat(rule.check(() -> authentication("exams.create"), null).isGranted()).isFalse();
+		assertThat(rule.check(() -> null, null).isGranted()).isFalse();
+	}
+
+	@Test
+	void testHasAllAuthorities() {
+		AuthorizationManager<RequestAuthorizationContext> rule = registry.hasAllAuthorities("grouppermission.create", "grouppermission.delete");
+
+		assertThat(rule.check(() -> authentication("grouppermission.create", "grouppermission.delete"), null).isGranted()).isTrue();
+		assertThat(rule.check(() -> authentication("grouppermission.create"), null).isGranted()).isFalse();
+	}
+
+	@Test
+	void testHasAnyAuthority() {
+		AuthorizationManager<RequestAuthorizationContext> rule = registry.hasAnyAuthority("exams.read", "exams.update");
+
+		assertThat(rule.check(() -> authentication("exams.update"), null).isGranted()).isTrue();
+		assertThat(rule.check(() -> authentication("exams.delete"), null).isGranted()).isFalse();
+	}
+
+	@Test
+	void testPermissionsOf_UsesPrecomputedPermissionSet() {
+		registry.register("exams.read");
+		List<GrantedAuthority> authorities = authorities("exams.read");
+		PermissionSet permissions = registry.toPermissionSet(authorities);
+
+		Authentication authentication = new PermissionAuthenticationToken("testuser", null, authorities, permissions);
+
+		assertThat(registry.permissionsOf(authentication)).isSameAs(permissions);
+	}
+
+	private static List<GrantedAuthority> authorities(String... permissions) {
+		return List.of(permissions).stream().<GrantedAuthority> map(SimpleGrantedAuthority::new).toList();
+	}
+
+	private static Authentication authentication(String... permissions) {
+		return new UsernamePasswordAuthenticationToken("testuser", null, authorities(permissions));
+	}
+}
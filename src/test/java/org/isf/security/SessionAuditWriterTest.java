@@ -0,0 +1,112 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.isf.sessionaudit.manager.SessionAuditManager;
+import org.isf.sessionaudit.model.SessionAudit;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class SessionAuditWriterTest {
+
+	@Test
+	void testLoginThenLogoutWrittenInOrder() throws Exception {
+		SessionAuditManager sessionAuditManager = mock(SessionAuditManager.class);
+		@SuppressWarnings("unchecked")
+		ObjectProvider<PlatformTransactionManager> transactionManager = mock(ObjectProvider.class);
+		SessionAudit storedSessionAudit = new SessionAudit("admin", null, null);
+		when(sessionAuditManager.newSessionAudit(any())).thenReturn(42);
+		when(sessionAuditManager.getSessionAudit(42)).thenReturn(Optional.of(storedSessionAudit));
+
+		SessionAuditWriter writer = new SessionAuditWriter(sessionAuditManager, transactionManager, 10, 10, 100);
+		SessionAuditHandle handle = writer.recordLogin("admin");
+		writer.recordLogout(handle);
+		writer.destroy();
+
+		assertThat(handle.getSessionAuditId()).isEqualTo(42);
+		InOrder inOrder = inOrder(sessionAuditManager);
+		inOrder.verify(sessionAuditManager).newSessionAudit(any());
+		inOrder.verify(sessionAuditManager).updateSessionAudit(storedSessionAudit);
+		assertThat(storedSessionAudit.getLogoutDate()).isNotNull();
+	}
+
+	@Test
+	void testQueueFull_WritesOnCallerThread() throws Exception {
+		SessionAuditManager sessionAuditManager = mock(SessionAuditManager.class);
+		@SuppressWarnings("unchecked")
+		ObjectProvider<PlatformTransactionManager> transactionManager = mock(ObjectProvider.class);
+		when(sessionAuditManager.newSessionAudit(any())).thenReturn(1);
+
+		SessionAuditWriter writer = new SessionAuditWriter(sessionAuditManager, transactionManager, 10, 10, 1);
+		writer.destroy();
+		// after shutdown every record is written synchronously
+		writer.recordLogin("admin");
+		writer.recordLogin("guest");
+
+		verify(sessionAuditManager, times(2)).newSessionAudit(any());
+	}
+
+	@Test
+	void testFailingRecord_OtherRecordsWrittenAlone() throws Exception {
+		SessionAuditManager sessionAuditManager = mock(SessionAuditManager.class);
+		PlatformTransactionManager platformTransactionManager = mock(PlatformTransactionManager.class);
+		@SuppressWarnings("unchecked")
+		ObjectProvider<PlatformTransactionManager> transactionManager = mock(ObjectProvider.class);
+		when(transactionManager.getIfUnique()).thenReturn(platformTransactionManager);
+		when(platformTransactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+		SessionAudit storedSessionAudit = new SessionAudit("admin", null, null);
+		AtomicInteger ids = new AtomicInteger(41);
+		when(sessionAuditManager.newSessionAudit(argThat(sessionAudit -> sessionAudit != null && "admin".equals(sessionAudit.getUserName()))))
+			.thenAnswer(invocation -> ids.incrementAndGet());
+		when(sessionAuditManager.newSessionAudit(argThat(sessionAudit -> sessionAudit != null && "broken".equals(sessionAudit.getUserName()))))
+			.thenThrow(new IllegalStateException("constraint violation"));
+		when(sessionAuditManager.getSessionAudit(anyInt())).thenReturn(Optional.of(storedSessionAudit));
+
+		SessionAuditWriter writer = new SessionAuditWriter(sessionAuditManager, transactionManager, 10, 10, 100);
+		SessionAuditHandle admin = writer.recordLogin("admin");
+		SessionAuditHandle broken = writer.recordLogin("broken");
+		writer.recordLogout(admin);
+		writer.destroy();
+
+		// the failing login is not written, the others are written even when they shared its transaction
+		assertThat(admin.getSessionAuditId()).isEqualTo(ids.get());
+		assertThat(broken.getSessionAuditId()).isNull();
+		verify(sessionAuditManager).getSessionAudit(ids.get());
+		assertThat(storedSessionAudit.getLogoutDate()).isNotNull();
+	}
+}
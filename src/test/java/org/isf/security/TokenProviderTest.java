@@ -46,6 +46,8 @@ import org.isf.permissions.manager.PermissionManager;
 import org.isf.permissions.model.Permission;
 import org.isf.security.jwt.TokenProvider;
 import org.isf.security.jwt.TokenValidationResult;
+import org.isf.security.jwt.VerifiedToken;
+import org.isf.security.jwt.VerifiedTokenCache;
 import org.isf.utils.exception.OHException;
 import org.isf.utils.exception.OHServiceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +65,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @SpringBootTest(classes = OpenHospitalApiApplication.class)
 class TokenProviderTest {
@@ -70,6 +74,9 @@ class TokenProviderTest {
 	@Autowired
 	private TokenProvider tokenProvider;
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@MockBean
 	private UserBrowsingManager userManager;
 
@@ -111,6 +118,77 @@ class TokenProviderTest {
 		assertThat(result).isEqualTo(TokenValidationResult.VALID);
 	}
 
+	@Test
+	void testVerifyToken_ValidIsCached() {
+		Authentication authentication = createAuthentication();
+		String token = tokenProvider.generateJwtToken(authentication, false);
+
+		VerifiedToken first = tokenProvider.verifyToken(token);
+		VerifiedToken second = tokenProvider.verifyToken(token);
+
+		assertThat(first.getResult()).isEqualTo(TokenValidationResult.VALID);
+		assertThat(first.getSubject()).isEqualTo("testuser");
+		assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+		assertThat(first.isExpired()).isFalse();
+		// second call is served by the cache without parsing the token again
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void testVerifyToken_IsTimed() {
+		String token = tokenProvider.generateJwtToken(createAuthentication(), false);
+		long misses = validationTimer("miss").count();
+		long hits = validationTimer("hit").count();
+
+		tokenProvider.verifyToken(token);
+		tokenProvider.verifyToken(token);
+
+		assertThat(validationTimer("miss").count()).isEqualTo(misses + 1);
+		assertThat(validationTimer("hit").count()).isEqualTo(hits + 1);
+	}
+
+	@Test
+	void testVerifyToken_RejectedIsNotCached() {
+		String malformedToken = "malformed.token";
+
+		VerifiedToken first = tokenProvider.verifyToken(malformedToken);
+		VerifiedToken second = tokenProvider.verifyToken(malformedToken);
+
+		assertThat(first.getResult()).isEqualTo(TokenValidationResult.MALFORMED);
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Test
+	void testGetAuthentication_FromVerifiedToken() {
+		Authentication authentication = createAuthentication();
+		String token = tokenProvider.generateJwtToken(authentication, false);
+
+		Authentication result = tokenProvider.getAuthentication(tokenProvider.verifyToken(token), token);
+
+		assertThat(((User) result.getPrincipal()).getUsername()).isEqualTo("testuser");
+		assertThat(result.getAuthorities()).extracting(GrantedAuthority::getAuthority).contains("ROLE_USER");
+		assertThat(result.getCredentials()).isEqualTo(token);
+	}
+
+	@Test
+	void testVerifiedTokenCache_Bounded() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(2);
+		VerifiedToken verifiedToken = new VerifiedToken("testuser", List.of(new SimpleGrantedAuthority("ROLE_USER")),
+						new Date(System.currentTimeMillis() + 100000));
+		VerifiedToken expiredToken = new VerifiedToken("testuser", List.of(new SimpleGrantedAuthority("ROLE_USER")),
+						new Date(System.currentTimeMillis() - 1000));
+
+		cache.put("token1", verifiedToken);
+		cache.put("token2", verifiedToken);
+		cache.put("token3", verifiedToken);
+		cache.put("token4", expiredToken);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("token1")).isNull();
+		assertThat(cache.get("token3")).isSameAs(verifiedToken);
+		assertThat(cache.get("token4")).isNull();
+	}
+
 	@Test
 	void testIsTokenExpired_NotExpired() {
 		String validToken = "valid.jwt.token"; // valid token it must contain two dots "."
@@ -387,6 +465,10 @@ class TokenProviderTest {
 	}
 
 	// Helper method to create an Authentication
+	private Timer validationTimer(String cache) {
+		return meterRegistry.get("oh.jwt.validation").tag("cache", cache).timer();
+	}
+
 	private Authentication createAuthentication() {
 		// Create an Authentication object with mock authorities
 		List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
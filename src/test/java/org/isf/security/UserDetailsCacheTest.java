@@ -0,0 +1,117 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class UserDetailsCacheTest {
+
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("users.read"));
+
+	@Test
+	void testGet_HitAndMiss() {
+		UserDetailsCache cache = new UserDetailsCache(10, 60);
+		cache.put("admin", "hash", AUTHORITIES, "admin", cache.generation());
+
+		UserDetails userDetails = cache.get("admin");
+
+		assertThat(userDetails.getUsername()).isEqualTo("admin");
+		assertThat(userDetails.getPassword()).isEqualTo("hash");
+		assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("users.read");
+		assertThat(cache.get("guest")).isNull();
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testGet_ReturnsNewInstance() {
+		UserDetailsCache cache = new UserDetailsCache(10, 60);
+		cache.put("admin", "hash", AUTHORITIES, "admin", cache.generation());
+
+		assertThat(cache.get("admin")).isNotSameAs(cache.get("admin"));
+	}
+
+	@Test
+	void testPut_Bounded() {
+		UserDetailsCache cache = new UserDetailsCache(2, 60);
+		cache.put("user1", "hash", AUTHORITIES, "guest", cache.generation());
+		cache.put("user2", "hash", AUTHORITIES, "guest", cache.generation());
+		cache.put("user3", "hash", AUTHORITIES, "guest", cache.generation());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("user1")).isNull();
+	}
+
+	@Test
+	void testDisabled() {
+		UserDetailsCache cache = new UserDetailsCache(0, 60);
+		cache.put("admin", "hash", AUTHORITIES, "admin", cache.generation());
+
+		assertThat(cache.get("admin")).isNull();
+	}
+
+	@Test
+	void testEvictUser() {
+		UserDetailsCache cache = new UserDetailsCache(10, 60);
+		cache.put("admin", "hash", AUTHORITIES, "admin", cache.generation());
+		cache.put("guest", "hash", AUTHORITIES, "guest", cache.generation());
+
+		cache.evictUser("admin");
+
+		assertThat(cache.get("admin")).isNull();
+		assertThat(cache.get("guest")).isNotNull();
+	}
+
+	@Test
+	void testEvictUserGroup() {
+		UserDetailsCache cache = new UserDetailsCache(10, 60);
+		cache.put("admin", "hash", AUTHORITIES, "admin", cache.generation());
+		cache.put("guest1", "hash", AUTHORITIES, "guest", cache.generation());
+		cache.put("guest2", "hash", AUTHORITIES, "guest", cache.generation());
+
+		cache.evictUserGroup("guest");
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get("admin")).isNotNull();
+	}
+
+	@Test
+	void testPut_AfterEvictionIsIgnored() {
+		UserDetailsCache cache = new UserDetailsCache(10, 60);
+		long generation = cache.generation();
+
+		// the user was loaded before its group changed
+		cache.evictUserGroup("guest");
+		cache.put("guest", "hash", AUTHORITIES, "guest", generation);
+
+		assertThat(cache.get("guest")).isNull();
+		cache.put("guest", "hash", AUTHORITIES, "guest", cache.generation());
+		assertThat(cache.get("guest")).isNotNull();
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.isf.admission.data.AdmissionHelper;
+import org.isf.admission.mapper.AdmissionMapper;
+import org.isf.opd.data.OpdHelper;
+import org.isf.opd.mapper.OpdMapper;
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.mapper.PatientMapper;
+import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
+import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.mapper.mappings.PatientMapping;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares, for {@link PatientMapper}, {@link AdmissionMapper} and {@link OpdMapper}, the latency of the first mapping and of
+ * the steady state per-entity mapping when the type maps are resolved lazily by the {@link ModelMapper} and when they have been
+ * compiled at startup with {@link GenericMapper#compileTypeMaps()}.
+ */
+@Tag(MicroBenchmark.TAG)
+class GenericMapperBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GenericMapperBenchmarkTest.class);
+
+	@Test
+	void benchmarkPatientMapper() throws Exception {
+		benchmark("PatientMapper", PatientMapper::new, PatientHelper.setup());
+	}
+
+	@Test
+	void benchmarkAdmissionMapper() throws Exception {
+		benchmark("AdmissionMapper", AdmissionMapper::new, AdmissionHelper.setup());
+	}
+
+	@Test
+	void benchmarkOpdMapper() throws Exception {
+		benchmark("OpdMapper", OpdMapper::new, OpdHelper.setup());
+	}
+
+	private static <S, D, M extends GenericMapper<S, D>> void benchmark(String name, Supplier<M> factory, S entity) {
+		M lazy = newMapper(factory);
+		M compiled = newMapper(factory);
+		compiled.compileTypeMaps();
+
+		double lazyFirstNanos = firstCall(lazy::map2DTO, entity);
+		double compiledFirstNanos = firstCall(compiled::map2DTO, entity);
+		assertThat(compiled.map2DTO(entity)).usingRecursiveComparison().isEqualTo(lazy.map2DTO(entity));
+
+		double lazyNanos = MicroBenchmark.nanosPerOperation(20_000, 100_000, () -> lazy.map2DTO(entity));
+		double compiledNanos = MicroBenchmark.nanosPerOperation(20_000, 100_000, () -> compiled.map2DTO(entity));
+		LOGGER.info("{}: first mapping {} us lazy / {} us compiled, then {} ns/entity lazy / {} ns/entity compiled", name,
+						String.format("%.1f", lazyFirstNanos / 1000), String.format("%.1f", compiledFirstNanos / 1000),
+						String.format("%.1f", lazyNanos), String.format("%.1f", compiledNanos));
+	}
+
+	private static <S, D> double firstCall(Function<S, D> mapping, S entity) {
+		long start = System.nanoTime();
+		mapping.apply(entity);
+		return System.nanoTime() - start;
+	}
+
+	// same setup as the Spring ModelMapper bean, one instance per mapper so that no type map is shared
+	private static <M extends GenericMapper<?, ?>> M newMapper(Supplier<M> factory) {
+		ModelMapper modelMapper = new ModelMapper();
+		modelMapper.getConfiguration().setAmbiguityIgnored(true);
+		modelMapper.addConverter(new BlobToByteArrayConverter());
+		modelMapper.addConverter(new ByteArrayToBlobConverter());
+		PatientMapping.addMapping(modelMapper);
+		M mapper = factory.get();
+		ReflectionTestUtils.setField(mapper, "modelMapper", modelMapper);
+		return mapper;
+	}
+}
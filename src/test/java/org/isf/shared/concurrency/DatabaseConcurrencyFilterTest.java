@@ -0,0 +1,140 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DatabaseConcurrencyFilterTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withUserConfiguration(DatabaseConcurrencyFilter.class);
+
+	@Test
+	void testOnlyCreatedWithVirtualThreads() {
+		contextRunner.run(context -> assertThat(context).doesNotHaveBean(DatabaseConcurrencyFilter.class));
+		contextRunner.withPropertyValues("spring.threads.virtual.enabled=false")
+			.run(context -> assertThat(context).doesNotHaveBean(DatabaseConcurrencyFilter.class));
+		contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+			.run(context -> assertThat(context).hasSingleBean(DatabaseConcurrencyFilter.class));
+	}
+
+	@Test
+	void testLimitDefaultsToThePoolSize() {
+		contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+			.run(context -> assertThat(context.getBean(DatabaseConcurrencyFilter.class).getMaxRequests()).isEqualTo(10));
+		contextRunner.withPropertyValues("spring.threads.virtual.enabled=true", "spring.datasource.hikari.maximum-pool-size=7")
+			.run(context -> assertThat(context.getBean(DatabaseConcurrencyFilter.class).getMaxRequests()).isEqualTo(7));
+		contextRunner.withPropertyValues("spring.threads.virtual.enabled=true", "db.concurrency.maxRequests=0")
+			.run(context -> assertThat(context.getBean(DatabaseConcurrencyFilter.class).getMaxRequests()).isZero());
+	}
+
+	@Test
+	void testNoLimitWithZero() throws Exception {
+		DatabaseConcurrencyFilter filter = new DatabaseConcurrencyFilter(0, 50, 3);
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 0; i < 2; i++) {
+				executor.submit(() -> {
+					filter.doFilter(new MockHttpServletRequest("GET", "/wards"), new MockHttpServletResponse(), (request, response) -> {
+						started.countDown();
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					});
+					return null;
+				});
+			}
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(filter.getActiveRequests()).isZero();
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testRequestsAboveTheLimitAreRetriedLater() throws Exception {
+		DatabaseConcurrencyFilter filter = new DatabaseConcurrencyFilter(1, 50, 3);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		filter.bindTo(registry);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future< ? > first = executor.submit(() -> {
+				filter.doFilter(new MockHttpServletRequest("GET", "/wards"), new MockHttpServletResponse(), (request, response) -> {
+					started.countDown();
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+				return null;
+			});
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(filter.getActiveRequests()).isEqualTo(1);
+
+			MockHttpServletResponse rejected = new MockHttpServletResponse();
+			filter.doFilter(new MockHttpServletRequest("GET", "/wards"), rejected, new MockFilterChain());
+			assertThat(rejected.getStatus()).isEqualTo(503);
+			assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+			assertThat(registry.get("db.concurrency.rejections").counter().count()).isEqualTo(1);
+
+			// the metrics endpoint does not wait for the database
+			MockHttpServletResponse metrics = new MockHttpServletResponse();
+			MockHttpServletRequest scrape = new MockHttpServletRequest("GET", "/metrics/prometheus");
+			scrape.setServletPath("/metrics/prometheus");
+			filter.doFilter(scrape, metrics, new MockFilterChain());
+			assertThat(metrics.getStatus()).isEqualTo(200);
+
+			release.countDown();
+			first.get(10, TimeUnit.SECONDS);
+			assertThat(filter.getActiveRequests()).isZero();
+
+			MockHttpServletResponse accepted = new MockHttpServletResponse();
+			filter.doFilter(new MockHttpServletRequest("GET", "/wards"), accepted, new MockFilterChain());
+			assertThat(accepted.getStatus()).isEqualTo(200);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.security.jwt.TokenProvider;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Starts the API on the H2 test database with platform threads, with unlimited virtual threads
+ * ({@code spring.threads.virtual.enabled} and {@code db.concurrency.maxRequests=0}), and with virtual threads limited by
+ * default to as many requests as database connections (see {@link DatabaseConcurrencyFilter}), and measures the throughput and the 99th
+ * percentile latency of {@code GET /wards} with 50, 500 and 5,000 concurrent clients. Virtual threads need a Java 21
+ * runtime: on older ones every mode runs on platform threads.
+ */
+@Tag(MicroBenchmark.TAG)
+class ExecutionModeLoadTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+	private static final int[] CLIENTS = { 50, 500, 5_000 };
+
+	private static final int REQUESTS_PER_CLIENT = 10;
+
+	private static final List<Mode> MODES = List.of(
+		new Mode("platform", "spring.threads.virtual.enabled=false"),
+		new Mode("virtual", "spring.threads.virtual.enabled=true", "db.concurrency.maxRequests=0"),
+		new Mode("virtual, as many requests as connections", "spring.threads.virtual.enabled=true",
+			"db.concurrency.acquireTimeoutInMillis=30000"));
+
+	@Test
+	void benchmarkExecutionModes() throws Exception {
+		LOGGER.info("Virtual threads supported: {}", VirtualThreads.isSupported());
+		for (Mode mode : MODES) {
+			try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OpenHospitalApiApplication.class)
+				.properties("server.port=0")
+				.properties(mode.properties())
+				.run()) {
+				context.getBean(WardBrowserManager.class).newWard(WardHelper.setup());
+				int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+				String token = context.getBean(TokenProvider.class).generateJwtToken(new UsernamePasswordAuthenticationToken("admin", null,
+					List.of(new SimpleGrantedAuthority("wards.read"))), false);
+				HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/wards"))
+					.header("Authorization", "Bearer " + token)
+					.timeout(Duration.ofMinutes(2))
+					.build();
+
+				// warm-up
+				run(request, 50, 1_000);
+				for (int clients : CLIENTS) {
+					Result result = run(request, clients, clients * REQUESTS_PER_CLIENT);
+					assertThat(result.failures()).isZero();
+					LOGGER.info("{} threads, {} clients: {} requests/s, p99 {} ms", mode.name(), clients,
+						String.format("%.0f", result.requestsPerSecond()), String.format("%.1f", result.p99InMillis()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sends {@code requests} requests, {@code clients} at a time.
+	 */
+	private static Result run(HttpRequest request, int clients, int requests) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try {
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+			Semaphore inFlight = new Semaphore(clients);
+			AtomicInteger failures = new AtomicInteger();
+			long[] latencies = new long[requests];
+			CompletableFuture< ? >[] responses = new CompletableFuture< ? >[requests];
+
+			long start = System.nanoTime();
+			for (int i = 0; i < requests; i++) {
+				inFlight.acquire();
+				int index = i;
+				long sent = System.nanoTime();
+				responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+					latencies[index] = System.nanoTime() - sent;
+					if (error != null || response.statusCode() != 200) {
+						failures.incrementAndGet();
+					}
+					inFlight.release();
+				});
+			}
+			CompletableFuture.allOf(responses).exceptionally(error -> null).join();
+			long elapsed = System.nanoTime() - start;
+
+			Arrays.sort(latencies);
+			double p99 = latencies[(int) Math.ceil(requests * 0.99) - 1] / 1_000_000.0;
+			return new Result(requests / (elapsed / 1_000_000_000.0), p99, failures.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private record Mode(String name, String... properties) {
+	}
+
+	private record Result(double requestsPerSecond, double p99InMillis, int failures) {
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class CsvHttpMessageConverterTest {
+
+	private static final Type ROWS = new ParameterizedTypeReference<List<Row>>() {}.getType();
+
+	private final CsvHttpMessageConverter converter = new CsvHttpMessageConverter(new ObjectMapper());
+
+	@Test
+	void testFlattensNestedObjects() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(List.of(new Row(1, "first", new Ward("W1", "Ward one"), List.of("a", "b"))), ROWS,
+						CsvHttpMessageConverter.TEXT_CSV, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8))
+			.isEqualTo("id,description,ward.code,ward.name,tags\r\n1,first,W1,Ward one,\"[\"\"a\"\",\"\"b\"\"]\"\r\n");
+	}
+
+	@Test
+	void testHeaderDoesNotDependOnTheRows() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(List.of(new Row(1, null, null, null)), ROWS, CsvHttpMessageConverter.TEXT_CSV, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("id,description,ward.code,ward.name,tags\r\n1,,,,\r\n");
+	}
+
+	@Test
+	void testQuotesSpecialCharacters() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(List.of(new Row(2, "say \"hi\", then\nleave", null, null)), ROWS, CsvHttpMessageConverter.TEXT_CSV, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).endsWith("2,\"say \"\"hi\"\", then\nleave\",,,\r\n");
+	}
+
+	@Test
+	void testEmptyCollectionWritesTheHeader() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(List.of(), ROWS, CsvHttpMessageConverter.TEXT_CSV, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("id,description,ward.code,ward.name,tags\r\n");
+	}
+
+	public record Row(int id, String description, Ward ward, List<String> tags) {
+	}
+
+	public record Ward(String code, String name) {
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class NdjsonHttpMessageConverterTest {
+
+	private final NdjsonHttpMessageConverter converter = new NdjsonHttpMessageConverter(new ObjectMapper());
+
+	@Test
+	void testWritesOneElementPerLine() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(List.of(new Row("a", 1), new Row("b", 2)), null, MediaType.APPLICATION_NDJSON, outputMessage);
+
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8))
+			.isEqualTo("{\"name\":\"a\",\"value\":1}\n{\"name\":\"b\",\"value\":2}\n");
+		assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+	}
+
+	@Test
+	void testEmptyCollectionWritesNothing() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(List.of(), null, MediaType.APPLICATION_NDJSON, outputMessage);
+
+		assertThat(outputMessage.getBodyAsBytes()).isEmpty();
+	}
+
+	@Test
+	void testMappedViewIsMappedOncePerElement() throws Exception {
+		AtomicInteger mappings = new AtomicInteger();
+		List<Row> view = new MappedListView<>(IntStream.range(0, 1000).boxed().toList(), i -> {
+			mappings.incrementAndGet();
+			return new Row("row" + i, i);
+		});
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write(view, new ParameterizedTypeReference<List<Row>>() {}.getType(), MediaType.APPLICATION_NDJSON, outputMessage);
+
+		assertThat(mappings).hasValue(1000);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8).lines()).hasSize(1000).endsWith("{\"name\":\"row999\",\"value\":999}");
+	}
+
+	@Test
+	void testOnlyWritesCollections() {
+		assertThat(converter.canWrite(List.class, MediaType.APPLICATION_NDJSON)).isTrue();
+		assertThat(converter.canWrite(Row.class, MediaType.APPLICATION_NDJSON)).isFalse();
+		assertThat(converter.canWrite(List.class, MediaType.APPLICATION_JSON)).isFalse();
+		assertThat(converter.canRead(List.class, MediaType.APPLICATION_NDJSON)).isFalse();
+	}
+
+	public record Row(String name, int value) {
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the peak live heap of NDJSON exports of growing sizes when the DTO list is materialized, as the JSON endpoints
+ * used to do, and when it is a {@link MappedListView}: the first one grows with the number of rows, the second one must
+ * stay flat.
+ * <p>
+ * The live heap is sampled after a garbage collection every {@value #SAMPLE_ROWS} rows written, so that the garbage of
+ * the rows already written is not counted.
+ */
+@Tag(MicroBenchmark.TAG)
+class StreamingExportBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StreamingExportBenchmarkTest.class);
+
+	private static final int[] ROWS = { 50_000, 100_000, 200_000 };
+
+	private static final int SAMPLE_ROWS = 10_000;
+
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+	private final NdjsonHttpMessageConverter converter = new NdjsonHttpMessageConverter(new ObjectMapper());
+
+	@Test
+	void benchmarkPeakHeap() throws Exception {
+		long[] materialized = new long[ROWS.length];
+		long[] streamed = new long[ROWS.length];
+		for (int i = 0; i < ROWS.length; i++) {
+			List<Integer> entities = IntStream.range(0, ROWS[i]).boxed().collect(Collectors.toList());
+			materialized[i] = peakLiveHeapOf(() -> entities.stream().map(StreamingExportBenchmarkTest::toDTO).collect(Collectors.toList()));
+			streamed[i] = peakLiveHeapOf(() -> new MappedListView<>(entities, StreamingExportBenchmarkTest::toDTO));
+			LOGGER.info("{} rows exported as NDJSON: peak live heap {} MB with a materialized list, {} MB with a mapped view", ROWS[i],
+							materialized[i] / (1024 * 1024), streamed[i] / (1024 * 1024));
+		}
+
+		long materializedGrowth = materialized[ROWS.length - 1] - materialized[0];
+		long streamedGrowth = streamed[ROWS.length - 1] - streamed[0];
+		// at least half of the ~550 bytes of each additional row
+		assertThat(materializedGrowth).isGreaterThan((ROWS[ROWS.length - 1] - ROWS[0]) * 275L);
+		assertThat(streamedGrowth).isLessThan(materializedGrowth / 10);
+	}
+
+	/**
+	 * @return the largest heap in use after a garbage collection while writing the rows, above the heap in use before
+	 */
+	private long peakLiveHeapOf(Supplier<List<Row>> rows) throws Exception {
+		System.gc();
+		long baseline = MEMORY.getHeapMemoryUsage().getUsed();
+		SamplingOutputMessage message = new SamplingOutputMessage();
+		converter.write(rows.get(), null, MediaType.APPLICATION_NDJSON, message);
+		return Math.max(0, message.body.peak - baseline);
+	}
+
+	private static Row toDTO(Integer id) {
+		return new Row(id, "description of row " + id + ' ' + "x".repeat(500));
+	}
+
+	public record Row(int id, String description) {
+	}
+
+	private static final class SamplingOutputMessage implements HttpOutputMessage {
+
+		private final HttpHeaders headers = new HttpHeaders();
+
+		private final SamplingOutputStream body = new SamplingOutputStream();
+
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+
+	/**
+	 * Discards the export, and samples the live heap every {@value #SAMPLE_ROWS} lines.
+	 */
+	private static final class SamplingOutputStream extends OutputStream {
+
+		private long lines;
+
+		private long peak;
+
+		@Override
+		public void write(int b) {
+			if (b == '\n' && ++lines % SAMPLE_ROWS == 0) {
+				System.gc();
+				peak = Math.max(peak, MEMORY.getHeapMemoryUsage().getUsed());
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			for (int i = off; i < off + len; i++) {
+				write(b[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class IdempotencyCacheTest {
+
+	private static final Map<String, String> REQUEST = Map.of("opResult", "success");
+
+	private final AtomicInteger writes = new AtomicInteger();
+
+	@Test
+	void testRepeatedKeyReturnsTheFirstResult() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(100, 60);
+
+		assertThat(cache.execute("POST /opds/rows", "key", REQUEST, writes::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.execute("POST /opds/rows", "key", REQUEST, writes::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.execute("POST /opds/rows", "other", REQUEST, writes::incrementAndGet)).isEqualTo(2);
+		assertThat(cache.execute("PUT /opds/rows/1", "key", REQUEST, writes::incrementAndGet)).isEqualTo(3);
+		assertThat(writes).hasValue(3);
+	}
+
+	@Test
+	void testRepeatedKeyWithAnotherRequestIsRejected() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(100, 60);
+
+		cache.execute("POST /opds/rows", "key", REQUEST, writes::incrementAndGet);
+
+		assertThatThrownBy(() -> cache.execute("POST /opds/rows", "key", Map.of("opResult", "failure"), writes::incrementAndGet))
+			.isInstanceOfSatisfying(OHAPIException.class,
+				e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+		assertThat(writes).hasValue(1);
+	}
+
+	@Test
+	void testWithoutKeyAlwaysWrites() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(100, 60);
+
+		cache.execute("POST /opds/rows", null, REQUEST, writes::incrementAndGet);
+		cache.execute("POST /opds/rows", " ", REQUEST, writes::incrementAndGet);
+		assertThat(writes).hasValue(2);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void testFailedWriteCanBeRetried() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(100, 60);
+
+		assertThatThrownBy(() -> cache.execute("POST /opds/rows", "key", REQUEST, () -> {
+			throw new OHAPIException(new OHExceptionMessage("Opd not created."));
+		})).isInstanceOf(OHAPIException.class);
+		assertThat(cache.execute("POST /opds/rows", "key", REQUEST, writes::incrementAndGet)).isEqualTo(1);
+	}
+
+	@Test
+	void testOldestKeysAreEvicted() throws Exception {
+		IdempotencyCache cache = new IdempotencyCache(2, 60);
+
+		cache.execute("POST /opds/rows", "first", REQUEST, writes::incrementAndGet);
+		cache.execute("POST /opds/rows", "second", REQUEST, writes::incrementAndGet);
+		cache.execute("POST /opds/rows", "third", REQUEST, writes::incrementAndGet);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.execute("POST /opds/rows", "first", REQUEST, writes::incrementAndGet)).isEqualTo(4);
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.isf.shared.GenericMapper;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.dto.WardDTO;
+import org.isf.ward.mapper.WardMapper;
+import org.isf.ward.model.Ward;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares the throughput and the allocations of a 10k-element {@code map2DTOList} with the (compiled) {@link ModelMapper}
+ * type maps and with the generated {@link MappingBackend}.
+ */
+@Tag(MicroBenchmark.TAG)
+class GeneratedMapperBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedMapperBenchmarkTest.class);
+
+	private static final int SIZE = 10_000;
+
+	@Test
+	void benchmarkWardList() throws Exception {
+		List<Ward> wards = WardHelper.setupWardList(SIZE);
+
+		GenericMapper<Ward, WardDTO> reflective = new GenericMapper<>(Ward.class, WardDTO.class);
+		ReflectionTestUtils.setField(reflective, "modelMapper", new ModelMapper());
+		reflective.compileTypeMaps();
+		WardMapper generated = new WardMapper();
+
+		assertThat(generated.map2DTOList(wards)).hasSize(SIZE);
+
+		double reflectiveNanos = MicroBenchmark.nanosPerOperation(20, 100, () -> reflective.map2DTOList(wards));
+		double generatedNanos = MicroBenchmark.nanosPerOperation(20, 100, () -> generated.map2DTOList(wards));
+		double reflectiveBytes = MicroBenchmark.bytesPerOperation(5, 20, () -> reflective.map2DTOList(wards));
+		double generatedBytes = MicroBenchmark.bytesPerOperation(5, 20, () -> generated.map2DTOList(wards));
+		LOGGER.info("map2DTOList of {} wards: ModelMapper {} ms ({} elements/s, {} KB), generated {} ms ({} elements/s, {} KB)", SIZE,
+						String.format("%.2f", reflectiveNanos / 1_000_000), String.format("%.0f", SIZE * 1e9 / reflectiveNanos),
+						String.format("%.0f", reflectiveBytes / 1024),
+						String.format("%.2f", generatedNanos / 1_000_000), String.format("%.0f", SIZE * 1e9 / generatedNanos),
+						String.format("%.0f", generatedBytes / 1024));
+	}
+}
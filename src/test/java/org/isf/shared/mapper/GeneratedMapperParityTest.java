@@ -0,0 +1,94 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.isf.admtype.data.AdmissionTypeDTOHelper;
+import org.isf.admtype.dto.AdmissionTypeDTO;
+import org.isf.admtype.mapper.AdmissionTypeMapper;
+import org.isf.admtype.model.AdmissionType;
+import org.isf.disctype.data.DischargeTypeHelper;
+import org.isf.disctype.dto.DischargeTypeDTO;
+import org.isf.disctype.mapper.DischargeTypeMapper;
+import org.isf.disctype.model.DischargeType;
+import org.isf.shared.GenericMapper;
+import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
+import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.dto.WardDTO;
+import org.isf.ward.mapper.WardMapper;
+import org.isf.ward.model.Ward;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Checks that every mapper opted into a generated {@link MappingBackend} produces the same JSON, and the same entities, as
+ * the {@link ModelMapper}. A mapper must be added here when it calls {@code useBackend(...)}.
+ */
+class GeneratedMapperParityTest {
+
+	private ModelMapper modelMapper;
+
+	private final ObjectMapper objectMapper = WardHelper.getObjectMapper();
+
+	@BeforeEach
+	void setup() {
+		// same setup as the ModelMapper bean
+		modelMapper = new ModelMapper();
+		modelMapper.getConfiguration().setAmbiguityIgnored(true);
+		modelMapper.addConverter(new BlobToByteArrayConverter());
+		modelMapper.addConverter(new ByteArrayToBlobConverter());
+	}
+
+	@Test
+	void testWardMapperParity() throws Exception {
+		assertParity(new WardMapper(), Ward.class, WardDTO.class, WardHelper.setupWardList(3));
+	}
+
+	@Test
+	void testAdmissionTypeMapperParity() throws Exception {
+		assertParity(new AdmissionTypeMapper(), AdmissionType.class, AdmissionTypeDTO.class, AdmissionTypeDTOHelper.setupAdmissionTypeList(3));
+	}
+
+	@Test
+	void testDischargeTypeMapperParity() throws Exception {
+		assertParity(new DischargeTypeMapper(), DischargeType.class, DischargeTypeDTO.class, DischargeTypeHelper.setupDischargeTypeList(3));
+	}
+
+	private <S, D> void assertParity(GenericMapper<S, D> mapper, Class<S> sourceClass, Class<D> destClass, List<S> entities) throws Exception {
+		for (S entity : entities) {
+			D expectedDTO = modelMapper.map(entity, destClass);
+			D actualDTO = mapper.map2DTO(entity);
+			assertThat(objectMapper.writeValueAsString(actualDTO)).isEqualTo(objectMapper.writeValueAsString(expectedDTO));
+
+			assertThat(mapper.map2Model(actualDTO)).usingRecursiveComparison().isEqualTo(modelMapper.map(expectedDTO, sourceClass));
+		}
+		assertThat(objectMapper.writeValueAsString(mapper.map2DTOList(entities)))
+			.isEqualTo(objectMapper.writeValueAsString(entities.stream().map(entity -> modelMapper.map(entity, destClass)).toList()));
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import java.util.List;
+
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.mapper.PatientMapper;
+import org.isf.patient.model.Patient;
+import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
+import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.mapper.mappings.PatientMapping;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Finds the list size above which the chunked parallel {@code map2DTOList} of {@link PatientMapper} beats the sequential
+ * one, to choose {@code mapper.parallel.threshold}.
+ */
+@Tag(MicroBenchmark.TAG)
+class ParallelMappingBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelMappingBenchmarkTest.class);
+
+	@Test
+	void benchmarkCrossover() {
+		PatientMapper sequential = newPatientMapper(0);
+		PatientMapper parallel = newPatientMapper(1);
+		Integer crossover = null;
+		for (int size : new int[] { 100, 250, 500, 1000, 2000, 5000, 10_000, 50_000 }) {
+			List<Patient> patients = PatientHelper.setupPatientList(size);
+			int iterations = Math.max(5, 200_000 / size);
+			double sequentialNanos = MicroBenchmark.nanosPerOperation(iterations, iterations, () -> sequential.map2DTOList(patients));
+			double parallelNanos = MicroBenchmark.nanosPerOperation(iterations, iterations, () -> parallel.map2DTOList(patients));
+			if (crossover == null && parallelNanos < sequentialNanos) {
+				crossover = size;
+			}
+			LOGGER.info("{} patients: sequential {} ms, parallel {} ms", size, String.format("%.3f", sequentialNanos / 1_000_000),
+							String.format("%.3f", parallelNanos / 1_000_000));
+		}
+		LOGGER.info("parallel mapping wins from {} patients on {} cores", crossover, Runtime.getRuntime().availableProcessors());
+	}
+
+	private static PatientMapper newPatientMapper(int parallelThreshold) {
+		ModelMapper modelMapper = new ModelMapper();
+		PatientMapping.addMapping(modelMapper);
+		modelMapper.addConverter(new BlobToByteArrayConverter());
+		modelMapper.addConverter(new ByteArrayToBlobConverter());
+		PatientMapper mapper = new PatientMapper();
+		ReflectionTestUtils.setField(mapper, "modelMapper", modelMapper);
+		mapper.compileTypeMaps();
+		mapper.setParallelThreshold(parallelThreshold);
+		return mapper;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.dto.PatientDTO;
+import org.isf.patient.mapper.PatientMapper;
+import org.isf.patient.model.Patient;
+import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
+import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.mapper.mappings.PatientMapping;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ParallelMappingTest {
+
+	@Test
+	void testOrderIsPreserved() {
+		for (int size : new int[] { 0, 1, 7, 100, 1001 }) {
+			List<Integer> list = IntStream.range(0, size).boxed().collect(Collectors.toList());
+
+			List<String> mapped = ParallelMapping.map(list, String::valueOf, 10);
+
+			assertThat(mapped).containsExactlyElementsOf(list.stream().map(String::valueOf).toList());
+		}
+	}
+
+	@Test
+	void testMapperAboveThresholdMatchesSequentialMapping() {
+		PatientMapper sequential = newPatientMapper();
+		PatientMapper parallel = newPatientMapper();
+		parallel.setParallelThreshold(10);
+		parallel.setParallelChunkSize(3);
+		List<Patient> patients = PatientHelper.setupPatientList(50);
+
+		List<PatientDTO> expected = sequential.map2DTOList(patients);
+		List<PatientDTO> actual = parallel.map2DTOList(patients);
+
+		assertThat(actual).extracting(PatientDTO::getCode).containsExactlyElementsOf(expected.stream().map(PatientDTO::getCode).toList());
+		assertThat(actual).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+		assertThat(parallel.map2ModelList(actual)).extracting(Patient::getCode)
+			.containsExactlyElementsOf(patients.stream().map(Patient::getCode).toList());
+	}
+
+	private static PatientMapper newPatientMapper() {
+		ModelMapper modelMapper = new ModelMapper();
+		PatientMapping.addMapping(modelMapper);
+		modelMapper.addConverter(new BlobToByteArrayConverter());
+		modelMapper.addConverter(new ByteArrayToBlobConverter());
+		PatientMapper mapper = new PatientMapper();
+		ReflectionTestUtils.setField(mapper, "modelMapper", modelMapper);
+		return mapper;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.isf.shared.GenericMapper;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TypeMapInitializerTest {
+
+	@Test
+	void testCompiledTypeMapsAreUsed() {
+		ModelMapper modelMapper = new ModelMapper();
+		NameMapper mapper = newMapper(modelMapper);
+
+		new TypeMapInitializer(List.of(mapper), false).afterSingletonsInstantiated();
+
+		assertThat(modelMapper.getTypeMap(Name.class, NameDTO.class)).isNotNull();
+		assertThat(modelMapper.getTypeMap(NameDTO.class, Name.class)).isNotNull();
+		NameDTO dto = mapper.map2DTO(new Name("John"));
+		assertThat(dto.getName()).isEqualTo("John");
+		assertThat(mapper.map2ModelList(List.of(dto))).extracting(Name::getName).containsExactly("John");
+	}
+
+	@Test
+	void testUnmappedPropertiesFailStartupWhenValidating() {
+		NameMapper mapper = newMapper(new ModelMapper());
+
+		assertThatThrownBy(() -> new TypeMapInitializer(List.of(mapper), true).afterSingletonsInstantiated())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("NameMapper");
+	}
+
+	@Test
+	void testUnmappedPropertiesAreToleratedByDefault() {
+		NameMapper mapper = newMapper(new ModelMapper());
+
+		new TypeMapInitializer(List.of(mapper), false).afterSingletonsInstantiated();
+
+		assertThat(mapper.map2DTO(new Name("Jane")).getNickname()).isNull();
+	}
+
+	private static NameMapper newMapper(ModelMapper modelMapper) {
+		NameMapper mapper = new NameMapper();
+		ReflectionTestUtils.setField(mapper, "modelMapper", modelMapper);
+		return mapper;
+	}
+
+	static class NameMapper extends GenericMapper<Name, NameDTO> {
+
+		NameMapper() {
+			super(Name.class, NameDTO.class);
+		}
+	}
+
+	public static class Name {
+
+		private String name;
+
+		public Name() {
+		}
+
+		Name(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class NameDTO {
+
+		private String name;
+
+		private String nickname;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getNickname() {
+			return nickname;
+		}
+
+		public void setNickname(String nickname) {
+			this.nickname = nickname;
+		}
+	}
+}
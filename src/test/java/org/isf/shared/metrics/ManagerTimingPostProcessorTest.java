@@ -0,0 +1,112 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.isf.security.PermissionAuthorizationManager;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.isf.ward.mapper.WardMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ManagerTimingPostProcessorTest {
+
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void testOnlyCoreManagersAreTimed() {
+		assertThat(ManagerTimingPostProcessor.isManager(WardBrowserManager.class)).isTrue();
+		assertThat(ManagerTimingPostProcessor.isManager(PermissionAuthorizationManager.class)).isFalse();
+		assertThat(ManagerTimingPostProcessor.isManager(WardMapper.class)).isFalse();
+	}
+
+	@Test
+	void testCallsAreTimedPerMethodAndException() throws Exception {
+		Catalogue catalogue = timed(new Catalogue());
+
+		catalogue.list();
+		catalogue.list();
+		assertThatThrownBy(catalogue::fail).isInstanceOf(OHServiceException.class);
+
+		assertThat(timer("list", "none").count()).isEqualTo(2);
+		assertThat(timer("fail", "OHServiceException").count()).isEqualTo(1);
+	}
+
+	@Test
+	void testMapperRecordsTimeAndElements() {
+		WardMapper mapper = new WardMapper();
+		mapper.setMeterRegistry(registry);
+
+		mapper.map2DTOList(WardHelper.setupWardList(3));
+		mapper.map2DTO(WardHelper.setupWardList(1).get(0));
+
+		assertThat(registry.get("oh.mapper").tag("mapper", "WardMapper").tag("method", "map2DTOList").timer().count()).isEqualTo(1);
+		assertThat(registry.get("oh.mapper").tag("mapper", "WardMapper").tag("method", "map2DTO").timer().count()).isEqualTo(1);
+		assertThat(registry.get("oh.mapper.elements").tag("mapper", "WardMapper").summary().totalAmount()).isEqualTo(3);
+	}
+
+	private Catalogue timed(Catalogue target) {
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(new ManagerTimingPostProcessor.TimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class)));
+		return (Catalogue) proxyFactory.getProxy();
+	}
+
+	private Timer timer(String method, String exception) {
+		return registry.get(ManagerTimingPostProcessor.TIMER)
+			.tag("manager", "Catalogue")
+			.tag("method", method)
+			.tag("exception", exception)
+			.timer();
+	}
+
+	public static class Catalogue {
+
+		public List<String> list() {
+			return List.of("first", "second");
+		}
+
+		public void fail() throws OHServiceException {
+			throw new OHServiceException(new OHExceptionMessage("Not found."));
+		}
+	}
+}
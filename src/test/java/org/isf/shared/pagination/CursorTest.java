@@ -0,0 +1,79 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+	@Test
+	void testRoundTrip() throws Exception {
+		LocalDateTime date = LocalDateTime.of(2024, 5, 1, 10, 30);
+
+		String cursor = Cursor.encode(date, 42);
+
+		assertThat(cursor).doesNotContain("2024").doesNotContain("=");
+		assertThat(Cursor.decode(cursor, 2)).containsExactly(date.toString(), "42");
+	}
+
+	@Test
+	void testEmptyCursorIsTheFirstPage() throws Exception {
+		assertThat(Cursor.decode("", 1)).isNull();
+		assertThat(Cursor.decode(null, 1)).isNull();
+	}
+
+	@Test
+	void testInvalidCursorIsRejected() {
+		assertThatThrownBy(() -> Cursor.decode("not base64!", 1)).isInstanceOf(OHAPIException.class);
+		assertThatThrownBy(() -> Cursor.decode(Cursor.encode(1), 2)).isInstanceOf(OHAPIException.class);
+	}
+
+	@Test
+	void testCursorPageKeepsOnlyTheRequestedSize() {
+		CursorPage<String> page = CursorPage.of(List.of(1, 2, 3), 2, i -> Cursor.encode(i),
+						rows -> rows.stream().map(String::valueOf).collect(Collectors.toList()), null);
+
+		assertThat(page.getData()).containsExactly("1", "2");
+		assertThat(page.getCursorInfo().isHasNextPage()).isTrue();
+		assertThat(page.getCursorInfo().getNext()).isEqualTo(Cursor.encode(2));
+		assertThat(page.getCursorInfo().getNbOfElements()).isEqualTo(2);
+		assertThat(page.getCursorInfo().getTotalNbOfElements()).isNull();
+	}
+
+	@Test
+	void testCursorPageLastPage() {
+		CursorPage<Integer> page = CursorPage.of(List.of(1), 2, i -> Cursor.encode(i), rows -> rows, 1L);
+
+		assertThat(page.getData()).containsExactly(1);
+		assertThat(page.getCursorInfo().isHasNextPage()).isFalse();
+		assertThat(page.getCursorInfo().getNext()).isNull();
+		assertThat(page.getCursorInfo().getTotalNbOfElements()).isEqualTo(1L);
+	}
+}
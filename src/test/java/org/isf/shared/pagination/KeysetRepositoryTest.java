@@ -0,0 +1,228 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.admission.model.Admission;
+import org.isf.lab.model.Laboratory;
+import org.isf.patient.model.Patient;
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.testing.jpa.EntityFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pages through the keyset queries on the H2 test database, with small pages and rows sharing the same sort date, and
+ * checks that every row is returned once, in order, by the repository and by the cursor endpoints.
+ */
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+@Transactional
+class KeysetRepositoryTest {
+
+	private static final int PAGE_SIZE = 2;
+
+	// far from the dates of the rows created by other tests
+	private static final LocalDateTime DATE = LocalDateTime.of(2001, 2, 3, 10, 0);
+
+	@Autowired
+	private KeysetRepository keysetRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private EntityFixtures fixtures;
+
+	@BeforeEach
+	void setUp() {
+		fixtures = new EntityFixtures(entityManager);
+	}
+
+	@Test
+	void testPatientsArePagedWithoutGapsOrDuplicates() throws Exception {
+		List<Integer> seeded = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			seeded.add(fixtures.patient().getCode());
+		}
+		fixtures.flushAndClear();
+
+		List<Patient> patients = pageThrough(cursor -> keysetRepository.findPatients(cursor, PAGE_SIZE + 1), KeysetRepository::patientCursor);
+
+		List<Integer> codes = patients.stream().map(Patient::getCode).toList();
+		assertThat(new HashSet<>(codes)).hasSameSizeAs(codes);
+		assertThat(codes).isSortedAccordingTo(Comparator.reverseOrder());
+		assertThat(codes).containsAll(seeded);
+		assertThat((long) codes.size()).isEqualTo(keysetRepository.countPatients());
+	}
+
+	@Test
+	void testAdmissionsWithTheSameDateArePagedWithoutGapsOrDuplicates() throws Exception {
+		Patient patient = fixtures.patient();
+		List<Admission> seeded = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			seeded.add(fixtures.admission(patient, DATE, false, DATE.plusDays(1), "N"));
+		}
+		seeded.add(fixtures.admission(patient, DATE.plusHours(1), false, DATE.plusDays(1), "N"));
+		seeded.add(fixtures.admission(patient, DATE.plusHours(1), true, null, "N"));
+		Admission deleted = fixtures.admission(patient, DATE, false, DATE.plusDays(1), "Y");
+		fixtures.flushAndClear();
+		LocalDateTime from = DATE.minusDays(1);
+		LocalDateTime to = DATE.plusDays(1);
+
+		List<Admission> admissions = pageThrough(cursor -> keysetRepository.findAdmissions(from, to, cursor, PAGE_SIZE + 1),
+						KeysetRepository::admissionCursor);
+
+		List<Integer> ids = admissions.stream().map(Admission::getId).toList();
+		assertThat(ids).containsExactlyElementsOf(seeded.stream()
+			.sorted(Comparator.comparing(Admission::getAdmDate).thenComparing(Admission::getId))
+			.map(Admission::getId)
+			.toList());
+		assertThat(ids).doesNotContain(deleted.getId());
+		assertThat(keysetRepository.countAdmissions(from, to)).isEqualTo(seeded.size());
+	}
+
+	@Test
+	void testLaboratoriesWithTheSameDateArePagedWithoutGapsOrDuplicates() throws Exception {
+		Patient patient = fixtures.patient();
+		List<Integer> seeded = new ArrayList<>();
+		seeded.add(fixtures.laboratory(patient, DATE.plusHours(1)).getCode());
+		for (int i = 0; i < 5; i++) {
+			seeded.add(fixtures.laboratory(patient, DATE).getCode());
+		}
+		fixtures.flushAndClear();
+
+		List<Laboratory> laboratories = pageThrough(cursor -> keysetRepository.findLaboratories(DATE, cursor, PAGE_SIZE + 1),
+						KeysetRepository::laboratoryCursor);
+
+		List<Integer> codes = laboratories.stream().map(Laboratory::getCode).toList();
+		assertThat(new HashSet<>(codes)).hasSameSizeAs(codes);
+		assertThat((long) codes.size()).isEqualTo(keysetRepository.countLaboratories(DATE));
+		// the most recent first, then by decreasing code among the ones of the same date
+		List<Integer> expected = new ArrayList<>(seeded.subList(1, seeded.size()));
+		expected.sort(Comparator.reverseOrder());
+		expected.add(0, seeded.get(0));
+		assertThat(codes.stream().filter(seeded::contains).toList()).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "admissions.read" })
+	void testAdmissionsEndpointFollowsTheNextCursors() throws Exception {
+		Patient patient = fixtures.patient();
+		List<Integer> seeded = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			seeded.add(fixtures.admission(patient, DATE, false, DATE.plusDays(1), "N").getId());
+		}
+		fixtures.flushAndClear();
+
+		List<JsonNode> admissions = walk(() -> get("/admissions")
+			.param("admissionrange", DATE.minusDays(1).toString(), DATE.plusDays(1).toString()));
+
+		assertThat(admissions).extracting(admission -> admission.get("id").asInt()).containsExactlyElementsOf(seeded);
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "laboratories.read" })
+	void testLaboratoriesEndpointFollowsTheNextCursors() throws Exception {
+		Patient patient = fixtures.patient();
+		List<Integer> seeded = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			seeded.add(fixtures.laboratory(patient, DATE, "row " + i).getCode());
+		}
+		fixtures.flushAndClear();
+
+		List<JsonNode> laboratories = walk(() -> get("/laboratories").param("oneWeek", "false"));
+
+		List<Integer> codes = laboratories.stream().map(laboratory -> laboratory.get("laboratoryDTO").get("code").asInt()).toList();
+		assertThat(new HashSet<>(codes)).hasSameSizeAs(codes);
+		seeded.sort(Comparator.reverseOrder());
+		assertThat(codes.stream().filter(seeded::contains).toList()).containsExactlyElementsOf(seeded);
+	}
+
+	/**
+	 * Requests all the pages of {@value #PAGE_SIZE} elements of a cursor endpoint, following the {@code next} cursors.
+	 */
+	private List<JsonNode> walk(Supplier<MockHttpServletRequestBuilder> request) throws Exception {
+		List<JsonNode> all = new ArrayList<>();
+		String cursor = "";
+		while (cursor != null) {
+			JsonNode page = objectMapper.readTree(mockMvc
+				.perform(request.get().param("cursor", cursor).param("size", String.valueOf(PAGE_SIZE)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+			page.get("data").forEach(all::add);
+			JsonNode next = page.get("cursorInfo").get("next");
+			cursor = next == null || next.isNull() ? null : next.asText();
+		}
+		return all;
+	}
+
+	/**
+	 * Reads all the pages of {@value #PAGE_SIZE} rows, as {@link CursorPage#of} does.
+	 */
+	private static <T> List<T> pageThrough(PageReader<T> pageReader, Function<T, String> cursorOf) throws OHAPIException {
+		List<T> all = new ArrayList<>();
+		String cursor = "";
+		while (cursor != null) {
+			List<T> rows = pageReader.read(cursor);
+			all.addAll(rows.subList(0, Math.min(PAGE_SIZE, rows.size())));
+			cursor = rows.size() > PAGE_SIZE ? cursorOf.apply(rows.get(PAGE_SIZE - 1)) : null;
+		}
+		return all;
+	}
+
+	@FunctionalInterface
+	private interface PageReader<T> {
+
+		List<T> read(String cursor) throws OHAPIException;
+	}
+}
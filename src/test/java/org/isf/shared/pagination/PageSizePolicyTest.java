@@ -0,0 +1,158 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.isf.shared.export.ChunkedListView;
+import org.isf.shared.export.MappedListView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PageSizePolicyTest {
+
+	private MockEnvironment environment;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		environment = new MockEnvironment();
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void testDefaultSize() throws Exception {
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+
+		assertThat(policy.resolve("patients", null)).isEqualTo(PageSizePolicy.DEFAULT_SIZE);
+		assertThat(policy.resolve("patients", 10)).isEqualTo(10);
+	}
+
+	@Test
+	void testSizeIsClampedToTheMaximum() throws Exception {
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+
+		assertThat(policy.resolve("patients", 100_000)).isEqualTo(PageSizePolicy.DEFAULT_MAX_SIZE);
+	}
+
+	@Test
+	void testResourceOverridesTheGlobalSizes() throws Exception {
+		environment.setProperty("pagination.default-size", "20");
+		environment.setProperty("pagination.max-size", "200");
+		environment.setProperty("pagination.laboratories.max-size", "50");
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+
+		assertThat(policy.resolve("patients", null)).isEqualTo(20);
+		assertThat(policy.resolve("patients", 300)).isEqualTo(200);
+		assertThat(policy.resolve("laboratories", null)).isEqualTo(20);
+		assertThat(policy.resolve("laboratories", 300)).isEqualTo(50);
+	}
+
+	@Test
+	void testInvalidSizeIsRejected() {
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+
+		assertThatThrownBy(() -> policy.resolve("patients", 0)).isInstanceOf(OHAPIException.class);
+		assertThatThrownBy(() -> policy.resolve("patients", -1)).isInstanceOf(OHAPIException.class);
+	}
+
+	@Test
+	void testRequestedAndServedSizesAreRecorded() throws Exception {
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+
+		policy.resolve("admissions", 1000);
+		policy.served("admissions", List.of(1, 2, 3));
+
+		assertThat(meterRegistry.get("pagination.size.requested").tag("resource", "admissions").summary().totalAmount())
+			.isEqualTo(1000);
+		assertThat(meterRegistry.get("pagination.size.served").tag("resource", "admissions").summary().totalAmount())
+			.isEqualTo(3);
+	}
+
+	@Test
+	void testTooManyUnpagedRowsAreRefused() throws Exception {
+		environment.setProperty("pagination.unpaged.max-rows", "100");
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+
+		policy.checkUnpaged("opds", 100);
+		assertThatThrownBy(() -> policy.checkUnpaged("opds", 101)).isInstanceOf(OHAPIException.class);
+		assertThatThrownBy(() -> policy.unpaged("opds", Collections.nCopies(101, 1), this::mapList, String::valueOf))
+			.isInstanceOf(OHAPIException.class);
+	}
+
+	@Test
+	void testLargeUnpagedListsAreStreamed() throws Exception {
+		environment.setProperty("pagination.unpaged.stream-threshold", "10");
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+		AtomicInteger mapped = new AtomicInteger();
+
+		List<String> small = policy.unpaged("opds", Collections.nCopies(10, 1), this::mapList, String::valueOf);
+		List<String> large = policy.unpaged("opds", Collections.nCopies(11, 1), this::mapList, i -> {
+			mapped.incrementAndGet();
+			return String.valueOf(i);
+		});
+
+		assertThat(small).isNotInstanceOf(MappedListView.class).hasSize(10);
+		assertThat(large).isInstanceOf(MappedListView.class).hasSize(11);
+		assertThat(mapped).hasValue(0);
+		assertThat(large.get(0)).isEqualTo("1");
+	}
+
+	@Test
+	void testLargeUnpagedListsAreMappedInChunks() throws Exception {
+		environment.setProperty("pagination.unpaged.max-rows", "100");
+		environment.setProperty("pagination.unpaged.stream-threshold", "10");
+		environment.setProperty("pagination.opds.max-size", "4");
+		PageSizePolicy policy = new PageSizePolicy(environment, meterRegistry);
+		List<Integer> chunkSizes = new ArrayList<>();
+		Function<List<Integer>, List<String>> mapList = list -> {
+			chunkSizes.add(list.size());
+			return mapList(list);
+		};
+
+		assertThatThrownBy(() -> policy.unpagedInChunks("opds", Collections.nCopies(101, 1), mapList)).isInstanceOf(OHAPIException.class);
+		List<String> large = policy.unpagedInChunks("opds", IntStream.range(0, 11).boxed().toList(), mapList);
+
+		assertThat(large).isInstanceOf(ChunkedListView.class).hasSize(11);
+		assertThat(chunkSizes).isEmpty();
+		assertThat(large).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10");
+		assertThat(chunkSizes).containsExactly(4, 4, 3);
+	}
+
+	private List<String> mapList(List<Integer> list) {
+		return list.stream().map(String::valueOf).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.referencedata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.isf.admission.manager.AdmissionBrowserManager;
+import org.isf.disease.manager.DiseaseBrowserManager;
+import org.isf.dlvrrestype.manager.DeliveryResultTypeBrowserManager;
+import org.isf.dlvrtype.manager.DeliveryTypeBrowserManager;
+import org.isf.exa.manager.ExamBrowsingManager;
+import org.isf.patient.model.Patient;
+import org.isf.pregtreattype.manager.PregnantTreatmentTypeBrowserManager;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.isf.ward.model.Ward;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ReferenceDataRegistryTest {
+
+	@Mock
+	private WardBrowserManager wardManagerMock;
+
+	@Mock
+	private AdmissionBrowserManager admissionManagerMock;
+
+	@Mock
+	private DiseaseBrowserManager diseaseManagerMock;
+
+	@Mock
+	private PregnantTreatmentTypeBrowserManager pregnantTreatmentTypeManagerMock;
+
+	@Mock
+	private DeliveryTypeBrowserManager deliveryTypeManagerMock;
+
+	@Mock
+	private DeliveryResultTypeBrowserManager deliveryResultTypeManagerMock;
+
+	@Mock
+	private ExamBrowsingManager examManagerMock;
+
+	private ReferenceDataRegistry registry;
+
+	private AutoCloseable closeable;
+
+	@BeforeEach
+	void setup() {
+		closeable = MockitoAnnotations.openMocks(this);
+		registry = new ReferenceDataRegistry(wardManagerMock, admissionManagerMock, diseaseManagerMock, pregnantTreatmentTypeManagerMock,
+						deliveryTypeManagerMock, deliveryResultTypeManagerMock, examManagerMock);
+	}
+
+	@AfterEach
+	void closeService() throws Exception {
+		closeable.close();
+	}
+
+	@Test
+	void testFindByCodeLoadsOnce() throws Exception {
+		List<Ward> wards = WardHelper.setupWardList(2);
+		when(wardManagerMock.getWards()).thenReturn(wards);
+		Ward ward = wards.get(0);
+
+		assertThat(registry.findByCode(Ward.class, ward.getCode())).isSameAs(ward);
+		assertThat(registry.findByCode(Ward.class, ward.getCode())).isSameAs(ward);
+		assertThat(registry.findByCode(Ward.class, "unknown")).isNull();
+		assertThat(registry.findByCode(Ward.class, null)).isNull();
+
+		verify(wardManagerMock, times(1)).getWards();
+	}
+
+	@Test
+	void testRefreshReloadsOnNextLookup() throws Exception {
+		List<Ward> wards = WardHelper.setupWardList(1);
+		when(wardManagerMock.getWards()).thenReturn(wards);
+		String code = wards.get(0).getCode();
+		registry.findByCode(Ward.class, code);
+		long version = registry.version(Ward.class);
+
+		when(wardManagerMock.getWards()).thenReturn(List.of());
+		registry.refresh(Ward.class);
+
+		assertThat(registry.version(Ward.class)).isGreaterThan(version);
+		assertThat(registry.findByCode(Ward.class, code)).isNull();
+		verify(wardManagerMock, times(2)).getWards();
+	}
+
+	@Test
+	void testUnknownTypeIsRejected() {
+		assertThatThrownBy(() -> registry.findByCode(Patient.class, "1")).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.shared.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlStatementCounterTest {
+
+	private DataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:statements");
+		dataSource = (DataSource) new SqlStatementCountingPostProcessor().postProcessAfterInitialization(h2, "dataSource");
+	}
+
+	@Test
+	void testStatementsOfTheCurrentThreadAreCounted() throws Exception {
+		execute(1);
+
+		SqlStatementCounter.Counts outer = SqlStatementCounter.start();
+		execute(2);
+		SqlStatementCounter.Counts inner = SqlStatementCounter.start();
+		execute(3);
+		SqlStatementCounter.stop(inner);
+		SqlStatementCounter.stop(outer);
+		execute(1);
+
+		assertThat(inner.getStatements()).isEqualTo(3);
+		assertThat(outer.getStatements()).isEqualTo(5);
+	}
+
+	@Test
+	void testStatementsOfOtherThreadsAreCountedWhenHandedTheCounts() throws Exception {
+		SqlStatementCounter.Counts counts = SqlStatementCounter.start();
+		try {
+			execute(1);
+			SqlStatementCounter.Counts current = SqlStatementCounter.current();
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			try {
+				Future< ? > counted = executor.submit(() -> SqlStatementCounter.runCounting(current, () -> executeUnchecked(2)));
+				Future< ? > uncounted = executor.submit(() -> executeUnchecked(4));
+				counted.get(10, TimeUnit.SECONDS);
+				uncounted.get(10, TimeUnit.SECONDS);
+			} finally {
+				executor.shutdownNow();
+			}
+		} finally {
+			SqlStatementCounter.stop(counts);
+		}
+
+		assertThat(counts.getStatements()).isEqualTo(3);
+		assertThat(SqlStatementCounter.current()).isNull();
+	}
+
+	@Test
+	void testFilterRecordsAndSendsTheStatements() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+		SqlStatementsFilter filter = new SqlStatementsFilter(true, beanFactory.getBeanProvider(MeterRegistry.class));
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/patients/search");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+			try {
+				execute(4);
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+			servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/patients/search");
+			servletResponse.getWriter().write("[]");
+			servletResponse.flushBuffer();
+		});
+
+		assertThat(response.getHeader(SqlStatementsFilter.STATEMENTS_HEADER)).isEqualTo("4");
+		assertThat(response.getHeader(SqlStatementsFilter.TIME_HEADER)).isNotNull();
+		assertThat(registry.get("oh.sql.statements").tag("uri", "/patients/search").summary().totalAmount()).isEqualTo(4);
+	}
+
+	private void executeUnchecked(int statements) {
+		try {
+			execute(statements);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void execute(int statements) throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			for (int i = 0; i < statements; i++) {
+				statement.execute("SELECT 1");
+			}
+		}
+	}
+}
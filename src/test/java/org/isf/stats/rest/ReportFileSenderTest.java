@@ -0,0 +1,165 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.isf.shared.exceptions.OHAPIException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReportFileSenderTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final ReportFileSender sender = new ReportFileSender();
+
+	private Path report;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		report = Files.writeString(tempDir.resolve("report.pdf"), "0123456789");
+	}
+
+	@Test
+	void testWholeFileIsSentWithETag() throws Exception {
+		MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/reports/exams-list"));
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo("0123456789");
+		assertThat(response.getContentType()).isEqualTo("application/pdf");
+		assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"report.pdf\"");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{64}\"");
+	}
+
+	@Test
+	void testMatchingETagIsNotModified() throws Exception {
+		String eTag = send(new MockHttpServletRequest("GET", "/reports/exams-list")).getHeader(HttpHeaders.ETAG);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(304);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void testModifiedFileChangesETag() throws Exception {
+		String eTag = send(new MockHttpServletRequest("GET", "/reports/exams-list")).getHeader(HttpHeaders.ETAG);
+		Files.writeString(report, "9876543210");
+		Files.setLastModifiedTime(report, FileTime.fromMillis(0));
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+	}
+
+	@Test
+	void testRangeResumesTheDownload() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.addHeader(HttpHeaders.RANGE, "bytes=6-");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 6-9/10");
+		assertThat(response.getContentAsString()).isEqualTo("6789");
+	}
+
+	@Test
+	void testRangeOfAnotherVersionSendsTheWholeFile() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.addHeader(HttpHeaders.RANGE, "bytes=6-");
+		request.addHeader(HttpHeaders.IF_RANGE, "\"previous\"");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getContentAsString()).isEqualTo("0123456789");
+	}
+
+	@Test
+	void testUnsatisfiableRange() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getStatus()).isEqualTo(416);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+	}
+
+	@Test
+	void testSendfileIsDelegatedToTheContainer() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+
+		MockHttpServletResponse response = send(request);
+
+		assertThat(response.getContentAsByteArray()).isEmpty();
+		assertThat(response.getContentLengthLong()).isEqualTo(3);
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(report.toAbsolutePath().toString());
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(2L);
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(5L);
+	}
+
+	@Test
+	void testTemporaryFileIsSentAndDeleted() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/exams-list");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		sender.sendAndDelete(report, "report.pdf", "application/pdf", request, response);
+
+		assertThat(response.getContentAsString()).isEqualTo("0123456789");
+		assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{64}\"");
+		assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+		assertThat(report).doesNotExist();
+	}
+
+	@Test
+	void testMissingFile() {
+		assertThatThrownBy(() -> sender.send(tempDir.resolve("missing.pdf"), "missing.pdf", null, new MockHttpServletRequest(),
+			new MockHttpServletResponse())).isInstanceOf(OHAPIException.class);
+	}
+
+	private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		sender.send(report, "report.pdf", "application/pdf", request, response);
+		return response;
+	}
+}
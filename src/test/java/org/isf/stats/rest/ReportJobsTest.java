@@ -0,0 +1,176 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.isf.shared.exceptions.OHAPIRetryLaterException;
+import org.isf.stat.dto.JasperReportResultDto;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReportJobsTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final AtomicInteger generations = new AtomicInteger();
+
+	private ReportJobs reportJobs;
+
+	@AfterEach
+	void tearDown() {
+		if (reportJobs != null) {
+			reportJobs.destroy();
+		}
+	}
+
+	@Test
+	void testSameDataVersionReusesTheGeneratedReport() throws Exception {
+		reportJobs = new ReportJobs(1, 10, 1, tempDir.resolve("cache").toString(), 3600, false);
+		ReportJobs.Generator generator = generator("exams-list");
+
+		ReportJob job = await(reportJobs.submit("exams-list", 1, generator));
+		assertThat(job.getStatus()).isEqualTo(ReportJob.Status.DONE);
+		assertThat(job.getFile()).hasContent("exams-list 1");
+
+		ReportJob again = reportJobs.submit("exams-list", 1, generator);
+		assertThat(again).isSameAs(job);
+		assertThat(reportJobs.get(job.getId())).isSameAs(job);
+		assertThat(generations).hasValue(1);
+	}
+
+	@Test
+	void testNewDataVersionGeneratesTheReportAgain() throws Exception {
+		reportJobs = new ReportJobs(1, 10, 1, tempDir.resolve("cache").toString(), 3600, false);
+		ReportJobs.Generator generator = generator("diseases-list");
+
+		ReportJob first = await(reportJobs.submit("diseases-list", 1, generator));
+		ReportJob second = await(reportJobs.submit("diseases-list", 2, generator));
+
+		assertThat(second.getId()).isNotEqualTo(first.getId());
+		assertThat(second.getFile()).hasContent("diseases-list 2");
+		assertThat(generations).hasValue(2);
+		assertThat(reportJobs.get(first.getId())).isNull();
+		assertThat(first.getFile()).doesNotExist();
+	}
+
+	@Test
+	void testFailedGenerationIsReported() throws Exception {
+		reportJobs = new ReportJobs(1, 10, 1, tempDir.resolve("cache").toString(), 3600, false);
+
+		ReportJob job = await(reportJobs.submit("exams-list", 1, () -> {
+			throw new OHServiceException(new OHExceptionMessage("No exams."));
+		}));
+
+		assertThat(job.getStatus()).isEqualTo(ReportJob.Status.FAILED);
+		assertThat(job.getError()).isEqualTo("No exams.");
+		assertThat(job.toDTO().getStatus()).isEqualTo("FAILED");
+	}
+
+	@Test
+	void testFullQueueIsRefused() throws Exception {
+		reportJobs = new ReportJobs(1, 1, 7, tempDir.resolve("cache").toString(), 3600, false);
+		CountDownLatch release = new CountDownLatch(1);
+		ReportJobs.Generator generator = generator("exams-list");
+		ReportJobs.Generator blocked = () -> {
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return generator.generate();
+		};
+
+		ReportJob running = reportJobs.submit("exams-list", 1, blocked);
+		while (running.getStatus() == ReportJob.Status.PENDING) {
+			Thread.sleep(5);
+		}
+		reportJobs.submit("diseases-list", 1, blocked);
+
+		assertThatThrownBy(() -> reportJobs.submit("exams-list", 2, blocked))
+			.isInstanceOfSatisfying(OHAPIRetryLaterException.class, e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(7));
+		release.countDown();
+	}
+
+	@Test
+	void testGenerateNowWritesEachGenerationToItsOwnFile() throws Exception {
+		reportJobs = new ReportJobs(1, 10, 1, tempDir.resolve("cache").toString(), 3600, false);
+		ReportJobs.Generator generator = generator("exams-list");
+
+		Path first = reportJobs.generateNow("exams-list", generator);
+		Path second = reportJobs.generateNow("exams-list", generator);
+
+		assertThat(second).isNotEqualTo(first);
+		assertThat(first).hasContent("exams-list 1");
+		assertThat(second).hasContent("exams-list 2");
+	}
+
+	@Test
+	void testStartupDeletesOnlyTheCachedReports() throws Exception {
+		Path cacheDir = Files.createDirectories(tempDir.resolve("cache"));
+		Path cached = Files.writeString(cacheDir.resolve("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef.pdf"), "cached");
+		Path temporary = Files.writeString(cacheDir.resolve("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef42.tmp"), "tmp");
+		Path other = Files.writeString(cacheDir.resolve("invoice.pdf"), "other");
+
+		reportJobs = new ReportJobs(1, 10, 1, cacheDir.toString(), 3600, false);
+
+		assertThat(cached).doesNotExist();
+		assertThat(temporary).doesNotExist();
+		assertThat(other).hasContent("other");
+	}
+
+	private ReportJobs.Generator generator(String report) {
+		Path file = tempDir.resolve(report + ".pdf");
+		JasperReportResultDto result = mock(JasperReportResultDto.class);
+		when(result.getFilename()).thenReturn(file.toString());
+		return () -> {
+			try {
+				Files.writeString(file, report + ' ' + generations.incrementAndGet());
+			} catch (IOException e) {
+				throw new OHServiceException(new OHExceptionMessage(e.getMessage()));
+			}
+			return result;
+		};
+	}
+
+	private static ReportJob await(ReportJob job) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		return job;
+	}
+}
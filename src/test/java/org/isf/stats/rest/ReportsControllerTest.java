@@ -0,0 +1,88 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.stats.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.CatalogueVersions.Catalogue;
+import org.isf.stat.manager.JasperReportsManager;
+import org.isf.stats.dto.ReportJobDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+@AutoConfigureMockMvc
+class ReportsControllerTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private CatalogueVersions catalogues;
+
+	@MockBean
+	private JasperReportsManager reportsManager;
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "reports.read" })
+	void testSubmitReportJob_NewJobWhenTheCatalogueChanges() throws Exception {
+		String before = submit("exams-list");
+		String again = submit("exams-list");
+		// as done by the exam type endpoints
+		catalogues.bump(Catalogue.EXAM_TYPES, Catalogue.EXAMS, Catalogue.EXAM_ROWS);
+		String after = submit("exams-list");
+
+		assertThat(again).isEqualTo(before);
+		assertThat(after).isNotEqualTo(before);
+	}
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "patients.read" })
+	void testSubmitReportJob_WithoutPermissionIsForbidden() throws Exception {
+		mvc.perform(post("/reports/jobs/exams-list"))
+			.andDo(log())
+			.andExpect(status().isForbidden());
+	}
+
+	private String submit(String report) throws Exception {
+		String body = mvc.perform(post("/reports/jobs/" + report))
+			.andDo(log())
+			.andExpect(status().isAccepted())
+			.andReturn().getResponse().getContentAsString();
+		return objectMapper.readValue(body, ReportJobDTO.class).getId();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.testing.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Minimal timing harness for the tests tagged {@link #TAG}, which are excluded from the default build and run with
+ * {@code mvn test -Pbenchmark}.
+ */
+public final class MicroBenchmark {
+
+	public static final String TAG = "benchmark";
+
+	// prevents the JIT from eliminating the measured code as dead code
+	private static volatile Object sink;
+
+	private MicroBenchmark() {
+	}
+
+	/**
+	 * Runs {@code operation} {@code warmupIterations} times, then measures {@code iterations} runs.
+	 *
+	 * @return the average time of one run, in nanoseconds
+	 */
+	public static double nanosPerOperation(int warmupIterations, int iterations, Supplier< ? > operation) {
+		for (int i = 0; i < warmupIterations; i++) {
+			sink = operation.get();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			sink = operation.get();
+		}
+		return (System.nanoTime() - start) / (double) iterations;
+	}
+
+	/**
+	 * Measures the heap allocated by the current thread for one run of {@code operation}, after {@code warmupIterations} runs.
+	 *
+	 * @return the average allocation of one run, in bytes, or -1 when the JVM does not report per-thread allocations
+	 */
+	public static double bytesPerOperation(int warmupIterations, int iterations, Supplier< ? > operation) {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean)
+						|| !threadBean.isThreadAllocatedMemorySupported()) {
+			return -1;
+		}
+		for (int i = 0; i < warmupIterations; i++) {
+			sink = operation.get();
+		}
+		long threadId = Thread.currentThread().getId();
+		long start = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			sink = operation.get();
+		}
+		return (threadBean.getThreadAllocatedBytes(threadId) - start) / (double) iterations;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.testing.jpa;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.EntityManager;
+
+import org.isf.admission.TestAdmission;
+import org.isf.admission.model.Admission;
+import org.isf.admtype.TestAdmissionType;
+import org.isf.admtype.model.AdmissionType;
+import org.isf.disctype.TestDischargeType;
+import org.isf.disctype.model.DischargeType;
+import org.isf.disease.TestDisease;
+import org.isf.disease.model.Disease;
+import org.isf.distype.TestDiseaseType;
+import org.isf.distype.model.DiseaseType;
+import org.isf.exa.model.Exam;
+import org.isf.exatype.model.ExamType;
+import org.isf.lab.TestLaboratory;
+import org.isf.lab.model.Laboratory;
+import org.isf.lab.model.LaboratoryRow;
+import org.isf.opd.TestOpd;
+import org.isf.opd.model.Opd;
+import org.isf.operation.TestOperation;
+import org.isf.operation.model.Operation;
+import org.isf.operation.model.OperationRow;
+import org.isf.opetype.TestOperationType;
+import org.isf.opetype.model.OperationType;
+import org.isf.patient.TestPatient;
+import org.isf.patient.model.Patient;
+import org.isf.utils.exception.OHException;
+import org.isf.ward.TestWard;
+import org.isf.ward.model.Ward;
+
+/**
+ * Persists entity graphs for the tests running queries on the H2 test database, within the transaction of the test.
+ * <p>
+ * The reference data (ward, types, disease, operation, exam) is created once and reused, as other tests of the same
+ * application context may already have created it.
+ */
+public class EntityFixtures {
+
+	private final EntityManager entityManager;
+
+	public EntityFixtures(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	public Ward ward() throws OHException {
+		Ward ward = new TestWard().setup(false);
+		return persistIfAbsent(Ward.class, ward.getCode(), ward);
+	}
+
+	public Patient patient() throws OHException {
+		Patient patient = new TestPatient().setup(false);
+		entityManager.persist(patient);
+		return patient;
+	}
+
+	/**
+	 * @param admitted whether the patient is still admitted, {@code disDate} is then ignored
+	 * @param deleted {@code "Y"} for a deleted admission
+	 */
+	public Admission admission(Patient patient, LocalDateTime admDate, boolean admitted, LocalDateTime disDate, String deleted)
+					throws OHException {
+		Disease disease = disease();
+		Admission admission = new TestAdmission().setup(ward(), patient, admissionType(), disease, disease, disease, disease, operation(),
+						dischargeType(), null, null, null, false);
+		admission.setAdmDate(admDate);
+		admission.setAdmitted(admitted ? 1 : 0);
+		admission.setDisDate(admitted ? null : disDate);
+		admission.setDeleted(deleted);
+		entityManager.persist(admission);
+		return admission;
+	}
+
+	/**
+	 * @param rowDescriptions the descriptions of the result rows, persisted in this order
+	 */
+	public Laboratory laboratory(Patient patient, LocalDateTime labDate, String... rowDescriptions) throws OHException {
+		Laboratory laboratory = new TestLaboratory().setup(exam(), patient, false);
+		laboratory.setCode(null);
+		laboratory.setLabDate(labDate);
+		entityManager.persist(laboratory);
+		for (String description : rowDescriptions) {
+			LaboratoryRow row = new LaboratoryRow();
+			row.setLaboratory(laboratory);
+			row.setDescription(description);
+			entityManager.persist(row);
+		}
+		return laboratory;
+	}
+
+	public Opd opd(Patient patient, LocalDateTime date) throws OHException {
+		Opd opd = new TestOpd().setup(patient, disease(), ward(), null, false);
+		opd.setCode(0);
+		opd.setDate(date);
+		entityManager.persist(opd);
+		return opd;
+	}
+
+	public OperationRow operationRow(Opd opd, String opResult) throws OHException {
+		OperationRow row = new OperationRow();
+		row.setOperation(operation());
+		row.setOpd(opd);
+		row.setPrescriber("prescriber");
+		row.setOpResult(opResult);
+		row.setOpDate(opd.getDate());
+		row.setTransUnit(0f);
+		entityManager.persist(row);
+		return row;
+	}
+
+	/**
+	 * Writes the pending changes and empties the persistence context, so that the queries under test read the database.
+	 */
+	public void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private AdmissionType admissionType() throws OHException {
+		AdmissionType admissionType = new TestAdmissionType().setup(false);
+		return persistIfAbsent(AdmissionType.class, admissionType.getCode(), admissionType);
+	}
+
+	private DischargeType dischargeType() throws OHException {
+		DischargeType dischargeType = new TestDischargeType().setup(false);
+		return persistIfAbsent(DischargeType.class, dischargeType.getCode(), dischargeType);
+	}
+
+	private Disease disease() throws OHException {
+		DiseaseType diseaseType = new TestDiseaseType().setup(false);
+		diseaseType = persistIfAbsent(DiseaseType.class, diseaseType.getCode(), diseaseType);
+		Disease disease = new TestDisease().setup(diseaseType, false);
+		return persistIfAbsent(Disease.class, disease.getCode(), disease);
+	}
+
+	private Operation operation() throws OHException {
+		OperationType operationType = new TestOperationType().setup(false);
+		operationType = persistIfAbsent(OperationType.class, operationType.getCode(), operationType);
+		Operation operation = new TestOperation().setup(operationType, false);
+		return persistIfAbsent(Operation.class, operation.getCode(), operation);
+	}
+
+	private Exam exam() {
+		ExamType examType = new ExamType();
+		examType.setCode("HB");
+		examType.setDescription("1.Haematology");
+		examType = persistIfAbsent(ExamType.class, examType.getCode(), examType);
+		Exam exam = new Exam();
+		exam.setCode("44.02");
+		exam.setDescription("1.2 MDR Lite");
+		exam.setExamtype(examType);
+		exam.setProcedure(1);
+		exam.setDefaultResult("NORMAL");
+		return persistIfAbsent(Exam.class, exam.getCode(), exam);
+	}
+
+	private <T> T persistIfAbsent(Class<T> entityClass, Object id, T entity) {
+		T found = entityManager.find(entityClass, id);
+		if (found != null) {
+			return found;
+		}
+		entityManager.persist(entity);
+		return entity;
+	}
+}
@@ -21,6 +21,9 @@
  */
 package org.isf.testing.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.isf.shared.sql.SqlStatementCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,4 +34,31 @@ public class ControllerBaseTest {
 	public ControllerBaseTest() {
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Performs {@code request} and fails if it executes more than {@code maxStatements} SQL statements, e.g. one per row
+	 * of a page. Only counts the statements of a real data source, in the tests starting the application on H2.
+	 *
+	 * @param description what is performed, for the failure message
+	 * @return the counts, to assert on them further
+	 */
+	protected static SqlStatementCounter.Counts assertMaxStatements(String description, int maxStatements, Request request)
+					throws Exception {
+		SqlStatementCounter.Counts counts = SqlStatementCounter.start();
+		try {
+			request.perform();
+		} finally {
+			SqlStatementCounter.stop(counts);
+		}
+		LOGGER.info("{}: {} statements, {} ms", description, counts.getStatements(), counts.getTimeInMillis());
+		assertThat(counts.getStatements())
+			.as("SQL statements of %s", description)
+			.isLessThanOrEqualTo(maxStatements);
+		return counts;
+	}
+
+	@FunctionalInterface
+	protected interface Request {
+
+		void perform() throws Exception;
+	}
+}
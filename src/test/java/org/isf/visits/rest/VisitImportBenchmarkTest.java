@@ -0,0 +1,98 @@
+/*
+ * Open Hospital (www.open-hospital.org)
+ * Copyright © 2006-2025 Informatici Senza Frontiere (info@informaticisenzafrontiere.org)
+ *
+ * Open Hospital is a free and open source software for healthcare data management.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * https://www.gnu.org/licenses/gpl-3.0-standalone.html
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package org.isf.visits.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.isf.OpenHospitalApiApplication;
+import org.isf.patient.data.PatientHelper;
+import org.isf.patient.manager.PatientBrowserManager;
+import org.isf.patient.model.Patient;
+import org.isf.testing.benchmark.MicroBenchmark;
+import org.isf.visits.data.VisitHelper;
+import org.isf.visits.dto.VisitDTO;
+import org.isf.visits.dto.VisitImportDTO;
+import org.isf.visits.mapper.VisitMapper;
+import org.isf.visits.model.Visit;
+import org.isf.ward.data.WardHelper;
+import org.isf.ward.manager.WardBrowserManager;
+import org.isf.ward.model.Ward;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+
+/**
+ * Imports {@value #VISITS} visits into the H2 test database with {@link VisitImporter}, by chunks of 100, 1000 and all
+ * the visits at once (one transaction, as {@code /visits/insertList} without {@code chunkSize}), and reports the
+ * throughput of each. JDBC batching is enabled as in production, but the visits, having identity ids, are still inserted
+ * one statement at a time: the gap between the runs is the cost of the transactions.
+ */
+@Tag(MicroBenchmark.TAG)
+@SpringBootTest(classes = OpenHospitalApiApplication.class)
+class VisitImportBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(VisitImportBenchmarkTest.class);
+
+	private static final int VISITS = 100_000;
+
+	@Autowired
+	private VisitImporter visitImporter;
+
+	@Autowired
+	private VisitMapper visitMapper;
+
+	@Autowired
+	private PatientBrowserManager patientManager;
+
+	@Autowired
+	private WardBrowserManager wardManager;
+
+	@Test
+	@WithMockUser(username = "admin", authorities = { "visits.create" })
+	void benchmarkImport() throws Exception {
+		Ward ward = wardManager.newWard(WardHelper.setup());
+		Patient patient = patientManager.savePatient(PatientHelper.setup());
+
+		Visit template = VisitHelper.setup(0);
+		template.setPatient(patient);
+		template.setWard(ward);
+		VisitDTO visit = visitMapper.map2DTO(template);
+		List<VisitDTO> visits = new ArrayList<>(VISITS);
+		for (int i = 0; i < VISITS; i++) {
+			visits.add(visit);
+		}
+
+		for (int chunkSize : new int[] { 100, 1000, VISITS }) {
+			VisitImportDTO report = visitImporter.importVisits(visits, chunkSize);
+			assertThat(report.getCreated()).isEqualTo(VISITS);
+			LOGGER.info("{} visits by chunks of {}: {} ms, {} visits/s", VISITS, chunkSize, report.getDurationInMillis(),
+							String.format("%.0f", report.getVisitsPerSecond()));
+		}
+	}
+}
@@ -22,21 +22,26 @@
 package org.isf.visits.rest;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
 import org.isf.shared.mapper.mappings.PatientMapping;
+import org.isf.utils.exception.OHServiceException;
+import org.isf.utils.exception.model.OHExceptionMessage;
 import org.isf.visits.data.VisitHelper;
 import org.isf.visits.dto.VisitDTO;
 import org.isf.visits.manager.VisitManager;
@@ -73,7 +78,8 @@ class VisitsControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-				.standaloneSetup(new VisitsController(visitManagerMock, visitMapper))
+				.standaloneSetup(new VisitsController(visitManagerMock, visitMapper,
+						new VisitImporter(new VisitImportWriter(visitManagerMock), visitMapper, 500, 1000)))
 				.setControllerAdvice(new OHResponseEntityExceptionHandler())
 				.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -158,6 +164,61 @@ class VisitsControllerTest {
 		LOGGER.debug("result: {}", result);
 	}
 
+	@Test
+	void testImportVisitsByChunks_200() throws Exception {
+		String request = "/visits/insertList";
+
+		List<VisitDTO> body = visitMapper.map2DTOList(VisitHelper.setupVisitList(5));
+		body.get(3).setNote("invalid");
+
+		AtomicInteger visitIDs = new AtomicInteger(100);
+		when(visitManagerMock.newVisit(any(Visit.class))).thenAnswer(invocation -> {
+			Visit visit = invocation.getArgument(0);
+			if ("invalid".equals(visit.getNote())) {
+				throw new OHServiceException(new OHExceptionMessage("Visit not valid."));
+			}
+			visit.setVisitID(visitIDs.incrementAndGet());
+			return visit;
+		});
+
+		MvcResult result = this.mockMvc
+				.perform(post(request)
+						.param("chunkSize", "2")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(Objects.requireNonNull(VisitHelper.asJsonString(body)))
+				)
+				.andDo(log())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.total").value(5))
+				.andExpect(jsonPath("$.created").value(4))
+				.andExpect(jsonPath("$.failed").value(1))
+				.andExpect(jsonPath("$.chunkSize").value(2))
+				.andExpect(jsonPath("$.items[0].created").value(true))
+				.andExpect(jsonPath("$.items[0].visitID").value(101))
+				.andExpect(jsonPath("$.items[2].created").value(true))
+				.andExpect(jsonPath("$.items[3].created").value(false))
+				.andExpect(jsonPath("$.items[3].error").value("Visit not valid."))
+				.andExpect(jsonPath("$.items[4].created").value(true))
+				.andReturn();
+		LOGGER.debug("result: {}", result);
+	}
+
+	@Test
+	void testImportTooManyVisits_413() throws Exception {
+		String request = "/visits/insertList";
+
+		List<VisitDTO> body = visitMapper.map2DTOList(VisitHelper.setupVisitList(1001));
+
+		this.mockMvc
+				.perform(post(request)
+						.param("chunkSize", "")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(Objects.requireNonNull(VisitHelper.asJsonString(body)))
+				)
+				.andDo(log())
+				.andExpect(status().isPayloadTooLarge());
+	}
+
 	@Test
 	void testDeleteVisitsRelatedToPatient_200() throws Exception {
 		String request = "/visits/delete/{patId}";
@@ -22,6 +22,8 @@
 package org.isf.ward.rest;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -29,6 +31,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.log;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
@@ -37,6 +40,8 @@ import java.util.Objects;
 import org.isf.shared.exceptions.OHResponseEntityExceptionHandler;
 import org.isf.shared.mapper.converter.BlobToByteArrayConverter;
 import org.isf.shared.mapper.converter.ByteArrayToBlobConverter;
+import org.isf.shared.referencedata.CatalogueVersions;
+import org.isf.shared.referencedata.ReferenceDataRegistry;
 import org.isf.ward.data.WardHelper;
 import org.isf.ward.dto.WardDTO;
 import org.isf.ward.manager.WardBrowserManager;
@@ -50,6 +55,7 @@ import org.mockito.MockitoAnnotations;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -63,8 +69,13 @@ class WardControllerTest {
 	@Mock
 	protected WardBrowserManager wardBrowserManagerMock;
 
+	@Mock
+	protected ReferenceDataRegistry referenceDataMock;
+
 	protected WardMapper wardMapper = new WardMapper();
 
+	protected CatalogueVersions catalogues = new CatalogueVersions();
+
 	private MockMvc mockMvc;
 
 	private AutoCloseable closeable;
@@ -73,7 +84,7 @@ class WardControllerTest {
 	void setup() {
 		closeable = MockitoAnnotations.openMocks(this);
 		this.mockMvc = MockMvcBuilders
-				.standaloneSetup(new WardController(wardBrowserManagerMock, wardMapper))
+				.standaloneSetup(new WardController(wardBrowserManagerMock, wardMapper, referenceDataMock, catalogues))
 				.setControllerAdvice(new OHResponseEntityExceptionHandler())
 				.build();
 		ModelMapper modelMapper = new ModelMapper();
@@ -109,6 +120,64 @@ class WardControllerTest {
 		LOGGER.debug("result: {}", result);
 	}
 
+	@Test
+	void testGetWards_304() throws Exception {
+		String request = "/wards";
+
+		when(wardBrowserManagerMock.getWards())
+				.thenReturn(WardHelper.setupWardList(4));
+
+		String eTag = this.mockMvc
+				.perform(get(request))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, catalogues.eTag(CatalogueVersions.Catalogue.WARDS)))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		MvcResult result = this.mockMvc
+				.perform(get(request).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andDo(log())
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""))
+				.andReturn();
+
+		verify(wardBrowserManagerMock, times(1)).getWards();
+		LOGGER.debug("result: {}", result);
+	}
+
+	@Test
+	void testGetWards_200_afterNewWard() throws Exception {
+		String request = "/wards";
+		Ward ward = WardHelper.setup(1);
+		WardDTO body = wardMapper.map2DTO(ward);
+
+		when(wardBrowserManagerMock.getWards())
+				.thenReturn(WardHelper.setupWardList(4));
+		when(wardBrowserManagerMock.newWard(wardMapper.map2Model(body)))
+				.thenReturn(ward);
+
+		String eTag = this.mockMvc
+				.perform(get(request))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		this.mockMvc
+				.perform(post(request)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(Objects.requireNonNull(WardHelper.asJsonString(body)))
+				)
+				.andExpect(status().isCreated());
+
+		MvcResult result = this.mockMvc
+				.perform(get(request).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andDo(log())
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, catalogues.eTag(CatalogueVersions.Catalogue.WARDS)))
+				.andReturn();
+
+		verify(wardBrowserManagerMock, times(2)).getWards();
+		LOGGER.debug("result: {}", result);
+	}
+
 	@Test
 	void testGetWardsNoMaternity_200() throws Exception {
 		String request = "/wardsNoMaternity";